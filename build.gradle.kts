@@ -12,6 +12,7 @@ val junitVersion = "5.12.2"
 val wiremockVersion = "3.13.0"
 val slf4jVersion = "2.0.17"
 val apacheHttpClientVersion = "5.4.4"
+val jmhVersion = "1.37"
 
 java {
     toolchain {
@@ -23,6 +24,37 @@ repositories {
     mavenCentral()
 }
 
+// microbenchmarks of SDK hot paths, run with: gradle jmh [-PjmhArgs="<JMH options>"]
+// json fixtures of unit tests are shared with benchmarks
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+        resources.srcDir("src/test/resources/__files")
+    }
+}
+
+val jmhImplementation: Configuration by configurations.getting {
+    extendsFrom(configurations.implementation.get())
+}
+
+// classes replaced on Java 21 and later, packaged under META-INF/versions/21 of a multi-release jar
+sourceSets {
+    create("java21") {
+        java.srcDir("src/main/java21")
+        compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    }
+    // tests run on Java 21 against the jar, so that classes of the multi-release jar are used
+    create("java21Test") {
+        compileClasspath += sourceSets.main.get().output + sourceSets.test.get().output +
+            sourceSets.test.get().compileClasspath
+    }
+}
+
+val java21Compiler = javaToolchains.compilerFor {
+    languageVersion = JavaLanguageVersion.of(21)
+}
+
 dependencies {
     implementation("org.apache.httpcomponents.client5:httpclient5:$apacheHttpClientVersion")
     implementation("com.fasterxml.jackson.core:jackson-databind:$jacksonVersion")
@@ -34,6 +66,8 @@ dependencies {
         exclude("net.minidev:json-smart:2.5.0")
     }
     testImplementation("net.minidev:json-smart:2.5.2")
+    // optional, enabled by system property com.paysafe.payments.jackson.blackbird
+    testImplementation("com.fasterxml.jackson.module:jackson-module-blackbird:$jacksonVersion")
     testImplementation("org.wiremock:wiremock:$wiremockVersion")
     {
         exclude("org.eclipse.jetty:jetty-http:11.0.24")
@@ -41,6 +75,9 @@ dependencies {
     }
     testImplementation("org.eclipse.jetty:jetty-http:11.0.25")
     testImplementation("commons-io:commons-io:2.19.0")
+    jmhImplementation("org.openjdk.jmh:jmh-core:$jmhVersion")
+    jmhImplementation("com.fasterxml.jackson.module:jackson-module-blackbird:$jacksonVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
 }
 
 tasks.test {
@@ -51,6 +88,41 @@ tasks.test {
     }
 }
 
+tasks.named<JavaCompile>("compileJava21Java") {
+    javaCompiler = java21Compiler
+    options.release = 21
+}
+
+tasks.named<JavaCompile>("compileJava21TestJava") {
+    javaCompiler = java21Compiler
+    options.release = 21
+}
+
+tasks.jar {
+    into("META-INF/versions/21") {
+        from(sourceSets["java21"].output)
+    }
+    manifest {
+        attributes("Multi-Release" to "true")
+    }
+}
+
+val java21Test = tasks.register<Test>("java21Test") {
+    description = "Runs tests on Java 21 and virtual threads."
+    group = "verification"
+    testClassesDirs = sourceSets["java21Test"].output.classesDirs
+    classpath = files(tasks.jar) + sourceSets["java21Test"].output + sourceSets.test.get().output +
+        sourceSets.test.get().runtimeClasspath - sourceSets.main.get().output
+    javaLauncher = javaToolchains.launcherFor {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+    // prints stack traces of virtual threads blocking while pinned to their carrier thread
+    jvmArgs("-Djdk.tracePinnedThreads=full")
+    useJUnitPlatform()
+    // both tests start WireMock on the same port
+    mustRunAfter(tasks.test)
+}
+
 tasks.jacocoTestReport {
     dependsOn(tasks.test)
     reports {
@@ -58,4 +130,18 @@ tasks.jacocoTestReport {
         html.required.set(true)
         csv.required.set(false)
     }
-}
\ No newline at end of file
+}
+
+tasks.register<JavaExec>("jmh") {
+    description = "Runs JMH microbenchmarks."
+    group = "verification"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    // allocation rate per operation is reported next to the timings of every benchmark
+    args("-prof", "gc")
+    args(providers.gradleProperty("jmhArgs").map { it.trim().split(Regex("\\s+")) }.getOrElse(emptyList()))
+}
+
+tasks.check {
+    dependsOn("jmhClasses", java21Test)
+}
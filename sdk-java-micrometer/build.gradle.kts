@@ -0,0 +1,33 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+plugins {
+    `java-library`
+}
+
+val applicationJavaVersion = "11"
+val micrometerVersion = "1.14.5"
+val junitVersion = "5.12.2"
+
+description = "Paysafe Payments API SDK - Java, Micrometer metrics"
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(applicationJavaVersion)
+    }
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    api(project(":"))
+    api("io.micrometer:micrometer-core:$micrometerVersion")
+    testImplementation(platform("org.junit:junit-bom:$junitVersion"))
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    testImplementation("org.junit.jupiter:junit-jupiter:$junitVersion")
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
@@ -0,0 +1,188 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.metrics.micrometer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import com.paysafe.payments.metrics.ConnectionPoolMetrics;
+import com.paysafe.payments.metrics.PaysafeMetricsListener;
+import com.paysafe.payments.metrics.RequestMetrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Publishes metrics of PaysafeClient to a Micrometer {@link MeterRegistry}. Example:  <br>
+ * {@code PaysafeClient.builder().metricsListener(new MicrometerMetricsListener(meterRegistry)) }
+ * <p>
+ * Following meters are registered: <ul>
+ * <li>{@code paysafe.client.requests}: timer with percentile histogram, tagged by method, endpoint template, http status
+ * code and exception class</li>
+ * <li>{@code paysafe.client.requests.retries}: counter of automatic retries, tagged by method and endpoint template</li>
+ * <li>{@code paysafe.client.requests.hedges}: counter of hedged requests, tagged by method and endpoint template</li>
+ * <li>{@code paysafe.client.requests.coalesced}: counter of requests which shared the response of an identical request,
+ * tagged by method and endpoint template</li>
+ * <li>{@code paysafe.client.cache.requests}: counter of accesses to caches of responses, tagged by cache and result
+ * ({@code hit} or {@code miss})</li>
+ * <li>{@code paysafe.client.request.size} and {@code paysafe.client.response.size}: distribution of body sizes in bytes,
+ * tagged by method and endpoint template</li>
+ * <li>{@code paysafe.client.connections.leased}, {@code .pending}, {@code .available} and {@code .max}: gauges of
+ * connection pools, tagged by pool</li>
+ * </ul>
+ * Endpoints are reported as templates, i.e. {@code /v1/payments/{id}}, so the number of time series is bounded.
+ */
+public class MicrometerMetricsListener implements PaysafeMetricsListener {
+
+  public static final String REQUESTS = "paysafe.client.requests";
+  public static final String RETRIES = "paysafe.client.requests.retries";
+  public static final String HEDGES = "paysafe.client.requests.hedges";
+  public static final String COALESCED = "paysafe.client.requests.coalesced";
+  public static final String CACHE_REQUESTS = "paysafe.client.cache.requests";
+  public static final String REQUEST_SIZE = "paysafe.client.request.size";
+  public static final String RESPONSE_SIZE = "paysafe.client.response.size";
+  public static final String CONNECTIONS_LEASED = "paysafe.client.connections.leased";
+  public static final String CONNECTIONS_PENDING = "paysafe.client.connections.pending";
+  public static final String CONNECTIONS_AVAILABLE = "paysafe.client.connections.available";
+  public static final String CONNECTIONS_MAX = "paysafe.client.connections.max";
+
+  private static final String TAG_METHOD = "method";
+  private static final String TAG_ENDPOINT = "endpoint";
+  private static final String TAG_STATUS = "status";
+  private static final String TAG_EXCEPTION = "exception";
+  private static final String TAG_POOL = "pool";
+  private static final String TAG_CACHE = "cache";
+  private static final String TAG_RESULT = "result";
+  private static final String HIT = "hit";
+  private static final String MISS = "miss";
+  private static final String NONE = "none";
+  private static final String BYTES = "bytes";
+
+  private final MeterRegistry meterRegistry;
+  private final Tags commonTags;
+
+  /**
+   * Creates listener publishing to provided registry.
+   *
+   * @param meterRegistry to which meters are registered
+   */
+  public MicrometerMetricsListener(final MeterRegistry meterRegistry) {
+    this(meterRegistry, Tags.empty());
+  }
+
+  /**
+   * Creates listener publishing to provided registry, adding provided tags to all meters, i.e. to distinguish between
+   * several PaysafeClient instances.
+   *
+   * @param meterRegistry to which meters are registered
+   * @param commonTags    added to all meters
+   */
+  public MicrometerMetricsListener(final MeterRegistry meterRegistry, final Iterable<Tag> commonTags) {
+    this.meterRegistry = meterRegistry;
+    this.commonTags = Tags.of(commonTags);
+  }
+
+  @Override
+  public void requestCompleted(final RequestMetrics requestMetrics) {
+    Tags endpointTags = commonTags.and(TAG_METHOD, requestMetrics.getMethod(), TAG_ENDPOINT, requestMetrics.getEndpoint());
+
+    Timer.builder(REQUESTS)
+        .description("Requests to Paysafe Payments API")
+        .tags(endpointTags)
+        .tag(TAG_STATUS, requestMetrics.getHttpStatusCode() == null ? NONE : String.valueOf(requestMetrics.getHttpStatusCode()))
+        .tag(TAG_EXCEPTION, requestMetrics.getExceptionClass() == null ? NONE : requestMetrics.getExceptionClass())
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(requestMetrics.getDurationNanos(), TimeUnit.NANOSECONDS);
+
+    if (requestMetrics.getRequestBytes() > 0) {
+      DistributionSummary.builder(REQUEST_SIZE)
+          .description("Size of request bodies sent to Paysafe Payments API")
+          .baseUnit(BYTES)
+          .tags(endpointTags)
+          .register(meterRegistry)
+          .record(requestMetrics.getRequestBytes());
+    }
+    if (requestMetrics.getResponseBytes() >= 0) {
+      DistributionSummary.builder(RESPONSE_SIZE)
+          .description("Size of response bodies received from Paysafe Payments API")
+          .baseUnit(BYTES)
+          .tags(endpointTags)
+          .register(meterRegistry)
+          .record(requestMetrics.getResponseBytes());
+    }
+  }
+
+  @Override
+  public void requestRetried(final String method, final String endpoint, final int retryNumber) {
+    Counter.builder(RETRIES)
+        .description("Automatic retries of requests to Paysafe Payments API")
+        .tags(commonTags)
+        .tag(TAG_METHOD, method)
+        .tag(TAG_ENDPOINT, endpoint)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  @Override
+  public void requestHedged(final String method, final String endpoint) {
+    Counter.builder(HEDGES)
+        .description("Hedged requests to Paysafe Payments API")
+        .tags(commonTags)
+        .tag(TAG_METHOD, method)
+        .tag(TAG_ENDPOINT, endpoint)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  @Override
+  public void requestCoalesced(final String method, final String endpoint) {
+    Counter.builder(COALESCED)
+        .description("Requests to Paysafe Payments API which shared the response of an identical request")
+        .tags(commonTags)
+        .tag(TAG_METHOD, method)
+        .tag(TAG_ENDPOINT, endpoint)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  @Override
+  public void cacheAccessed(final String cacheName, final boolean hit) {
+    Counter.builder(CACHE_REQUESTS)
+        .description("Accesses to caches of responses of Paysafe Payments API")
+        .tags(commonTags)
+        .tag(TAG_CACHE, cacheName)
+        .tag(TAG_RESULT, hit ? HIT : MISS)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  @Override
+  public void connectionPoolCreated(final String poolName, final ConnectionPoolMetrics connectionPool) {
+    Tags poolTags = commonTags.and(TAG_POOL, poolName);
+    registerPoolGauge(CONNECTIONS_LEASED, "Connections used by requests", poolTags, connectionPool,
+        ConnectionPoolMetrics::getLeased);
+    registerPoolGauge(CONNECTIONS_PENDING, "Requests waiting for a connection", poolTags, connectionPool,
+        ConnectionPoolMetrics::getPending);
+    registerPoolGauge(CONNECTIONS_AVAILABLE, "Idle connections", poolTags, connectionPool,
+        ConnectionPoolMetrics::getAvailable);
+    registerPoolGauge(CONNECTIONS_MAX, "Maximum number of connections", poolTags, connectionPool,
+        ConnectionPoolMetrics::getMax);
+  }
+
+  // pool is referenced only by gauges, so it must be held strongly
+  private void registerPoolGauge(final String name, final String description, final Tags tags,
+      final ConnectionPoolMetrics connectionPool, final ToDoubleFunction<ConnectionPoolMetrics> poolValue) {
+
+    Gauge.builder(name, connectionPool, poolValue)
+        .description(description)
+        .tags(tags)
+        .strongReference(true)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,157 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.paysafe.payments.metrics.ConnectionPoolMetrics;
+import com.paysafe.payments.metrics.RequestMetrics;
+import com.paysafe.payments.metrics.micrometer.MicrometerMetricsListener;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MicrometerMetricsListenerTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private MicrometerMetricsListener metricsListener;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    metricsListener = new MicrometerMetricsListener(meterRegistry, Tags.of("client", "test"));
+  }
+
+  @Test
+  void testRequestCompleted_recordsTimerAndSizes() {
+    metricsListener.requestCompleted(RequestMetrics.builder()
+        .method("POST")
+        .endpoint("/v1/payments")
+        .httpStatusCode(201)
+        .durationNanos(TimeUnit.MILLISECONDS.toNanos(120))
+        .requestBytes(512)
+        .responseBytes(2048)
+        .build());
+    metricsListener.requestCompleted(RequestMetrics.builder()
+        .method("POST")
+        .endpoint("/v1/payments")
+        .httpStatusCode(201)
+        .durationNanos(TimeUnit.MILLISECONDS.toNanos(80))
+        .requestBytes(256)
+        .responseBytes(1024)
+        .build());
+
+    Timer timer = meterRegistry.get(MicrometerMetricsListener.REQUESTS)
+        .tags("client", "test", "method", "POST", "endpoint", "/v1/payments", "status", "201", "exception", "none")
+        .timer();
+    assertEquals(2, timer.count());
+    assertEquals(200, timer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    assertEquals(768, meterRegistry.get(MicrometerMetricsListener.REQUEST_SIZE).summary().totalAmount(), 0.001);
+    assertEquals(3072, meterRegistry.get(MicrometerMetricsListener.RESPONSE_SIZE).summary().totalAmount(), 0.001);
+  }
+
+  @Test
+  void testRequestCompleted_recordsExceptionWithoutStatus() {
+    metricsListener.requestCompleted(RequestMetrics.builder()
+        .method("GET")
+        .endpoint("/v1/payments/{id}")
+        .exceptionClass("SocketTimeoutException")
+        .durationNanos(TimeUnit.SECONDS.toNanos(60))
+        .build());
+
+    assertEquals(1, meterRegistry.get(MicrometerMetricsListener.REQUESTS)
+        .tags("status", "none", "exception", "SocketTimeoutException")
+        .timer()
+        .count());
+    assertNull(meterRegistry.find(MicrometerMetricsListener.REQUEST_SIZE).summary());
+    assertNull(meterRegistry.find(MicrometerMetricsListener.RESPONSE_SIZE).summary());
+  }
+
+  @Test
+  void testRequestRetried_countsRetries() {
+    metricsListener.requestRetried("GET", "/v1/payments/{id}", 1);
+    metricsListener.requestRetried("GET", "/v1/payments/{id}", 2);
+
+    assertEquals(2, meterRegistry.get(MicrometerMetricsListener.RETRIES)
+        .tags("method", "GET", "endpoint", "/v1/payments/{id}")
+        .counter()
+        .count(), 0.001);
+  }
+
+  @Test
+  void testRequestHedged_countsHedges() {
+    metricsListener.requestHedged("GET", "/v1/paymenthandles/{id}");
+
+    assertEquals(1, meterRegistry.get(MicrometerMetricsListener.HEDGES)
+        .tags("method", "GET", "endpoint", "/v1/paymenthandles/{id}")
+        .counter()
+        .count(), 0.001);
+  }
+
+  @Test
+  void testRequestCoalesced_countsCoalescedRequests() {
+    metricsListener.requestCoalesced("GET", "/v1/paymenthandles/{id}");
+    metricsListener.requestCoalesced("GET", "/v1/paymenthandles/{id}");
+
+    assertEquals(2, meterRegistry.get(MicrometerMetricsListener.COALESCED)
+        .tags("method", "GET", "endpoint", "/v1/paymenthandles/{id}")
+        .counter()
+        .count(), 0.001);
+  }
+
+  @Test
+  void testCacheAccessed_countsHitsAndMisses() {
+    metricsListener.cacheAccessed("paymentmethods", true);
+    metricsListener.cacheAccessed("paymentmethods", true);
+    metricsListener.cacheAccessed("paymentmethods", false);
+
+    assertEquals(2, meterRegistry.get(MicrometerMetricsListener.CACHE_REQUESTS)
+        .tags("cache", "paymentmethods", "result", "hit")
+        .counter()
+        .count(), 0.001);
+    assertEquals(1, meterRegistry.get(MicrometerMetricsListener.CACHE_REQUESTS)
+        .tags("cache", "paymentmethods", "result", "miss")
+        .counter()
+        .count(), 0.001);
+  }
+
+  @Test
+  void testConnectionPoolCreated_registersGauges() {
+    int[] leased = {3};
+    metricsListener.connectionPoolCreated(ConnectionPoolMetrics.BLOCKING_POOL, new ConnectionPoolMetrics() {
+      @Override
+      public int getLeased() {
+        return leased[0];
+      }
+
+      @Override
+      public int getPending() {
+        return 1;
+      }
+
+      @Override
+      public int getAvailable() {
+        return 7;
+      }
+
+      @Override
+      public int getMax() {
+        return 50;
+      }
+    });
+
+    assertEquals(3, meterRegistry.get(MicrometerMetricsListener.CONNECTIONS_LEASED).tag("pool", "blocking").gauge().value());
+    leased[0] = 5;
+    assertEquals(5, meterRegistry.get(MicrometerMetricsListener.CONNECTIONS_LEASED).tag("pool", "blocking").gauge().value());
+    assertEquals(1, meterRegistry.get(MicrometerMetricsListener.CONNECTIONS_PENDING).gauge().value());
+    assertEquals(7, meterRegistry.get(MicrometerMetricsListener.CONNECTIONS_AVAILABLE).gauge().value());
+    assertEquals(50, meterRegistry.get(MicrometerMetricsListener.CONNECTIONS_MAX).gauge().value());
+  }
+}
@@ -0,0 +1,135 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.APPLICATION_JSON;
+import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
+import static config.TestHttpClientProvider.createTestSslContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.paysafe.payments.PaysafeClient;
+import com.paysafe.payments.api.BulkOptions;
+import com.paysafe.payments.api.HedgingPolicy;
+import com.paysafe.payments.api.InterceptedRequest;
+import com.paysafe.payments.api.PaysafeInterceptor;
+import com.paysafe.payments.metrics.PaysafeMetricsListener;
+import com.paysafe.payments.model.payment.Payment;
+
+import base.BasePaysafeClientTest;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+class PaysafeClientVirtualThreadsTest extends BasePaysafeClientTest {
+
+  public static final String PAYMENT_ENDPOINT = "/paymenthub/v1/payments";
+  public static final String PAYMENT_ID = "3aeb9c63-6386-46a3-9f8e-f452e722228a";
+  public static final int CONCURRENT_CALLS = 10_000;
+
+  @Test
+  void testBulkRequests_startNextRequestsOnVirtualThreads() throws Exception {
+    stubPayment(100);
+    List<Boolean> virtualThreads = new CopyOnWriteArrayList<>();
+    PaysafeInterceptor interceptor = new PaysafeInterceptor() {
+      @Override
+      public void beforeSend(final InterceptedRequest request) {
+        virtualThreads.add(Thread.currentThread().isVirtual());
+      }
+    };
+
+    try (PaysafeClient client = buildClient(PaysafeClient.builder().addInterceptor(interceptor))) {
+      client.paymentService().getPaymentsById(List.of(PAYMENT_ID, PAYMENT_ID, PAYMENT_ID),
+          BulkOptions.builder().parallelism(1).build());
+    }
+
+    // the first request is started by the calling thread, the next ones once the previous request completes
+    assertEquals(List.of(false, true, true), virtualThreads);
+  }
+
+  @Test
+  void testHedging_startsHedgedRequestsOnVirtualThreads() throws Exception {
+    stubPayment(1000);
+    List<Boolean> virtualThreads = new CopyOnWriteArrayList<>();
+    PaysafeMetricsListener metricsListener = new PaysafeMetricsListener() {
+      @Override
+      public void requestHedged(final String method, final String endpoint) {
+        virtualThreads.add(Thread.currentThread().isVirtual());
+      }
+    };
+
+    try (PaysafeClient client = buildClient(PaysafeClient.builder()
+        .hedgingPolicy(HedgingPolicy.builder().delay(50).budgetPercentage(100).build())
+        .metricsListener(metricsListener))) {
+      client.paymentService().getPaymentById(PAYMENT_ID);
+    }
+
+    assertEquals(List.of(true), virtualThreads);
+  }
+
+  @Test
+  void testBlockingCalls_doNotPinVirtualThreads() throws Exception {
+    stubPayment(0);
+    List<RecordedEvent> pinnedEvents = new CopyOnWriteArrayList<>();
+
+    try (PaysafeClient client = buildClient();
+        RecordingStream recordingStream = new RecordingStream()) {
+      // classes are loaded and initialized before the load, as virtual threads are pinned while initializing a class
+      client.paymentService().getPaymentById(PAYMENT_ID);
+      recordingStream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+      recordingStream.onEvent("jdk.VirtualThreadPinned", pinnedEvents::add);
+      recordingStream.startAsync();
+
+      List<Future<Payment>> payments = new ArrayList<>(CONCURRENT_CALLS);
+      try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        for (int i = 0; i < CONCURRENT_CALLS; i++) {
+          payments.add(executor.submit(() -> client.paymentService().getPaymentById(PAYMENT_ID)));
+        }
+      }
+      for (Future<Payment> payment : payments) {
+        assertEquals(PAYMENT_ID, payment.get().getId());
+      }
+
+      // flushes the events recorded so far to the stream
+      recordingStream.stop();
+    }
+
+    assertEquals(List.of(), pinnedEvents.stream().map(RecordedEvent::getStackTrace).toList());
+  }
+
+  private static void stubPayment(final int delay) {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withFixedDelay(delay)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("payment/get_payment_by_id_response.json")));
+  }
+
+  private static PaysafeClient buildClient() throws Exception {
+    return buildClient(PaysafeClient.builder()
+        .maxConnectionsPerRoute(200)
+        .maxConnectionsTotal(200));
+  }
+
+  private static PaysafeClient buildClient(final PaysafeClient.Builder builder) throws Exception {
+    PaysafeClient client = builder
+        .apiKey(API_KEY)
+        .sslContext(createTestSslContext())
+        .build();
+    client.overrideBaseUrl(WIREMOCK_URL);
+    return client;
+  }
+}
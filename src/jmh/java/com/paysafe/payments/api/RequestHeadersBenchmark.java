@@ -0,0 +1,77 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import static com.paysafe.payments.api.PaysafeApiClient.APPLICATION_JSON_CHARSET_UTF_8;
+import static com.paysafe.payments.api.PaysafeApiClient.AUTHORIZATION;
+import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
+import static com.paysafe.payments.api.PaysafeApiClient.JAVA_SDK;
+import static com.paysafe.payments.api.PaysafeApiClient.USER_AGENT;
+import static com.paysafe.payments.api.PaysafeApiClient.X_TRANSACTION_SOURCE;
+import static com.paysafe.payments.api.PaysafeApiClient.buildUserAgentHeader;
+import static com.paysafe.payments.api.PaysafeApiClient.getBasicAuthenticationHeader;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.paysafe.payments.config.Environment;
+import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
+
+/**
+ * Compares setting default request headers from values cached by {@link PaysafeApiClient} with building them for each
+ * request, as it was done before they were cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestHeadersBenchmark {
+
+  private static final String API_KEY = "clientId:clientKey";
+  private static final URI REQUEST_URI = URI.create("https://api.test.paysafe.com/paymenthub/v1/payments");
+
+  private PaysafeApiClient paysafeApiClient;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IllegalArgumentException {
+    paysafeApiClient = new PaysafeApiClient(API_KEY, Environment.TEST);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    paysafeApiClient.close();
+  }
+
+  @Benchmark
+  public HttpGet cachedHeaders() {
+    HttpGet httpGet = new HttpGet(REQUEST_URI);
+    paysafeApiClient.setRequestHeaders(httpGet);
+    return httpGet;
+  }
+
+  @Benchmark
+  public HttpGet perRequestHeaders() {
+    HttpGet httpGet = new HttpGet(REQUEST_URI);
+    httpGet.setHeader(AUTHORIZATION, getBasicAuthenticationHeader(API_KEY));
+    httpGet.setHeader(CONTENT_TYPE, APPLICATION_JSON_CHARSET_UTF_8);
+    httpGet.setHeader(X_TRANSACTION_SOURCE, JAVA_SDK);
+    httpGet.setHeader(USER_AGENT, buildUserAgentHeader());
+    return httpGet;
+  }
+}
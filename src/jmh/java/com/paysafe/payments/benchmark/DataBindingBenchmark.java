@@ -0,0 +1,97 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.benchmark;
+
+import static com.paysafe.payments.config.ObjectMapperConfiguration.getObjectMapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.paysafe.payments.model.payment.Payment;
+import com.paysafe.payments.model.paymenthandle.PaymentHandle;
+import com.paysafe.payments.model.paymenthandle.PaymentHandleRequest;
+import com.paysafe.payments.model.standalonecredit.StandaloneCredit;
+
+/**
+ * Compares ways of binding the largest models: ObjectMapper resolving the root type on every call, ObjectReader and
+ * ObjectWriter created once per type as by ObjectMapperConfiguration, and the same with accessors generated by the
+ * Blackbird module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataBindingBenchmark {
+
+  @Param({"mapper", "typed", "blackbird"})
+  public String binding;
+
+  private byte[] payment;
+  private byte[] paymentHandle;
+  private byte[] standaloneCredit;
+  private PaymentHandleRequest paymentHandleRequest;
+
+  private ObjectMapper objectMapper;
+  private ObjectReader paymentReader;
+  private ObjectReader paymentHandleReader;
+  private ObjectReader standaloneCreditReader;
+  private ObjectWriter paymentHandleRequestWriter;
+
+  @Setup
+  public void setUp() throws IOException {
+    payment = Fixtures.load("payment/process_payment_card_with_airline_travel_details_response.json");
+    paymentHandle = Fixtures.load("paymenthandle/create_payment_handle_card_3ds_response.json");
+    standaloneCredit = Fixtures.load("standalone_credit/process_standalone_credit_card_response.json");
+    paymentHandleRequest = getObjectMapper().readValue(
+        Fixtures.load("paymenthandle/create_payment_handle_card_3ds_request.json"), PaymentHandleRequest.class);
+
+    // a copy, so that the module does not change the mapper of the SDK
+    objectMapper = "blackbird".equals(binding) ? getObjectMapper().copy().registerModule(new BlackbirdModule())
+        : getObjectMapper();
+    paymentReader = objectMapper.readerFor(Payment.class);
+    paymentHandleReader = objectMapper.readerFor(PaymentHandle.class);
+    standaloneCreditReader = objectMapper.readerFor(StandaloneCredit.class);
+    paymentHandleRequestWriter = objectMapper.writerFor(PaymentHandleRequest.class);
+  }
+
+  @Benchmark
+  public Payment readPayment() throws IOException {
+    return "mapper".equals(binding) ? objectMapper.readValue(payment, Payment.class) : paymentReader.readValue(payment);
+  }
+
+  @Benchmark
+  public PaymentHandle readPaymentHandle() throws IOException {
+    return "mapper".equals(binding) ? objectMapper.readValue(paymentHandle, PaymentHandle.class)
+        : paymentHandleReader.readValue(paymentHandle);
+  }
+
+  @Benchmark
+  public StandaloneCredit readStandaloneCredit() throws IOException {
+    return "mapper".equals(binding) ? objectMapper.readValue(standaloneCredit, StandaloneCredit.class)
+        : standaloneCreditReader.readValue(standaloneCredit);
+  }
+
+  @Benchmark
+  public byte[] writePaymentHandleRequest() throws IOException {
+    return "mapper".equals(binding) ? objectMapper.writeValueAsBytes(paymentHandleRequest)
+        : paymentHandleRequestWriter.writeValueAsBytes(paymentHandleRequest);
+  }
+}
@@ -0,0 +1,94 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.benchmark;
+
+import static com.paysafe.payments.config.ObjectMapperConfiguration.getObjectMapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.paysafe.payments.model.payment.Payment;
+import com.paysafe.payments.model.payment.PaymentList;
+import com.paysafe.payments.model.payment.PaymentSummary;
+import com.paysafe.payments.model.payment.PaymentSummaryList;
+import com.paysafe.payments.model.paymenthandle.PaymentHandle;
+import com.paysafe.payments.model.paymenthandle.PaymentHandleList;
+import com.paysafe.payments.model.paymenthandle.PaymentHandleSummary;
+import com.paysafe.payments.model.paymenthandle.PaymentHandleSummaryList;
+
+/**
+ * Deserialization of successful responses from their raw bytes, as done by PaysafeApiClient for every response, to the
+ * full models and to their summaries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeserializationBenchmark {
+
+  private byte[] payment;
+  private byte[] paymentList;
+  private byte[] paymentHandle;
+  private byte[] paymentHandleList;
+
+  @Setup
+  public void setUp() {
+    payment = Fixtures.load("payment/process_payment_card_with_airline_travel_details_response.json");
+    paymentList = Fixtures.load("payment/get_payment_using_merchant_ref_number_response.json");
+    paymentHandle = Fixtures.load("paymenthandle/create_payment_handle_card_3ds_response.json");
+    paymentHandleList = Fixtures.load("paymenthandle/get_payment_handle_using_merchant_ref_number_card_response.json");
+  }
+
+  @Benchmark
+  public Payment payment() throws IOException {
+    return getObjectMapper().readValue(payment, Payment.class);
+  }
+
+  @Benchmark
+  public PaymentList paymentList() throws IOException {
+    return getObjectMapper().readValue(paymentList, PaymentList.class);
+  }
+
+  @Benchmark
+  public PaymentHandle paymentHandle() throws IOException {
+    return getObjectMapper().readValue(paymentHandle, PaymentHandle.class);
+  }
+
+  @Benchmark
+  public PaymentHandleList paymentHandleList() throws IOException {
+    return getObjectMapper().readValue(paymentHandleList, PaymentHandleList.class);
+  }
+
+  @Benchmark
+  public PaymentSummary paymentSummary() throws IOException {
+    return getObjectMapper().readValue(payment, PaymentSummary.class);
+  }
+
+  @Benchmark
+  public PaymentSummaryList paymentSummaryList() throws IOException {
+    return getObjectMapper().readValue(paymentList, PaymentSummaryList.class);
+  }
+
+  @Benchmark
+  public PaymentHandleSummary paymentHandleSummary() throws IOException {
+    return getObjectMapper().readValue(paymentHandle, PaymentHandleSummary.class);
+  }
+
+  @Benchmark
+  public PaymentHandleSummaryList paymentHandleSummaryList() throws IOException {
+    return getObjectMapper().readValue(paymentHandleList, PaymentHandleSummaryList.class);
+  }
+}
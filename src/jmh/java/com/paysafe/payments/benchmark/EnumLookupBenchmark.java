@@ -0,0 +1,71 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.benchmark;
+
+import static com.paysafe.payments.config.ObjectMapperConfiguration.getObjectReader;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.paysafe.payments.model.common.travel.carrental.enums.VehicleClass;
+import com.paysafe.payments.model.payment.Payment;
+
+/**
+ * Compares the lookup of enum values used by fromValue factories with the scan of all constants it replaced, for the
+ * first and last constants of one of the largest model enums and for a value in other case, and measures deserialization
+ * of a Payment with airline travel details, which reads values of a dozen enums including CurrencyCode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumLookupBenchmark {
+
+  private byte[] payment;
+
+  @Setup
+  public void setUp() {
+    payment = Fixtures.load("payment/process_payment_card_with_airline_travel_details_response.json");
+  }
+
+  @State(Scope.Benchmark)
+  public static class Value {
+
+    @Param({"MINI", "MISCELLANEOUS", "moped"})
+    public String value;
+  }
+
+  @Benchmark
+  public VehicleClass lookup(final Value value) {
+    return VehicleClass.fromValue(value.value);
+  }
+
+  @Benchmark
+  public VehicleClass scan(final Value value) {
+    for (VehicleClass b : VehicleClass.values()) {
+      if (b.getValue().equalsIgnoreCase(value.value)) {
+        return b;
+      }
+    }
+    throw new IllegalArgumentException("Unexpected value '" + value.value + "'");
+  }
+
+  @Benchmark
+  public Payment payment() throws IOException {
+    return getObjectReader(Payment.class).readValue(payment);
+  }
+}
@@ -0,0 +1,64 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.benchmark;
+
+import static com.paysafe.payments.errorhandling.ExceptionBuilder.HEADER_X_INTERNAL_CORRELATION_ID;
+import static com.paysafe.payments.errorhandling.ExceptionBuilder.buildPaysafeSdkException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.paysafe.payments.api.PaysafeApiResponse;
+import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.model.paymenthandle.PaymentHandle;
+
+/**
+ * Mapping of unsuccessful responses to PaysafeSdkException subclasses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionBuilderBenchmark {
+
+  private PaysafeApiResponse invalidRequestResponse;
+  private PaysafeApiResponse requestDeclinedResponse;
+
+  @Setup
+  public void setUp() {
+    invalidRequestResponse = buildResponse(400, "error/400_bad_request_field_errors_response.json");
+    requestDeclinedResponse = buildResponse(402, "error/402_request_declined_response.json");
+  }
+
+  @Benchmark
+  public PaysafeSdkException invalidRequest() {
+    return buildPaysafeSdkException("Paysafe Payments API request unsuccessful", invalidRequestResponse, PaymentHandle.class);
+  }
+
+  @Benchmark
+  public PaysafeSdkException requestDeclined() {
+    return buildPaysafeSdkException("Paysafe Payments API request unsuccessful", requestDeclinedResponse, PaymentHandle.class);
+  }
+
+  private static PaysafeApiResponse buildResponse(final int httpStatusCode, final String bodyFixture) {
+    PaysafeApiResponse response = new PaysafeApiResponse();
+    response.setHttpStatusCode(httpStatusCode);
+    response.setHeaders(Map.of(HEADER_X_INTERNAL_CORRELATION_ID, "4a6b0a5e-bd11-4b0d-8fc1-8c1d3c4b5a6e"));
+    response.setResponseBody(new String(Fixtures.load(bodyFixture), StandardCharsets.UTF_8));
+    return response;
+  }
+}
@@ -0,0 +1,27 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Loads json fixtures shared with unit tests, which are added to benchmark classpath from src/test/resources/__files.
+ */
+final class Fixtures {
+
+  private Fixtures() {
+  }
+
+  static byte[] load(final String path) {
+    try (InputStream inputStream = Fixtures.class.getResourceAsStream("/" + path)) {
+      if (inputStream == null) {
+        throw new IllegalStateException("Missing fixture: " + path);
+      }
+      return inputStream.readAllBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.benchmark;
+
+import static com.paysafe.payments.config.ObjectMapperConfiguration.getObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.paysafe.payments.PaysafeClient;
+import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.model.payment.Payment;
+import com.paysafe.payments.model.payment.PaymentRequest;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Full round trip of {@code PaymentService.processPayment} against an embedded http server returning a fixed response.
+ * Server side work is minimal, so results are dominated by the SDK and its http client. Server is run with TCP_NODELAY,
+ * otherwise its responses are delayed by Nagle's algorithm and these delays dominate results instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class PaymentServiceBenchmark {
+
+  private static final String PAYMENT_ENDPOINT = "/paymenthub/v1/payments";
+
+  private HttpServer httpServer;
+  private PaysafeClient paysafeClient;
+  private PaymentRequest paymentRequest;
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    byte[] paymentResponse = Fixtures.load("payment/process_payment_card_with_airline_travel_details_response.json");
+    httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    httpServer.createContext(PAYMENT_ENDPOINT, exchange -> {
+      try (InputStream requestBody = exchange.getRequestBody()) {
+        requestBody.readAllBytes();
+      }
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(201, paymentResponse.length);
+      try (OutputStream responseBody = exchange.getResponseBody()) {
+        responseBody.write(paymentResponse);
+      }
+    });
+    httpServer.start();
+
+    paysafeClient = PaysafeClient.builder()
+        .apiKey("clientId:clientKey")
+        .build();
+    paysafeClient.overrideBaseUrl("http://localhost:" + httpServer.getAddress().getPort());
+
+    paymentRequest = getObjectMapper().readValue(
+        Fixtures.load("payment/process_payment_card_with_airline_travel_details_request.json"), PaymentRequest.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    paysafeClient.close();
+    httpServer.stop(0);
+  }
+
+  @Benchmark
+  public Payment processPayment() throws PaysafeSdkException {
+    return paysafeClient.paymentService().processPayment(paymentRequest);
+  }
+}
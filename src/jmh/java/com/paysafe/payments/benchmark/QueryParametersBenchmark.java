@@ -0,0 +1,45 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.benchmark;
+
+import static com.paysafe.payments.api.PaysafeApiClient.buildQueryParameters;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Building of query parameters used by all look-ups using merchant reference number or customer id.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryParametersBenchmark {
+
+  private String merchantRefNum = "merchantRefNum-145";
+  private String startDate = "2022-11-18";
+  private String endDate = "2022-12-19";
+  private Integer limit = 32;
+  private Integer offset = 0;
+
+  @Benchmark
+  public String merchantRefNumOnly() {
+    return buildQueryParameters(merchantRefNum, null, null, null, null, null, null);
+  }
+
+  @Benchmark
+  public String allParameters() {
+    return buildQueryParameters(merchantRefNum, endDate, limit, offset, startDate, null, null);
+  }
+}
@@ -0,0 +1,56 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.benchmark;
+
+import static com.paysafe.payments.config.ObjectMapperConfiguration.getObjectMapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.paysafe.payments.model.payment.PaymentRequest;
+import com.paysafe.payments.model.paymenthandle.PaymentHandleRequest;
+
+/**
+ * Serialization of request bodies, as done by PaysafeApiClient for every POST, PUT and PATCH request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+  private PaymentRequest paymentRequest;
+  private PaymentHandleRequest paymentHandleRequest;
+
+  @Setup
+  public void setUp() throws IOException {
+    paymentRequest = getObjectMapper().readValue(
+        Fixtures.load("payment/process_payment_card_with_airline_travel_details_request.json"), PaymentRequest.class);
+    paymentHandleRequest = getObjectMapper().readValue(
+        Fixtures.load("paymenthandle/create_payment_handle_card_3ds_request.json"), PaymentHandleRequest.class);
+  }
+
+  @Benchmark
+  public byte[] paymentRequest() throws JsonProcessingException {
+    return getObjectMapper().writeValueAsBytes(paymentRequest);
+  }
+
+  @Benchmark
+  public byte[] paymentHandleRequest() throws JsonProcessingException {
+    return getObjectMapper().writeValueAsBytes(paymentHandleRequest);
+  }
+}
@@ -4,16 +4,33 @@ package com.paysafe.payments;
 
 import static com.paysafe.payments.validation.PropertyValidator.validateApiKey;
 import static com.paysafe.payments.validation.PropertyValidator.validateConnectTimeout;
+import static com.paysafe.payments.validation.PropertyValidator.validateConnectionTimeToLive;
+import static com.paysafe.payments.validation.PropertyValidator.validateInterceptors;
 import static com.paysafe.payments.validation.PropertyValidator.validateMaxAutomaticRetries;
+import static com.paysafe.payments.validation.PropertyValidator.validateMaxConnections;
+import static com.paysafe.payments.validation.PropertyValidator.validateMaxIdleTime;
 import static com.paysafe.payments.validation.PropertyValidator.validateResponseTimeout;
+import static com.paysafe.payments.validation.PropertyValidator.validateValidateAfterInactivity;
 
 import java.net.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.net.ssl.SSLContext;
 
+import com.paysafe.payments.api.CacheConfig;
+import com.paysafe.payments.api.CircuitBreakerConfig;
+import com.paysafe.payments.api.ConcurrencyLimitConfig;
+import com.paysafe.payments.api.HedgingPolicy;
+import com.paysafe.payments.api.NonIdempotentRetryPolicy;
 import com.paysafe.payments.api.PaysafeApiClient;
+import com.paysafe.payments.api.PaysafeInterceptor;
+import com.paysafe.payments.api.TransactionCacheConfig;
 import com.paysafe.payments.config.Environment;
 import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
+import com.paysafe.payments.metrics.PaysafeMetricsListener;
+import com.paysafe.payments.model.common.enums.CurrencyCode;
 import com.paysafe.payments.service.CustomerAddressService;
 import com.paysafe.payments.service.CustomerPaymentHandleService;
 import com.paysafe.payments.service.CustomerService;
@@ -21,6 +38,7 @@ import com.paysafe.payments.service.CustomerSingleUseTokenService;
 import com.paysafe.payments.service.MonitorService;
 import com.paysafe.payments.service.OriginalCreditService;
 import com.paysafe.payments.service.PaymentHandleService;
+import com.paysafe.payments.service.PaymentHandleWatcher;
 import com.paysafe.payments.service.PaymentMethodsService;
 import com.paysafe.payments.service.PaymentService;
 import com.paysafe.payments.service.RefundService;
@@ -29,31 +47,42 @@ import com.paysafe.payments.service.StandaloneCreditService;
 import com.paysafe.payments.service.VerificationService;
 import com.paysafe.payments.service.VoidAuthorizationService;
 import com.paysafe.payments.service.impl.CustomerAddressServiceImpl;
+import com.paysafe.payments.service.impl.CustomerCache;
 import com.paysafe.payments.service.impl.CustomerPaymentHandleServiceImpl;
 import com.paysafe.payments.service.impl.CustomerServiceImpl;
 import com.paysafe.payments.service.impl.CustomerSingleUseTokenServiceImpl;
 import com.paysafe.payments.service.impl.MonitorServiceImpl;
 import com.paysafe.payments.service.impl.OriginalCreditServiceImpl;
 import com.paysafe.payments.service.impl.PaymentHandleServiceImpl;
+import com.paysafe.payments.service.impl.PaymentHandleWatcherImpl;
 import com.paysafe.payments.service.impl.PaymentMethodsServiceImpl;
 import com.paysafe.payments.service.impl.PaymentServiceImpl;
 import com.paysafe.payments.service.impl.RefundServiceImpl;
 import com.paysafe.payments.service.impl.SettlementServiceImpl;
 import com.paysafe.payments.service.impl.StandaloneCreditServiceImpl;
+import com.paysafe.payments.service.impl.TransactionCache;
 import com.paysafe.payments.service.impl.VerificationServiceImpl;
 import com.paysafe.payments.service.impl.VoidAuthorizationServiceImpl;
 
 /**
  * This is the primary class used to make requests against Paysafe's PaymentsAPI. It allows you to access all the methods
  * publicly provided by the API. It also allows to set various configuration such as client credentials, connection timeout etc.
+ * <p>
+ * Each PaysafeClient keeps a pool of connections to Paysafe Payments API, which are reused between requests. Create one
+ * instance, share it between threads, and close it once it is no longer needed.
  */
-public class PaysafeClient {
+public class PaysafeClient implements AutoCloseable {
 
   private PaysafeApiClient paysafeApiClient;
+  private CacheConfig paymentMethodsCacheConfig;
+  private CustomerCache customerCache;
+  private TransactionCache transactionCache;
 
   private MonitorService monitorService;
   private PaymentMethodsService paymentMethodsService;
   private PaymentHandleService paymentHandleService;
+  private PaymentHandleWatcherImpl paymentHandleWatcher;
+  private final ReentrantLock paymentHandleWatcherLock = new ReentrantLock();
   private PaymentService paymentService;
   private VerificationService verificationService;
   private VoidAuthorizationService voidAuthorizationService;
@@ -83,7 +112,7 @@ public class PaysafeClient {
   }
 
   private PaysafeClient(Builder builder) throws IllegalArgumentException {
-    paysafeApiClient = PaysafeApiClient.builder()
+    PaysafeApiClient.Builder paysafeApiClientBuilder = PaysafeApiClient.builder()
         .apiKey(builder.apiKey)
         .environment(builder.environment)
         .maxAutomaticRetries(builder.maxAutomaticRetries)
@@ -91,7 +120,30 @@ public class PaysafeClient {
         .responseTimeout(builder.responseTimeout)
         .sslContext(builder.sslContext)
         .proxy(builder.proxy)
-        .build();
+        .maxConnectionsPerRoute(builder.maxConnectionsPerRoute)
+        .maxConnectionsTotal(builder.maxConnectionsTotal)
+        .connectionTimeToLive(builder.connectionTimeToLive)
+        .validateAfterInactivity(builder.validateAfterInactivity)
+        .maxIdleTime(builder.maxIdleTime)
+        .http2Enabled(builder.http2Enabled)
+        .nonIdempotentRetryPolicy(builder.nonIdempotentRetryPolicy)
+        .circuitBreakerConfig(builder.circuitBreakerConfig)
+        .concurrencyLimitConfig(builder.concurrencyLimitConfig)
+        .hedgingPolicy(builder.hedgingPolicy)
+        .requestCoalescingEnabled(builder.requestCoalescingEnabled)
+        .metricsListener(builder.metricsListener);
+    builder.interceptors.forEach(paysafeApiClientBuilder::addInterceptor);
+    paysafeApiClient = paysafeApiClientBuilder.build();
+    paymentMethodsCacheConfig = builder.paymentMethodsCacheConfig;
+    if (builder.customerCacheConfig != null) {
+      customerCache = new CustomerCache(builder.customerCacheConfig, paysafeApiClient);
+    }
+    if (builder.transactionCacheConfig != null) {
+      transactionCache = new TransactionCache(builder.transactionCacheConfig, paysafeApiClient);
+    }
+    if (!builder.paymentMethodsWarmUpCurrencies.isEmpty()) {
+      ((PaymentMethodsServiceImpl) lookUpPaymentMethodsService()).warmUp(builder.paymentMethodsWarmUpCurrencies);
+    }
   }
 
   public static Builder builder() {
@@ -107,7 +159,7 @@ public class PaysafeClient {
 
   public PaymentMethodsService lookUpPaymentMethodsService() {
     if (paymentMethodsService == null) {
-      paymentMethodsService = new PaymentMethodsServiceImpl(paysafeApiClient);
+      paymentMethodsService = new PaymentMethodsServiceImpl(paysafeApiClient, paymentMethodsCacheConfig);
     }
     return paymentMethodsService;
   }
@@ -119,6 +171,22 @@ public class PaysafeClient {
     return paymentHandleService;
   }
 
+  /**
+   * Returns the watcher of payment handles of this client. Its timer thread is started by the first call, and stopped
+   * once the client is closed.
+   */
+  public PaymentHandleWatcher paymentHandleWatcher() {
+    paymentHandleWatcherLock.lock();
+    try {
+      if (paymentHandleWatcher == null) {
+        paymentHandleWatcher = new PaymentHandleWatcherImpl(paymentHandleService(), paysafeApiClient::executeTask);
+      }
+      return paymentHandleWatcher;
+    } finally {
+      paymentHandleWatcherLock.unlock();
+    }
+  }
+
   public VerificationService verificationService() {
     if (verificationService == null) {
       verificationService = new VerificationServiceImpl(paysafeApiClient);
@@ -129,7 +197,7 @@ public class PaysafeClient {
 
   public PaymentService paymentService() {
     if (paymentService == null) {
-      paymentService = new PaymentServiceImpl(paysafeApiClient) {
+      paymentService = new PaymentServiceImpl(paysafeApiClient, transactionCache) {
       };
     }
     return paymentService;
@@ -137,21 +205,21 @@ public class PaysafeClient {
 
   public VoidAuthorizationService voidAuthorizationService() {
     if (voidAuthorizationService == null) {
-      voidAuthorizationService = new VoidAuthorizationServiceImpl(paysafeApiClient);
+      voidAuthorizationService = new VoidAuthorizationServiceImpl(paysafeApiClient, transactionCache);
     }
     return voidAuthorizationService;
   }
 
   public SettlementService settlementService() {
     if (settlementService == null) {
-      settlementService = new SettlementServiceImpl(paysafeApiClient);
+      settlementService = new SettlementServiceImpl(paysafeApiClient, transactionCache);
     }
     return settlementService;
   }
 
   public RefundService refundService() {
     if (refundService == null) {
-      refundService = new RefundServiceImpl(paysafeApiClient);
+      refundService = new RefundServiceImpl(paysafeApiClient, transactionCache);
     }
     return refundService;
   }
@@ -173,21 +241,21 @@ public class PaysafeClient {
 
   public CustomerService customerService() {
     if (customerService == null) {
-      customerService = new CustomerServiceImpl(paysafeApiClient);
+      customerService = new CustomerServiceImpl(paysafeApiClient, customerCache);
     }
     return customerService;
   }
 
   public CustomerAddressService customerAddressService() {
     if (customerAddressService == null) {
-      customerAddressService = new CustomerAddressServiceImpl(paysafeApiClient);
+      customerAddressService = new CustomerAddressServiceImpl(paysafeApiClient, customerCache);
     }
     return customerAddressService;
   }
 
   public CustomerPaymentHandleService customerPaymentHandleService() {
     if (customerPaymentHandleService == null) {
-      customerPaymentHandleService = new CustomerPaymentHandleServiceImpl(paysafeApiClient);
+      customerPaymentHandleService = new CustomerPaymentHandleServiceImpl(paysafeApiClient, customerCache);
     }
     return customerPaymentHandleService;
   }
@@ -206,6 +274,23 @@ public class PaysafeClient {
     this.paysafeApiClient.overrideBaseUrl(baseUrl);
   }
 
+  /**
+   * Closes this PaysafeClient and shuts down its connection pool. Requests that are still in progress are allowed to complete,
+   * while payment handles which are still watched are no longer polled.
+   */
+  @Override
+  public void close() {
+    paymentHandleWatcherLock.lock();
+    try {
+      if (paymentHandleWatcher != null) {
+        paymentHandleWatcher.close();
+      }
+    } finally {
+      paymentHandleWatcherLock.unlock();
+    }
+    paysafeApiClient.close();
+  }
+
   /**
    * {@code PaysafeClient} builder static inner class.
    */
@@ -217,6 +302,23 @@ public class PaysafeClient {
     private Integer maxAutomaticRetries;
     private SSLContext sslContext;
     private Proxy proxy;
+    private Integer maxConnectionsPerRoute;
+    private Integer maxConnectionsTotal;
+    private Integer connectionTimeToLive;
+    private Integer validateAfterInactivity;
+    private Integer maxIdleTime;
+    private boolean http2Enabled;
+    private NonIdempotentRetryPolicy nonIdempotentRetryPolicy;
+    private CircuitBreakerConfig circuitBreakerConfig;
+    private ConcurrencyLimitConfig concurrencyLimitConfig;
+    private HedgingPolicy hedgingPolicy;
+    private boolean requestCoalescingEnabled;
+    private PaysafeMetricsListener metricsListener;
+    private final List<PaysafeInterceptor> interceptors = new ArrayList<>();
+    private CacheConfig paymentMethodsCacheConfig;
+    private final List<CurrencyCode> paymentMethodsWarmUpCurrencies = new ArrayList<>();
+    private CacheConfig customerCacheConfig;
+    private TransactionCacheConfig transactionCacheConfig;
 
     private Builder() {
     }
@@ -304,12 +406,269 @@ public class PaysafeClient {
       return this;
     }
 
+    /**
+     * Sets the maximum number of pooled connections per route. As all requests are sent to the same host, this is
+     * effectively the maximum number of concurrent requests. Size it to the number of threads using this client. Default: 50  <br>
+     * The method returns a reference to this Builder enabling method chaining.
+     *
+     * @param maxConnectionsPerRoute the {@code maxConnectionsPerRoute} to set
+     * @return a reference to this Builder
+     */
+    public Builder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+      this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections in total. Default: 50, or max connections per route if greater.  <br>
+     * The method returns a reference to this Builder enabling method chaining.
+     *
+     * @param maxConnectionsTotal the {@code maxConnectionsTotal} to set
+     * @return a reference to this Builder
+     */
+    public Builder maxConnectionsTotal(int maxConnectionsTotal) {
+      this.maxConnectionsTotal = maxConnectionsTotal;
+      return this;
+    }
+
+    /**
+     * Sets the total time to live, in milliseconds, of pooled connections. Connections older than this value are closed
+     * instead of being reused. By default, connections are kept alive as long as the server allows.  <br>
+     * The method returns a reference to this Builder enabling method chaining.
+     *
+     * @param connectionTimeToLive the {@code connectionTimeToLive} to set
+     * @return a reference to this Builder
+     */
+    public Builder connectionTimeToLive(int connectionTimeToLive) {
+      this.connectionTimeToLive = connectionTimeToLive;
+      return this;
+    }
+
+    /**
+     * Sets the period of inactivity, in milliseconds, after which pooled connections are validated before being reused.
+     * Default: 2000  <br>
+     * The method returns a reference to this Builder enabling method chaining.
+     *
+     * @param validateAfterInactivity the {@code validateAfterInactivity} to set
+     * @return a reference to this Builder
+     */
+    public Builder validateAfterInactivity(int validateAfterInactivity) {
+      this.validateAfterInactivity = validateAfterInactivity;
+      return this;
+    }
+
+    /**
+     * Sets the maximum time, in milliseconds, that pooled connections may stay idle. If set, background thread periodically
+     * evicts expired connections and connections idle longer than this value. Set it below idle timeout of load balancers
+     * between your application and Paysafe Payments API. By default, eviction is disabled.  <br>
+     * The method returns a reference to this Builder enabling method chaining.
+     *
+     * @param maxIdleTime the {@code maxIdleTime} to set
+     * @return a reference to this Builder
+     */
+    public Builder maxIdleTime(int maxIdleTime) {
+      this.maxIdleTime = maxIdleTime;
+      return this;
+    }
+
+    /**
+     * Enables HTTP/2 transport. All requests, blocking and asynchronous, are then multiplexed as concurrent streams over
+     * a single TLS connection to Paysafe Payments API, instead of occupying one pooled HTTP/1.1 connection each. Max
+     * connections per route, max connections total and connection time to live do not apply in this mode. Disabled by default.  <br>
+     * The method returns a reference to this Builder enabling method chaining.
+     *
+     * @param http2Enabled the {@code http2Enabled} to set
+     * @return a reference to this Builder
+     */
+    public Builder http2Enabled(boolean http2Enabled) {
+      this.http2Enabled = http2Enabled;
+      return this;
+    }
+
+    /**
+     * Sets which POST, PUT and PATCH requests are retried automatically, in addition to GET requests, when they fail with
+     * I/O error, or Paysafe Payments API responds with 429 or 503. Requests with merchant reference number and duplicate
+     * check enabled can be retried safely, as a duplicate is rejected by Paysafe Payments API. Requests with duplicate check
+     * disabled may additionally be retried once looking up their merchant reference number confirms no transaction was
+     * created. Retries follow Retry-After header and are limited by max automatic retries.
+     * Default: {@link NonIdempotentRetryPolicy#NEVER}  <br>
+     * The method returns a reference to this Builder enabling method chaining.
+     *
+     * @param nonIdempotentRetryPolicy the {@code nonIdempotentRetryPolicy} to set
+     * @return a reference to this Builder
+     * @see NonIdempotentRetryPolicy
+     */
+    public Builder nonIdempotentRetryPolicy(NonIdempotentRetryPolicy nonIdempotentRetryPolicy) {
+      this.nonIdempotentRetryPolicy = nonIdempotentRetryPolicy;
+      return this;
+    }
+
+    /**
+     * Enables circuit breakers, kept for each endpoint, i.e. {@code /v1/payments} or {@code /v1/customers/{id}}. Once
+     * failure or slow call rate of an endpoint's recent requests reaches its threshold, further requests to that endpoint
+     * are rejected immediately with {@code CircuitBreakerOpenException}, instead of waiting for response timeout, until
+     * trial requests succeed. Disabled by default.  <br>
+     * The method returns a reference to this Builder enabling method chaining.
+     *
+     * @param circuitBreakerConfig the {@code circuitBreakerConfig} to set
+     * @return a reference to this Builder
+     * @see CircuitBreakerConfig
+     */
+    public Builder circuitBreakerConfig(CircuitBreakerConfig circuitBreakerConfig) {
+      this.circuitBreakerConfig = circuitBreakerConfig;
+      return this;
+    }
+
+    /**
+     * Enables adaptive limit of concurrent requests of this client, which follows their round-trip time. Requests above
+     * the limit wait for other requests to complete, and are rejected with {@code ConcurrencyLimitExceededException} if
+     * none does within maximum wait time, instead of queueing on the connection pool. Payments, lookups using merchant
+     * reference number and other requests are each guaranteed a share of the limit, so that payments are not starved by
+     * lookups. Disabled by default.  <br>
+     * The method returns a reference to this Builder enabling method chaining.
+     *
+     * @param concurrencyLimitConfig the {@code concurrencyLimitConfig} to set
+     * @return a reference to this Builder
+     * @see ConcurrencyLimitConfig
+     */
+    public Builder concurrencyLimitConfig(ConcurrencyLimitConfig concurrencyLimitConfig) {
+      this.concurrencyLimitConfig = concurrencyLimitConfig;
+      return this;
+    }
+
+    /**
+     * Enables hedging of GET requests, such as {@code getPaymentById}. If no response is received within hedging delay,
+     * i.e. 95th percentile of recent round-trip times of the endpoint, an identical request is sent on another pooled
+     * connection, the first response is used and the other request is cancelled. Hedged requests are limited to a
+     * percentage of all GET requests, and may be disabled for single requests by {@code RequestOptions}. Blocking GET
+     * requests are executed by the asynchronous httpClient when hedged. Disabled by default.  <br>
+     * The method returns a reference to this Builder enabling method chaining.
+     *
+     * @param hedgingPolicy the {@code hedgingPolicy} to set
+     * @return a reference to this Builder
+     * @see HedgingPolicy
+     */
+    public Builder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+      this.hedgingPolicy = hedgingPolicy;
+      return this;
+    }
+
+    /**
+     * Enables coalescing of identical GET requests, such as {@code getPaymentHandleById} or {@code lookUpPaymentMethods}
+     * called for the same resource by several threads at once. A request is only sent if no identical one, with the same
+     * URI, query and request options, is in flight, and its response is shared by all callers waiting for it, each of them
+     * receiving its own deserialized instance. Disabled by default.  <br>
+     * The method returns a reference to this Builder enabling method chaining.
+     *
+     * @param requestCoalescingEnabled the {@code requestCoalescingEnabled} to set
+     * @return a reference to this Builder
+     */
+    public Builder requestCoalescingEnabled(boolean requestCoalescingEnabled) {
+      this.requestCoalescingEnabled = requestCoalescingEnabled;
+      return this;
+    }
+
+    /**
+     * Sets the listener receiving metrics of every request: latency, http status code or exception, request and response
+     * sizes, automatic retries and state of connection pools. Endpoints are reported as templates, i.e.
+     * {@code /v1/payments/{id}}. By default, metrics are not collected.  <br>
+     * The method returns a reference to this Builder enabling method chaining.
+     *
+     * @param metricsListener the {@code metricsListener} to set
+     * @return a reference to this Builder
+     * @see PaysafeMetricsListener
+     */
+    public Builder metricsListener(PaysafeMetricsListener metricsListener) {
+      this.metricsListener = metricsListener;
+      return this;
+    }
+
+    /**
+     * Adds interceptor to the end of the interceptor chain. Interceptors are invoked before every request is sent, and once
+     * its response is received or it fails, which allows adding headers, tracing or logging without wrapping services.
+     * By default, there are no interceptors.  <br>
+     * The method returns a reference to this Builder enabling method chaining.
+     *
+     * @param interceptor the {@code interceptor} to add
+     * @return a reference to this Builder
+     * @see PaysafeInterceptor
+     */
+    public Builder addInterceptor(PaysafeInterceptor interceptor) {
+      this.interceptors.add(interceptor);
+      return this;
+    }
+
+    /**
+     * Enables caching of payment methods returned by {@code lookUpPaymentMethods}, for each currency code. Cached payment
+     * methods are returned until time to live elapses, and then refreshed in background while the stale ones are still
+     * returned. Payment methods change only when configuration of the account changes, so caching takes the request out
+     * of latency-sensitive flows, such as checkout. Disabled by default.  <br>
+     * The method returns a reference to this Builder enabling method chaining.
+     *
+     * @param paymentMethodsCacheConfig the {@code paymentMethodsCacheConfig} to set
+     * @return a reference to this Builder
+     * @see CacheConfig
+     */
+    public Builder paymentMethodsCacheConfig(CacheConfig paymentMethodsCacheConfig) {
+      this.paymentMethodsCacheConfig = paymentMethodsCacheConfig;
+      return this;
+    }
+
+    /**
+     * Sets currency codes of which payment methods are looked up in background once the client is built, so that they
+     * are cached before they are first needed. Failed lookups are ignored. Enables caching of payment methods with
+     * default {@link CacheConfig}, unless it is configured by {@link #paymentMethodsCacheConfig(CacheConfig)}.
+     * By default, no payment methods are looked up.  <br>
+     * The method returns a reference to this Builder enabling method chaining.
+     *
+     * @param paymentMethodsWarmUpCurrencies the {@code paymentMethodsWarmUpCurrencies} to set
+     * @return a reference to this Builder
+     */
+    public Builder paymentMethodsWarmUpCurrencies(List<CurrencyCode> paymentMethodsWarmUpCurrencies) {
+      this.paymentMethodsWarmUpCurrencies.clear();
+      this.paymentMethodsWarmUpCurrencies.addAll(paymentMethodsWarmUpCurrencies);
+      return this;
+    }
+
+    /**
+     * Enables caching of customers returned by {@code getCustomerById} and {@code getCustomerByMerchantCustomerId}, for
+     * each combination of requested fields. Cached customers are invalidated once the customer, its addresses or payment
+     * handles are modified through this client, so a cache with short time to live is suited to flows which read the
+     * same customer repeatedly, such as checkout. Modifications made by other clients are seen once time to live
+     * elapses. Disabled by default.  <br>
+     * The method returns a reference to this Builder enabling method chaining.
+     *
+     * @param customerCacheConfig the {@code customerCacheConfig} to set
+     * @return a reference to this Builder
+     * @see CacheConfig
+     */
+    public Builder customerCacheConfig(CacheConfig customerCacheConfig) {
+      this.customerCacheConfig = customerCacheConfig;
+      return this;
+    }
+
+    /**
+     * Enables caching of payments, settlements, refunds and void authorizations returned by their get by ID methods,
+     * once they reach terminal status, such as failed or cancelled, after which they never change. Transactions which
+     * are not in terminal status are always requested again. Disabled by default.  <br>
+     * The method returns a reference to this Builder enabling method chaining.
+     *
+     * @param transactionCacheConfig the {@code transactionCacheConfig} to set
+     * @return a reference to this Builder
+     * @see TransactionCacheConfig
+     */
+    public Builder transactionCacheConfig(TransactionCacheConfig transactionCacheConfig) {
+      this.transactionCacheConfig = transactionCacheConfig;
+      return this;
+    }
+
     /**
      * Returns a {@code PaysafeClient} built from the parameters previously set. Performs following validations:
      * <ul>
      * <li>api key format validation</li>
      * <li>max automatic retries validation</li>
      * <li>connect and response timeout validations</li>
+     * <li>connection pool configuration validations</li>
      * </ul>
      *
      * @return a {@code PaysafeClient} built with parameters of this {@code PaysafeClient.Builder}
@@ -320,6 +679,14 @@ public class PaysafeClient {
       validateMaxAutomaticRetries(maxAutomaticRetries);
       validateConnectTimeout(connectTimeout);
       validateResponseTimeout(responseTimeout);
+      validateMaxConnections(maxConnectionsPerRoute, maxConnectionsTotal);
+      validateConnectionTimeToLive(connectionTimeToLive);
+      validateValidateAfterInactivity(validateAfterInactivity);
+      validateMaxIdleTime(maxIdleTime);
+      validateInterceptors(interceptors);
+      if (paymentMethodsCacheConfig == null && !paymentMethodsWarmUpCurrencies.isEmpty()) {
+        paymentMethodsCacheConfig = CacheConfig.builder().build();
+      }
       return new PaysafeClient(this);
     }
   }
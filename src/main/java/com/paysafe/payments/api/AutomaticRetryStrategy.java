@@ -6,21 +6,67 @@ import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_MAXIMUM_ALLO
 import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_MAX_AUTOMATIC_RETRIES_CANNOT_BE_NEGATIVE;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.concurrent.ThreadLocalRandom;
 
 import org.apache.hc.client5.http.HttpRequestRetryStrategy;
+import org.apache.hc.client5.http.utils.DateUtils;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpRequest;
 import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.protocol.HttpContext;
 import org.apache.hc.core5.util.TimeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
+import com.paysafe.payments.metrics.PaysafeMetricsListener;
 
+/**
+ * Retries requests which failed with I/O error, or to which Paysafe Payments API responded with 429 Too Many Requests or
+ * 503 Service Unavailable. Only GET requests are retried, unless {@link HttpContext} of the request allows retrying it
+ * with {@link #RETRY_ALLOWED_ATTRIBUTE}, as it is done for requests permitted by {@link NonIdempotentRetryPolicy}.
+ */
 public class AutomaticRetryStrategy implements HttpRequestRetryStrategy {
 
+  private static final Logger logger = LoggerFactory.getLogger(AutomaticRetryStrategy.class);
+
+  /**
+   * Name of the {@link HttpContext} attribute holding maximum automatic retries for a single request. If present, it
+   * overrides the value this strategy was created with, which allows sharing one httpClient between requests using
+   * different {@link RequestOptions}.
+   */
+  public static final String MAX_AUTOMATIC_RETRIES_ATTRIBUTE = "paysafe.maxAutomaticRetries";
+
+  /**
+   * Name of the {@link HttpContext} attribute holding endpoint template of the request, reported with retries to
+   * {@link PaysafeMetricsListener}.
+   */
+  public static final String ENDPOINT_TEMPLATE_ATTRIBUTE = "paysafe.endpointTemplate";
+
+  /**
+   * Name of the {@link HttpContext} attribute holding Boolean, which tells whether the request may be retried. If present,
+   * it overrides the default, which is to retry GET requests only.
+   */
+  public static final String RETRY_ALLOWED_ATTRIBUTE = "paysafe.retryAllowed";
+
+  // method of the request, bound with endpoint template, as it is not available when retrying responses
+  static final String REQUEST_METHOD_ATTRIBUTE = "paysafe.requestMethod";
+
+  // longer Retry-After is not waited for, and the response is returned to the caller
+  private static final Duration MAX_RETRY_AFTER = Duration.ofSeconds(10);
+
   private final int maxAutomaticRetries;
+  private final PaysafeMetricsListener metricsListener;
 
   public AutomaticRetryStrategy(int maxAutomaticRetries) throws IllegalArgumentException {
+    this(maxAutomaticRetries, PaysafeMetricsListener.NO_OP);
+  }
+
+  public AutomaticRetryStrategy(int maxAutomaticRetries, PaysafeMetricsListener metricsListener) throws IllegalArgumentException {
     if (maxAutomaticRetries > 5) {
       throw new IllegalArgumentException(MESSAGE_MAXIMUM_ALLOWED_NUMBER_OF_MAX_AUTOMATIC_RETRIES);
     }
@@ -28,18 +74,40 @@ public class AutomaticRetryStrategy implements HttpRequestRetryStrategy {
       throw new IllegalArgumentException(MESSAGE_MAX_AUTOMATIC_RETRIES_CANNOT_BE_NEGATIVE);
     }
     this.maxAutomaticRetries = maxAutomaticRetries;
+    this.metricsListener = metricsListener;
   }
 
   @Override
   public boolean retryRequest(HttpRequest request, IOException exception, int executionCount, HttpContext context) {
-    if (!"GET".equalsIgnoreCase(request.getMethod())) {
+    if (!isRetryAllowed(request.getMethod(), context)) {
       return false;
     }
-    return executionCount <= maxAutomaticRetries;
+    boolean retry = executionCount <= resolveMaxAutomaticRetries(context);
+    if (retry && metricsListener != PaysafeMetricsListener.NO_OP) {
+      reportRetry(request.getMethod(), executionCount, context);
+    }
+    return retry;
   }
 
-  @Override public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
-    return false;
+  /**
+   * Responses 429 and 503 are retried, unless they ask to retry after more than 10 seconds. Method of the request is
+   * not known here, so requests executed without {@link #RETRY_ALLOWED_ATTRIBUTE} are not retried.
+   */
+  @Override
+  public boolean retryRequest(HttpResponse response, int executionCount, HttpContext context) {
+    if (response.getCode() != HttpStatus.SC_TOO_MANY_REQUESTS && response.getCode() != HttpStatus.SC_SERVICE_UNAVAILABLE) {
+      return false;
+    }
+    if (!Boolean.TRUE.equals(context == null ? null : context.getAttribute(RETRY_ALLOWED_ATTRIBUTE))) {
+      return false;
+    }
+    Duration retryAfter = parseRetryAfter(response);
+    boolean retry = executionCount <= resolveMaxAutomaticRetries(context)
+        && (retryAfter == null || retryAfter.compareTo(MAX_RETRY_AFTER) <= 0);
+    if (retry && metricsListener != PaysafeMetricsListener.NO_OP) {
+      reportRetry((String) context.getAttribute(REQUEST_METHOD_ATTRIBUTE), executionCount, context);
+    }
+    return retry;
   }
 
   /**
@@ -47,15 +115,77 @@ public class AutomaticRetryStrategy implements HttpRequestRetryStrategy {
    */
   @Override
   public TimeValue getRetryInterval(HttpRequest request, IOException exception, int executionCount, HttpContext context) {
+    return TimeValue.ofMilliseconds(backoffMillis(executionCount));
+  }
+
+  /**
+   * Retry interval is taken from Retry-After header of the response if present, and increased exponentially otherwise.
+   */
+  @Override
+  public TimeValue getRetryInterval(HttpResponse response, int executionCount, HttpContext context) {
+    Duration retryAfter = parseRetryAfter(response);
+    if (retryAfter != null) {
+      return TimeValue.ofMilliseconds(retryAfter.toMillis());
+    }
+    return TimeValue.ofMilliseconds(backoffMillis(executionCount));
+  }
+
+  /**
+   * Returns exponentially increasing delay before the retry with given execution count, randomized to spread retries of
+   * concurrent requests.
+   */
+  static long backoffMillis(int executionCount) {
     int delay = 100;
     for (int i = 1; i < executionCount; i++) {
       delay *= 3;
     }
     double jitter = ThreadLocalRandom.current().nextDouble(0.75, 1.00);
-    return TimeValue.ofMilliseconds((long) (delay * jitter));
+    return (long) (delay * jitter);
   }
 
-  @Override public TimeValue getRetryInterval(HttpResponse response, int execCount, HttpContext context) {
-    return null;
+  /**
+   * Parses Retry-After header, which holds either number of seconds or HTTP date. Returns null if the header is missing
+   * or invalid.
+   */
+  private static Duration parseRetryAfter(HttpResponse response) {
+    Header retryAfter = response.getFirstHeader(HttpHeaders.RETRY_AFTER);
+    if (retryAfter == null) {
+      return null;
+    }
+    try {
+      return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.getValue().trim())));
+    } catch (NumberFormatException e) {
+      Instant retryAt = DateUtils.parseStandardDate(retryAfter.getValue());
+      if (retryAt == null) {
+        return null;
+      }
+      Duration delay = Duration.between(Instant.now(), retryAt);
+      return delay.isNegative() ? Duration.ZERO : delay;
+    }
+  }
+
+  private boolean isRetryAllowed(String method, HttpContext context) {
+    Object retryAllowed = context == null ? null : context.getAttribute(RETRY_ALLOWED_ATTRIBUTE);
+    if (retryAllowed instanceof Boolean) {
+      return (Boolean) retryAllowed;
+    }
+    return "GET".equalsIgnoreCase(method);
+  }
+
+  private void reportRetry(String method, int executionCount, HttpContext context) {
+    Object endpointTemplate = context == null ? null : context.getAttribute(ENDPOINT_TEMPLATE_ATTRIBUTE);
+    try {
+      metricsListener.requestRetried(method, (String) endpointTemplate, executionCount);
+    } catch (RuntimeException e) {
+      logger.warn("Exception thrown by metrics listener: {}", e.getMessage(), e);
+    }
+  }
+
+  private int resolveMaxAutomaticRetries(HttpContext context) {
+    Object requestMaxAutomaticRetries = context == null ? null : context.getAttribute(MAX_AUTOMATIC_RETRIES_ATTRIBUTE);
+    if (requestMaxAutomaticRetries instanceof Integer) {
+      return (Integer) requestMaxAutomaticRetries;
+    }
+    return maxAutomaticRetries;
   }
 }
\ No newline at end of file
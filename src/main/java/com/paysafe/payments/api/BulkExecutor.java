@@ -0,0 +1,158 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+
+import com.paysafe.payments.errorhandling.exception.ApiConnectionException;
+import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+
+/**
+ * Executes a single bulk request configured by {@link BulkOptions}. Requests are started in order of the IDs, and each
+ * completed request starts the next one, so that at most parallelism requests are in progress. Once the deadline is
+ * exceeded, records not received yet fail, and requests in progress are cancelled.
+ * <p>
+ * Requests may complete synchronously, i.e. when rejected by circuit breaker, so they are started by a single thread at
+ * a time in a loop, instead of recursively from completion of the previous request. Requests completed by I/O threads
+ * of the HTTP client start the next ones with {@link TaskExecutors#taskExecutor()}.
+ *
+ * @param <T> type of the records
+ */
+final class BulkExecutor<T> {
+
+  private static final String DEADLINE_EXCEEDED_MESSAGE = "Bulk deadline of %s ms was exceeded before %s was received";
+  private static final String REQUEST_CANCELLED_MESSAGE = "request cancelled";
+
+  private final List<String> ids;
+  private final BulkOptions bulkOptions;
+  private final BiFunction<String, RequestOptions, CompletableFuture<T>> request;
+  private final AtomicReferenceArray<BulkResult<T>> results;
+  private final AtomicReferenceArray<CompletableFuture<T>> requests;
+  private final AtomicInteger remaining;
+  private final AtomicInteger available;
+  // number of pending calls of drain(), only the thread incrementing it from zero starts requests
+  private final AtomicInteger drainRequests = new AtomicInteger();
+  private final CompletableFuture<List<BulkResult<T>>> result = new CompletableFuture<>();
+  private volatile boolean expired;
+  private int next;
+
+  BulkExecutor(final Collection<String> ids, final BulkOptions bulkOptions,
+      final BiFunction<String, RequestOptions, CompletableFuture<T>> request) {
+    this.ids = new ArrayList<>(ids);
+    this.bulkOptions = bulkOptions;
+    this.request = request;
+    this.results = new AtomicReferenceArray<>(this.ids.size());
+    this.requests = new AtomicReferenceArray<>(this.ids.size());
+    this.remaining = new AtomicInteger(this.ids.size());
+    this.available = new AtomicInteger(bulkOptions.getParallelism());
+  }
+
+  /**
+   * Starts the requests, returning future completed with results in order of the IDs. Cancelling the future cancels
+   * requests in progress.
+   */
+  CompletableFuture<List<BulkResult<T>>> execute() {
+    if (ids.isEmpty()) {
+      return CompletableFuture.completedFuture(new ArrayList<>());
+    }
+    if (bulkOptions.getDeadline() != null) {
+      CompletableFuture<Void> deadline = new CompletableFuture<>();
+      deadline.completeOnTimeout(null, bulkOptions.getDeadline(), TimeUnit.MILLISECONDS)
+          .thenRun(this::expire);
+      result.whenComplete((response, throwable) -> deadline.cancel(false));
+    }
+    result.whenComplete((response, throwable) -> {
+      if (throwable != null) {
+        expired = true;
+        cancelRequests();
+      }
+    });
+    drain();
+    return result;
+  }
+
+  private void drain() {
+    if (drainRequests.getAndIncrement() != 0) {
+      return;
+    }
+    do {
+      while (!expired && next < ids.size() && available.get() > 0) {
+        available.decrementAndGet();
+        start(next++);
+      }
+    } while (drainRequests.decrementAndGet() != 0);
+  }
+
+  private void start(final int index) {
+    String id = ids.get(index);
+    CompletableFuture<T> future;
+    try {
+      future = request.apply(id, bulkOptions.getRequestOptions());
+    } catch (RuntimeException e) {
+      future = CompletableFuture.failedFuture(e);
+    }
+    requests.set(index, future);
+    boolean completedSynchronously = future.isDone();
+    future.whenComplete((record, throwable) -> {
+      complete(index, throwable == null ? BulkResult.success(id, record) : BulkResult.failure(id, toPaysafeSdkException(throwable)));
+      requests.set(index, null);
+      available.incrementAndGet();
+      if (completedSynchronously) {
+        drain();
+      } else {
+        TaskExecutors.taskExecutor().execute(this::drain);
+      }
+    });
+  }
+
+  private void complete(final int index, final BulkResult<T> bulkResult) {
+    if (results.compareAndSet(index, null, bulkResult) && remaining.decrementAndGet() == 0) {
+      List<BulkResult<T>> response = new ArrayList<>(results.length());
+      for (int i = 0; i < results.length(); i++) {
+        response.add(results.get(i));
+      }
+      result.complete(response);
+    }
+  }
+
+  private void expire() {
+    expired = true;
+    for (int i = 0; i < ids.size(); i++) {
+      if (results.get(i) == null) {
+        complete(i, BulkResult.failure(ids.get(i), new ApiConnectionException(
+            String.format(DEADLINE_EXCEEDED_MESSAGE, bulkOptions.getDeadline(), ids.get(i)))));
+      }
+    }
+    cancelRequests();
+  }
+
+  private void cancelRequests() {
+    for (int i = 0; i < requests.length(); i++) {
+      CompletableFuture<T> future = requests.get(i);
+      if (future != null) {
+        future.cancel(true);
+      }
+    }
+  }
+
+  private static PaysafeSdkException toPaysafeSdkException(final Throwable throwable) {
+    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause() : throwable;
+    if (cause instanceof PaysafeSdkException) {
+      return (PaysafeSdkException) cause;
+    }
+    if (cause instanceof CancellationException) {
+      return new ApiConnectionException(REQUEST_CANCELLED_MESSAGE);
+    }
+    return new PaysafeSdkException(cause);
+  }
+}
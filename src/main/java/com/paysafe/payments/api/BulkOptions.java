@@ -0,0 +1,110 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import static com.paysafe.payments.validation.PropertyValidator.validateBulkOptions;
+
+import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
+
+/**
+ * This class is used to define execution of bulk requests, which get multiple records by their IDs. Records are fetched
+ * by asynchronous requests sharing the connection pool of PaysafeClient. Fields that may be configured: <ul>
+ * <li>parallelism: maximum number of requests of the bulk request in progress at the same time. Default: 10</li>
+ * <li>deadline: maximum time, in milliseconds, for all requests to complete. Requests in progress once the deadline is
+ * exceeded are cancelled, and requests not started yet are not sent. Default: no deadline</li>
+ * <li>requestOptions: RequestOptions of each request, instead of values from PaysafeClient</li>
+ * </ul>
+ */
+public final class BulkOptions {
+
+  private static final int DEFAULT_PARALLELISM = 10;
+
+  // used when no BulkOptions are provided
+  static final BulkOptions DEFAULT = new BulkOptions(new Builder());
+
+  private final int parallelism;
+  private final Integer deadline;
+  private final RequestOptions requestOptions;
+
+  private BulkOptions(Builder builder) {
+    parallelism = builder.parallelism == null ? DEFAULT_PARALLELISM : builder.parallelism;
+    deadline = builder.deadline;
+    requestOptions = builder.requestOptions;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Returns deadline of all requests in milliseconds, or null if there is no deadline.
+   */
+  public Integer getDeadline() {
+    return deadline;
+  }
+
+  public RequestOptions getRequestOptions() {
+    return requestOptions;
+  }
+
+  /**
+   * {@code BulkOptions} builder static inner class.
+   */
+  public static final class Builder {
+
+    private Integer parallelism;
+    private Integer deadline;
+    private RequestOptions requestOptions;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the {@code parallelism} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param parallelism the {@code parallelism} to set
+     * @return a reference to this Builder
+     */
+    public Builder parallelism(Integer parallelism) {
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * Sets the {@code deadline} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param deadline the {@code deadline} to set
+     * @return a reference to this Builder
+     */
+    public Builder deadline(Integer deadline) {
+      this.deadline = deadline;
+      return this;
+    }
+
+    /**
+     * Sets the {@code requestOptions} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param requestOptions the {@code requestOptions} to set
+     * @return a reference to this Builder
+     */
+    public Builder requestOptions(RequestOptions requestOptions) {
+      this.requestOptions = requestOptions;
+      return this;
+    }
+
+    /**
+     * Returns a {@code BulkOptions} built from the parameters previously set.
+     *
+     * @return a {@code BulkOptions} built with parameters of this {@code BulkOptions.Builder}
+     * @throws IllegalArgumentException if any of provided arguments was invalid
+     */
+    public BulkOptions build() throws IllegalArgumentException {
+      validateBulkOptions(parallelism, deadline);
+      return new BulkOptions(this);
+    }
+  }
+}
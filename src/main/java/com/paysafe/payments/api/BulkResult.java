@@ -0,0 +1,65 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+
+/**
+ * Result of getting a single record of a bulk request, which either contains the record, or the exception the request
+ * of the record failed with.
+ *
+ * @param <T> type of the record, i.e. Payment
+ */
+public final class BulkResult<T> {
+
+  private final String id;
+  private final T result;
+  private final PaysafeSdkException exception;
+
+  private BulkResult(final String id, final T result, final PaysafeSdkException exception) {
+    this.id = id;
+    this.result = result;
+    this.exception = exception;
+  }
+
+  public static <T> BulkResult<T> success(final String id, final T result) {
+    return new BulkResult<>(id, result, null);
+  }
+
+  public static <T> BulkResult<T> failure(final String id, final PaysafeSdkException exception) {
+    return new BulkResult<>(id, null, exception);
+  }
+
+  /**
+   * Returns ID of the record, as provided to the bulk request.
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Returns the record, or null if its request failed.
+   */
+  public T getResult() {
+    return result;
+  }
+
+  /**
+   * Returns the exception the request of the record failed with, or null if it was successful.
+   */
+  public PaysafeSdkException getException() {
+    return exception;
+  }
+
+  public boolean isSuccessful() {
+    return exception == null;
+  }
+
+  @Override public String toString() {
+    return "BulkResult{" +
+        "id='" + id + '\'' +
+        ", result=" + result +
+        ", exception=" + exception +
+        '}';
+  }
+}
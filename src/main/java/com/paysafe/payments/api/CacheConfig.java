@@ -0,0 +1,110 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import static com.paysafe.payments.validation.PropertyValidator.validateCacheConfig;
+
+import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
+
+/**
+ * This class is used to define configuration of a cache of responses kept by PaysafeClient. Each PaysafeClient has its
+ * own caches, so cached responses are never shared between accounts. Fields that may be configured: <ul>
+ * <li>timeToLive: time, in milliseconds, during which cached response is returned without sending a request.
+ * Default: 300000</li>
+ * <li>staleWhileRevalidate: time, in milliseconds, after time to live elapses, during which the stale response is still
+ * returned, while a request refreshing it is sent in background. Once it elapses, the next call waits for a new response.
+ * Default: 60000</li>
+ * <li>maximumSize: maximum number of cached responses. Once it is reached, the least recently used response is evicted.
+ * Default: 1000</li>
+ * </ul>
+ */
+public final class CacheConfig {
+
+  private static final int DEFAULT_TIME_TO_LIVE = 5 * 60 * 1000;
+  private static final int DEFAULT_STALE_WHILE_REVALIDATE = 60 * 1000;
+  private static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+  private final int timeToLive;
+  private final int staleWhileRevalidate;
+  private final int maximumSize;
+
+  private CacheConfig(Builder builder) {
+    timeToLive = builder.timeToLive == null ? DEFAULT_TIME_TO_LIVE : builder.timeToLive;
+    staleWhileRevalidate = builder.staleWhileRevalidate == null ? DEFAULT_STALE_WHILE_REVALIDATE
+        : builder.staleWhileRevalidate;
+    maximumSize = builder.maximumSize == null ? DEFAULT_MAXIMUM_SIZE : builder.maximumSize;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public int getTimeToLive() {
+    return timeToLive;
+  }
+
+  public int getStaleWhileRevalidate() {
+    return staleWhileRevalidate;
+  }
+
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * {@code CacheConfig} builder static inner class.
+   */
+  public static final class Builder {
+
+    private Integer timeToLive;
+    private Integer staleWhileRevalidate;
+    private Integer maximumSize;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the {@code timeToLive} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param timeToLive the {@code timeToLive} to set
+     * @return a reference to this Builder
+     */
+    public Builder timeToLive(Integer timeToLive) {
+      this.timeToLive = timeToLive;
+      return this;
+    }
+
+    /**
+     * Sets the {@code staleWhileRevalidate} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param staleWhileRevalidate the {@code staleWhileRevalidate} to set
+     * @return a reference to this Builder
+     */
+    public Builder staleWhileRevalidate(Integer staleWhileRevalidate) {
+      this.staleWhileRevalidate = staleWhileRevalidate;
+      return this;
+    }
+
+    /**
+     * Sets the {@code maximumSize} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param maximumSize the {@code maximumSize} to set
+     * @return a reference to this Builder
+     */
+    public Builder maximumSize(Integer maximumSize) {
+      this.maximumSize = maximumSize;
+      return this;
+    }
+
+    /**
+     * Returns a {@code CacheConfig} built from the parameters previously set.
+     *
+     * @return a {@code CacheConfig} built with parameters of this {@code CacheConfig.Builder}
+     * @throws IllegalArgumentException if any of provided arguments was invalid
+     */
+    public CacheConfig build() throws IllegalArgumentException {
+      validateCacheConfig(timeToLive, staleWhileRevalidate, maximumSize);
+      return new CacheConfig(this);
+    }
+  }
+}
@@ -0,0 +1,185 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Circuit breaker of a single endpoint, configured by {@link CircuitBreakerConfig}. While closed, outcomes of requests are
+ * recorded in a sliding window, and once failure or slow call rate reaches its threshold, the circuit breaker opens and
+ * rejects requests. After wait duration, limited number of trial requests is permitted in half-open state, whose outcome
+ * either closes the circuit breaker or opens it again.
+ * <p>
+ * Requests are permitted and recorded without locking, as they are on the path of every request. Results of requests
+ * which were permitted in previous state are recorded in the window of the current one.
+ */
+final class CircuitBreaker {
+
+  enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+  private final String endpoint;
+  private final CircuitBreakerConfig config;
+  private final long slowCallDurationNanos;
+  private final long waitDurationInOpenStateNanos;
+  private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+  private final AtomicInteger halfOpenPermits = new AtomicInteger();
+  private volatile SlidingWindow window;
+  private volatile long openedAt;
+
+  CircuitBreaker(final String endpoint, final CircuitBreakerConfig config) {
+    this.endpoint = endpoint;
+    this.config = config;
+    this.slowCallDurationNanos = TimeUnit.MILLISECONDS.toNanos(config.getSlowCallDurationThreshold());
+    this.waitDurationInOpenStateNanos = TimeUnit.MILLISECONDS.toNanos(config.getWaitDurationInOpenState());
+    this.window = new SlidingWindow(config.getSlidingWindowSize());
+  }
+
+  State getState() {
+    return state.get();
+  }
+
+  /**
+   * Returns true if the request may be sent. Open circuit breaker becomes half-open once its wait duration elapses.
+   */
+  boolean tryAcquirePermission() {
+    State current = state.get();
+    if (current == State.CLOSED) {
+      return true;
+    }
+    if (current == State.OPEN) {
+      if (System.nanoTime() - openedAt < waitDurationInOpenStateNanos) {
+        return false;
+      }
+      transition(State.OPEN, State.HALF_OPEN);
+      current = state.get();
+      if (current != State.HALF_OPEN) {
+        return current == State.CLOSED;
+      }
+    }
+    for (;;) {
+      int permits = halfOpenPermits.get();
+      if (permits <= 0) {
+        return false;
+      }
+      if (halfOpenPermits.compareAndSet(permits, permits - 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Gives back permission of a request which was cancelled before its outcome was known, such as a hedged request whose
+   * other attempt completed first, so that it neither counts as an outcome nor holds a trial request of half-open state.
+   * Permissions are only limited in half-open state, and trial requests already recorded in its window are not given
+   * back.
+   */
+  void releasePermission() {
+    if (state.get() != State.HALF_OPEN) {
+      return;
+    }
+    int maximumPermits = config.getPermittedCallsInHalfOpenState() - window.calls.get();
+    for (;;) {
+      int permits = halfOpenPermits.get();
+      if (permits >= maximumPermits || halfOpenPermits.compareAndSet(permits, permits + 1)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Records outcome of a permitted request, and opens or closes the circuit breaker if rates of its window require so.
+   */
+  void onResult(final long durationNanos, final boolean failure) {
+    State current = state.get();
+    if (current == State.OPEN) {
+      return;
+    }
+    SlidingWindow currentWindow = window;
+    currentWindow.record(failure, durationNanos >= slowCallDurationNanos);
+
+    int calls = currentWindow.calls.get();
+    if (current == State.CLOSED) {
+      if (calls >= Math.min(config.getMinimumNumberOfCalls(), config.getSlidingWindowSize()) && exceedsThresholds(currentWindow)) {
+        transition(State.CLOSED, State.OPEN);
+      }
+    } else if (calls >= config.getPermittedCallsInHalfOpenState()) {
+      transition(State.HALF_OPEN, exceedsThresholds(currentWindow) ? State.OPEN : State.CLOSED);
+    }
+  }
+
+  private boolean exceedsThresholds(final SlidingWindow slidingWindow) {
+    int calls = slidingWindow.calls.get();
+    return slidingWindow.failures.get() * 100 >= config.getFailureRateThreshold() * calls
+        || slidingWindow.slowCalls.get() * 100 >= config.getSlowCallRateThreshold() * calls;
+  }
+
+  private void transition(final State from, final State to) {
+    if (!state.compareAndSet(from, to)) {
+      return;
+    }
+    if (to == State.OPEN) {
+      openedAt = System.nanoTime();
+    }
+    window = new SlidingWindow(to == State.HALF_OPEN ? config.getPermittedCallsInHalfOpenState() : config.getSlidingWindowSize());
+    halfOpenPermits.set(to == State.HALF_OPEN ? config.getPermittedCallsInHalfOpenState() : 0);
+    if (to == State.OPEN) {
+      logger.warn("Circuit breaker of {} changed state from {} to {}", endpoint, from, to);
+    } else {
+      logger.info("Circuit breaker of {} changed state from {} to {}", endpoint, from, to);
+    }
+  }
+
+  /**
+   * Ring of the most recent outcomes. Each slot is replaced atomically, and counters are adjusted by the difference
+   * between replaced and recorded outcome, so they always describe the last {@code size} requests.
+   */
+  private static final class SlidingWindow {
+
+    private static final int EMPTY = 0;
+    private static final int RECORDED = 1;
+    private static final int FAILURE = 2;
+    private static final int SLOW = 4;
+
+    private final AtomicIntegerArray outcomes;
+    private final AtomicLong nextIndex = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicInteger slowCalls = new AtomicInteger();
+
+    private SlidingWindow(final int size) {
+      this.outcomes = new AtomicIntegerArray(size);
+    }
+
+    private void record(final boolean failure, final boolean slow) {
+      int outcome = RECORDED | (failure ? FAILURE : 0) | (slow ? SLOW : 0);
+      int index = (int) (nextIndex.getAndIncrement() % outcomes.length());
+      int replaced = outcomes.getAndSet(index, outcome);
+
+      if (replaced == EMPTY) {
+        calls.incrementAndGet();
+      }
+      adjust(failures, replaced, outcome, FAILURE);
+      adjust(slowCalls, replaced, outcome, SLOW);
+    }
+
+    private static void adjust(final AtomicInteger counter, final int replaced, final int outcome, final int flag) {
+      int delta = ((outcome & flag) != 0 ? 1 : 0) - ((replaced & flag) != 0 ? 1 : 0);
+      if (delta != 0) {
+        counter.addAndGet(delta);
+      }
+    }
+  }
+}
@@ -0,0 +1,198 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import static com.paysafe.payments.validation.PropertyValidator.validateCircuitBreakerCalls;
+import static com.paysafe.payments.validation.PropertyValidator.validateCircuitBreakerDurations;
+import static com.paysafe.payments.validation.PropertyValidator.validateCircuitBreakerRateThreshold;
+
+import com.paysafe.payments.errorhandling.exception.CircuitBreakerOpenException;
+import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
+
+/**
+ * This class is used to define configuration of circuit breakers, which are kept for each endpoint, i.e.
+ * {@code /v1/payments} or {@code /v1/customers/{id}}. Fields that may be configured: <ul>
+ * <li>failureRateThreshold: percentage of failed requests which opens the circuit breaker. Requests fail if no response
+ * is received, or Paysafe Payments API responds with 429 or 5xx status. Default: 50</li>
+ * <li>slowCallRateThreshold: percentage of slow requests which opens the circuit breaker. Default: 100</li>
+ * <li>slowCallDurationThreshold: duration, in milliseconds, above which requests are slow. Default: 10000</li>
+ * <li>slidingWindowSize: number of most recent requests from which failure and slow call rates are calculated.
+ * Default: 100</li>
+ * <li>minimumNumberOfCalls: number of requests which must be recorded before the rates are evaluated. Default: 20</li>
+ * <li>waitDurationInOpenState: time, in milliseconds, during which the open circuit breaker rejects requests with
+ * {@link CircuitBreakerOpenException}. Default: 30000</li>
+ * <li>permittedCallsInHalfOpenState: number of trial requests sent once wait duration elapses. If their rates are below
+ * thresholds, circuit breaker is closed, otherwise it is opened again. Default: 5</li>
+ * </ul>
+ */
+public final class CircuitBreakerConfig {
+
+  private static final int DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+  private static final int DEFAULT_SLOW_CALL_RATE_THRESHOLD = 100;
+  private static final int DEFAULT_SLOW_CALL_DURATION_THRESHOLD = 10 * 1000;
+  private static final int DEFAULT_SLIDING_WINDOW_SIZE = 100;
+  private static final int DEFAULT_MINIMUM_NUMBER_OF_CALLS = 20;
+  private static final int DEFAULT_WAIT_DURATION_IN_OPEN_STATE = 30 * 1000;
+  private static final int DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE = 5;
+
+  private final int failureRateThreshold;
+  private final int slowCallRateThreshold;
+  private final int slowCallDurationThreshold;
+  private final int slidingWindowSize;
+  private final int minimumNumberOfCalls;
+  private final int waitDurationInOpenState;
+  private final int permittedCallsInHalfOpenState;
+
+  private CircuitBreakerConfig(Builder builder) {
+    failureRateThreshold = builder.failureRateThreshold == null ? DEFAULT_FAILURE_RATE_THRESHOLD : builder.failureRateThreshold;
+    slowCallRateThreshold = builder.slowCallRateThreshold == null ? DEFAULT_SLOW_CALL_RATE_THRESHOLD : builder.slowCallRateThreshold;
+    slowCallDurationThreshold = builder.slowCallDurationThreshold == null ? DEFAULT_SLOW_CALL_DURATION_THRESHOLD
+        : builder.slowCallDurationThreshold;
+    slidingWindowSize = builder.slidingWindowSize == null ? DEFAULT_SLIDING_WINDOW_SIZE : builder.slidingWindowSize;
+    minimumNumberOfCalls = builder.minimumNumberOfCalls == null ? DEFAULT_MINIMUM_NUMBER_OF_CALLS : builder.minimumNumberOfCalls;
+    waitDurationInOpenState = builder.waitDurationInOpenState == null ? DEFAULT_WAIT_DURATION_IN_OPEN_STATE
+        : builder.waitDurationInOpenState;
+    permittedCallsInHalfOpenState = builder.permittedCallsInHalfOpenState == null ? DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE
+        : builder.permittedCallsInHalfOpenState;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public int getFailureRateThreshold() {
+    return failureRateThreshold;
+  }
+
+  public int getSlowCallRateThreshold() {
+    return slowCallRateThreshold;
+  }
+
+  public int getSlowCallDurationThreshold() {
+    return slowCallDurationThreshold;
+  }
+
+  public int getSlidingWindowSize() {
+    return slidingWindowSize;
+  }
+
+  public int getMinimumNumberOfCalls() {
+    return minimumNumberOfCalls;
+  }
+
+  public int getWaitDurationInOpenState() {
+    return waitDurationInOpenState;
+  }
+
+  public int getPermittedCallsInHalfOpenState() {
+    return permittedCallsInHalfOpenState;
+  }
+
+  /**
+   * {@code CircuitBreakerConfig} builder static inner class.
+   */
+  public static final class Builder {
+
+    private Integer failureRateThreshold;
+    private Integer slowCallRateThreshold;
+    private Integer slowCallDurationThreshold;
+    private Integer slidingWindowSize;
+    private Integer minimumNumberOfCalls;
+    private Integer waitDurationInOpenState;
+    private Integer permittedCallsInHalfOpenState;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the {@code failureRateThreshold} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param failureRateThreshold the {@code failureRateThreshold} to set
+     * @return a reference to this Builder
+     */
+    public Builder failureRateThreshold(Integer failureRateThreshold) {
+      this.failureRateThreshold = failureRateThreshold;
+      return this;
+    }
+
+    /**
+     * Sets the {@code slowCallRateThreshold} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param slowCallRateThreshold the {@code slowCallRateThreshold} to set
+     * @return a reference to this Builder
+     */
+    public Builder slowCallRateThreshold(Integer slowCallRateThreshold) {
+      this.slowCallRateThreshold = slowCallRateThreshold;
+      return this;
+    }
+
+    /**
+     * Sets the {@code slowCallDurationThreshold} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param slowCallDurationThreshold the {@code slowCallDurationThreshold} to set
+     * @return a reference to this Builder
+     */
+    public Builder slowCallDurationThreshold(Integer slowCallDurationThreshold) {
+      this.slowCallDurationThreshold = slowCallDurationThreshold;
+      return this;
+    }
+
+    /**
+     * Sets the {@code slidingWindowSize} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param slidingWindowSize the {@code slidingWindowSize} to set
+     * @return a reference to this Builder
+     */
+    public Builder slidingWindowSize(Integer slidingWindowSize) {
+      this.slidingWindowSize = slidingWindowSize;
+      return this;
+    }
+
+    /**
+     * Sets the {@code minimumNumberOfCalls} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param minimumNumberOfCalls the {@code minimumNumberOfCalls} to set
+     * @return a reference to this Builder
+     */
+    public Builder minimumNumberOfCalls(Integer minimumNumberOfCalls) {
+      this.minimumNumberOfCalls = minimumNumberOfCalls;
+      return this;
+    }
+
+    /**
+     * Sets the {@code waitDurationInOpenState} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param waitDurationInOpenState the {@code waitDurationInOpenState} to set
+     * @return a reference to this Builder
+     */
+    public Builder waitDurationInOpenState(Integer waitDurationInOpenState) {
+      this.waitDurationInOpenState = waitDurationInOpenState;
+      return this;
+    }
+
+    /**
+     * Sets the {@code permittedCallsInHalfOpenState} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param permittedCallsInHalfOpenState the {@code permittedCallsInHalfOpenState} to set
+     * @return a reference to this Builder
+     */
+    public Builder permittedCallsInHalfOpenState(Integer permittedCallsInHalfOpenState) {
+      this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+      return this;
+    }
+
+    /**
+     * Returns a {@code CircuitBreakerConfig} built from the parameters previously set.
+     *
+     * @return a {@code CircuitBreakerConfig} built with parameters of this {@code CircuitBreakerConfig.Builder}
+     * @throws IllegalArgumentException if any of provided arguments was invalid
+     */
+    public CircuitBreakerConfig build() throws IllegalArgumentException {
+      validateCircuitBreakerRateThreshold(failureRateThreshold);
+      validateCircuitBreakerRateThreshold(slowCallRateThreshold);
+      validateCircuitBreakerDurations(slowCallDurationThreshold, waitDurationInOpenState);
+      validateCircuitBreakerCalls(slidingWindowSize, minimumNumberOfCalls, permittedCallsInHalfOpenState);
+      return new CircuitBreakerConfig(this);
+    }
+  }
+}
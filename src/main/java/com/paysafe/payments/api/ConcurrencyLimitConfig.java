@@ -0,0 +1,186 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import static com.paysafe.payments.validation.PropertyValidator.validateConcurrencyLimitMaxWaitTime;
+import static com.paysafe.payments.validation.PropertyValidator.validateConcurrencyLimitPartitions;
+import static com.paysafe.payments.validation.PropertyValidator.validateConcurrencyLimits;
+
+import com.paysafe.payments.errorhandling.exception.ConcurrencyLimitExceededException;
+import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
+
+/**
+ * This class is used to define configuration of the adaptive concurrency limit of PaysafeClient. The limit is adjusted
+ * from round-trip time of requests: it grows while latency stays close to the lowest one observed, and shrinks once
+ * requests start queueing or fail with no response, 429 or 5xx status. Requests above the limit wait until another
+ * request completes, and are rejected with {@link ConcurrencyLimitExceededException} if none does within maximum wait
+ * time.
+ * <p>
+ * Requests are divided into partitions, each of which is guaranteed its percentage of the limit, even when other
+ * partitions hold the rest of it: <ul>
+ * <li>payment: requests of payments and payment handles, except lookups</li>
+ * <li>lookup: lookups using merchant reference number, i.e. {@code getPaymentsUsingMerchantReferenceNumber}</li>
+ * <li>default: all other requests, guaranteed the percentage not assigned to other partitions</li>
+ * </ul>
+ * Fields that may be configured: <ul>
+ * <li>initialLimit: number of concurrent requests permitted before any request completes. Default: 20</li>
+ * <li>minLimit: lowest number of concurrent requests the limit may shrink to. Default: 5</li>
+ * <li>maxLimit: highest number of concurrent requests the limit may grow to. Default: 50, which is the default size of
+ * the connection pool</li>
+ * <li>maxWaitTime: time, in milliseconds, requests above the limit wait for other requests to complete. If 0, such
+ * requests are rejected immediately. Default: 100</li>
+ * <li>paymentPartitionPercentage: percentage of the limit guaranteed to the payment partition. Default: 50</li>
+ * <li>lookupPartitionPercentage: percentage of the limit guaranteed to the lookup partition. Default: 10</li>
+ * </ul>
+ */
+public final class ConcurrencyLimitConfig {
+
+  private static final int DEFAULT_INITIAL_LIMIT = 20;
+  private static final int DEFAULT_MIN_LIMIT = 5;
+  private static final int DEFAULT_MAX_LIMIT = 50;
+  private static final int DEFAULT_MAX_WAIT_TIME = 100;
+  private static final int DEFAULT_PAYMENT_PARTITION_PERCENTAGE = 50;
+  private static final int DEFAULT_LOOKUP_PARTITION_PERCENTAGE = 10;
+
+  private final int initialLimit;
+  private final int minLimit;
+  private final int maxLimit;
+  private final int maxWaitTime;
+  private final int paymentPartitionPercentage;
+  private final int lookupPartitionPercentage;
+
+  private ConcurrencyLimitConfig(Builder builder) {
+    initialLimit = builder.initialLimit == null ? DEFAULT_INITIAL_LIMIT : builder.initialLimit;
+    minLimit = builder.minLimit == null ? Math.min(DEFAULT_MIN_LIMIT, initialLimit) : builder.minLimit;
+    maxLimit = builder.maxLimit == null ? Math.max(DEFAULT_MAX_LIMIT, initialLimit) : builder.maxLimit;
+    maxWaitTime = builder.maxWaitTime == null ? DEFAULT_MAX_WAIT_TIME : builder.maxWaitTime;
+    paymentPartitionPercentage = builder.paymentPartitionPercentage == null ? DEFAULT_PAYMENT_PARTITION_PERCENTAGE
+        : builder.paymentPartitionPercentage;
+    lookupPartitionPercentage = builder.lookupPartitionPercentage == null ? DEFAULT_LOOKUP_PARTITION_PERCENTAGE
+        : builder.lookupPartitionPercentage;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public int getInitialLimit() {
+    return initialLimit;
+  }
+
+  public int getMinLimit() {
+    return minLimit;
+  }
+
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  public int getMaxWaitTime() {
+    return maxWaitTime;
+  }
+
+  public int getPaymentPartitionPercentage() {
+    return paymentPartitionPercentage;
+  }
+
+  public int getLookupPartitionPercentage() {
+    return lookupPartitionPercentage;
+  }
+
+  /**
+   * {@code ConcurrencyLimitConfig} builder static inner class.
+   */
+  public static final class Builder {
+
+    private Integer initialLimit;
+    private Integer minLimit;
+    private Integer maxLimit;
+    private Integer maxWaitTime;
+    private Integer paymentPartitionPercentage;
+    private Integer lookupPartitionPercentage;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the {@code initialLimit} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param initialLimit the {@code initialLimit} to set
+     * @return a reference to this Builder
+     */
+    public Builder initialLimit(Integer initialLimit) {
+      this.initialLimit = initialLimit;
+      return this;
+    }
+
+    /**
+     * Sets the {@code minLimit} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param minLimit the {@code minLimit} to set
+     * @return a reference to this Builder
+     */
+    public Builder minLimit(Integer minLimit) {
+      this.minLimit = minLimit;
+      return this;
+    }
+
+    /**
+     * Sets the {@code maxLimit} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param maxLimit the {@code maxLimit} to set
+     * @return a reference to this Builder
+     */
+    public Builder maxLimit(Integer maxLimit) {
+      this.maxLimit = maxLimit;
+      return this;
+    }
+
+    /**
+     * Sets the {@code maxWaitTime} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param maxWaitTime the {@code maxWaitTime} to set
+     * @return a reference to this Builder
+     */
+    public Builder maxWaitTime(Integer maxWaitTime) {
+      this.maxWaitTime = maxWaitTime;
+      return this;
+    }
+
+    /**
+     * Sets the {@code paymentPartitionPercentage} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param paymentPartitionPercentage the {@code paymentPartitionPercentage} to set
+     * @return a reference to this Builder
+     */
+    public Builder paymentPartitionPercentage(Integer paymentPartitionPercentage) {
+      this.paymentPartitionPercentage = paymentPartitionPercentage;
+      return this;
+    }
+
+    /**
+     * Sets the {@code lookupPartitionPercentage} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param lookupPartitionPercentage the {@code lookupPartitionPercentage} to set
+     * @return a reference to this Builder
+     */
+    public Builder lookupPartitionPercentage(Integer lookupPartitionPercentage) {
+      this.lookupPartitionPercentage = lookupPartitionPercentage;
+      return this;
+    }
+
+    /**
+     * Returns a {@code ConcurrencyLimitConfig} built from the parameters previously set.
+     *
+     * @return a {@code ConcurrencyLimitConfig} built with parameters of this {@code ConcurrencyLimitConfig.Builder}
+     * @throws IllegalArgumentException if any of provided arguments was invalid
+     */
+    public ConcurrencyLimitConfig build() throws IllegalArgumentException {
+      validateConcurrencyLimitMaxWaitTime(maxWaitTime);
+      ConcurrencyLimitConfig config = new ConcurrencyLimitConfig(this);
+      validateConcurrencyLimits(config.minLimit, config.initialLimit, config.maxLimit);
+      validateConcurrencyLimitPartitions(config.paymentPartitionPercentage, config.lookupPartitionPercentage);
+      return config;
+    }
+  }
+}
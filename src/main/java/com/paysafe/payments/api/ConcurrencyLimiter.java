@@ -0,0 +1,254 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.hc.core5.http.Method;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Adaptive concurrency limit of a PaysafeApiClient, configured by {@link ConcurrencyLimitConfig}. The limit follows
+ * TCP Vegas: the lowest round-trip time observed is taken as latency without queueing, and the number of requests
+ * queued is estimated from how much slower each completed request was. The limit grows while the estimated queue is
+ * short, and shrinks once it is long or a request fails with a sign of overload.
+ * <p>
+ * Once the limit is reached, a partition may still acquire permits up to its guaranteed share of the limit, so that
+ * requests of one partition cannot starve the other ones. Requests which cannot acquire a permit wait in FIFO order for
+ * a permit to be released, for at most maximum wait time. As waiters are granted permits whenever one is released, a
+ * waiter only remains if its partition cannot acquire a permit, so new requests do not need to queue behind it.
+ */
+final class ConcurrencyLimiter {
+
+  enum Partition {
+    PAYMENT,
+    LOOKUP,
+    DEFAULT;
+
+    /**
+     * Lookups are GET requests filtering by merchant reference number. Payments are all other requests of payments and
+     * payment handles, excluding their sub-resources such as settlements.
+     */
+    static Partition of(final String method, final URI uri, final String endpointTemplate) {
+      String query = uri.getRawQuery();
+      if (Method.GET.isSame(method) && query != null && query.contains(MERCHANT_REF_NUM_PARAM)) {
+        return LOOKUP;
+      }
+      switch (endpointTemplate) {
+        case "/v1/payments":
+        case "/v1/payments/{id}":
+        case "/v1/paymenthandles":
+        case "/v1/paymenthandles/{id}":
+          return PAYMENT;
+        default:
+          return DEFAULT;
+      }
+    }
+  }
+
+  private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimiter.class);
+
+  private static final String MERCHANT_REF_NUM_PARAM = "merchantRefNum=";
+  // lowest round-trip time is observed again after this many samples per unit of the limit, as latency of the API changes
+  private static final int PROBE_SAMPLES_PER_LIMIT = 30;
+
+  private final ConcurrencyLimitConfig config;
+  private final int[] partitionPercentages = new int[Partition.values().length];
+  private final int[] partitionInflight = new int[Partition.values().length];
+  // guards the waiters and the counters below, not a monitor so that virtual threads do not pin their carrier thread
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Deque<Waiter> waiters = new ArrayDeque<>();
+  private volatile int limit;
+  private int inflight;
+  private long rttNoLoadNanos;
+  private int samplesUntilProbe;
+
+  ConcurrencyLimiter(final ConcurrencyLimitConfig config) {
+    this.config = config;
+    this.limit = config.getInitialLimit();
+    this.samplesUntilProbe = probeInterval(limit);
+    partitionPercentages[Partition.PAYMENT.ordinal()] = config.getPaymentPartitionPercentage();
+    partitionPercentages[Partition.LOOKUP.ordinal()] = config.getLookupPartitionPercentage();
+    partitionPercentages[Partition.DEFAULT.ordinal()] = 100 - config.getPaymentPartitionPercentage()
+        - config.getLookupPartitionPercentage();
+  }
+
+  int getLimit() {
+    return limit;
+  }
+
+  /**
+   * Returns future completed with permit of provided partition, or with null if no permit was released within maximum
+   * wait time. The future is completed immediately if permit is available, otherwise by the thread releasing the permit.
+   * Cancelling the future gives up waiting.
+   */
+  CompletableFuture<Permit> acquire(final Partition partition) {
+    Waiter waiter;
+    lock.lock();
+    try {
+      if (canAcquire(partition)) {
+        return CompletableFuture.completedFuture(newPermit(partition));
+      }
+      if (config.getMaxWaitTime() == 0) {
+        return CompletableFuture.completedFuture(null);
+      }
+      waiter = new Waiter(partition);
+      waiters.addLast(waiter);
+    } finally {
+      lock.unlock();
+    }
+    waiter.future.completeOnTimeout(null, config.getMaxWaitTime(), TimeUnit.MILLISECONDS);
+    waiter.future.whenComplete((permit, throwable) -> {
+      if (permit == null) {
+        lock.lock();
+        try {
+          waiters.remove(waiter);
+        } finally {
+          lock.unlock();
+        }
+      }
+    });
+    return waiter.future;
+  }
+
+  private boolean canAcquire(final Partition partition) {
+    int currentLimit = limit;
+    if (inflight < currentLimit) {
+      return true;
+    }
+    int guaranteed = (currentLimit * partitionPercentages[partition.ordinal()] + 99) / 100;
+    return partitionInflight[partition.ordinal()] < guaranteed;
+  }
+
+  private Permit newPermit(final Partition partition) {
+    inflight++;
+    partitionInflight[partition.ordinal()]++;
+    return new Permit(partition, inflight);
+  }
+
+  private void release(final Permit permit, final long rttNanos, final boolean dropped, final boolean sampled) {
+    List<Waiter> granted = new ArrayList<>();
+    List<Permit> permits = new ArrayList<>();
+    lock.lock();
+    try {
+      inflight--;
+      partitionInflight[permit.partition.ordinal()]--;
+      if (sampled) {
+        onSample(rttNanos, permit.inflight, dropped);
+      }
+      // permits are granted in FIFO order, skipping waiters whose partition cannot acquire one
+      for (Waiter waiter : waiters) {
+        if (canAcquire(waiter.partition)) {
+          granted.add(waiter);
+          permits.add(newPermit(waiter.partition));
+        }
+      }
+      waiters.removeAll(granted);
+    } finally {
+      lock.unlock();
+    }
+    // futures are completed outside the lock, as they continue with sending the request
+    for (int i = 0; i < granted.size(); i++) {
+      if (!granted.get(i).future.complete(permits.get(i))) {
+        permits.get(i).release();
+      }
+    }
+  }
+
+  /**
+   * Vegas limit update: queue size is estimated as {@code limit * (1 - rttNoLoad / rtt)}, and compared with thresholds
+   * which grow logarithmically with the limit. The limit is not increased while less than half of it is used. Dropped
+   * requests do not update the lowest round-trip time, as they may fail fast without reaching the API.
+   */
+  private void onSample(final long rttNanos, final int inflightAtStart, final boolean dropped) {
+    if (--samplesUntilProbe <= 0) {
+      rttNoLoadNanos = 0;
+      samplesUntilProbe = probeInterval(limit);
+    }
+    int currentLimit = limit;
+    int log10 = Math.max(1, (int) Math.log10(currentLimit));
+    int newLimit;
+    if (dropped) {
+      newLimit = currentLimit - log10;
+    } else if (rttNoLoadNanos == 0 || rttNanos < rttNoLoadNanos) {
+      rttNoLoadNanos = rttNanos;
+      return;
+    } else if (inflightAtStart * 2 < currentLimit) {
+      return;
+    } else {
+      int queueSize = (int) Math.ceil(currentLimit * (1 - (double) rttNoLoadNanos / rttNanos));
+      if (queueSize <= log10) {
+        newLimit = currentLimit + 6 * log10;
+      } else if (queueSize < 3 * log10) {
+        newLimit = currentLimit + log10;
+      } else if (queueSize > 6 * log10) {
+        newLimit = currentLimit - log10;
+      } else {
+        return;
+      }
+    }
+    newLimit = Math.max(config.getMinLimit(), Math.min(config.getMaxLimit(), newLimit));
+    if (newLimit != currentLimit) {
+      limit = newLimit;
+      logger.debug("Concurrency limit changed from {} to {}", currentLimit, newLimit);
+    }
+  }
+
+  private static int probeInterval(final int limit) {
+    return limit * PROBE_SAMPLES_PER_LIMIT;
+  }
+
+  private static final class Waiter {
+
+    private final Partition partition;
+    private final CompletableFuture<Permit> future = new CompletableFuture<>();
+
+    private Waiter(final Partition partition) {
+      this.partition = partition;
+    }
+  }
+
+  /**
+   * Permit of a single request, which must be released exactly once when the request completes. Only the first call
+   * releasing the permit has any effect.
+   */
+  final class Permit {
+
+    private final Partition partition;
+    private final int inflight;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Permit(final Partition partition, final int inflight) {
+      this.partition = partition;
+      this.inflight = inflight;
+    }
+
+    /**
+     * Releases the permit of a request which received a response or failed, adjusting the limit by its round-trip time.
+     * Request is dropped if it failed with a sign of overload.
+     */
+    void release(final long rttNanos, final boolean dropped) {
+      if (released.compareAndSet(false, true)) {
+        ConcurrencyLimiter.this.release(this, rttNanos, dropped, true);
+      }
+    }
+
+    /**
+     * Releases the permit of a request which was not sent or was cancelled, without adjusting the limit.
+     */
+    void release() {
+      if (released.compareAndSet(false, true)) {
+        ConcurrencyLimiter.this.release(this, 0, false, false);
+      }
+    }
+  }
+}
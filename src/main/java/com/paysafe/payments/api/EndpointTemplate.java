@@ -0,0 +1,53 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import java.net.URI;
+
+/**
+ * Builds endpoint templates reported to {@link com.paysafe.payments.metrics.PaysafeMetricsListener}. Paths of Paysafe
+ * Payments API alternate between resource names and identifiers after the version, i.e.
+ * {@code /v1/customers/{id}/paymenthandles/{id}}, so every second segment following the version is replaced.
+ */
+final class EndpointTemplate {
+
+  private static final String ID_PLACEHOLDER = "{id}";
+
+  private EndpointTemplate() {
+  }
+
+  static String of(final URI uri) {
+    String path = uri.getRawPath();
+    String[] segments = path.split("/");
+
+    int versionIndex = -1;
+    for (int i = 0; i < segments.length; i++) {
+      if (isVersion(segments[i])) {
+        versionIndex = i;
+        break;
+      }
+    }
+    if (versionIndex < 0) {
+      return path;
+    }
+
+    StringBuilder template = new StringBuilder(path.length());
+    for (int i = versionIndex; i < segments.length; i++) {
+      int position = i - versionIndex;
+      template.append('/').append(position > 0 && position % 2 == 0 ? ID_PLACEHOLDER : segments[i]);
+    }
+    return template.toString();
+  }
+
+  private static boolean isVersion(final String segment) {
+    if (segment.length() < 2 || segment.charAt(0) != 'v') {
+      return false;
+    }
+    for (int i = 1; i < segment.length(); i++) {
+      if (!Character.isDigit(segment.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,116 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import static com.paysafe.payments.validation.PropertyValidator.validateHedgingPolicy;
+
+import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
+
+/**
+ * This class is used to define hedging of GET requests. If no response to a GET request is received within hedging delay,
+ * an identical request is sent on another pooled connection, the first response received is used, and the other request
+ * is cancelled. Fields that may be configured: <ul>
+ * <li>delay: time, in milliseconds, after which the hedged request is sent. If delayPercentile is not set, the delay is
+ * fixed, otherwise it is used until enough requests of the endpoint completed. Default: 500</li>
+ * <li>delayPercentile: percentile of round-trip times of recent requests of the same endpoint, i.e.
+ * {@code /v1/payments/{id}}, used as the delay. Default: 95, unless fixed delay is set</li>
+ * <li>budgetPercentage: maximum number of hedged requests, as percentage of all GET requests, so that hedging cannot
+ * multiply load during incidents. Default: 5</li>
+ * </ul>
+ */
+public final class HedgingPolicy {
+
+  private static final int DEFAULT_DELAY = 500;
+  private static final int DEFAULT_DELAY_PERCENTILE = 95;
+  private static final int DEFAULT_BUDGET_PERCENTAGE = 5;
+
+  private final int delay;
+  private final Integer delayPercentile;
+  private final int budgetPercentage;
+
+  private HedgingPolicy(Builder builder) {
+    delay = builder.delay == null ? DEFAULT_DELAY : builder.delay;
+    if (builder.delayPercentile != null) {
+      delayPercentile = builder.delayPercentile;
+    } else {
+      delayPercentile = builder.delay == null ? DEFAULT_DELAY_PERCENTILE : null;
+    }
+    budgetPercentage = builder.budgetPercentage == null ? DEFAULT_BUDGET_PERCENTAGE : builder.budgetPercentage;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public int getDelay() {
+    return delay;
+  }
+
+  /**
+   * Returns percentile of round-trip times used as the delay, or null if the delay is fixed.
+   */
+  public Integer getDelayPercentile() {
+    return delayPercentile;
+  }
+
+  public int getBudgetPercentage() {
+    return budgetPercentage;
+  }
+
+  /**
+   * {@code HedgingPolicy} builder static inner class.
+   */
+  public static final class Builder {
+
+    private Integer delay;
+    private Integer delayPercentile;
+    private Integer budgetPercentage;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the {@code delay} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param delay the {@code delay} to set
+     * @return a reference to this Builder
+     */
+    public Builder delay(Integer delay) {
+      this.delay = delay;
+      return this;
+    }
+
+    /**
+     * Sets the {@code delayPercentile} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param delayPercentile the {@code delayPercentile} to set
+     * @return a reference to this Builder
+     */
+    public Builder delayPercentile(Integer delayPercentile) {
+      this.delayPercentile = delayPercentile;
+      return this;
+    }
+
+    /**
+     * Sets the {@code budgetPercentage} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param budgetPercentage the {@code budgetPercentage} to set
+     * @return a reference to this Builder
+     */
+    public Builder budgetPercentage(Integer budgetPercentage) {
+      this.budgetPercentage = budgetPercentage;
+      return this;
+    }
+
+    /**
+     * Returns a {@code HedgingPolicy} built from the parameters previously set.
+     *
+     * @return a {@code HedgingPolicy} built with parameters of this {@code HedgingPolicy.Builder}
+     * @throws IllegalArgumentException if any of provided arguments was invalid
+     */
+    public HedgingPolicy build() throws IllegalArgumentException {
+      validateHedgingPolicy(delay, delayPercentile, budgetPercentage);
+      return new HedgingPolicy(this);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.hc.core5.http.HttpRequest;
+
+/**
+ * Request seen by {@link PaysafeInterceptor}s. The same instance is passed to all callbacks of one request, so attributes
+ * set before sending, i.e. start time or tracing span, are available once the request completes.
+ */
+public final class InterceptedRequest {
+
+  private final HttpRequest httpRequest;
+  private final URI uri;
+  private final String endpoint;
+  private final long requestBodySize;
+  private Map<String, Object> attributes;
+
+  InterceptedRequest(final HttpRequest httpRequest, final URI uri, final String endpoint, final long requestBodySize) {
+    this.httpRequest = httpRequest;
+    this.uri = uri;
+    this.endpoint = endpoint;
+    this.requestBodySize = requestBodySize;
+  }
+
+  /**
+   * @return http method of the request, i.e. GET
+   */
+  public String getMethod() {
+    return httpRequest.getMethod();
+  }
+
+  /**
+   * @return full uri of the request, including query parameters
+   */
+  public URI getUri() {
+    return uri;
+  }
+
+  /**
+   * @return endpoint template of the request, i.e. {@code /v1/payments/{id}}
+   */
+  public String getEndpoint() {
+    return endpoint;
+  }
+
+  /**
+   * @return size of the serialized request body in bytes, 0 for requests without body
+   */
+  public long getRequestBodySize() {
+    return requestBodySize;
+  }
+
+  /**
+   * Sets request header, replacing existing header with the same name. Only effective in
+   * {@link PaysafeInterceptor#beforeSend(InterceptedRequest)}.
+   *
+   * @param name  of the header
+   * @param value of the header
+   */
+  public void setHeader(final String name, final String value) {
+    httpRequest.setHeader(name, value);
+  }
+
+  /**
+   * @param name of the header
+   * @return value of the request header, or null if it is not set
+   */
+  public String getHeader(final String name) {
+    return httpRequest.getFirstHeader(name) == null ? null : httpRequest.getFirstHeader(name).getValue();
+  }
+
+  public Object getAttribute(final String name) {
+    return attributes == null ? null : attributes.get(name);
+  }
+
+  public void setAttribute(final String name, final Object value) {
+    if (attributes == null) {
+      attributes = new HashMap<>();
+    }
+    attributes.put(name, value);
+  }
+}
@@ -0,0 +1,84 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import java.net.URI;
+import java.util.List;
+
+import org.apache.hc.core5.http.HttpRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+
+/**
+ * Invokes {@link PaysafeInterceptor}s registered on PaysafeApiClient. If none are registered, requests are not wrapped in
+ * {@link InterceptedRequest}, so the chain adds no allocation.
+ */
+final class InterceptorChain {
+
+  static final InterceptorChain EMPTY = new InterceptorChain(new PaysafeInterceptor[0]);
+
+  private static final Logger logger = LoggerFactory.getLogger(InterceptorChain.class);
+
+  private final PaysafeInterceptor[] interceptors;
+
+  private InterceptorChain(final PaysafeInterceptor[] interceptors) {
+    this.interceptors = interceptors;
+  }
+
+  static InterceptorChain of(final List<PaysafeInterceptor> interceptors) {
+    if (interceptors == null || interceptors.isEmpty()) {
+      return EMPTY;
+    }
+    return new InterceptorChain(interceptors.toArray(new PaysafeInterceptor[0]));
+  }
+
+  boolean isEmpty() {
+    return interceptors.length == 0;
+  }
+
+  /**
+   * Invokes {@link PaysafeInterceptor#beforeSend(InterceptedRequest)} of all interceptors in registration order.
+   *
+   * @return request passed to interceptors, which must be passed to the completing callback, or null if chain is empty
+   */
+  InterceptedRequest beforeSend(final HttpRequest httpRequest, final URI uri, final String endpointTemplate,
+      final long requestBodySize) {
+
+    if (isEmpty()) {
+      return null;
+    }
+    InterceptedRequest interceptedRequest = new InterceptedRequest(httpRequest, uri, endpointTemplate, requestBodySize);
+    for (PaysafeInterceptor interceptor : interceptors) {
+      interceptor.beforeSend(interceptedRequest);
+    }
+    return interceptedRequest;
+  }
+
+  void afterReceive(final InterceptedRequest interceptedRequest, final PaysafeApiResponse response) {
+    if (interceptedRequest == null) {
+      return;
+    }
+    for (int i = interceptors.length - 1; i >= 0; i--) {
+      try {
+        interceptors[i].afterReceive(interceptedRequest, response);
+      } catch (RuntimeException e) {
+        logger.warn("Exception thrown by interceptor: {}", e.getMessage(), e);
+      }
+    }
+  }
+
+  void onError(final InterceptedRequest interceptedRequest, final PaysafeSdkException exception) {
+    if (interceptedRequest == null) {
+      return;
+    }
+    for (int i = interceptors.length - 1; i >= 0; i--) {
+      try {
+        interceptors[i].onError(interceptedRequest, exception);
+      } catch (RuntimeException e) {
+        logger.warn("Exception thrown by interceptor: {}", e.getMessage(), e);
+      }
+    }
+  }
+}
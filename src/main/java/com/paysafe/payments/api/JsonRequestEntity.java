@@ -0,0 +1,104 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import static com.paysafe.payments.config.ObjectMapperConfiguration.getObjectWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+
+/**
+ * Request entity containing json representation of a request body. Request body is serialized by Jackson directly into
+ * UTF-8 bytes of a buffer reused by all requests of the calling thread, and these bytes are written to the connection as
+ * they are. Content length is therefore known up front, and the entity can be written again if the request is retried.
+ * <p>
+ * Entity is only valid until the calling thread creates the next one, which is the case for requests executed by the
+ * blocking httpClient, as they are written by the calling thread before execution returns.
+ */
+final class JsonRequestEntity extends AbstractHttpEntity {
+
+  private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+  // buffers grown above this size by unusually large requests are not kept for reuse
+  private static final int MAX_REUSED_BUFFER_SIZE = 64 * 1024;
+
+  private static final ThreadLocal<ReusableBuffer> BUFFERS = ThreadLocal.withInitial(ReusableBuffer::new);
+
+  private final byte[] content;
+  private final int length;
+
+  private JsonRequestEntity(final byte[] content, final int length) {
+    super(ContentType.APPLICATION_JSON, null);
+    this.content = content;
+    this.length = length;
+  }
+
+  /**
+   * Serializes provided request body into the buffer of the calling thread.
+   *
+   * @param requestBody to write as json
+   * @return entity containing json representation of requestBody
+   * @throws IOException in case request body could not be serialized
+   */
+  static <T> JsonRequestEntity create(final T requestBody) throws IOException {
+    ReusableBuffer buffer = BUFFERS.get();
+    if (buffer.capacity() > MAX_REUSED_BUFFER_SIZE) {
+      buffer = new ReusableBuffer();
+      BUFFERS.set(buffer);
+    }
+    buffer.reset();
+    getObjectWriter(requestBody).writeValue(buffer, requestBody);
+    return new JsonRequestEntity(buffer.array(), buffer.size());
+  }
+
+  @Override
+  public InputStream getContent() {
+    return new ByteArrayInputStream(content, 0, length);
+  }
+
+  @Override
+  public void writeTo(final OutputStream outputStream) throws IOException {
+    outputStream.write(content, 0, length);
+    outputStream.flush();
+  }
+
+  @Override
+  public long getContentLength() {
+    return length;
+  }
+
+  @Override
+  public boolean isRepeatable() {
+    return true;
+  }
+
+  @Override
+  public boolean isStreaming() {
+    return false;
+  }
+
+  @Override
+  public void close() {
+    // nothing to release, buffer is reused by the next request of the thread
+  }
+
+  private static final class ReusableBuffer extends ByteArrayOutputStream {
+
+    private ReusableBuffer() {
+      super(INITIAL_BUFFER_SIZE);
+    }
+
+    private byte[] array() {
+      return buf;
+    }
+
+    private int capacity() {
+      return buf.length;
+    }
+  }
+}
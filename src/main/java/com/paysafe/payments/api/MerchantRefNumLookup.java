@@ -0,0 +1,70 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import static com.paysafe.payments.config.ObjectMapperConfiguration.getObjectMapper;
+
+import java.net.URI;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Looks up transactions using merchant reference number of a request that failed with unknown outcome, so that
+ * {@link NonIdempotentRetryPolicy#DUP_CHECK_OR_RECONCILE} can confirm the request did not create any before it is retried.
+ * Each endpoint creating transactions is paired with the endpoint listing them by merchant reference number.
+ */
+final class MerchantRefNumLookup {
+
+  private static final Map<String, String> LOOKUP_ENDPOINTS = Map.of(
+      "/v1/paymenthandles", "/v1/paymenthandles",
+      "/v1/payments", "/v1/payments",
+      "/v1/payments/{id}/settlements", "/v1/settlements",
+      "/v1/settlements/{id}/refunds", "/v1/refunds",
+      "/v1/verifications", "/v1/verifications",
+      "/v1/standalonecredits", "/v1/standalonecredits");
+
+  private MerchantRefNumLookup() {
+  }
+
+  /**
+   * Returns endpoint listing transactions created by requests to provided uri with provided merchant reference number,
+   * or null if transactions of the endpoint cannot be looked up.
+   */
+  static String lookupEndpoint(final URI uri, final String merchantRefNum) {
+    String lookupEndpoint = LOOKUP_ENDPOINTS.get(EndpointTemplate.of(uri));
+    if (lookupEndpoint == null) {
+      return null;
+    }
+    return lookupEndpoint + PaysafeApiClient.buildQueryParameters(merchantRefNum, null, null, null, null, null, null);
+  }
+
+  /**
+   * Returns true only if the lookup succeeded and all lists of its response are empty. Any other response, including
+   * one which cannot be parsed, does not confirm that no transaction was created.
+   */
+  static boolean noTransactionsFound(final PaysafeApiResponse lookupResponse) {
+    if (lookupResponse.getHttpStatusCode() != 200 || lookupResponse.getResponseBody() == null) {
+      return false;
+    }
+    JsonNode body;
+    try {
+      body = getObjectMapper().readTree(lookupResponse.getResponseBody());
+    } catch (JsonProcessingException e) {
+      return false;
+    }
+    boolean listFound = false;
+    for (Iterator<JsonNode> fields = body.elements(); fields.hasNext(); ) {
+      JsonNode field = fields.next();
+      if (field.isArray()) {
+        if (!field.isEmpty()) {
+          return false;
+        }
+        listFound = true;
+      }
+    }
+    return listFound;
+  }
+}
@@ -0,0 +1,32 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import com.paysafe.payments.model.MerchantReferencedRequest;
+
+/**
+ * Decides which requests that are not idempotent (POST, PUT and PATCH) may be retried automatically, when they fail with
+ * I/O error, or Paysafe Payments API responds with 429 Too Many Requests or 503 Service Unavailable. GET requests are
+ * always retried, up to maximum automatic retries.
+ */
+public enum NonIdempotentRetryPolicy {
+
+  /**
+   * Requests that are not idempotent are never retried. Default.
+   */
+  NEVER,
+
+  /**
+   * Requests with merchant reference number and duplicate check enabled (see {@link MerchantReferencedRequest}) are
+   * retried. If the failed attempt was processed nevertheless, the retry is rejected by Paysafe Payments API as a
+   * duplicate instead of creating second transaction.
+   */
+  DUP_CHECK,
+
+  /**
+   * In addition to {@link #DUP_CHECK}, requests with merchant reference number and duplicate check disabled are retried,
+   * once looking up transactions using their merchant reference number confirms that the failed attempt did not create
+   * any. If the lookup finds a transaction or fails, the original error is thrown.
+   */
+  DUP_CHECK_OR_RECONCILE
+}
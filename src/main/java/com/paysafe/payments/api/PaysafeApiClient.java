@@ -2,13 +2,20 @@
 
 package com.paysafe.payments.api;
 
-import static com.paysafe.payments.config.ObjectMapperConfiguration.getObjectMapper;
+import static com.paysafe.payments.config.ObjectMapperConfiguration.getObjectReader;
+import static com.paysafe.payments.config.ObjectMapperConfiguration.getObjectWriter;
 import static com.paysafe.payments.errorhandling.ExceptionBuilder.buildPaysafeSdkException;
 import static com.paysafe.payments.validation.PropertyValidator.validateApiKey;
 import static com.paysafe.payments.validation.PropertyValidator.validateConnectTimeout;
+import static com.paysafe.payments.validation.PropertyValidator.validateConnectionTimeToLive;
+import static com.paysafe.payments.validation.PropertyValidator.validateInterceptors;
 import static com.paysafe.payments.validation.PropertyValidator.validateMaxAutomaticRetries;
+import static com.paysafe.payments.validation.PropertyValidator.validateMaxConnections;
+import static com.paysafe.payments.validation.PropertyValidator.validateMaxIdleTime;
 import static com.paysafe.payments.validation.PropertyValidator.validateResponseTimeout;
+import static com.paysafe.payments.validation.PropertyValidator.validateValidateAfterInactivity;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.InetSocketAddress;
@@ -16,38 +23,77 @@ import java.net.Proxy;
 import java.net.Proxy.Type;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.net.ssl.SSLContext;
 
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
 import org.apache.hc.client5.http.classic.methods.HttpDelete;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpPatch;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.classic.methods.HttpPut;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
 import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.H2AsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.impl.routing.DefaultProxyRoutePlanner;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
 import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.Method;
 import org.apache.hc.core5.http.ParseException;
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
-import org.apache.hc.core5.http.io.entity.StringEntity;
-import org.apache.hc.core5.http.message.BasicClassicHttpRequest;
+import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
+import org.apache.hc.core5.http.message.BasicHeader;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,10 +101,24 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.paysafe.payments.config.Environment;
 import com.paysafe.payments.errorhandling.exception.ApiConnectionException;
+import com.paysafe.payments.errorhandling.exception.CircuitBreakerOpenException;
+import com.paysafe.payments.errorhandling.exception.ConcurrencyLimitExceededException;
 import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
-
-public class PaysafeApiClient {
+import com.paysafe.payments.metrics.ConnectionPoolMetrics;
+import com.paysafe.payments.metrics.PaysafeMetricsListener;
+import com.paysafe.payments.metrics.RequestMetrics;
+import com.paysafe.payments.model.MerchantReferencedRequest;
+
+/**
+ * Executes requests against Paysafe Payments API. Each instance owns a single pooled, thread-safe http client which is
+ * created once and reused by all requests, so keep-alive connections (and their TLS sessions) are shared between calls.
+ * Asynchronous requests are executed by a separate non-blocking http client, whose I/O threads are started on first use.
+ * If HTTP/2 is enabled, only the non-blocking client is created, and blocking requests wait for its response, so that all
+ * requests are multiplexed over a single connection.
+ * Instances should therefore be long-lived and closed with {@link #close()} once they are no longer needed.
+ */
+public class PaysafeApiClient implements AutoCloseable {
 
   // request headers
   public static final String AUTHORIZATION = "Authorization";
@@ -97,11 +157,20 @@ public class PaysafeApiClient {
   private static final String MERCHANT_CUSTOMER_ID_PARAM = "merchantCustomerId";
   private static final String FIELDS_PARAM = "fields";
   private static final String CONNECTION_ERROR_MESSAGE = "Error connecting to %s, reason: %s";
+  private static final String JSON_REQUEST_BODY_ERROR_MESSAGE = "Error creating json request body";
+  private static final String JSON_PROCESSING_ERROR_MESSAGE = "Error processing json response: %s";
+  private static final String REQUEST_CANCELLED_MESSAGE = "request cancelled";
+  private static final String CIRCUIT_BREAKER_OPEN_MESSAGE = "Circuit breaker of %s is open, request was not sent";
+  private static final String CONCURRENCY_LIMIT_EXCEEDED_MESSAGE =
+      "Concurrency limit of %s requests was reached, request to %s was not sent";
 
   // default PaysafeApiClient configuration
   private static final int DEFAULT_CONNECT_TIMEOUT = 30 * 1000;
   private static final int DEFAULT_RESPONSE_TIMEOUT = 60 * 1000;
   private static final int DEFAULT_MAX_AUTOMATIC_RETRIES = 2;
+  private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 50;
+  private static final int DEFAULT_MAX_CONNECTIONS_TOTAL = 50;
+  private static final int DEFAULT_VALIDATE_AFTER_INACTIVITY = 2 * 1000;
 
   // environments
   private static final String BASE_URL_LIVE = "https://api.paysafe.com";
@@ -115,12 +184,34 @@ public class PaysafeApiClient {
   private final SSLContext customSslContext;
   private final Proxy providedProxy;
   private final Environment environment;
+  private final int maxConnectionsPerRoute;
+  private final int maxConnectionsTotal;
+  private final Integer connectionTimeToLive;
+  private final int validateAfterInactivity;
+  private final Integer maxIdleTime;
+  private final boolean http2Enabled;
+  private final NonIdempotentRetryPolicy nonIdempotentRetryPolicy;
+  private final PaysafeMetricsListener metricsListener;
+  private final InterceptorChain interceptorChain;
+  private final CircuitBreakerConfig circuitBreakerConfig;
+  private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+  private final ConcurrencyLimiter concurrencyLimiter;
+  private final RequestHedger requestHedger;
+  private final RequestCoalescer requestCoalescer;
+  private final AutomaticRetryStrategy retryStrategy;
+  private final CloseableHttpClient httpClient;
+  // built on first asynchronous request unless HTTP/2 is enabled, written under asyncClientLock
+  private volatile CloseableHttpAsyncClient httpAsyncClient;
+  private final ReentrantLock asyncClientLock = new ReentrantLock();
+  private boolean closed;
+  private final Header[] defaultHeaders;
 
   private String baseUrl;
 
   /**
    * Instantiates new PaysafeApiClient object, using provided api key and environment.
-   * Creates new default instances of httpClient.
+   * Creates new pooled httpClient with default configuration, which is shared by all requests of this instance.
+   * Non-blocking httpClient of asynchronous requests is created on first asynchronous request.
    *
    * @param apiKey      merchant's credentials in form id:password
    * @param environment to which PaysafeClient connects ("LIVE" or "TEST")
@@ -135,6 +226,22 @@ public class PaysafeApiClient {
     this.customSslContext = null;
     this.providedProxy = null;
     this.environment = environment;
+    this.maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+    this.maxConnectionsTotal = DEFAULT_MAX_CONNECTIONS_TOTAL;
+    this.connectionTimeToLive = null;
+    this.validateAfterInactivity = DEFAULT_VALIDATE_AFTER_INACTIVITY;
+    this.maxIdleTime = null;
+    this.http2Enabled = false;
+    this.nonIdempotentRetryPolicy = NonIdempotentRetryPolicy.NEVER;
+    this.metricsListener = PaysafeMetricsListener.NO_OP;
+    this.interceptorChain = InterceptorChain.EMPTY;
+    this.circuitBreakerConfig = null;
+    this.concurrencyLimiter = null;
+    this.requestHedger = null;
+    this.requestCoalescer = null;
+    this.defaultHeaders = buildDefaultHeaders(apiKey);
+    this.retryStrategy = new AutomaticRetryStrategy(clientMaxAutomaticRetries, metricsListener);
+    this.httpClient = buildHttpClient();
 
     if (Environment.LIVE.equals(environment)) {
       baseUrl = BASE_URL_LIVE;
@@ -143,7 +250,7 @@ public class PaysafeApiClient {
     }
   }
 
-  private PaysafeApiClient(Builder builder) {
+  private PaysafeApiClient(Builder builder) throws IllegalArgumentException {
     apiKey = builder.apiKey;
     clientConnectTimeout = builder.connectTimeout == null ? DEFAULT_CONNECT_TIMEOUT : builder.connectTimeout;
     clientResponseTimeout = builder.responseTimeout == null ? DEFAULT_RESPONSE_TIMEOUT : builder.responseTimeout;
@@ -151,6 +258,25 @@ public class PaysafeApiClient {
     customSslContext = builder.sslContext;
     providedProxy = builder.proxy;
     environment = builder.environment == null ? Environment.TEST : builder.environment;
+    maxConnectionsPerRoute = builder.maxConnectionsPerRoute == null ? DEFAULT_MAX_CONNECTIONS_PER_ROUTE : builder.maxConnectionsPerRoute;
+    maxConnectionsTotal = builder.maxConnectionsTotal == null ? Math.max(DEFAULT_MAX_CONNECTIONS_TOTAL, maxConnectionsPerRoute)
+        : builder.maxConnectionsTotal;
+    connectionTimeToLive = builder.connectionTimeToLive;
+    validateAfterInactivity = builder.validateAfterInactivity == null ? DEFAULT_VALIDATE_AFTER_INACTIVITY : builder.validateAfterInactivity;
+    maxIdleTime = builder.maxIdleTime;
+    http2Enabled = builder.http2Enabled;
+    nonIdempotentRetryPolicy = builder.nonIdempotentRetryPolicy == null ? NonIdempotentRetryPolicy.NEVER
+        : builder.nonIdempotentRetryPolicy;
+    metricsListener = builder.metricsListener == null ? PaysafeMetricsListener.NO_OP : builder.metricsListener;
+    interceptorChain = InterceptorChain.of(builder.interceptors);
+    circuitBreakerConfig = builder.circuitBreakerConfig;
+    concurrencyLimiter = builder.concurrencyLimitConfig == null ? null : new ConcurrencyLimiter(builder.concurrencyLimitConfig);
+    requestHedger = builder.hedgingPolicy == null ? null : new RequestHedger(builder.hedgingPolicy);
+    requestCoalescer = builder.requestCoalescingEnabled ? new RequestCoalescer() : null;
+    defaultHeaders = buildDefaultHeaders(apiKey);
+    retryStrategy = new AutomaticRetryStrategy(clientMaxAutomaticRetries, metricsListener);
+    httpClient = http2Enabled ? null : buildHttpClient();
+    httpAsyncClient = http2Enabled ? buildHttp2AsyncClient() : null;
 
     if (Environment.LIVE.equals(builder.environment)) {
       baseUrl = BASE_URL_LIVE;
@@ -176,10 +302,10 @@ public class PaysafeApiClient {
    */
   public static <T> String buildJsonRequestBody(final T requestBody) throws PaysafeSdkException {
     try {
-      return getObjectMapper().writeValueAsString(requestBody);
+      return getObjectWriter(requestBody).writeValueAsString(requestBody);
     } catch (JsonProcessingException e) {
       logger.error("Exception while creating json request body: {}", e.getMessage(), e);
-      throw new PaysafeSdkException("Error creating json request body");
+      throw new PaysafeSdkException(JSON_REQUEST_BODY_ERROR_MESSAGE);
     }
   }
 
@@ -196,13 +322,19 @@ public class PaysafeApiClient {
 
     try {
       if (requestSuccessful(response)) {
-        return getObjectMapper().readValue(response.getResponseBody(), returnType);
+        if (returnType.isInstance(response.getDeserializedBody())) {
+          return returnType.cast(response.getDeserializedBody());
+        }
+        if (response.getDeserializationException() != null) {
+          throw response.getDeserializationException();
+        }
+        return getObjectReader(returnType).readValue(response.getResponseBody());
       } else {
         throw buildPaysafeSdkException("Paysafe Payments API request unsuccessful", response, returnType);
       }
     } catch (JsonProcessingException e) {
       logger.error("Exception while processing response from PaymentsAPI: {}", e.getMessage(), e);
-      throw buildPaysafeSdkException(String.format("Error processing json response: %s", e.getMessage()), response, returnType);
+      throw buildPaysafeSdkException(String.format(JSON_PROCESSING_ERROR_MESSAGE, e.getMessage()), response, returnType);
     }
   }
 
@@ -218,6 +350,47 @@ public class PaysafeApiClient {
     }
   }
 
+  /**
+   * Asynchronous variant of {@link #processResponse(PaysafeApiResponse, Class)}. Errors are mapped to the same
+   * PaysafeSdkException subclasses, which complete the returned future exceptionally.
+   *
+   * @param response   future of the response which to process
+   * @param returnType which to return, i.e. PaymentHandle.class
+   * @return future completed with T, or exceptionally with PaysafeSdkException
+   */
+  public static <R> CompletableFuture<R> processResponseAsync(final CompletableFuture<PaysafeApiResponse> response,
+      final Class<R> returnType) {
+
+    return response.thenCompose(paysafeApiResponse -> {
+      CompletableFuture<R> result = new CompletableFuture<>();
+      try {
+        result.complete(processResponse(paysafeApiResponse, returnType));
+      } catch (PaysafeSdkException e) {
+        result.completeExceptionally(e);
+      }
+      return result;
+    });
+  }
+
+  /**
+   * Asynchronous variant of {@link #processDeleteResponse(PaysafeApiResponse)}.
+   *
+   * @param response future of the response which to process
+   * @return future completed when request was successful, or exceptionally with PaysafeSdkException
+   */
+  public static CompletableFuture<Void> processDeleteResponseAsync(final CompletableFuture<PaysafeApiResponse> response) {
+    return response.thenCompose(paysafeApiResponse -> {
+      CompletableFuture<Void> result = new CompletableFuture<>();
+      try {
+        processDeleteResponse(paysafeApiResponse);
+        result.complete(null);
+      } catch (PaysafeSdkException e) {
+        result.completeExceptionally(e);
+      }
+      return result;
+    });
+  }
+
   private static boolean requestSuccessful(final PaysafeApiResponse response) {
     return response.getHttpStatusCode() == 200 || response.getHttpStatusCode() == 201;
   }
@@ -271,36 +444,91 @@ public class PaysafeApiClient {
     return new DefaultProxyRoutePlanner(proxyHost);
   }
 
-  private CloseableHttpClient buildHttpClient(final RequestOptions requestOptions) throws IllegalArgumentException {
+  /**
+   * Builds the pooled httpClient used by all requests of this instance. Client level configuration (connect timeout,
+   * response timeout and maximum automatic retries) is used as default, and may be overridden per request by
+   * {@link RequestOptions}. If max idle time is configured, background thread evicts expired and idle connections.
+   */
+  private CloseableHttpClient buildHttpClient() {
+    PoolingHttpClientConnectionManager connectionManager = buildConnectionManager();
+    reportConnectionPool(ConnectionPoolMetrics.BLOCKING_POOL, connectionManager);
 
-    validateRequestOptions(requestOptions);
+    HttpClientBuilder httpClientBuilder = HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(RequestConfig.custom()
+            .setResponseTimeout(Timeout.ofMilliseconds(clientResponseTimeout))
+            .build())
+        .setRetryStrategy(retryStrategy);
 
-    RequestOptions optionsToUse = buildRequestOptionsToUse(requestOptions);
-    PoolingHttpClientConnectionManager connectionManager = buildConnectionManager(optionsToUse);
     Proxy proxyToUse = attemptToBuildProxy();
-
-    // build httpClient with proxy
     if (proxyToUse != null && proxyToUse.address() instanceof InetSocketAddress) {
-      DefaultProxyRoutePlanner routePlanner = buildProxyRoutePlanner(proxyToUse);
+      httpClientBuilder.setRoutePlanner(buildProxyRoutePlanner(proxyToUse));
+    }
 
-      return HttpClients.custom()
-          .setConnectionManager(connectionManager)
-          .setDefaultRequestConfig(RequestConfig.custom()
-              .setResponseTimeout(Timeout.ofMilliseconds(optionsToUse.getResponseTimeout()))
-              .build())
-          .setRetryStrategy(new AutomaticRetryStrategy(optionsToUse.getMaxAutomaticRetries()))
-          .setRoutePlanner(routePlanner)
-          .build();
+    if (maxIdleTime != null) {
+      httpClientBuilder
+          .evictExpiredConnections()
+          .evictIdleConnections(TimeValue.ofMilliseconds(maxIdleTime));
     }
+    return httpClientBuilder.build();
+  }
+
+  /**
+   * Builds the pooled, non-blocking httpClient used by asynchronous requests of this instance. It uses the same
+   * configuration as {@link #buildHttpClient()}, and a small number of I/O threads shared by all asynchronous requests.
+   */
+  private CloseableHttpAsyncClient buildHttpAsyncClient() {
+    PoolingAsyncClientConnectionManager connectionManager = buildAsyncConnectionManager();
+    reportConnectionPool(ConnectionPoolMetrics.ASYNC_POOL, connectionManager);
 
-    // or return httpClient without proxy
-    return HttpClients.custom()
+    HttpAsyncClientBuilder httpAsyncClientBuilder = HttpAsyncClients.custom()
         .setConnectionManager(connectionManager)
         .setDefaultRequestConfig(RequestConfig.custom()
-            .setResponseTimeout(Timeout.ofMilliseconds(optionsToUse.getResponseTimeout()))
+            .setResponseTimeout(Timeout.ofMilliseconds(clientResponseTimeout))
             .build())
-        .setRetryStrategy(new AutomaticRetryStrategy(optionsToUse.getMaxAutomaticRetries()))
-        .build();
+        .setRetryStrategy(retryStrategy);
+
+    Proxy proxyToUse = attemptToBuildProxy();
+    if (proxyToUse != null && proxyToUse.address() instanceof InetSocketAddress) {
+      httpAsyncClientBuilder.setRoutePlanner(buildProxyRoutePlanner(proxyToUse));
+    }
+
+    if (maxIdleTime != null) {
+      httpAsyncClientBuilder
+          .evictExpiredConnections()
+          .evictIdleConnections(TimeValue.ofMilliseconds(maxIdleTime));
+    }
+    return httpAsyncClientBuilder.build();
+  }
+
+  /**
+   * Builds the non-blocking httpClient used by all requests of this instance when HTTP/2 is enabled. Instead of a pool
+   * of connections, it keeps a single connection per route, over which concurrent requests are multiplexed as streams.
+   * Protocol is negotiated with ALPN during TLS handshake, so Paysafe Payments API must support HTTP/2.
+   */
+  private CloseableHttpAsyncClient buildHttp2AsyncClient() {
+    H2AsyncClientBuilder httpAsyncClientBuilder = HttpAsyncClients.customHttp2()
+        .setDefaultConnectionConfig(buildConnectionConfig())
+        .setDefaultRequestConfig(RequestConfig.custom()
+            .setResponseTimeout(Timeout.ofMilliseconds(clientResponseTimeout))
+            .build())
+        .setRetryStrategy(retryStrategy);
+
+    if (customSslContext != null) {
+      httpAsyncClientBuilder.setTlsStrategy(ClientTlsStrategyBuilder.create()
+          .setSslContext(customSslContext)
+          .build());
+    }
+
+    Proxy proxyToUse = attemptToBuildProxy();
+    if (proxyToUse != null && proxyToUse.address() instanceof InetSocketAddress) {
+      httpAsyncClientBuilder.setRoutePlanner(buildProxyRoutePlanner(proxyToUse));
+    }
+
+    if (maxIdleTime != null) {
+      httpAsyncClientBuilder.evictIdleConnections(TimeValue.ofMilliseconds(maxIdleTime));
+    }
+    return httpAsyncClientBuilder.build();
   }
 
   private void validateRequestOptions(final RequestOptions requestOptions) throws IllegalArgumentException {
@@ -346,25 +574,57 @@ public class PaysafeApiClient {
     return optionsToUse;
   }
 
-  private PoolingHttpClientConnectionManager buildConnectionManager(final RequestOptions optionsToUse) {
-    PoolingHttpClientConnectionManager connectionManager;
+  /**
+   * Builds request configuration for a single request. Connect timeout set here overrides the one from connection
+   * manager's default connection configuration, so that per-request values are honored on the shared connection pool.
+   */
+  @SuppressWarnings("deprecation")
+  private static RequestConfig buildRequestConfig(final RequestOptions optionsToUse) {
+    return RequestConfig.custom()
+        .setConnectTimeout(Timeout.ofMilliseconds(optionsToUse.getConnectTimeout()))
+        .setResponseTimeout(Timeout.ofMilliseconds(optionsToUse.getResponseTimeout()))
+        .build();
+  }
+
+  private ConnectionConfig buildConnectionConfig() {
+    ConnectionConfig.Builder connectionConfigBuilder = ConnectionConfig.custom()
+        .setConnectTimeout(Timeout.ofMilliseconds(clientConnectTimeout))
+        .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivity));
+    if (connectionTimeToLive != null) {
+      connectionConfigBuilder.setTimeToLive(TimeValue.ofMilliseconds(connectionTimeToLive));
+    }
+    return connectionConfigBuilder.build();
+  }
+
+  private PoolingHttpClientConnectionManager buildConnectionManager() {
+    PoolingHttpClientConnectionManagerBuilder connectionManagerBuilder = PoolingHttpClientConnectionManagerBuilder.create()
+        .setMaxConnPerRoute(maxConnectionsPerRoute)
+        .setMaxConnTotal(maxConnectionsTotal)
+        .setDefaultConnectionConfig(buildConnectionConfig());
+
     if (customSslContext != null) {
-      connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
-          .setDefaultConnectionConfig(ConnectionConfig.custom()
-              .setConnectTimeout(Timeout.ofMilliseconds(optionsToUse.getConnectTimeout()))
-              .build())
-          .setTlsSocketStrategy((TlsSocketStrategy) ClientTlsStrategyBuilder.create()
-              .setSslContext(customSslContext)
-              .build())
-          .build();
-    } else {
-      connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
-          .setDefaultConnectionConfig(ConnectionConfig.custom()
-              .setConnectTimeout(Timeout.ofMilliseconds(optionsToUse.getConnectTimeout()))
-              .build())
-          .build();
+      connectionManagerBuilder.setTlsSocketStrategy((TlsSocketStrategy) ClientTlsStrategyBuilder.create()
+          .setSslContext(customSslContext)
+          .build());
+    }
+    return connectionManagerBuilder.build();
+  }
+
+  private PoolingAsyncClientConnectionManager buildAsyncConnectionManager() {
+    PoolingAsyncClientConnectionManagerBuilder connectionManagerBuilder = PoolingAsyncClientConnectionManagerBuilder.create()
+        .setMaxConnPerRoute(maxConnectionsPerRoute)
+        .setMaxConnTotal(maxConnectionsTotal)
+        .setDefaultConnectionConfig(buildConnectionConfig())
+        .setDefaultTlsConfig(TlsConfig.custom()
+            .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_1)
+            .build());
+
+    if (customSslContext != null) {
+      connectionManagerBuilder.setTlsStrategy(ClientTlsStrategyBuilder.create()
+          .setSslContext(customSslContext)
+          .build());
     }
-    return connectionManager;
+    return connectionManagerBuilder.build();
   }
 
   /**
@@ -376,212 +636,1209 @@ public class PaysafeApiClient {
   }
 
   public PaysafeApiResponse executeGet(final String endpoint, final RequestOptions requestOptions) throws PaysafeSdkException {
+    if (http2Enabled || isHedged(requestOptions)) {
+      return awaitResponse(executeGetAsync(endpoint, requestOptions));
+    }
     URI uri = buildRequestUri(endpoint);
     final HttpGet httpGet = new HttpGet(uri);
     setRequestHeaders(httpGet);
 
-    try (CloseableHttpClient httpClient = buildHttpClient(requestOptions)) {
-      return httpClient.execute(httpGet, this::handleApiResponse);
-    } catch (IOException e) {
-      logger.error("Exception while executing GET request at {}: {}", httpGet.getRequestUri(), e.getMessage(), e);
-      throw new ApiConnectionException(String.format(CONNECTION_ERROR_MESSAGE, uri, e.getMessage()));
+    return execute(httpGet, uri, null, requestOptions, response -> handleApiResponse(response, null));
+  }
+
+  /**
+   * Executes GET request and maps successful response to returnType. Response body is deserialized while it is read from
+   * the connection, without being copied to a String first. If request coalescing is enabled, identical requests in
+   * flight share a single response, which is deserialized for each caller.
+   *
+   * @param endpoint       to which request is sent
+   * @param requestOptions to use instead of PaysafeClient configuration, may be null
+   * @param returnType     to which response is mapped, i.e. PaymentHandle.class
+   * @return R
+   * @throws PaysafeSdkException containing error details, correlation id and http status code, if present
+   */
+  public <R> R executeGet(final String endpoint, final RequestOptions requestOptions, final Class<R> returnType)
+      throws PaysafeSdkException {
+
+    if (requestCoalescer != null) {
+      URI uri = buildRequestUri(endpoint);
+      return processResponse(awaitResponse(executeCoalesced(uri, requestOptions, () -> {
+        if (http2Enabled || isHedged(requestOptions)) {
+          return executeGetAsync(uri, requestOptions, response -> handleApiResponse(response, null));
+        }
+        final HttpGet httpGet = new HttpGet(uri);
+        setRequestHeaders(httpGet);
+        try {
+          return CompletableFuture.completedFuture(execute(httpGet, uri, null, requestOptions,
+              response -> handleApiResponse(response, null)));
+        } catch (PaysafeSdkException e) {
+          return CompletableFuture.failedFuture(e);
+        }
+      })), returnType);
     }
+    if (http2Enabled || isHedged(requestOptions)) {
+      return awaitResponse(executeGetAsync(endpoint, requestOptions, returnType));
+    }
+    URI uri = buildRequestUri(endpoint);
+    final HttpGet httpGet = new HttpGet(uri);
+    setRequestHeaders(httpGet);
+
+    return execute(httpGet, uri, null, requestOptions, returnType);
   }
 
   public <T> PaysafeApiResponse executePost(final String endpoint, final T requestBody, final RequestOptions requestOptions) throws PaysafeSdkException {
+    if (http2Enabled) {
+      return awaitResponse(executePostAsync(endpoint, requestBody, requestOptions));
+    }
     URI uri = buildRequestUri(endpoint);
     final HttpPost httpPost = new HttpPost(uri);
-    setRequestHeaders(httpPost);
+    setRequestHeadersAndBody(httpPost, requestBody, requestOptions);
 
-    if (Environment.TEST.equals(environment) && (requestOptions != null && requestOptions.getSimulator() != null)) {
-      httpPost.setHeader(SIMULATOR, requestOptions.getSimulator());
-    }
+    return execute(httpPost, uri, requestBody, requestOptions, response -> handleApiResponse(response, null));
+  }
 
-    String jsonRequestBody = buildJsonRequestBody(requestBody);
-    StringEntity requestEntity = new StringEntity(jsonRequestBody, ContentType.APPLICATION_JSON);
-    httpPost.setEntity(requestEntity);
+  /**
+   * Executes POST request and maps successful response to returnType, as described in
+   * {@link #executeGet(String, RequestOptions, Class)}.
+   */
+  public <T, R> R executePost(final String endpoint, final T requestBody, final RequestOptions requestOptions,
+      final Class<R> returnType) throws PaysafeSdkException {
 
-    try (CloseableHttpClient httpClient = buildHttpClient(requestOptions)) {
-      return httpClient.execute(httpPost, this::handleApiResponse);
-    } catch (IOException e) {
-      logger.error("Exception while executing POST request at {}: {}", httpPost.getRequestUri(), e.getMessage(), e);
-      throw new ApiConnectionException(String.format(CONNECTION_ERROR_MESSAGE, uri, e.getMessage()));
+    if (http2Enabled) {
+      return awaitResponse(executePostAsync(endpoint, requestBody, requestOptions, returnType));
     }
+    URI uri = buildRequestUri(endpoint);
+    return executeWithReconciliation(Method.POST, uri, requestBody, requestOptions, () -> {
+      final HttpPost httpPost = new HttpPost(uri);
+      setRequestHeadersAndBody(httpPost, requestBody, requestOptions);
+
+      return execute(httpPost, uri, requestBody, requestOptions, returnType);
+    });
   }
 
   public <T> PaysafeApiResponse executePut(final String endpoint, final T requestBody, final RequestOptions requestOptions) throws PaysafeSdkException {
+    if (http2Enabled) {
+      return awaitResponse(executePutAsync(endpoint, requestBody, requestOptions));
+    }
     URI uri = buildRequestUri(endpoint);
     final HttpPut httpPut = new HttpPut(uri);
-    setRequestHeaders(httpPut);
+    setRequestHeadersAndBody(httpPut, requestBody, requestOptions);
 
-    if (Environment.TEST.equals(environment) && (requestOptions != null && requestOptions.getSimulator() != null)) {
-      httpPut.setHeader(SIMULATOR, requestOptions.getSimulator());
-    }
+    return execute(httpPut, uri, requestBody, requestOptions, response -> handleApiResponse(response, null));
+  }
 
-    String jsonRequestBody = buildJsonRequestBody(requestBody);
-    StringEntity requestEntity = new StringEntity(jsonRequestBody, ContentType.APPLICATION_JSON);
-    httpPut.setEntity(requestEntity);
+  /**
+   * Executes PUT request and maps successful response to returnType, as described in
+   * {@link #executeGet(String, RequestOptions, Class)}.
+   */
+  public <T, R> R executePut(final String endpoint, final T requestBody, final RequestOptions requestOptions,
+      final Class<R> returnType) throws PaysafeSdkException {
 
-    try (CloseableHttpClient httpClient = buildHttpClient(requestOptions)) {
-      return httpClient.execute(httpPut, this::handleApiResponse);
-    } catch (IOException e) {
-      logger.error("Exception while executing PUT request at {}: {}", httpPut.getRequestUri(), e.getMessage(), e);
-      throw new ApiConnectionException(String.format(CONNECTION_ERROR_MESSAGE, uri, e.getMessage()));
+    if (http2Enabled) {
+      return awaitResponse(executePutAsync(endpoint, requestBody, requestOptions, returnType));
     }
+    URI uri = buildRequestUri(endpoint);
+    return executeWithReconciliation(Method.PUT, uri, requestBody, requestOptions, () -> {
+      final HttpPut httpPut = new HttpPut(uri);
+      setRequestHeadersAndBody(httpPut, requestBody, requestOptions);
+
+      return execute(httpPut, uri, requestBody, requestOptions, returnType);
+    });
   }
 
   public <T> PaysafeApiResponse executePatch(final String endpoint, final T requestBody, final RequestOptions requestOptions) throws PaysafeSdkException {
+    if (http2Enabled) {
+      return awaitResponse(executePatchAsync(endpoint, requestBody, requestOptions));
+    }
     URI uri = buildRequestUri(endpoint);
     final HttpPatch httpPatch = new HttpPatch(uri);
-    setRequestHeaders(httpPatch);
+    setRequestHeadersAndBody(httpPatch, requestBody, requestOptions);
 
-    if (Environment.TEST.equals(environment) && (requestOptions != null && requestOptions.getSimulator() != null)) {
-      httpPatch.setHeader(SIMULATOR, requestOptions.getSimulator());
-    }
+    return execute(httpPatch, uri, requestBody, requestOptions, response -> handleApiResponse(response, null));
+  }
 
-    String jsonRequestBody = buildJsonRequestBody(requestBody);
-    StringEntity requestEntity = new StringEntity(jsonRequestBody, ContentType.APPLICATION_JSON);
-    httpPatch.setEntity(requestEntity);
+  /**
+   * Executes PATCH request and maps successful response to returnType, as described in
+   * {@link #executeGet(String, RequestOptions, Class)}.
+   */
+  public <T, R> R executePatch(final String endpoint, final T requestBody, final RequestOptions requestOptions,
+      final Class<R> returnType) throws PaysafeSdkException {
 
-    try (CloseableHttpClient httpClient = buildHttpClient(requestOptions)) {
-      return httpClient.execute(httpPatch, this::handleApiResponse);
-    } catch (IOException e) {
-      logger.error("Exception while executing PATCH request at {}: {}", httpPatch.getRequestUri(), e.getMessage(), e);
-      throw new ApiConnectionException(String.format(CONNECTION_ERROR_MESSAGE, uri, e.getMessage()));
+    if (http2Enabled) {
+      return awaitResponse(executePatchAsync(endpoint, requestBody, requestOptions, returnType));
     }
+    URI uri = buildRequestUri(endpoint);
+    return executeWithReconciliation(Method.PATCH, uri, requestBody, requestOptions, () -> {
+      final HttpPatch httpPatch = new HttpPatch(uri);
+      setRequestHeadersAndBody(httpPatch, requestBody, requestOptions);
+
+      return execute(httpPatch, uri, requestBody, requestOptions, returnType);
+    });
   }
 
   public PaysafeApiResponse executeDelete(final String endpoint, final RequestOptions requestOptions) throws PaysafeSdkException {
+    if (http2Enabled) {
+      return awaitResponse(executeDeleteAsync(endpoint, requestOptions));
+    }
     URI uri = buildRequestUri(endpoint);
     final HttpDelete httpDelete = new HttpDelete(uri);
     setRequestHeaders(httpDelete);
 
-    if (Environment.TEST.equals(environment) && (requestOptions != null && requestOptions.getSimulator() != null)) {
-      httpDelete.setHeader(SIMULATOR, requestOptions.getSimulator());
-    }
+    setSimulatorHeader(httpDelete, requestOptions);
 
-    try (CloseableHttpClient httpClient = buildHttpClient(requestOptions)) {
-      return httpClient.execute(httpDelete, this::handleApiResponse);
-    } catch (IOException e) {
-      logger.error("Exception while executing DELETE request at {}: {}", httpDelete.getRequestUri(), e.getMessage(), e);
-      throw new ApiConnectionException(String.format(CONNECTION_ERROR_MESSAGE, uri, e.getMessage()));
+    return execute(httpDelete, uri, null, requestOptions, response -> handleApiResponse(response, null));
+  }
+
+  public CompletableFuture<PaysafeApiResponse> executeGetAsync(final String endpoint, final RequestOptions requestOptions) {
+    return executeGetAsync(buildRequestUri(endpoint), requestOptions, response -> handleApiResponse(response, null));
+  }
+
+  /**
+   * Asynchronous variant of {@link #executeGet(String, RequestOptions, Class)}.
+   */
+  public <R> CompletableFuture<R> executeGetAsync(final String endpoint, final RequestOptions requestOptions,
+      final Class<R> returnType) {
+
+    URI uri = buildRequestUri(endpoint);
+    if (requestCoalescer != null) {
+      return processResponseAsync(executeCoalesced(uri, requestOptions,
+          () -> executeGetAsync(uri, requestOptions, response -> handleApiResponse(response, null))), returnType);
     }
+    return processResponseAsync(executeGetAsync(uri, requestOptions,
+        response -> handleApiResponse(response, returnType)), returnType);
   }
 
-  private URI buildRequestUri(final String endpoint) {
-    return URI.create(String.format(URI_FORMAT, this.baseUrl, PATH, endpoint));
+  public <T> CompletableFuture<PaysafeApiResponse> executePostAsync(final String endpoint, final T requestBody,
+      final RequestOptions requestOptions) {
+    return executeAsyncWithBody(Method.POST, endpoint, requestBody, requestOptions, null);
   }
 
-  private void setRequestHeaders(final BasicClassicHttpRequest httpRequest) {
-    httpRequest.setHeader(AUTHORIZATION, getBasicAuthenticationHeader(apiKey));
-    httpRequest.setHeader(CONTENT_TYPE, APPLICATION_JSON_CHARSET_UTF_8);
-    httpRequest.setHeader(X_TRANSACTION_SOURCE, JAVA_SDK);
-    httpRequest.setHeader(USER_AGENT, buildUserAgentHeader());
+  /**
+   * Asynchronous variant of {@link #executePost(String, Object, RequestOptions, Class)}.
+   */
+  public <T, R> CompletableFuture<R> executePostAsync(final String endpoint, final T requestBody,
+      final RequestOptions requestOptions, final Class<R> returnType) {
+    return executeAsyncWithReconciliation(Method.POST, buildRequestUri(endpoint), requestBody, requestOptions,
+        () -> processResponseAsync(executeAsyncWithBody(Method.POST, endpoint, requestBody, requestOptions, returnType), returnType));
   }
 
-  private String buildUserAgentHeader() {
+  public <T> CompletableFuture<PaysafeApiResponse> executePutAsync(final String endpoint, final T requestBody,
+      final RequestOptions requestOptions) {
+    return executeAsyncWithBody(Method.PUT, endpoint, requestBody, requestOptions, null);
+  }
 
-    String sdkVersion = "unknown";
-    try (InputStream inputStream = PaysafeApiClient.class.getResourceAsStream("/VERSION")) {
-      if (inputStream != null) {
-        sdkVersion = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).trim();
-      }
-    } catch (IOException e) {
-      logger.error("IOException while parsing sdk version from VERSION file", e);
-    }
+  /**
+   * Asynchronous variant of {@link #executePut(String, Object, RequestOptions, Class)}.
+   */
+  public <T, R> CompletableFuture<R> executePutAsync(final String endpoint, final T requestBody,
+      final RequestOptions requestOptions, final Class<R> returnType) {
+    return executeAsyncWithReconciliation(Method.PUT, buildRequestUri(endpoint), requestBody, requestOptions,
+        () -> processResponseAsync(executeAsyncWithBody(Method.PUT, endpoint, requestBody, requestOptions, returnType), returnType));
+  }
 
-    String osDetails = System.getProperty(OS_NAME) + "; "
-        + System.getProperty(OS_VERSION) + "; "
-        + System.getProperty(OS_ARCH);
+  public <T> CompletableFuture<PaysafeApiResponse> executePatchAsync(final String endpoint, final T requestBody,
+      final RequestOptions requestOptions) {
+    return executeAsyncWithBody(Method.PATCH, endpoint, requestBody, requestOptions, null);
+  }
 
-    String javaDetails = System.getProperty(JAVA_VERSION) + "; "
-        + System.getProperty(JAVA_VENDOR) + "; "
-        + System.getProperty(JAVA_VM_VERSION) + "; "
-        + System.getProperty(JAVA_VM_VENDOR);
+  /**
+   * Asynchronous variant of {@link #executePatch(String, Object, RequestOptions, Class)}.
+   */
+  public <T, R> CompletableFuture<R> executePatchAsync(final String endpoint, final T requestBody,
+      final RequestOptions requestOptions, final Class<R> returnType) {
+    return executeAsyncWithReconciliation(Method.PATCH, buildRequestUri(endpoint), requestBody, requestOptions,
+        () -> processResponseAsync(executeAsyncWithBody(Method.PATCH, endpoint, requestBody, requestOptions, returnType), returnType));
+  }
 
-    return String.format("PaymentsAPI JAVASDK/%s (%s) JAVA (%s)", sdkVersion, osDetails, javaDetails);
+  public CompletableFuture<PaysafeApiResponse> executeDeleteAsync(final String endpoint, final RequestOptions requestOptions) {
+    URI uri = buildRequestUri(endpoint);
+    final SimpleHttpRequest httpDelete = SimpleHttpRequest.create(Method.DELETE, uri);
+    setRequestHeaders(httpDelete);
+    setSimulatorHeader(httpDelete, requestOptions);
+
+    return executeAsync(httpDelete, uri, null, requestOptions, response -> handleApiResponse(response, null));
   }
 
-  private PaysafeApiResponse handleApiResponse(final ClassicHttpResponse response) throws IOException, ParseException {
-    PaysafeApiResponse paysafeApiResponse = new PaysafeApiResponse();
-    paysafeApiResponse.setHttpStatusCode(response.getCode());
+  /**
+   * Gets records of provided IDs using provided asynchronous request, with parallelism and deadline of provided
+   * BulkOptions. Blocks until all requests complete or the deadline is exceeded.
+   *
+   * @return results in order of the IDs, containing either the record or exception of its request
+   * @throws PaysafeSdkException if the waiting thread was interrupted, in which case requests in progress are cancelled
+   */
+  public <T> List<BulkResult<T>> executeBulk(final Collection<String> ids, final BulkOptions bulkOptions,
+      final BiFunction<String, RequestOptions, CompletableFuture<T>> request) throws PaysafeSdkException {
+    return awaitResponse(executeBulkAsync(ids, bulkOptions, request));
+  }
 
-    Map<String, String> headers = new HashMap<>();
-    for (Header header : response.getHeaders()) {
-      headers.put(header.getName().toUpperCase(), header.getValue());
+  /**
+   * Asynchronous variant of {@link #executeBulk(Collection, BulkOptions, BiFunction)}. The returned future is never
+   * completed exceptionally, as failed requests are included in its results.
+   */
+  public <T> CompletableFuture<List<BulkResult<T>>> executeBulkAsync(final Collection<String> ids,
+      final BulkOptions bulkOptions, final BiFunction<String, RequestOptions, CompletableFuture<T>> request) {
+    return new BulkExecutor<>(ids, bulkOptions == null ? BulkOptions.DEFAULT : bulkOptions, request).execute();
+  }
+
+  /**
+   * Executes provided task off the calling thread, with the executor of internal work of this client, i.e. on a virtual
+   * thread on Java 21 and later, or in the common fork-join pool otherwise.
+   */
+  public void executeTask(final Runnable task) {
+    TaskExecutors.taskExecutor().execute(task);
+  }
+
+  /**
+   * Closes the underlying httpClients and shuts down their connection pools. Requests that are still in progress are allowed
+   * to complete. After this method is called, this instance can no longer be used for executing requests.
+   */
+  @Override
+  public void close() {
+    if (httpClient != null) {
+      httpClient.close(CloseMode.GRACEFUL);
     }
-    paysafeApiResponse.setHeaders(headers);
+    CloseableHttpAsyncClient asyncClient;
+    asyncClientLock.lock();
+    try {
+      closed = true;
+      asyncClient = httpAsyncClient;
+    } finally {
+      asyncClientLock.unlock();
+    }
+    if (asyncClient != null) {
+      asyncClient.close(CloseMode.GRACEFUL);
+    }
+  }
 
-    HttpEntity entity = response.getEntity();
-    if (entity != null) {
-      paysafeApiResponse.setResponseBody(EntityUtils.toString(entity));
+  /**
+   * Returns the non-blocking httpClient, building and starting it on first asynchronous request, so that instances used
+   * only for blocking requests do not keep its connection pool and I/O threads. Once this instance is closed, the
+   * httpClient is closed as soon as it is built, so that requests fail as they would on a closed httpClient.
+   */
+  private CloseableHttpAsyncClient asyncClient() {
+    CloseableHttpAsyncClient asyncClient = httpAsyncClient;
+    if (asyncClient != null) {
+      return asyncClient;
+    }
+    asyncClientLock.lock();
+    try {
+      if (httpAsyncClient == null) {
+        asyncClient = buildHttpAsyncClient();
+        asyncClient.start();
+        if (closed) {
+          asyncClient.close(CloseMode.GRACEFUL);
+        }
+        httpAsyncClient = asyncClient;
+      }
+      return httpAsyncClient;
+    } finally {
+      asyncClientLock.unlock();
     }
-    return paysafeApiResponse;
   }
 
   /**
-   * {@code PaysafeApiClient} builder static inner class.
+   * Executes provided request on the shared httpClient, and maps its response with {@link #processResponse(PaysafeApiResponse, Class)}.
    */
-  public static final class Builder {
+  private <R> R execute(final HttpUriRequestBase httpRequest, final URI uri, final Object requestBody,
+      final RequestOptions requestOptions, final Class<R> returnType) throws PaysafeSdkException {
+    return processResponse(execute(httpRequest, uri, requestBody, requestOptions,
+        response -> handleApiResponse(response, returnType)), returnType);
+  }
 
-    private String apiKey;
-    private Environment environment;
-    private Integer connectTimeout;
-    private Integer responseTimeout;
-    private Integer maxAutomaticRetries;
-    private SSLContext sslContext;
-    private Proxy proxy;
+  /**
+   * Executes provided request on the shared httpClient. Timeouts and maximum automatic retries are resolved from
+   * provided RequestOptions, falling back to configuration of this PaysafeApiClient instance. Request body, if any, decides
+   * whether request may be retried, as described in {@link NonIdempotentRetryPolicy}.
+   */
+  private PaysafeApiResponse execute(final HttpUriRequestBase httpRequest, final URI uri, final Object requestBody,
+      final RequestOptions requestOptions, final HttpClientResponseHandler<PaysafeApiResponse> responseHandler)
+      throws PaysafeSdkException {
 
-    /**
-     * Sets the {@code apiKey} and returns a reference to this Builder enabling method chaining.
-     *
-     * @param apiKey the {@code apiKey} to set
-     * @return a reference to this Builder
-     */
-    public Builder apiKey(String apiKey) {
-      this.apiKey = apiKey;
-      return this;
+    validateRequestOptions(requestOptions);
+    RequestOptions optionsToUse = buildRequestOptionsToUse(requestOptions);
+    httpRequest.setConfig(buildRequestConfig(optionsToUse));
+
+    HttpClientContext context = HttpClientContext.create();
+    context.setAttribute(AutomaticRetryStrategy.MAX_AUTOMATIC_RETRIES_ATTRIBUTE, optionsToUse.getMaxAutomaticRetries());
+    context.setAttribute(AutomaticRetryStrategy.RETRY_ALLOWED_ATTRIBUTE, isRetryAllowed(httpRequest.getMethod(), requestBody));
+    String endpointTemplate = bindEndpointTemplate(httpRequest.getMethod(), uri, context);
+    long requestBytes = httpRequest.getEntity() == null ? 0 : httpRequest.getEntity().getContentLength();
+    InterceptedRequest interceptedRequest = interceptorChain.beforeSend(httpRequest, uri, endpointTemplate, requestBytes);
+    long startTime = System.nanoTime();
+    ConcurrencyLimiter.Permit permit = null;
+    if (concurrencyLimiter != null) {
+      ConcurrencyLimiter.Partition partition = ConcurrencyLimiter.Partition.of(httpRequest.getMethod(), uri, endpointTemplate);
+      permit = awaitPermit(concurrencyLimiter.acquire(partition));
+      if (permit == null) {
+        throw rejectRequest(httpRequest.getMethod(), endpointTemplate, requestBytes, startTime, interceptedRequest,
+            concurrencyLimitExceeded(partition, endpointTemplate));
+      }
     }
-
-    public Builder environment(Environment environment) {
-      this.environment = environment;
-      return this;
+    CircuitBreaker circuitBreaker = circuitBreakerFor(endpointTemplate);
+    if (circuitBreaker != null && !circuitBreaker.tryAcquirePermission()) {
+      releasePermit(permit);
+      throw rejectRequest(httpRequest.getMethod(), endpointTemplate, requestBytes, startTime, interceptedRequest,
+          circuitBreakerOpen(endpointTemplate));
     }
 
-    /**
-     * Sets the time limit, in miliseconds, for both connecting to the Paysafe Payments API and retrieving the data
-     * from this connection. We recommend setting the value cautiously, as some requests may take longer to process.
-     * Method returns a reference to this Builder enabling method chaining.
-     *
-     * @param responseTimeout the {@code responseTimeout} to set
-     * @return a reference to this Builder
-     */
-    public Builder responseTimeout(Integer responseTimeout) {
-      this.responseTimeout = responseTimeout;
-      return this;
+    long sendTime = System.nanoTime();
+    try {
+      PaysafeApiResponse response = httpClient.execute(httpRequest, context, responseHandler);
+      recordResult(circuitBreaker, permit, sendTime, isFailure(response));
+      reportRequest(httpRequest.getMethod(), endpointTemplate, requestBytes, startTime, response, null);
+      interceptorChain.afterReceive(interceptedRequest, response);
+      return response;
+    } catch (IOException e) {
+      recordResult(circuitBreaker, permit, sendTime, true);
+      reportRequest(httpRequest.getMethod(), endpointTemplate, requestBytes, startTime, null, e.getClass().getSimpleName());
+      logger.error("Exception while executing {} request at {}: {}", httpRequest.getMethod(), httpRequest.getRequestUri(), e.getMessage(), e);
+      ApiConnectionException exception = new ApiConnectionException(String.format(CONNECTION_ERROR_MESSAGE, uri, e.getMessage()));
+      interceptorChain.onError(interceptedRequest, exception);
+      throw exception;
+    } catch (RuntimeException e) {
+      // i.e. thrown by a connection pool which was shut down, outcome of the request is unknown so it is not recorded
+      releasePermissions(circuitBreaker, permit);
+      reportRequest(httpRequest.getMethod(), endpointTemplate, requestBytes, startTime, null, e.getClass().getSimpleName());
+      throw e;
+    } finally {
+      releasePermit(permit);
     }
+  }
 
-    /**
-     * Sets the timeout value, in miliseconds, that will be used for establishing new connections to the Payments API.
-     * Method returns a reference to this Builder enabling method chaining.
-     *
-     * @param connectTimeout the {@code connectTimeout} to set
-     * @return a reference to this Builder
-     */
-    public Builder connectTimeout(Integer connectTimeout) {
-      this.connectTimeout = connectTimeout;
-      return this;
+  /**
+   * Blocks until provided permit is acquired or maximum wait time of the concurrency limiter elapses. If the waiting
+   * thread is interrupted, waiting is given up.
+   */
+  private static ConcurrencyLimiter.Permit awaitPermit(final CompletableFuture<ConcurrencyLimiter.Permit> permitFuture)
+      throws ApiConnectionException {
+    try {
+      return permitFuture.get();
+    } catch (ExecutionException e) {
+      return null;
+    } catch (InterruptedException e) {
+      if (!permitFuture.cancel(true)) {
+        releasePermit(permitFuture.getNow(null));
+      }
+      Thread.currentThread().interrupt();
+      throw new ApiConnectionException(REQUEST_CANCELLED_MESSAGE);
     }
+  }
 
-    /**
-     * Sets the {@code maxAutomaticRetries} and returns a reference to this Builder enabling method chaining.
-     *
-     * @param maxAutomaticRetries the {@code maxAutomaticRetries} to set
-     * @return a reference to this Builder
-     */
-    public Builder maxAutomaticRetries(Integer maxAutomaticRetries) {
-      this.maxAutomaticRetries = maxAutomaticRetries;
-      return this;
+  /**
+   * Blocks until the provided asynchronous request completes, rethrowing PaysafeSdkException it completed with.
+   * If the waiting thread is interrupted, the request is cancelled.
+   */
+  public static <R> R awaitResponse(final CompletableFuture<R> responseFuture) throws PaysafeSdkException {
+    try {
+      return responseFuture.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof PaysafeSdkException) {
+        throw (PaysafeSdkException) e.getCause();
+      }
+      throw new PaysafeSdkException(e.getCause());
+    } catch (InterruptedException e) {
+      responseFuture.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new ApiConnectionException(REQUEST_CANCELLED_MESSAGE);
+    }
+  }
+
+  /**
+   * Returns whether request with provided method and body may be retried by {@link AutomaticRetryStrategy}. GET requests
+   * may always be retried, other requests only if permitted by {@link NonIdempotentRetryPolicy#DUP_CHECK}.
+   */
+  private boolean isRetryAllowed(final String method, final Object requestBody) {
+    if (Method.GET.isSame(method)) {
+      return true;
+    }
+    if (nonIdempotentRetryPolicy == NonIdempotentRetryPolicy.NEVER || !(requestBody instanceof MerchantReferencedRequest)) {
+      return false;
+    }
+    MerchantReferencedRequest merchantReferencedRequest = (MerchantReferencedRequest) requestBody;
+    return merchantReferencedRequest.getMerchantRefNum() != null && Boolean.TRUE.equals(merchantReferencedRequest.getDupCheck());
+  }
+
+  /**
+   * Returns endpoint looking up transactions created by provided request, if it may be retried after reconciliation as
+   * described in {@link NonIdempotentRetryPolicy#DUP_CHECK_OR_RECONCILE}, or null otherwise.
+   */
+  private String resolveLookupEndpoint(final URI uri, final Object requestBody) {
+    if (nonIdempotentRetryPolicy != NonIdempotentRetryPolicy.DUP_CHECK_OR_RECONCILE
+        || !(requestBody instanceof MerchantReferencedRequest)) {
+      return null;
+    }
+    MerchantReferencedRequest merchantReferencedRequest = (MerchantReferencedRequest) requestBody;
+    if (merchantReferencedRequest.getMerchantRefNum() == null || Boolean.TRUE.equals(merchantReferencedRequest.getDupCheck())) {
+      return null;
+    }
+    return MerchantRefNumLookup.lookupEndpoint(uri, merchantReferencedRequest.getMerchantRefNum());
+  }
+
+  /**
+   * Executes request which is not retried by {@link AutomaticRetryStrategy}, and retries it if it failed with unknown
+   * outcome, and looking up its merchant reference number confirms that no transaction was created.
+   */
+  private <R> R executeWithReconciliation(final Method method, final URI uri, final Object requestBody,
+      final RequestOptions requestOptions, final RequestExecution<R> requestExecution) throws PaysafeSdkException {
+
+    String lookupEndpoint = resolveLookupEndpoint(uri, requestBody);
+    if (lookupEndpoint == null) {
+      return requestExecution.execute();
+    }
+    int maxAutomaticRetries = buildRequestOptionsToUse(requestOptions).getMaxAutomaticRetries();
+    for (int retryNumber = 1; ; retryNumber++) {
+      try {
+        return requestExecution.execute();
+      } catch (PaysafeSdkException e) {
+        if (retryNumber > maxAutomaticRetries || !isReconcilable(e)) {
+          throw e;
+        }
+        try {
+          Thread.sleep(AutomaticRetryStrategy.backoffMillis(retryNumber));
+        } catch (InterruptedException interruptedException) {
+          Thread.currentThread().interrupt();
+          throw e;
+        }
+        if (!confirmNoTransactionsFound(lookupEndpoint, requestOptions)) {
+          throw e;
+        }
+        reportRetry(method, uri, retryNumber);
+      }
+    }
+  }
+
+  private boolean confirmNoTransactionsFound(final String lookupEndpoint, final RequestOptions requestOptions) {
+    try {
+      return MerchantRefNumLookup.noTransactionsFound(executeGet(lookupEndpoint, requestOptions));
+    } catch (PaysafeSdkException e) {
+      logger.warn("Exception while looking up transactions at {}: {}", lookupEndpoint, e.getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * Asynchronous variant of {@link #executeWithReconciliation(Method, URI, Object, RequestOptions, RequestExecution)}.
+   * Each attempt is started by provided requestExecution, after a delay which does not block any thread.
+   */
+  private <R> CompletableFuture<R> executeAsyncWithReconciliation(final Method method, final URI uri, final Object requestBody,
+      final RequestOptions requestOptions, final Supplier<CompletableFuture<R>> requestExecution) {
+
+    String lookupEndpoint = resolveLookupEndpoint(uri, requestBody);
+    if (lookupEndpoint == null) {
+      return requestExecution.get();
+    }
+    int maxAutomaticRetries = buildRequestOptionsToUse(requestOptions).getMaxAutomaticRetries();
+    return reconcileAsync(method, uri, lookupEndpoint, requestOptions, requestExecution, 1, maxAutomaticRetries);
+  }
+
+  private <R> CompletableFuture<R> reconcileAsync(final Method method, final URI uri, final String lookupEndpoint,
+      final RequestOptions requestOptions, final Supplier<CompletableFuture<R>> requestExecution, final int retryNumber,
+      final int maxAutomaticRetries) {
+
+    return requestExecution.get().<CompletableFuture<R>>handle((result, throwable) -> {
+      if (throwable == null) {
+        return CompletableFuture.completedFuture(result);
+      }
+      Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+      if (retryNumber > maxAutomaticRetries || !isReconcilable(cause)) {
+        return CompletableFuture.failedFuture(cause);
+      }
+      return CompletableFuture.runAsync(() -> { },
+              TaskExecutors.delayedExecutor(AutomaticRetryStrategy.backoffMillis(retryNumber), TimeUnit.MILLISECONDS))
+          .thenCompose(ignored -> executeGetAsync(lookupEndpoint, requestOptions))
+          .handle((lookupResponse, lookupFailure) -> lookupFailure == null && MerchantRefNumLookup.noTransactionsFound(lookupResponse))
+          .thenCompose(noTransactionsFound -> {
+            if (!noTransactionsFound) {
+              return CompletableFuture.failedFuture(cause);
+            }
+            reportRetry(method, uri, retryNumber);
+            return reconcileAsync(method, uri, lookupEndpoint, requestOptions, requestExecution, retryNumber + 1,
+                maxAutomaticRetries);
+          });
+    }).thenCompose(Function.identity());
+  }
+
+  /**
+   * Request failed with unknown outcome if no response was received, or it was rejected as Paysafe Payments API was
+   * overloaded or unavailable.
+   */
+  private static boolean isReconcilable(final Throwable exception) {
+    if (exception instanceof ApiConnectionException) {
+      return true;
+    }
+    if (exception instanceof PaysafeSdkException) {
+      Integer code = ((PaysafeSdkException) exception).getCode();
+      return code != null && (code == 429 || code == 503);
+    }
+    return false;
+  }
+
+  /**
+   * Executes GET request on the shared non-blocking httpClient, hedging it according to {@link HedgingPolicy} if
+   * configured and not disabled by provided RequestOptions. Each attempt is a new request with the same headers.
+   */
+  private CompletableFuture<PaysafeApiResponse> executeGetAsync(final URI uri, final RequestOptions requestOptions,
+      final Function<SimpleHttpResponse, PaysafeApiResponse> responseHandler) {
+
+    Supplier<CompletableFuture<PaysafeApiResponse>> attempt = () -> {
+      final SimpleHttpRequest httpGet = SimpleHttpRequest.create(Method.GET, uri);
+      setRequestHeaders(httpGet);
+      return executeAsync(httpGet, uri, null, requestOptions, responseHandler);
+    };
+    if (!isHedged(requestOptions)) {
+      return attempt.get();
+    }
+    String endpointTemplate = EndpointTemplate.of(uri);
+    return requestHedger.execute(endpointTemplate, attempt, () -> reportHedge(endpointTemplate));
+  }
+
+  /**
+   * Executes GET request started by provided request, unless an identical one is already in flight, in which case its
+   * response is shared. Requests are identical if they have the same URI, including query, and the same timeouts,
+   * maximum automatic retries and hedging. Credentials are the same for all requests of this PaysafeApiClient.
+   * Response body is kept as String, so that every caller deserializes its own instance.
+   */
+  private CompletableFuture<PaysafeApiResponse> executeCoalesced(final URI uri, final RequestOptions requestOptions,
+      final Supplier<CompletableFuture<PaysafeApiResponse>> request) {
+
+    RequestOptions optionsToUse = buildRequestOptionsToUse(requestOptions);
+    String key = uri + " " + optionsToUse.getConnectTimeout() + " " + optionsToUse.getResponseTimeout() + " "
+        + optionsToUse.getMaxAutomaticRetries() + " " + isHedged(requestOptions);
+    return requestCoalescer.execute(key, request, () -> reportCoalesced(uri));
+  }
+
+  private boolean isHedged(final RequestOptions requestOptions) {
+    return requestHedger != null && (requestOptions == null || !Boolean.FALSE.equals(requestOptions.getHedgingEnabled()));
+  }
+
+  private <T> CompletableFuture<PaysafeApiResponse> executeAsyncWithBody(final Method method, final String endpoint,
+      final T requestBody, final RequestOptions requestOptions, final Class<?> returnType) {
+
+    URI uri = buildRequestUri(endpoint);
+    final SimpleHttpRequest httpRequest = SimpleHttpRequest.create(method, uri);
+    setRequestHeaders(httpRequest);
+    setSimulatorHeader(httpRequest, requestOptions);
+
+    // body is written later by one of I/O threads, so it cannot share the buffer of the calling thread
+    try {
+      httpRequest.setBody(getObjectWriter(requestBody).writeValueAsBytes(requestBody), ContentType.APPLICATION_JSON);
+    } catch (JsonProcessingException e) {
+      logger.error("Exception while creating json request body: {}", e.getMessage(), e);
+      return CompletableFuture.failedFuture(new PaysafeSdkException(JSON_REQUEST_BODY_ERROR_MESSAGE));
+    }
+    return executeAsync(httpRequest, uri, requestBody, requestOptions, response -> handleApiResponse(response, returnType));
+  }
+
+  /**
+   * Executes provided request on the shared non-blocking httpClient. The returned future is completed by one of the
+   * httpClient's I/O threads, or exceptionally with ApiConnectionException in case of I/O error. Cancelling the returned
+   * future cancels the request.
+   */
+  private CompletableFuture<PaysafeApiResponse> executeAsync(final SimpleHttpRequest httpRequest, final URI uri,
+      final Object requestBody, final RequestOptions requestOptions,
+      final Function<SimpleHttpResponse, PaysafeApiResponse> responseHandler) {
+
+    try {
+      validateRequestOptions(requestOptions);
+    } catch (IllegalArgumentException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    RequestOptions optionsToUse = buildRequestOptionsToUse(requestOptions);
+    httpRequest.setConfig(buildRequestConfig(optionsToUse));
+
+    HttpClientContext context = HttpClientContext.create();
+    context.setAttribute(AutomaticRetryStrategy.MAX_AUTOMATIC_RETRIES_ATTRIBUTE, optionsToUse.getMaxAutomaticRetries());
+    context.setAttribute(AutomaticRetryStrategy.RETRY_ALLOWED_ATTRIBUTE, isRetryAllowed(httpRequest.getMethod(), requestBody));
+    String endpointTemplate = bindEndpointTemplate(httpRequest.getMethod(), uri, context);
+    long requestBytes = httpRequest.getBodyBytes() == null ? 0 : httpRequest.getBodyBytes().length;
+    InterceptedRequest interceptedRequest;
+    try {
+      interceptedRequest = interceptorChain.beforeSend(httpRequest, uri, endpointTemplate, requestBytes);
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    long startTime = System.nanoTime();
+    CompletableFuture<PaysafeApiResponse> responseFuture = new CompletableFuture<>();
+    if (concurrencyLimiter == null) {
+      sendAsync(httpRequest, uri, context, endpointTemplate, requestBytes, startTime, interceptedRequest, null, responseHandler,
+          responseFuture);
+      return responseFuture;
+    }
+
+    ConcurrencyLimiter.Partition partition = ConcurrencyLimiter.Partition.of(httpRequest.getMethod(), uri, endpointTemplate);
+    CompletableFuture<ConcurrencyLimiter.Permit> permitFuture = concurrencyLimiter.acquire(partition);
+    permitFuture.whenComplete((permit, throwable) -> {
+      if (throwable != null) {
+        responseFuture.completeExceptionally(throwable);
+      } else if (permit == null) {
+        responseFuture.completeExceptionally(rejectRequest(httpRequest.getMethod(), endpointTemplate, requestBytes, startTime,
+            interceptedRequest, concurrencyLimitExceeded(partition, endpointTemplate)));
+      } else if (responseFuture.isDone()) {
+        permit.release();
+      } else {
+        sendAsync(httpRequest, uri, context, endpointTemplate, requestBytes, startTime, interceptedRequest, permit,
+            responseHandler, responseFuture);
+      }
+    });
+    responseFuture.whenComplete((response, throwable) -> {
+      if (responseFuture.isCancelled()) {
+        permitFuture.cancel(true);
+      }
+    });
+    return responseFuture;
+  }
+
+  /**
+   * Sends provided request, once it acquired permit of the concurrency limiter if one is configured, and completes
+   * provided responseFuture with its outcome.
+   */
+  private void sendAsync(final SimpleHttpRequest httpRequest, final URI uri, final HttpClientContext context,
+      final String endpointTemplate, final long requestBytes, final long startTime, final InterceptedRequest interceptedRequest,
+      final ConcurrencyLimiter.Permit permit, final Function<SimpleHttpResponse, PaysafeApiResponse> responseHandler,
+      final CompletableFuture<PaysafeApiResponse> responseFuture) {
+
+    CircuitBreaker circuitBreaker = circuitBreakerFor(endpointTemplate);
+    if (circuitBreaker != null && !circuitBreaker.tryAcquirePermission()) {
+      releasePermit(permit);
+      responseFuture.completeExceptionally(rejectRequest(httpRequest.getMethod(), endpointTemplate, requestBytes, startTime,
+          interceptedRequest, circuitBreakerOpen(endpointTemplate)));
+      return;
+    }
+
+    long sendTime = System.nanoTime();
+    Future<SimpleHttpResponse> httpResponseFuture;
+    try {
+      CloseableHttpAsyncClient asyncClient = asyncClient();
+      asyncClient.start();
+      httpResponseFuture = asyncClient.execute(SimpleRequestProducer.create(httpRequest),
+          SimpleResponseConsumer.create(), context, new FutureCallback<SimpleHttpResponse>() {
+
+            @Override
+            public void completed(final SimpleHttpResponse response) {
+              boolean recorded = false;
+              try {
+                PaysafeApiResponse paysafeApiResponse = responseHandler.apply(response);
+                recordResult(circuitBreaker, permit, sendTime, isFailure(paysafeApiResponse));
+                recorded = true;
+                reportRequest(httpRequest.getMethod(), endpointTemplate, requestBytes, startTime, paysafeApiResponse, null);
+                interceptorChain.afterReceive(interceptedRequest, paysafeApiResponse);
+                responseFuture.complete(paysafeApiResponse);
+              } catch (RuntimeException e) {
+                if (!recorded) {
+                  releasePermissions(circuitBreaker, permit);
+                }
+                responseFuture.completeExceptionally(e);
+              }
+            }
+
+            @Override
+            public void failed(final Exception e) {
+              recordResult(circuitBreaker, permit, sendTime, true);
+              reportRequest(httpRequest.getMethod(), endpointTemplate, requestBytes, startTime, null, e.getClass().getSimpleName());
+              logger.error("Exception while executing {} request at {}: {}", httpRequest.getMethod(), httpRequest.getRequestUri(),
+                  e.getMessage(), e);
+              ApiConnectionException exception = new ApiConnectionException(String.format(CONNECTION_ERROR_MESSAGE, uri, e.getMessage()));
+              interceptorChain.onError(interceptedRequest, exception);
+              responseFuture.completeExceptionally(exception);
+            }
+
+            @Override
+            public void cancelled() {
+              releasePermissions(circuitBreaker, permit);
+              reportRequest(httpRequest.getMethod(), endpointTemplate, requestBytes, startTime, null,
+                  CancellationException.class.getSimpleName());
+              ApiConnectionException exception = new ApiConnectionException(String.format(CONNECTION_ERROR_MESSAGE, uri,
+                  REQUEST_CANCELLED_MESSAGE));
+              interceptorChain.onError(interceptedRequest, exception);
+              responseFuture.completeExceptionally(exception);
+            }
+          });
+    } catch (RuntimeException e) {
+      // thrown by a client which was closed, the callback is not invoked in that case
+      releasePermissions(circuitBreaker, permit);
+      reportRequest(httpRequest.getMethod(), endpointTemplate, requestBytes, startTime, null, e.getClass().getSimpleName());
+      logger.error("Exception while executing {} request at {}: {}", httpRequest.getMethod(), httpRequest.getRequestUri(),
+          e.getMessage(), e);
+      ApiConnectionException exception = new ApiConnectionException(String.format(CONNECTION_ERROR_MESSAGE, uri, e.getMessage()));
+      interceptorChain.onError(interceptedRequest, exception);
+      responseFuture.completeExceptionally(exception);
+      return;
+    }
+
+    responseFuture.whenComplete((response, throwable) -> {
+      if (responseFuture.isCancelled()) {
+        httpResponseFuture.cancel(true);
+      }
+    });
+  }
+
+  /**
+   * Resolves endpoint template reported to metrics listener and interceptors, which also selects circuit breaker and
+   * concurrency limit partition of the request, and makes it available to the retry strategy.
+   * Returns null if neither is configured, so that requests do no additional work.
+   */
+  private String bindEndpointTemplate(final String method, final URI uri, final HttpClientContext context) {
+    if (metricsListener == PaysafeMetricsListener.NO_OP && interceptorChain.isEmpty() && circuitBreakerConfig == null
+        && concurrencyLimiter == null) {
+      return null;
+    }
+    String endpointTemplate = EndpointTemplate.of(uri);
+    context.setAttribute(AutomaticRetryStrategy.ENDPOINT_TEMPLATE_ATTRIBUTE, endpointTemplate);
+    context.setAttribute(AutomaticRetryStrategy.REQUEST_METHOD_ATTRIBUTE, method);
+    return endpointTemplate;
+  }
+
+  /**
+   * Returns circuit breaker of provided endpoint template, created on first request to it, or null if circuit breakers
+   * are not configured.
+   */
+  private CircuitBreaker circuitBreakerFor(final String endpointTemplate) {
+    if (circuitBreakerConfig == null) {
+      return null;
+    }
+    return circuitBreakers.computeIfAbsent(endpointTemplate, endpoint -> new CircuitBreaker(endpoint, circuitBreakerConfig));
+  }
+
+  /**
+   * Requests fail if no response was received, or Paysafe Payments API was overloaded or failed to process them.
+   */
+  private static boolean isFailure(final PaysafeApiResponse response) {
+    return response.getHttpStatusCode() == 429 || response.getHttpStatusCode() >= 500;
+  }
+
+  /**
+   * Records outcome of a sent request in its circuit breaker, and releases its concurrency limit permit, which adjusts
+   * the limit by round-trip time of the request. Failures are considered a sign of overload by both.
+   */
+  private static void recordResult(final CircuitBreaker circuitBreaker, final ConcurrencyLimiter.Permit permit,
+      final long sendTime, final boolean failure) {
+    long durationNanos = System.nanoTime() - sendTime;
+    if (circuitBreaker != null) {
+      circuitBreaker.onResult(durationNanos, failure);
+    }
+    if (permit != null) {
+      permit.release(durationNanos, failure);
+    }
+  }
+
+  private static void releasePermit(final ConcurrencyLimiter.Permit permit) {
+    if (permit != null) {
+      permit.release();
+    }
+  }
+
+  /**
+   * Gives back permission of circuit breaker and concurrency limit permit of a request whose outcome is unknown, without
+   * recording it as a success or a failure.
+   */
+  private static void releasePermissions(final CircuitBreaker circuitBreaker, final ConcurrencyLimiter.Permit permit) {
+    if (circuitBreaker != null) {
+      circuitBreaker.releasePermission();
+    }
+    releasePermit(permit);
+  }
+
+  private static CircuitBreakerOpenException circuitBreakerOpen(final String endpointTemplate) {
+    return new CircuitBreakerOpenException(String.format(CIRCUIT_BREAKER_OPEN_MESSAGE, endpointTemplate));
+  }
+
+  private static ConcurrencyLimitExceededException concurrencyLimitExceeded(final ConcurrencyLimiter.Partition partition,
+      final String endpointTemplate) {
+    return new ConcurrencyLimitExceededException(String.format(CONCURRENCY_LIMIT_EXCEEDED_MESSAGE,
+        partition.name().toLowerCase(Locale.ROOT), endpointTemplate));
+  }
+
+  /**
+   * Reports provided exception of a request rejected without sending it, and passes it to interceptors the same way as
+   * if the request failed.
+   */
+  private <E extends PaysafeSdkException> E rejectRequest(final String method, final String endpointTemplate,
+      final long requestBytes, final long startTime, final InterceptedRequest interceptedRequest, final E exception) {
+
+    reportRequest(method, endpointTemplate, requestBytes, startTime, null, exception.getClass().getSimpleName());
+    interceptorChain.onError(interceptedRequest, exception);
+    return exception;
+  }
+
+  private void reportRequest(final String method, final String endpointTemplate, final long requestBytes, final long startTime,
+      final PaysafeApiResponse response, final String exceptionClass) {
+
+    if (metricsListener == PaysafeMetricsListener.NO_OP) {
+      return;
+    }
+    RequestMetrics requestMetrics = RequestMetrics.builder()
+        .method(method)
+        .endpoint(endpointTemplate)
+        .httpStatusCode(response == null ? null : response.getHttpStatusCode())
+        .exceptionClass(exceptionClass)
+        .durationNanos(System.nanoTime() - startTime)
+        .requestBytes(requestBytes)
+        .responseBytes(response == null ? -1 : response.getResponseBodySize())
+        .build();
+    try {
+      metricsListener.requestCompleted(requestMetrics);
+    } catch (RuntimeException e) {
+      logger.warn("Exception thrown by metrics listener: {}", e.getMessage(), e);
+    }
+  }
+
+  private void reportRetry(final Method method, final URI uri, final int retryNumber) {
+    if (metricsListener == PaysafeMetricsListener.NO_OP) {
+      return;
+    }
+    try {
+      metricsListener.requestRetried(method.name(), EndpointTemplate.of(uri), retryNumber);
+    } catch (RuntimeException e) {
+      logger.warn("Exception thrown by metrics listener: {}", e.getMessage(), e);
+    }
+  }
+
+  private void reportHedge(final String endpointTemplate) {
+    if (metricsListener == PaysafeMetricsListener.NO_OP) {
+      return;
+    }
+    try {
+      metricsListener.requestHedged(Method.GET.name(), endpointTemplate);
+    } catch (RuntimeException e) {
+      logger.warn("Exception thrown by metrics listener: {}", e.getMessage(), e);
+    }
+  }
+
+  private void reportCoalesced(final URI uri) {
+    if (metricsListener == PaysafeMetricsListener.NO_OP) {
+      return;
+    }
+    try {
+      metricsListener.requestCoalesced(Method.GET.name(), EndpointTemplate.of(uri));
+    } catch (RuntimeException e) {
+      logger.warn("Exception thrown by metrics listener: {}", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Reports access to a cache of responses kept by a service to the metrics listener.
+   *
+   * @param cacheName name of the cache, i.e. {@code paymentmethods}
+   * @param hit       whether cached response was returned
+   */
+  public void reportCacheAccess(final String cacheName, final boolean hit) {
+    if (metricsListener == PaysafeMetricsListener.NO_OP) {
+      return;
+    }
+    try {
+      metricsListener.cacheAccessed(cacheName, hit);
+    } catch (RuntimeException e) {
+      logger.warn("Exception thrown by metrics listener: {}", e.getMessage(), e);
+    }
+  }
+
+  private void reportConnectionPool(final String poolName, final ConnPoolControl<?> connectionPool) {
+    if (metricsListener == PaysafeMetricsListener.NO_OP) {
+      return;
+    }
+    try {
+      metricsListener.connectionPoolCreated(poolName, new PoolMetrics(connectionPool));
+    } catch (RuntimeException e) {
+      logger.warn("Exception thrown by metrics listener: {}", e.getMessage(), e);
+    }
+  }
+
+  private URI buildRequestUri(final String endpoint) {
+    return URI.create(String.format(URI_FORMAT, this.baseUrl, PATH, endpoint));
+  }
+
+  private void setSimulatorHeader(final HttpRequest httpRequest, final RequestOptions requestOptions) {
+    if (Environment.TEST.equals(environment) && (requestOptions != null && requestOptions.getSimulator() != null)) {
+      httpRequest.setHeader(SIMULATOR, requestOptions.getSimulator());
+    }
+  }
+
+  private <T> void setRequestHeadersAndBody(final HttpUriRequestBase httpRequest, final T requestBody,
+      final RequestOptions requestOptions) throws PaysafeSdkException {
+
+    setRequestHeaders(httpRequest);
+    setSimulatorHeader(httpRequest, requestOptions);
+
+    try {
+      httpRequest.setEntity(JsonRequestEntity.create(requestBody));
+    } catch (IOException e) {
+      logger.error("Exception while creating json request body: {}", e.getMessage(), e);
+      throw new PaysafeSdkException(JSON_REQUEST_BODY_ERROR_MESSAGE);
+    }
+  }
+
+  /**
+   * Sets headers sent with every request. They are built once per instance, and shared by all requests.
+   */
+  void setRequestHeaders(final HttpRequest httpRequest) {
+    httpRequest.setHeaders(defaultHeaders);
+  }
+
+  private static Header[] buildDefaultHeaders(final String apiKey) {
+    return new Header[] {
+        new BasicHeader(AUTHORIZATION, getBasicAuthenticationHeader(apiKey)),
+        new BasicHeader(CONTENT_TYPE, APPLICATION_JSON_CHARSET_UTF_8),
+        new BasicHeader(X_TRANSACTION_SOURCE, JAVA_SDK),
+        new BasicHeader(USER_AGENT, buildUserAgentHeader())
+    };
+  }
+
+  static String buildUserAgentHeader() {
+
+    String sdkVersion = "unknown";
+    try (InputStream inputStream = PaysafeApiClient.class.getResourceAsStream("/VERSION")) {
+      if (inputStream != null) {
+        sdkVersion = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).trim();
+      }
+    } catch (IOException e) {
+      logger.error("IOException while parsing sdk version from VERSION file", e);
+    }
+
+    String osDetails = System.getProperty(OS_NAME) + "; "
+        + System.getProperty(OS_VERSION) + "; "
+        + System.getProperty(OS_ARCH);
+
+    String javaDetails = System.getProperty(JAVA_VERSION) + "; "
+        + System.getProperty(JAVA_VENDOR) + "; "
+        + System.getProperty(JAVA_VM_VERSION) + "; "
+        + System.getProperty(JAVA_VM_VENDOR);
+
+    return String.format("PaymentsAPI JAVASDK/%s (%s) JAVA (%s)", sdkVersion, osDetails, javaDetails);
+  }
+
+  /**
+   * Handles response of a blocking request. If returnType is provided, successful response is deserialized into it
+   * directly from the response stream. Otherwise, and for unsuccessful responses which are needed for mapping errors,
+   * body is kept as String. Bodies are also kept as String, and logged, when debug logging is enabled. If deserialization
+   * fails, its exception is kept, so that it is mapped together with status and headers of the response.
+   */
+  private PaysafeApiResponse handleApiResponse(final ClassicHttpResponse response, final Class<?> returnType)
+      throws IOException, ParseException {
+
+    PaysafeApiResponse paysafeApiResponse = new PaysafeApiResponse();
+    paysafeApiResponse.setHttpStatusCode(response.getCode());
+    paysafeApiResponse.setHeaders(buildResponseHeaders(response));
+
+    HttpEntity entity = response.getEntity();
+    if (entity != null) {
+      CountingEntity countingEntity = null;
+      if (metricsListener != PaysafeMetricsListener.NO_OP && entity.getContentLength() < 0) {
+        countingEntity = new CountingEntity(entity);
+        entity = countingEntity;
+      }
+      if (returnType != null && requestSuccessful(paysafeApiResponse) && !logger.isDebugEnabled()) {
+        try (InputStream content = entity.getContent()) {
+          paysafeApiResponse.setDeserializedBody(getObjectReader(returnType).readValue(content));
+        } catch (JsonProcessingException e) {
+          paysafeApiResponse.setDeserializationException(e);
+        }
+      } else {
+        paysafeApiResponse.setResponseBody(EntityUtils.toString(entity));
+        logResponseBody(paysafeApiResponse);
+      }
+      paysafeApiResponse.setResponseBodySize(countingEntity == null ? entity.getContentLength() : countingEntity.bytesRead);
+    }
+    return paysafeApiResponse;
+  }
+
+  /**
+   * Handles response of an asynchronous request, as described in {@link #handleApiResponse(ClassicHttpResponse, Class)}.
+   * Body is already buffered, so it is deserialized from bytes. If that fails, body is kept as String, so that error is
+   * mapped the same way as for other responses.
+   */
+  private PaysafeApiResponse handleApiResponse(final SimpleHttpResponse response, final Class<?> returnType) {
+    PaysafeApiResponse paysafeApiResponse = new PaysafeApiResponse();
+    paysafeApiResponse.setHttpStatusCode(response.getCode());
+    paysafeApiResponse.setHeaders(buildResponseHeaders(response));
+
+    byte[] body = response.getBodyBytes();
+    paysafeApiResponse.setResponseBodySize(body == null ? 0 : body.length);
+    if (body != null) {
+      if (returnType != null && requestSuccessful(paysafeApiResponse) && !logger.isDebugEnabled()) {
+        try {
+          paysafeApiResponse.setDeserializedBody(getObjectReader(returnType).readValue(body));
+          return paysafeApiResponse;
+        } catch (IOException e) {
+          logger.error("Exception while processing response from PaymentsAPI: {}", e.getMessage(), e);
+        }
+      }
+      ContentType contentType = response.getContentType();
+      paysafeApiResponse.setResponseBody(new String(body, contentType != null && contentType.getCharset() != null
+          ? contentType.getCharset() : StandardCharsets.UTF_8));
+      logResponseBody(paysafeApiResponse);
+    }
+    return paysafeApiResponse;
+  }
+
+  private static void logResponseBody(final PaysafeApiResponse response) {
+    logger.debug("Paysafe Payments API response, status: {}, body: {}", response.getHttpStatusCode(), response.getResponseBody());
+  }
+
+  private static Map<String, String> buildResponseHeaders(final HttpResponse response) {
+    Map<String, String> headers = new HashMap<>();
+    for (Header header : response.getHeaders()) {
+      headers.put(header.getName().toUpperCase(), header.getValue());
+    }
+    return headers;
+  }
+
+  /**
+   * Counts bytes of a response body of unknown length while it is read, so that its size can be reported to metrics listener.
+   */
+  private static final class CountingEntity extends HttpEntityWrapper {
+
+    private long bytesRead;
+
+    private CountingEntity(final HttpEntity entity) {
+      super(entity);
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+      return new FilterInputStream(super.getContent()) {
+
+        @Override
+        public int read() throws IOException {
+          int b = super.read();
+          if (b >= 0) {
+            bytesRead++;
+          }
+          return b;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+          int count = super.read(buffer, offset, length);
+          if (count > 0) {
+            bytesRead += count;
+          }
+          return count;
+        }
+      };
+    }
+  }
+
+  /**
+   * Single attempt of a blocking request, repeated by {@link #executeWithReconciliation}.
+   */
+  @FunctionalInterface
+  private interface RequestExecution<R> {
+
+    R execute() throws PaysafeSdkException;
+  }
+
+  /**
+   * Reports state of a connection pool, read from its statistics on each call.
+   */
+  private static final class PoolMetrics implements ConnectionPoolMetrics {
+
+    private final ConnPoolControl<?> connectionPool;
+
+    private PoolMetrics(final ConnPoolControl<?> connectionPool) {
+      this.connectionPool = connectionPool;
+    }
+
+    @Override
+    public int getLeased() {
+      return totalStats().getLeased();
+    }
+
+    @Override
+    public int getPending() {
+      return totalStats().getPending();
+    }
+
+    @Override
+    public int getAvailable() {
+      return totalStats().getAvailable();
+    }
+
+    @Override
+    public int getMax() {
+      return totalStats().getMax();
+    }
+
+    private PoolStats totalStats() {
+      return connectionPool.getTotalStats();
+    }
+  }
+
+  /**
+   * {@code PaysafeApiClient} builder static inner class.
+   */
+  public static final class Builder {
+
+    private String apiKey;
+    private Environment environment;
+    private Integer connectTimeout;
+    private Integer responseTimeout;
+    private Integer maxAutomaticRetries;
+    private SSLContext sslContext;
+    private Proxy proxy;
+    private Integer maxConnectionsPerRoute;
+    private Integer maxConnectionsTotal;
+    private Integer connectionTimeToLive;
+    private Integer validateAfterInactivity;
+    private Integer maxIdleTime;
+    private boolean http2Enabled;
+    private NonIdempotentRetryPolicy nonIdempotentRetryPolicy;
+    private CircuitBreakerConfig circuitBreakerConfig;
+    private ConcurrencyLimitConfig concurrencyLimitConfig;
+    private HedgingPolicy hedgingPolicy;
+    private boolean requestCoalescingEnabled;
+    private PaysafeMetricsListener metricsListener;
+    private final List<PaysafeInterceptor> interceptors = new ArrayList<>();
+
+    /**
+     * Sets the {@code apiKey} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param apiKey the {@code apiKey} to set
+     * @return a reference to this Builder
+     */
+    public Builder apiKey(String apiKey) {
+      this.apiKey = apiKey;
+      return this;
+    }
+
+    public Builder environment(Environment environment) {
+      this.environment = environment;
+      return this;
+    }
+
+    /**
+     * Sets the time limit, in miliseconds, for both connecting to the Paysafe Payments API and retrieving the data
+     * from this connection. We recommend setting the value cautiously, as some requests may take longer to process.
+     * Method returns a reference to this Builder enabling method chaining.
+     *
+     * @param responseTimeout the {@code responseTimeout} to set
+     * @return a reference to this Builder
+     */
+    public Builder responseTimeout(Integer responseTimeout) {
+      this.responseTimeout = responseTimeout;
+      return this;
+    }
+
+    /**
+     * Sets the timeout value, in miliseconds, that will be used for establishing new connections to the Payments API.
+     * Method returns a reference to this Builder enabling method chaining.
+     *
+     * @param connectTimeout the {@code connectTimeout} to set
+     * @return a reference to this Builder
+     */
+    public Builder connectTimeout(Integer connectTimeout) {
+      this.connectTimeout = connectTimeout;
+      return this;
+    }
+
+    /**
+     * Sets the {@code maxAutomaticRetries} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param maxAutomaticRetries the {@code maxAutomaticRetries} to set
+     * @return a reference to this Builder
+     */
+    public Builder maxAutomaticRetries(Integer maxAutomaticRetries) {
+      this.maxAutomaticRetries = maxAutomaticRetries;
+      return this;
     }
 
     /**
@@ -606,12 +1863,178 @@ public class PaysafeApiClient {
       return this;
     }
 
+    /**
+     * Sets the maximum number of pooled connections per route. As all requests are sent to the same host, this is
+     * effectively the maximum number of concurrent requests. Default: 50  <br>
+     * Method returns a reference to this Builder enabling method chaining.
+     *
+     * @param maxConnectionsPerRoute the {@code maxConnectionsPerRoute} to set
+     * @return a reference to this Builder
+     */
+    public Builder maxConnectionsPerRoute(Integer maxConnectionsPerRoute) {
+      this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections in total. Default: 50, or max connections per route if greater.  <br>
+     * Method returns a reference to this Builder enabling method chaining.
+     *
+     * @param maxConnectionsTotal the {@code maxConnectionsTotal} to set
+     * @return a reference to this Builder
+     */
+    public Builder maxConnectionsTotal(Integer maxConnectionsTotal) {
+      this.maxConnectionsTotal = maxConnectionsTotal;
+      return this;
+    }
+
+    /**
+     * Sets the total time to live, in milliseconds, of pooled connections. Connections older than this value are closed
+     * instead of being reused. By default, connections are kept alive as long as the server allows.  <br>
+     * Method returns a reference to this Builder enabling method chaining.
+     *
+     * @param connectionTimeToLive the {@code connectionTimeToLive} to set
+     * @return a reference to this Builder
+     */
+    public Builder connectionTimeToLive(Integer connectionTimeToLive) {
+      this.connectionTimeToLive = connectionTimeToLive;
+      return this;
+    }
+
+    /**
+     * Sets the period of inactivity, in milliseconds, after which pooled connections are validated before being reused.
+     * Default: 2000  <br>
+     * Method returns a reference to this Builder enabling method chaining.
+     *
+     * @param validateAfterInactivity the {@code validateAfterInactivity} to set
+     * @return a reference to this Builder
+     */
+    public Builder validateAfterInactivity(Integer validateAfterInactivity) {
+      this.validateAfterInactivity = validateAfterInactivity;
+      return this;
+    }
+
+    /**
+     * Sets the maximum time, in milliseconds, that pooled connections may stay idle. If set, background thread periodically
+     * evicts expired connections and connections idle longer than this value. By default, eviction is disabled.  <br>
+     * Method returns a reference to this Builder enabling method chaining.
+     *
+     * @param maxIdleTime the {@code maxIdleTime} to set
+     * @return a reference to this Builder
+     */
+    public Builder maxIdleTime(Integer maxIdleTime) {
+      this.maxIdleTime = maxIdleTime;
+      return this;
+    }
+
+    /**
+     * Enables HTTP/2 transport, which multiplexes all requests over a single connection per route. Connection pool
+     * sizing and connection time to live do not apply in this mode. Default: false  <br>
+     * Method returns a reference to this Builder enabling method chaining.
+     *
+     * @param http2Enabled the {@code http2Enabled} to set
+     * @return a reference to this Builder
+     */
+    public Builder http2Enabled(boolean http2Enabled) {
+      this.http2Enabled = http2Enabled;
+      return this;
+    }
+
+    /**
+     * Sets which POST, PUT and PATCH requests may be retried automatically, as described in {@link NonIdempotentRetryPolicy}.
+     * Default: {@link NonIdempotentRetryPolicy#NEVER}  <br>
+     * Method returns a reference to this Builder enabling method chaining.
+     *
+     * @param nonIdempotentRetryPolicy the {@code nonIdempotentRetryPolicy} to set
+     * @return a reference to this Builder
+     */
+    public Builder nonIdempotentRetryPolicy(NonIdempotentRetryPolicy nonIdempotentRetryPolicy) {
+      this.nonIdempotentRetryPolicy = nonIdempotentRetryPolicy;
+      return this;
+    }
+
+    /**
+     * Enables circuit breakers, kept for each endpoint, with provided configuration. By default, circuit breakers are
+     * disabled.  <br>
+     * Method returns a reference to this Builder enabling method chaining.
+     *
+     * @param circuitBreakerConfig the {@code circuitBreakerConfig} to set
+     * @return a reference to this Builder
+     */
+    public Builder circuitBreakerConfig(CircuitBreakerConfig circuitBreakerConfig) {
+      this.circuitBreakerConfig = circuitBreakerConfig;
+      return this;
+    }
+
+    /**
+     * Enables adaptive concurrency limit of this client with provided configuration. By default, concurrent requests are
+     * not limited.  <br>
+     * Method returns a reference to this Builder enabling method chaining.
+     *
+     * @param concurrencyLimitConfig the {@code concurrencyLimitConfig} to set
+     * @return a reference to this Builder
+     */
+    public Builder concurrencyLimitConfig(ConcurrencyLimitConfig concurrencyLimitConfig) {
+      this.concurrencyLimitConfig = concurrencyLimitConfig;
+      return this;
+    }
+
+    /**
+     * Enables hedging of GET requests with provided policy. By default, requests are not hedged.  <br>
+     * Method returns a reference to this Builder enabling method chaining.
+     *
+     * @param hedgingPolicy the {@code hedgingPolicy} to set
+     * @return a reference to this Builder
+     */
+    public Builder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+      this.hedgingPolicy = hedgingPolicy;
+      return this;
+    }
+
+    /**
+     * Enables coalescing of identical GET requests in flight at the same time into a single request. Disabled by default.  <br>
+     * Method returns a reference to this Builder enabling method chaining.
+     *
+     * @param requestCoalescingEnabled the {@code requestCoalescingEnabled} to set
+     * @return a reference to this Builder
+     */
+    public Builder requestCoalescingEnabled(boolean requestCoalescingEnabled) {
+      this.requestCoalescingEnabled = requestCoalescingEnabled;
+      return this;
+    }
+
+    /**
+     * Sets the listener receiving metrics of all requests, automatic retries and connection pools. By default, metrics
+     * are not collected.  <br>
+     * Method returns a reference to this Builder enabling method chaining.
+     *
+     * @param metricsListener the {@code metricsListener} to set
+     * @return a reference to this Builder
+     */
+    public Builder metricsListener(PaysafeMetricsListener metricsListener) {
+      this.metricsListener = metricsListener;
+      return this;
+    }
+
+    /**
+     * Adds interceptor to the end of the interceptor chain, invoked for every request. By default, there are no interceptors.  <br>
+     * Method returns a reference to this Builder enabling method chaining.
+     *
+     * @param interceptor the {@code interceptor} to add
+     * @return a reference to this Builder
+     */
+    public Builder addInterceptor(PaysafeInterceptor interceptor) {
+      this.interceptors.add(interceptor);
+      return this;
+    }
+
     /**
      * Returns a {@code PaysafeApiClient} built from the parameters previously set.Performs following validations:
      * <ul>
      * <li>api key format validation</li>
      * <li>max automatic retries validation</li>
      * <li>connect and response timeout validations</li>
+     * <li>connection pool configuration validations</li>
      * </ul>
      *
      * @return a {@code PaysafeApiClient} built with parameters of this {@code PaysafeApiClient.Builder}
@@ -622,6 +2045,11 @@ public class PaysafeApiClient {
       validateMaxAutomaticRetries(maxAutomaticRetries);
       validateConnectTimeout(connectTimeout);
       validateResponseTimeout(responseTimeout);
+      validateMaxConnections(maxConnectionsPerRoute, maxConnectionsTotal);
+      validateConnectionTimeToLive(connectionTimeToLive);
+      validateValidateAfterInactivity(validateAfterInactivity);
+      validateMaxIdleTime(maxIdleTime);
+      validateInterceptors(interceptors);
       return new PaysafeApiClient(this);
     }
   }
@@ -4,6 +4,8 @@ package com.paysafe.payments.api;
 
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+
 /**
  * This class represents HTTP responses returned from Paysafe Payments API, regardless of status.
  */
@@ -12,6 +14,9 @@ public class PaysafeApiResponse {
   private int httpStatusCode;
   private Map<String, String> headers;
   private String responseBody;
+  private Object deserializedBody;
+  private long responseBodySize = -1;
+  private JsonProcessingException deserializationException;
 
   public int getHttpStatusCode() {
     return httpStatusCode;
@@ -36,4 +41,41 @@ public class PaysafeApiResponse {
   public void setResponseBody(String responseBody) {
     this.responseBody = responseBody;
   }
+
+  /**
+   * Returns successful response body, if it was deserialized directly from the response stream. In that case,
+   * {@link #getResponseBody()} returns null.
+   *
+   * @return deserialized response body, or null
+   */
+  public Object getDeserializedBody() {
+    return deserializedBody;
+  }
+
+  public void setDeserializedBody(Object deserializedBody) {
+    this.deserializedBody = deserializedBody;
+  }
+
+  /**
+   * Size of the response body in bytes, as received from Paysafe Payments API, or -1 if unknown. Reported to metrics listener.
+   */
+  long getResponseBodySize() {
+    return responseBodySize;
+  }
+
+  void setResponseBodySize(long responseBodySize) {
+    this.responseBodySize = responseBodySize;
+  }
+
+  /**
+   * Exception thrown while successful response body was deserialized directly from the response stream, which consumed
+   * the body, so it is neither deserialized nor kept as String.
+   */
+  JsonProcessingException getDeserializationException() {
+    return deserializationException;
+  }
+
+  void setDeserializationException(JsonProcessingException deserializationException) {
+    this.deserializationException = deserializationException;
+  }
 }
@@ -0,0 +1,48 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+
+/**
+ * Intercepts requests executed by PaysafeClient, i.e. to add headers, trace or log them. All methods have empty default
+ * implementations, so only the ones of interest need to be implemented.
+ * <p>
+ * Interceptors registered on the client builder form a chain: {@link #beforeSend} is invoked in registration order, while
+ * {@link #afterReceive} and {@link #onError} are invoked in reverse order. Each request ends with exactly one of the two.
+ * Automatic retries are part of the same request.
+ * <p>
+ * Methods are invoked synchronously by the threads executing requests, including I/O threads of asynchronous requests,
+ * so implementations must be thread-safe and must not block.
+ */
+public interface PaysafeInterceptor {
+
+  /**
+   * Invoked before the request is sent. Exception thrown by this method aborts the request, and is propagated to the
+   * caller, or completes the returned future exceptionally. Remaining interceptors are not invoked in that case.
+   *
+   * @param request which is about to be sent, its headers may be modified
+   */
+  default void beforeSend(InterceptedRequest request) {
+  }
+
+  /**
+   * Invoked once a response of any http status code is received. Exceptions thrown by this method are logged and ignored.
+   *
+   * @param request  which was sent
+   * @param response received from Paysafe Payments API. For successful responses mapped to a model class, body is
+   *                 available only as {@link PaysafeApiResponse#getDeserializedBody()}
+   */
+  default void afterReceive(InterceptedRequest request, PaysafeApiResponse response) {
+  }
+
+  /**
+   * Invoked if no response was received, or it could not be processed. Exceptions thrown by this method are logged and
+   * ignored.
+   *
+   * @param request   which was sent
+   * @param exception which is thrown to the caller
+   */
+  default void onError(InterceptedRequest request, PaysafeSdkException exception) {
+  }
+}
@@ -0,0 +1,103 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical GET requests in flight at the same time, so that they share a single request to the API. The first
+ * caller starts the request, and callers arriving before its response subscribe to it instead of sending their own.
+ * Once the response is received, the next identical request starts a new one, so no response outlives its request.
+ * <p>
+ * Each caller receives its own future. Cancelling it unsubscribes the caller, and the shared request is cancelled only
+ * once all of its callers cancelled their futures.
+ */
+final class RequestCoalescer {
+
+  private final Map<String, Flight<?>> flights = new ConcurrentHashMap<>();
+
+  /**
+   * Returns future of the request in flight with provided key, or of a new one started by provided request if there is
+   * none. The request is started on the calling thread, so blocking requests may complete before this method returns.
+   *
+   * @param key      identifying the request, equal for requests which may share a response
+   * @param request  starting the request
+   * @param onShared invoked when the caller subscribes to a request already in flight
+   */
+  @SuppressWarnings("unchecked")
+  <R> CompletableFuture<R> execute(final String key, final Supplier<CompletableFuture<R>> request, final Runnable onShared) {
+    Flight<R> created = new Flight<>();
+    // subscribers are counted inside compute, so a caller cannot join a flight all other callers have just left
+    Flight<R> flight = (Flight<R>) flights.compute(key, (k, existing) -> {
+      Flight<?> joined = existing == null ? created : existing;
+      joined.subscribers++;
+      return joined;
+    });
+    CompletableFuture<R> result = new CompletableFuture<>();
+    result.whenComplete((response, throwable) -> {
+      if (result.isCancelled()) {
+        leave(key, flight);
+      }
+    });
+    flight.response.whenComplete((response, throwable) -> {
+      if (throwable == null) {
+        result.complete(response);
+      } else {
+        result.completeExceptionally(throwable);
+      }
+    });
+    if (flight != created) {
+      onShared.run();
+      return result;
+    }
+
+    CompletableFuture<R> requestFuture;
+    try {
+      requestFuture = request.get();
+    } catch (RuntimeException e) {
+      requestFuture = CompletableFuture.failedFuture(e);
+    }
+    flight.request = requestFuture;
+    requestFuture.whenComplete((response, throwable) -> {
+      // removed before completing the callers, so that requests they send once completed are not coalesced with it
+      flights.remove(key, flight);
+      if (throwable == null) {
+        flight.response.complete(response);
+      } else {
+        flight.response.completeExceptionally(throwable);
+      }
+    });
+    if (flight.cancelled) {
+      requestFuture.cancel(true);
+    }
+    return result;
+  }
+
+  private void leave(final String key, final Flight<?> flight) {
+    flights.computeIfPresent(key, (k, existing) -> {
+      if (existing != flight || --existing.subscribers > 0) {
+        return existing;
+      }
+      existing.cancelled = true;
+      return null;
+    });
+    if (flight.cancelled) {
+      CompletableFuture<?> request = flight.request;
+      if (request != null) {
+        request.cancel(true);
+      }
+    }
+  }
+
+  private static final class Flight<R> {
+
+    private final CompletableFuture<R> response = new CompletableFuture<>();
+    // guarded by the bin of the map holding the flight
+    private int subscribers;
+    private volatile boolean cancelled;
+    private volatile CompletableFuture<R> request;
+  }
+}
@@ -0,0 +1,152 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Executes GET requests according to {@link HedgingPolicy}. Hedged requests are paid for from a budget, to which every
+ * request adds its share of {@link HedgingPolicy#getBudgetPercentage()}, so that hedging stays within that percentage
+ * of requests even when the API is slow for all of them. Unused budget is capped, so that it cannot accumulate while
+ * the API is fast and be spent all at once.
+ */
+final class RequestHedger {
+
+  // budget is kept in thousandths of a hedged request
+  private static final long HEDGE_COST = 1000;
+  private static final long MAX_BUDGET = 10 * HEDGE_COST;
+  private static final int LATENCY_WINDOW_SIZE = 128;
+  private static final int MIN_LATENCY_SAMPLES = 20;
+
+  private final HedgingPolicy policy;
+  private final long budgetPerRequest;
+  private final AtomicLong budget = new AtomicLong();
+  private final Map<String, LatencyWindow> latencyWindows = new ConcurrentHashMap<>();
+
+  RequestHedger(final HedgingPolicy policy) {
+    this.policy = policy;
+    this.budgetPerRequest = HEDGE_COST * policy.getBudgetPercentage() / 100;
+  }
+
+  /**
+   * Starts provided attempt, and another one if the first did not complete within hedging delay and budget permits it.
+   * The returned future completes with the first successful attempt, or with the failure of the last one, and cancels
+   * the other attempt once completed.
+   *
+   * @param endpointTemplate of the request, whose round-trip times determine the delay
+   * @param attempt          starting a new request each time it is called
+   * @param onHedge          invoked before the hedged request is started
+   */
+  <R> CompletableFuture<R> execute(final String endpointTemplate, final Supplier<CompletableFuture<R>> attempt,
+      final Runnable onHedge) {
+
+    budget.getAndUpdate(current -> Math.min(MAX_BUDGET, current + budgetPerRequest));
+    LatencyWindow latencyWindow = latencyWindows.computeIfAbsent(endpointTemplate, endpoint -> new LatencyWindow());
+    CompletableFuture<R> result = new CompletableFuture<>();
+    // attempts which have not completed yet, the last one failing completes the result
+    AtomicInteger outstanding = new AtomicInteger(1);
+    AtomicReference<CompletableFuture<R>> hedge = new AtomicReference<>();
+
+    CompletableFuture<R> primary = startAttempt(attempt, latencyWindow, result, outstanding);
+    CompletableFuture.runAsync(() -> { }, TaskExecutors.delayedExecutor(delayMillis(latencyWindow), TimeUnit.MILLISECONDS))
+        .thenRun(() -> {
+          if (result.isDone() || !tryAcquireBudget()) {
+            return;
+          }
+          if (outstanding.getAndIncrement() == 0) {
+            // primary attempt has just failed and completes the result
+            return;
+          }
+          onHedge.run();
+          hedge.set(startAttempt(attempt, latencyWindow, result, outstanding));
+          if (result.isDone()) {
+            hedge.get().cancel(true);
+          }
+        });
+
+    result.whenComplete((response, throwable) -> {
+      primary.cancel(true);
+      CompletableFuture<R> hedgeAttempt = hedge.get();
+      if (hedgeAttempt != null) {
+        hedgeAttempt.cancel(true);
+      }
+    });
+    return result;
+  }
+
+  private <R> CompletableFuture<R> startAttempt(final Supplier<CompletableFuture<R>> attempt, final LatencyWindow latencyWindow,
+      final CompletableFuture<R> result, final AtomicInteger outstanding) {
+
+    long startTime = System.nanoTime();
+    CompletableFuture<R> attemptFuture = attempt.get();
+    attemptFuture.whenComplete((response, throwable) -> {
+      if (throwable == null) {
+        latencyWindow.record(System.nanoTime() - startTime);
+        result.complete(response);
+      } else if (outstanding.decrementAndGet() == 0) {
+        result.completeExceptionally(throwable instanceof CompletionException && throwable.getCause() != null
+            ? throwable.getCause() : throwable);
+      }
+    });
+    return attemptFuture;
+  }
+
+  private long delayMillis(final LatencyWindow latencyWindow) {
+    if (policy.getDelayPercentile() == null) {
+      return policy.getDelay();
+    }
+    long percentileNanos = latencyWindow.percentile(policy.getDelayPercentile());
+    return percentileNanos < 0 ? policy.getDelay() : Math.max(1, TimeUnit.NANOSECONDS.toMillis(percentileNanos));
+  }
+
+  private boolean tryAcquireBudget() {
+    for (;;) {
+      long current = budget.get();
+      if (current < HEDGE_COST) {
+        return false;
+      }
+      if (budget.compareAndSet(current, current - HEDGE_COST)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Round-trip times of the most recent successful requests of a single endpoint.
+   */
+  private static final class LatencyWindow {
+
+    private final AtomicLongArray samples = new AtomicLongArray(LATENCY_WINDOW_SIZE);
+    private final AtomicLong count = new AtomicLong();
+
+    private void record(final long durationNanos) {
+      samples.set((int) (count.getAndIncrement() % LATENCY_WINDOW_SIZE), durationNanos);
+    }
+
+    /**
+     * Returns provided percentile of recorded round-trip times, or -1 if too few were recorded.
+     */
+    private long percentile(final int percentile) {
+      int size = (int) Math.min(count.get(), LATENCY_WINDOW_SIZE);
+      if (size < MIN_LATENCY_SAMPLES) {
+        return -1;
+      }
+      long[] sorted = new long[size];
+      for (int i = 0; i < size; i++) {
+        sorted[i] = samples.get(i);
+      }
+      Arrays.sort(sorted);
+      return sorted[(int) Math.ceil(percentile / 100.0 * size) - 1];
+    }
+  }
+}
@@ -15,6 +15,8 @@ import com.paysafe.payments.model.PaymentSimulator;
  * <li>simulator: The simulator is only applicable in the test environment and its default value is set as EXTERNAL.
  * In the production environment, the simulator value is disregarded, even if provided, and the experience will be the same as
  * if the simulator value were set as EXTERNAL.</li>
+ * <li>hedgingEnabled: whether GET request is hedged, as described in {@link HedgingPolicy}. Requests may only be hedged
+ * if PaysafeClient is configured with hedging policy. Default: hedged if hedging policy is configured</li>
  * </ul>
  * <p>
  * If any of the configuration value is not provided when executing API request, default value will be used.
@@ -25,6 +27,7 @@ public class RequestOptions {
   private Integer responseTimeout;
   private Integer maxAutomaticRetries;
   private PaymentSimulator simulator = PaymentSimulator.EXTERNAL;
+  private Boolean hedgingEnabled;
 
   public RequestOptions() {
   }
@@ -34,6 +37,7 @@ public class RequestOptions {
     responseTimeout = builder.responseTimeout;
     maxAutomaticRetries = builder.maxAutomaticRetries;
     simulator = builder.simulator;
+    hedgingEnabled = builder.hedgingEnabled;
   }
 
   public static Builder builder() {
@@ -72,6 +76,14 @@ public class RequestOptions {
     this.simulator = simulator;
   }
 
+  public Boolean getHedgingEnabled() {
+    return hedgingEnabled;
+  }
+
+  public void setHedgingEnabled(Boolean hedgingEnabled) {
+    this.hedgingEnabled = hedgingEnabled;
+  }
+
   /**
    * {@code RequestConfig} builder static inner class.
    */
@@ -80,6 +92,7 @@ public class RequestOptions {
     private Integer responseTimeout;
     private Integer maxAutomaticRetries;
     private PaymentSimulator simulator;
+    private Boolean hedgingEnabled;
 
     private Builder() {
     }
@@ -128,6 +141,17 @@ public class RequestOptions {
       return this;
     }
 
+    /**
+     * Sets the {@code hedgingEnabled} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param hedgingEnabled the {@code hedgingEnabled} to set
+     * @return a reference to this Builder
+     */
+    public Builder hedgingEnabled(Boolean hedgingEnabled) {
+      this.hedgingEnabled = hedgingEnabled;
+      return this;
+    }
+
     /**
      * Returns a {@code RequestConfig} built from the parameters previously set.
      *
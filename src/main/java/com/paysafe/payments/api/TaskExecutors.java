@@ -0,0 +1,35 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executors of internal work of PaysafeClient, such as starting the next requests of a bulk request, delayed retries and
+ * hedged requests, and polls of watched payment handles, so that it does not run on I/O threads of the HTTP client.
+ * <p>
+ * This version runs tasks in the common fork-join pool. On Java 21 and later, the multi-release JAR of the SDK contains a
+ * version of this class which starts a virtual thread for each task instead.
+ */
+final class TaskExecutors {
+
+  private TaskExecutors() {
+  }
+
+  /**
+   * Returns executor of internal tasks.
+   */
+  static Executor taskExecutor() {
+    return ForkJoinPool.commonPool();
+  }
+
+  /**
+   * Returns executor running tasks with {@link #taskExecutor()} once provided delay elapses.
+   */
+  static Executor delayedExecutor(final long delay, final TimeUnit unit) {
+    return CompletableFuture.delayedExecutor(delay, unit, taskExecutor());
+  }
+}
@@ -0,0 +1,86 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import static com.paysafe.payments.validation.PropertyValidator.validateTransactionCacheConfig;
+
+import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
+
+/**
+ * This class is used to define configuration of the cache of transactions in terminal status kept by PaysafeClient. Such
+ * transactions never change, so they are cached without time to live. Fields that may be configured: <ul>
+ * <li>maximumSize: maximum number of cached transactions. Once it is reached, the least recently used transaction is
+ * evicted. Default: 10000</li>
+ * <li>offHeap: whether transactions are stored serialized in direct memory, outside the Java heap, instead of in heap
+ * arrays. Direct memory is limited by {@code -XX:MaxDirectMemorySize}. Default: false</li>
+ * </ul>
+ */
+public final class TransactionCacheConfig {
+
+  private static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+  private final int maximumSize;
+  private final boolean offHeap;
+
+  private TransactionCacheConfig(Builder builder) {
+    maximumSize = builder.maximumSize == null ? DEFAULT_MAXIMUM_SIZE : builder.maximumSize;
+    offHeap = Boolean.TRUE.equals(builder.offHeap);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  public boolean isOffHeap() {
+    return offHeap;
+  }
+
+  /**
+   * {@code TransactionCacheConfig} builder static inner class.
+   */
+  public static final class Builder {
+
+    private Integer maximumSize;
+    private Boolean offHeap;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the {@code maximumSize} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param maximumSize the {@code maximumSize} to set
+     * @return a reference to this Builder
+     */
+    public Builder maximumSize(Integer maximumSize) {
+      this.maximumSize = maximumSize;
+      return this;
+    }
+
+    /**
+     * Sets the {@code offHeap} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param offHeap the {@code offHeap} to set
+     * @return a reference to this Builder
+     */
+    public Builder offHeap(Boolean offHeap) {
+      this.offHeap = offHeap;
+      return this;
+    }
+
+    /**
+     * Returns a {@code TransactionCacheConfig} built from the parameters previously set.
+     *
+     * @return a {@code TransactionCacheConfig} built with parameters of this {@code TransactionCacheConfig.Builder}
+     * @throws IllegalArgumentException if any of provided arguments was invalid
+     */
+    public TransactionCacheConfig build() throws IllegalArgumentException {
+      validateTransactionCacheConfig(maximumSize);
+      return new TransactionCacheConfig(this);
+    }
+  }
+}
@@ -0,0 +1,106 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.config;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Case-insensitive lookup of enum constants by their json value, used by {@code fromValue} factories of model enums.
+ * The table is built once for each enum, so deserializing a value costs a hash lookup instead of a scan of all
+ * constants. Values are looked up as they are first, and upper-cased only if not found, as the API mostly returns them
+ * in the same case as the constants.
+ * <p>
+ * Values unknown to this version of the SDK fail deserialization of the whole response, unless system property
+ * {@value ObjectMapperConfiguration#UNKNOWN_ENUM_VALUES_PROPERTY} is set to {@code true}, in which case enums read from
+ * responses return their {@code UNKNOWN} constant. The property is only read once a value is not found. Unless the API
+ * itself has such value, the constant is not a value of the API, so it is never read from its own name, and it is not
+ * meant to be sent in requests.
+ *
+ * @param <E> type of the enum
+ */
+public final class EnumLookup<E extends Enum<E>> {
+
+  private final Map<String, E> constants = new HashMap<>();
+  private final E unknown;
+
+  private EnumLookup(final E[] values, final Function<E, String> valueOf, final E unknown,
+      final boolean unknownIsValue) {
+    for (E constant : values) {
+      if (constant == unknown && !unknownIsValue) {
+        continue;
+      }
+      String value = valueOf.apply(constant);
+      constants.putIfAbsent(value, constant);
+      constants.putIfAbsent(value.toUpperCase(Locale.ROOT), constant);
+    }
+    this.unknown = unknown;
+  }
+
+  /**
+   * Builds lookup of provided constants of an enum which is only sent in requests, so unknown values always fail.
+   *
+   * @param values  all constants of the enum
+   * @param valueOf returns json value of a constant
+   * @param <E>     type of the enum
+   * @return lookup of the constants
+   */
+  public static <E extends Enum<E>> EnumLookup<E> of(final E[] values, final Function<E, String> valueOf) {
+    return new EnumLookup<>(values, valueOf, null, false);
+  }
+
+  /**
+   * Builds lookup of provided constants of an enum read from responses. The unknown constant is not a value of the API,
+   * so it is not looked up by its own value.
+   *
+   * @param values  all constants of the enum
+   * @param valueOf returns json value of a constant
+   * @param unknown constant returned for unknown values, if enabled
+   * @param <E>     type of the enum
+   * @return lookup of the constants
+   */
+  public static <E extends Enum<E>> EnumLookup<E> of(final E[] values, final Function<E, String> valueOf,
+      final E unknown) {
+    return new EnumLookup<>(values, valueOf, unknown, false);
+  }
+
+  /**
+   * Builds lookup of provided constants of an enum read from responses, whose unknown constant is also a value of the
+   * API, so it is returned both for its own value and, if enabled, for unknown values.
+   *
+   * @param values  all constants of the enum
+   * @param valueOf returns json value of a constant
+   * @param unknown constant with value of the API, returned for unknown values, if enabled
+   * @param <E>     type of the enum
+   * @return lookup of the constants
+   */
+  public static <E extends Enum<E>> EnumLookup<E> withUnknownValue(final E[] values, final Function<E, String> valueOf,
+      final E unknown) {
+    return new EnumLookup<>(values, valueOf, unknown, true);
+  }
+
+  /**
+   * Returns constant with provided json value, ignoring case.
+   *
+   * @param value json value of the constant
+   * @return constant with the value, or {@code UNKNOWN} if there is none and unknown values are enabled
+   * @throws IllegalArgumentException if there is no constant with the value and unknown values are not enabled
+   */
+  public E fromValue(final String value) {
+    if (value != null) {
+      E constant = constants.get(value);
+      if (constant == null) {
+        constant = constants.get(value.toUpperCase(Locale.ROOT));
+      }
+      if (constant != null) {
+        return constant;
+      }
+    }
+    if (unknown != null && Boolean.getBoolean(ObjectMapperConfiguration.UNKNOWN_ENUM_VALUES_PROPERTY)) {
+      return unknown;
+    }
+    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+  }
+}
@@ -2,17 +2,52 @@
 
 package com.paysafe.payments.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 /**
  * This class creates a singleton instance of ObjectMapper, which cannot be modified dynamically.
+ * <p>
+ * ObjectReader and ObjectWriter of each type are created once, with their root deserializer and serializer already
+ * resolved, so that reading and writing models does not look them up for every request. Property accessors generated by
+ * the Blackbird module of Jackson, instead of reflection, are enabled by setting system property
+ * {@value #BLACKBIRD_PROPERTY} to {@code true} before the SDK is first used, with
+ * {@code com.fasterxml.jackson.module:jackson-module-blackbird} on the classpath.
+ * <p>
+ * Enum values unknown to this version of the SDK are read as the {@code UNKNOWN} constant of enums read from responses,
+ * instead of failing deserialization of the whole response, if system property {@value #UNKNOWN_ENUM_VALUES_PROPERTY} is set to
+ * {@code true}, as described in {@link EnumLookup}.
  */
 public class ObjectMapperConfiguration {
 
+  public static final String BLACKBIRD_PROPERTY = "com.paysafe.payments.jackson.blackbird";
+  public static final String UNKNOWN_ENUM_VALUES_PROPERTY = "com.paysafe.payments.jackson.unknownEnumValues";
+
+  private static final Logger logger = LoggerFactory.getLogger(ObjectMapperConfiguration.class);
+
+  private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
   private static final ObjectMapper objectMapper = initializeObjectMapper();
+  private static final ClassValue<ObjectReader> readers = new ClassValue<>() {
+    @Override
+    protected ObjectReader computeValue(final Class<?> type) {
+      return objectMapper.readerFor(type);
+    }
+  };
+  private static final ClassValue<ObjectWriter> writers = new ClassValue<>() {
+    @Override
+    protected ObjectWriter computeValue(final Class<?> type) {
+      return objectMapper.writerFor(type);
+    }
+  };
 
   private ObjectMapperConfiguration() {
   }
@@ -21,10 +56,45 @@ public class ObjectMapperConfiguration {
     return objectMapper;
   }
 
+  /**
+   * Returns ObjectReader of provided type, created once for each type.
+   *
+   * @param type to which json is read, i.e. Payment.class
+   * @return ObjectReader of the type
+   */
+  public static ObjectReader getObjectReader(final Class<?> type) {
+    return readers.get(type);
+  }
+
+  /**
+   * Returns ObjectWriter of provided value, created once for each runtime type, so that values are written the same way
+   * as by {@link ObjectMapper#writeValueAsString(Object)}.
+   *
+   * @param value which is written as json
+   * @return ObjectWriter of the runtime type of value
+   */
+  public static ObjectWriter getObjectWriter(final Object value) {
+    return value == null ? objectMapper.writer() : writers.get(value.getClass());
+  }
+
   private static ObjectMapper initializeObjectMapper() {
-    return new ObjectMapper()
+    ObjectMapper mapper = new ObjectMapper()
         .setSerializationInclusion(Include.NON_NULL)
         .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
         .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    if (Boolean.getBoolean(BLACKBIRD_PROPERTY)) {
+      registerBlackbirdModule(mapper);
+    }
+    return mapper;
+  }
+
+  // the module is an optional dependency, so it is loaded by name only when enabled
+  private static void registerBlackbirdModule(final ObjectMapper mapper) {
+    try {
+      mapper.registerModule((Module) Class.forName(BLACKBIRD_MODULE).getDeclaredConstructor().newInstance());
+    } catch (ReflectiveOperationException | LinkageError e) {
+      logger.warn("Blackbird module enabled by {} could not be loaded, reflection is used instead: {}", BLACKBIRD_PROPERTY,
+          e.toString());
+    }
   }
 }
@@ -3,6 +3,7 @@
 package com.paysafe.payments.errorhandling;
 
 import static com.paysafe.payments.config.ObjectMapperConfiguration.getObjectMapper;
+import static com.paysafe.payments.config.ObjectMapperConfiguration.getObjectReader;
 
 import java.io.IOException;
 import java.util.List;
@@ -56,6 +57,10 @@ public class ExceptionBuilder {
 
     Integer httpStatusCode = response.getHttpStatusCode();
     String internalCorrelationId = response.getHeaders().get(HEADER_X_INTERNAL_CORRELATION_ID);
+    if (response.getResponseBody() == null) {
+      // body was consumed while it was deserialized from the response stream
+      return new PaysafeSdkException(customMessage, httpStatusCode, internalCorrelationId);
+    }
 
     try {
       if (httpStatusCode == HTTP_RESPONSE_CODE_REQUEST_DECLINED) {
@@ -73,7 +78,7 @@ public class ExceptionBuilder {
       }
 
       // in other cases, we receive only error responses
-      ErrorResponse errorResponse = getObjectMapper().readValue(response.getResponseBody(), ErrorResponse.class);
+      ErrorResponse errorResponse = getObjectReader(ErrorResponse.class).readValue(response.getResponseBody());
       PaysafeError paysafeError = PaysafeError.Builder.builder()
           .code(errorResponse.getError().getCode())
           .message(errorResponse.getError().getMessage())
@@ -0,0 +1,20 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.errorhandling.exception;
+
+/**
+ * This type of exception is thrown without sending the request, when circuit breaker of its endpoint is open, as recent
+ * requests to that endpoint failed or were slow too often.
+ */
+public class CircuitBreakerOpenException extends PaysafeSdkException {
+
+  public CircuitBreakerOpenException(String message) {
+    super(message);
+  }
+
+  @Override public String toString() {
+    return "CircuitBreakerOpenException{" +
+        "message=" + getMessage() +
+        '}';
+  }
+}
@@ -0,0 +1,20 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.errorhandling.exception;
+
+/**
+ * This type of exception is thrown without sending the request, when concurrency limit of PaysafeClient was reached and
+ * no request completed within the configured maximum wait time.
+ */
+public class ConcurrencyLimitExceededException extends PaysafeSdkException {
+
+  public ConcurrencyLimitExceededException(String message) {
+    super(message);
+  }
+
+  @Override public String toString() {
+    return "ConcurrencyLimitExceededException{" +
+        "message=" + getMessage() +
+        '}';
+  }
+}
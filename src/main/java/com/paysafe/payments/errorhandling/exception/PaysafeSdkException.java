@@ -31,6 +31,17 @@ public class PaysafeSdkException extends Exception {
     this.error = null;
   }
 
+  /**
+   * Wraps an unexpected exception, i.e. thrown by a metrics listener or a response handler, keeping it as the cause. Its
+   * message is used if it has one, or its class name otherwise.
+   */
+  public PaysafeSdkException(Throwable cause) {
+    super(cause.getMessage() == null ? cause.getClass().getName() : cause.getMessage(), cause);
+    this.code = null;
+    this.internalCorrelationId = null;
+    this.error = null;
+  }
+
   public PaysafeSdkException(String message, Integer code, String internalCorrelationId) {
     super(message);
     this.code = code;
@@ -0,0 +1,25 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.errorhandling.exception;
+
+/**
+ * Wraps PaysafeSdkException thrown where checked exceptions cannot be, i.e. while consuming a Stream of records
+ * fetched page by page. The wrapped exception is returned by {@link #getCause()}.
+ */
+public class UncheckedPaysafeSdkException extends RuntimeException {
+
+  public UncheckedPaysafeSdkException(PaysafeSdkException cause) {
+    super(cause.getMessage(), cause);
+  }
+
+  @Override
+  public synchronized PaysafeSdkException getCause() {
+    return (PaysafeSdkException) super.getCause();
+  }
+
+  @Override public String toString() {
+    return "UncheckedPaysafeSdkException{" +
+        "cause=" + getCause() +
+        '}';
+  }
+}
@@ -0,0 +1,39 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.metrics;
+
+/**
+ * Current state of a connection pool of PaysafeClient. Each call returns the up-to-date value.
+ */
+public interface ConnectionPoolMetrics {
+
+  /**
+   * Name of the pool used by blocking requests.
+   */
+  String BLOCKING_POOL = "blocking";
+
+  /**
+   * Name of the pool used by asynchronous requests.
+   */
+  String ASYNC_POOL = "async";
+
+  /**
+   * @return number of connections currently used by requests
+   */
+  int getLeased();
+
+  /**
+   * @return number of requests waiting for a connection
+   */
+  int getPending();
+
+  /**
+   * @return number of idle connections, ready to be reused
+   */
+  int getAvailable();
+
+  /**
+   * @return maximum number of connections in the pool
+   */
+  int getMax();
+}
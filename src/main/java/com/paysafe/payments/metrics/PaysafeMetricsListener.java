@@ -0,0 +1,83 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.metrics;
+
+/**
+ * Receives metrics of requests executed by PaysafeClient, i.e. to publish them to a monitoring system. All methods have
+ * empty default implementations, so only the ones of interest need to be implemented.
+ * <p>
+ * Methods are invoked synchronously by the threads executing requests, including I/O threads of asynchronous requests,
+ * so implementations must be thread-safe and must not block. Exceptions thrown by the listener are logged and ignored.
+ * <p>
+ * Endpoints are reported as templates with identifiers replaced by {@code {id}}, i.e. {@code /v1/payments/{id}}, and
+ * without query parameters, so the number of distinct endpoints is bounded.
+ */
+public interface PaysafeMetricsListener {
+
+  /**
+   * Listener which ignores all metrics, used when no listener is configured.
+   */
+  PaysafeMetricsListener NO_OP = new PaysafeMetricsListener() {
+  };
+
+  /**
+   * Invoked once a request completes, either with a response of any http status code, or with an exception in case
+   * no response was received or it could not be processed. Automatic retries are part of the same request.
+   *
+   * @param requestMetrics of the completed request
+   */
+  default void requestCompleted(RequestMetrics requestMetrics) {
+  }
+
+  /**
+   * Invoked each time a request is about to be retried automatically after an I/O error.
+   *
+   * @param method      http method of the request
+   * @param endpoint    endpoint template of the request, i.e. {@code /v1/payments/{id}}
+   * @param retryNumber number of this retry, starting with 1
+   */
+  default void requestRetried(String method, String endpoint, int retryNumber) {
+  }
+
+  /**
+   * Invoked each time a hedged request is sent, as no response to a GET request was received within hedging delay.
+   * Both requests are reported by {@link #requestCompleted(RequestMetrics)}, the one which lost as cancelled.
+   *
+   * @param method   http method of the request
+   * @param endpoint endpoint template of the request, i.e. {@code /v1/payments/{id}}
+   */
+  default void requestHedged(String method, String endpoint) {
+  }
+
+  /**
+   * Invoked each time a GET request shares the response of an identical request already in flight, instead of being
+   * sent, as request coalescing is enabled. Only the request which was sent is reported by
+   * {@link #requestCompleted(RequestMetrics)}.
+   *
+   * @param method   http method of the request
+   * @param endpoint endpoint template of the request, i.e. {@code /v1/payments/{id}}
+   */
+  default void requestCoalesced(String method, String endpoint) {
+  }
+
+  /**
+   * Invoked each time a cache of responses is accessed, i.e. when payment methods are looked up while their cache is
+   * configured. Refreshes of cached responses in background are not reported.
+   *
+   * @param cacheName name of the cache, i.e. {@code paymentmethods}
+   * @param hit       whether cached response was returned, possibly while being refreshed, instead of sending a request
+   */
+  default void cacheAccessed(String cacheName, boolean hit) {
+  }
+
+  /**
+   * Invoked once for each connection pool created by PaysafeClient, so that its state can be observed, i.e. by gauges.
+   * The provided object stays valid for the whole lifetime of the client. The pool of asynchronous requests is created
+   * on first asynchronous request.
+   *
+   * @param poolName       {@link ConnectionPoolMetrics#BLOCKING_POOL} or {@link ConnectionPoolMetrics#ASYNC_POOL}
+   * @param connectionPool reporting current state of the pool
+   */
+  default void connectionPoolCreated(String poolName, ConnectionPoolMetrics connectionPool) {
+  }
+}
@@ -0,0 +1,137 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.metrics;
+
+/**
+ * Metrics of a single request executed by PaysafeClient, reported to {@link PaysafeMetricsListener}.
+ */
+public final class RequestMetrics {
+
+  private final String method;
+  private final String endpoint;
+  private final Integer httpStatusCode;
+  private final String exceptionClass;
+  private final long durationNanos;
+  private final long requestBytes;
+  private final long responseBytes;
+
+  private RequestMetrics(Builder builder) {
+    method = builder.method;
+    endpoint = builder.endpoint;
+    httpStatusCode = builder.httpStatusCode;
+    exceptionClass = builder.exceptionClass;
+    durationNanos = builder.durationNanos;
+    requestBytes = builder.requestBytes;
+    responseBytes = builder.responseBytes;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * @return http method of the request, i.e. GET
+   */
+  public String getMethod() {
+    return method;
+  }
+
+  /**
+   * @return endpoint template of the request, i.e. {@code /v1/payments/{id}}
+   */
+  public String getEndpoint() {
+    return endpoint;
+  }
+
+  /**
+   * @return http status code of the response, or null if no response was received
+   */
+  public Integer getHttpStatusCode() {
+    return httpStatusCode;
+  }
+
+  /**
+   * @return simple class name of the exception the request failed with, i.e. SocketTimeoutException, or null if the
+   *     response was received and processed. Unsuccessful http status codes are reported only by the status code.
+   */
+  public String getExceptionClass() {
+    return exceptionClass;
+  }
+
+  /**
+   * @return time from sending the request, including connection lease and automatic retries, until the response was
+   *     processed, in nanoseconds
+   */
+  public long getDurationNanos() {
+    return durationNanos;
+  }
+
+  /**
+   * @return size of the request body in bytes, 0 for requests without body
+   */
+  public long getRequestBytes() {
+    return requestBytes;
+  }
+
+  /**
+   * @return size of the response body in bytes, or -1 if unknown, i.e. no response was received
+   */
+  public long getResponseBytes() {
+    return responseBytes;
+  }
+
+  /**
+   * {@code RequestMetrics} builder static inner class.
+   */
+  public static final class Builder {
+    private String method;
+    private String endpoint;
+    private Integer httpStatusCode;
+    private String exceptionClass;
+    private long durationNanos;
+    private long requestBytes;
+    private long responseBytes = -1;
+
+    private Builder() {
+    }
+
+    public Builder method(String method) {
+      this.method = method;
+      return this;
+    }
+
+    public Builder endpoint(String endpoint) {
+      this.endpoint = endpoint;
+      return this;
+    }
+
+    public Builder httpStatusCode(Integer httpStatusCode) {
+      this.httpStatusCode = httpStatusCode;
+      return this;
+    }
+
+    public Builder exceptionClass(String exceptionClass) {
+      this.exceptionClass = exceptionClass;
+      return this;
+    }
+
+    public Builder durationNanos(long durationNanos) {
+      this.durationNanos = durationNanos;
+      return this;
+    }
+
+    public Builder requestBytes(long requestBytes) {
+      this.requestBytes = requestBytes;
+      return this;
+    }
+
+    public Builder responseBytes(long responseBytes) {
+      this.responseBytes = responseBytes;
+      return this;
+    }
+
+    public RequestMetrics build() {
+      return new RequestMetrics(this);
+    }
+  }
+}
@@ -0,0 +1,15 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.model;
+
+/**
+ * Request creating a transaction identified by merchant reference number. If duplicate check is enabled, Paysafe
+ * Payments API rejects a request whose merchant reference number was already used, so such request can safely be sent
+ * again when its outcome is unknown.
+ */
+public interface MerchantReferencedRequest {
+
+  String getMerchantRefNum();
+
+  Boolean getDupCheck();
+}
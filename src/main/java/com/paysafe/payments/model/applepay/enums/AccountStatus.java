@@ -4,6 +4,7 @@ package com.paysafe.payments.model.applepay.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the account status.
@@ -13,6 +14,8 @@ public enum AccountStatus {
 
   SUSPENDED("SUSPENDED");
 
+  private static final EnumLookup<AccountStatus> BY_VALUE = EnumLookup.of(values(), AccountStatus::getValue);
+
   private final String value;
 
   AccountStatus(String value) {
@@ -21,12 +24,7 @@ public enum AccountStatus {
 
   @JsonCreator
   public static AccountStatus fromValue(String value) {
-    for (AccountStatus b : AccountStatus.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
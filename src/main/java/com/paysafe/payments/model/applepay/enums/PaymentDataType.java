@@ -4,6 +4,7 @@ package com.paysafe.payments.model.applepay.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the account status.
@@ -11,7 +12,12 @@ import com.fasterxml.jackson.annotation.JsonValue;
 public enum PaymentDataType {
   EMV("EMV"),
 
-  THREED_SECURE("3DSecure");
+  THREED_SECURE("3DSecure"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<PaymentDataType> BY_VALUE =
+      EnumLookup.of(values(), PaymentDataType::getValue, UNKNOWN);
 
   private final String value;
 
@@ -21,12 +27,7 @@ public enum PaymentDataType {
 
   @JsonCreator
   public static PaymentDataType fromValue(String value) {
-    for (PaymentDataType b : PaymentDataType.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -7,6 +7,7 @@ import java.util.Objects;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Map of cardBrand and card type for CardType config.
@@ -238,6 +239,8 @@ public class CardTypeConfig {
 
     DEFERREDDEBIT("DEFERREDDEBIT");
 
+    private static final EnumLookup<VIEnum> BY_VALUE = EnumLookup.of(values(), VIEnum::getValue);
+
     private final String value;
 
     VIEnum(String value) {
@@ -246,12 +249,7 @@ public class CardTypeConfig {
 
     @JsonCreator
     public static VIEnum fromValue(String value) {
-      for (VIEnum b : VIEnum.values()) {
-        if (b.value.equalsIgnoreCase(value)) {
-          return b;
-        }
-      }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return BY_VALUE.fromValue(value);
     }
 
     @JsonValue
@@ -279,6 +277,8 @@ public class CardTypeConfig {
 
     DEFERREDDEBIT("DEFERREDDEBIT");
 
+    private static final EnumLookup<MCEnum> BY_VALUE = EnumLookup.of(values(), MCEnum::getValue);
+
     private final String value;
 
     MCEnum(String value) {
@@ -287,12 +287,7 @@ public class CardTypeConfig {
 
     @JsonCreator
     public static MCEnum fromValue(String value) {
-      for (MCEnum b : MCEnum.values()) {
-        if (b.value.equalsIgnoreCase(value)) {
-          return b;
-        }
-      }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return BY_VALUE.fromValue(value);
     }
 
     @JsonValue
@@ -320,6 +315,8 @@ public class CardTypeConfig {
 
     DEFERREDDEBIT("DEFERREDDEBIT");
 
+    private static final EnumLookup<DIEnum> BY_VALUE = EnumLookup.of(values(), DIEnum::getValue);
+
     private final String value;
 
     DIEnum(String value) {
@@ -328,12 +325,7 @@ public class CardTypeConfig {
 
     @JsonCreator
     public static DIEnum fromValue(String value) {
-      for (DIEnum b : DIEnum.values()) {
-        if (b.value.equalsIgnoreCase(value)) {
-          return b;
-        }
-      }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return BY_VALUE.fromValue(value);
     }
 
     @JsonValue
@@ -361,6 +353,8 @@ public class CardTypeConfig {
 
     DEFERREDDEBI("DEFERREDDEBI");
 
+    private static final EnumLookup<AMEnum> BY_VALUE = EnumLookup.of(values(), AMEnum::getValue);
+
     private final String value;
 
     AMEnum(String value) {
@@ -369,12 +363,7 @@ public class CardTypeConfig {
 
     @JsonCreator
     public static AMEnum fromValue(String value) {
-      for (AMEnum b : AMEnum.values()) {
-        if (b.value.equalsIgnoreCase(value)) {
-          return b;
-        }
-      }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return BY_VALUE.fromValue(value);
     }
 
     @JsonValue
@@ -402,6 +391,8 @@ public class CardTypeConfig {
 
     DEFERREDDEBIT("DEFERREDDEBIT");
 
+    private static final EnumLookup<DCEnum> BY_VALUE = EnumLookup.of(values(), DCEnum::getValue);
+
     private final String value;
 
     DCEnum(String value) {
@@ -410,12 +401,7 @@ public class CardTypeConfig {
 
     @JsonCreator
     public static DCEnum fromValue(String value) {
-      for (DCEnum b : DCEnum.values()) {
-        if (b.value.equalsIgnoreCase(value)) {
-          return b;
-        }
-      }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return BY_VALUE.fromValue(value);
     }
 
     @JsonValue
@@ -443,6 +429,8 @@ public class CardTypeConfig {
 
     DEFERREDDEBIT("DEFERREDDEBIT");
 
+    private static final EnumLookup<VEEnum> BY_VALUE = EnumLookup.of(values(), VEEnum::getValue);
+
     private final String value;
 
     VEEnum(String value) {
@@ -451,12 +439,7 @@ public class CardTypeConfig {
 
     @JsonCreator
     public static VEEnum fromValue(String value) {
-      for (VEEnum b : VEEnum.values()) {
-        if (b.value.equalsIgnoreCase(value)) {
-          return b;
-        }
-      }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return BY_VALUE.fromValue(value);
     }
 
     @JsonValue
@@ -484,6 +467,8 @@ public class CardTypeConfig {
 
     DEFERREDDEBIT("DEFERREDDEBIT");
 
+    private static final EnumLookup<MDEnum> BY_VALUE = EnumLookup.of(values(), MDEnum::getValue);
+
     private final String value;
 
     MDEnum(String value) {
@@ -492,12 +477,7 @@ public class CardTypeConfig {
 
     @JsonCreator
     public static MDEnum fromValue(String value) {
-      for (MDEnum b : MDEnum.values()) {
-        if (b.value.equalsIgnoreCase(value)) {
-          return b;
-        }
-      }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return BY_VALUE.fromValue(value);
     }
 
     @JsonValue
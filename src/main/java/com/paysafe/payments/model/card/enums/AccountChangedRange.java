@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Enum that indicates the length of time between the most recent password change and the API call of the current transaction.
@@ -16,7 +17,12 @@ public enum AccountChangedRange {
 
   THIRTY_TO_SIXTY_DAYS("THIRTY_TO_SIXTY_DAYS"),
 
-  MORE_THAN_SIXTY_DAYS("MORE_THAN_SIXTY_DAYS");
+  MORE_THAN_SIXTY_DAYS("MORE_THAN_SIXTY_DAYS"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<AccountChangedRange> BY_VALUE =
+      EnumLookup.of(values(), AccountChangedRange::getValue, UNKNOWN);
 
   private final String value;
 
@@ -26,12 +32,7 @@ public enum AccountChangedRange {
 
   @JsonCreator
   public static AccountChangedRange fromValue(String value) {
-    for (AccountChangedRange b : AccountChangedRange.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
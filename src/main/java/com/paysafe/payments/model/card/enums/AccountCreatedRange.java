@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This indicates the length of time that the payment account was enrolled in the cardholder’s account with the 3DS Requestor.
@@ -17,7 +18,12 @@ public enum AccountCreatedRange {
 
   THIRTY_TO_SIXTY_DAYS("THIRTY_TO_SIXTY_DAYS"),
 
-  MORE_THAN_SIXTY_DAYS("MORE_THAN_SIXTY_DAYS");
+  MORE_THAN_SIXTY_DAYS("MORE_THAN_SIXTY_DAYS"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<AccountCreatedRange> BY_VALUE =
+      EnumLookup.of(values(), AccountCreatedRange::getValue, UNKNOWN);
 
   private final String value;
 
@@ -27,12 +33,7 @@ public enum AccountCreatedRange {
 
   @JsonCreator
   public static AccountCreatedRange fromValue(String value) {
-    for (AccountCreatedRange b : AccountCreatedRange.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,13 +4,17 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the code for your card acquirer
  */
 public enum AcquirerCode {
 
-  VAN("VAN");
+  VAN("VAN"),
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<AcquirerCode> BY_VALUE = EnumLookup.of(values(), AcquirerCode::getValue, UNKNOWN);
 
   private final String value;
 
@@ -20,12 +24,7 @@ public enum AcquirerCode {
 
   @JsonCreator
   public static AcquirerCode fromValue(String value) {
-    for (AcquirerCode b : AcquirerCode.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the type of Authentication request. This data element provides additional information to the ACS
@@ -20,7 +21,12 @@ public enum AuthenticationPurpose {
 
   MAINTAIN_CARD("MAINTAIN_CARD"),
 
-  EMV_TOKEN_VERIFICATION("EMV_TOKEN_VERIFICATION");
+  EMV_TOKEN_VERIFICATION("EMV_TOKEN_VERIFICATION"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<AuthenticationPurpose> BY_VALUE =
+      EnumLookup.of(values(), AuthenticationPurpose::getValue, UNKNOWN);
 
   private final String value;
 
@@ -30,12 +36,7 @@ public enum AuthenticationPurpose {
 
   @JsonCreator
   public static AuthenticationPurpose fromValue(String value) {
-    for (AuthenticationPurpose b : AuthenticationPurpose.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
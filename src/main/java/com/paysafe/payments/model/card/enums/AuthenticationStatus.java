@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Enum representing the possible statuses of an Enrollment Lookup request.
@@ -17,7 +18,12 @@ import com.fasterxml.jackson.annotation.JsonValue;
 public enum AuthenticationStatus {
   COMPLETED("COMPLETED"),
 
-  FAILED("FAILED");
+  FAILED("FAILED"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<AuthenticationStatus> BY_VALUE =
+      EnumLookup.of(values(), AuthenticationStatus::getValue, UNKNOWN);
 
   private final String value;
 
@@ -27,12 +33,7 @@ public enum AuthenticationStatus {
 
   @JsonCreator
   public static AuthenticationStatus fromValue(String value) {
-    for (AuthenticationStatus b : AuthenticationStatus.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
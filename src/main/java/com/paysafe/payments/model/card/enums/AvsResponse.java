@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Enum representing possible AVS (Address Verification Service) response codes.
@@ -35,6 +36,9 @@ public enum AvsResponse {
 
   UNKNOWN("UNKNOWN");
 
+  private static final EnumLookup<AvsResponse> BY_VALUE =
+      EnumLookup.withUnknownValue(values(), AvsResponse::getValue, UNKNOWN);
+
   private final String value;
 
   AvsResponse(String value) {
@@ -43,12 +47,7 @@ public enum AvsResponse {
 
   @JsonCreator
   public static AvsResponse fromValue(String value) {
-    for (AvsResponse b : AvsResponse.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
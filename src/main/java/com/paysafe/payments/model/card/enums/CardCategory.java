@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * The type of card being used. CREDIT or DEBIT
@@ -13,7 +14,11 @@ public enum CardCategory {
 
   DEBIT("DEBIT"),
 
-  PREPAID("PREPAID");
+  PREPAID("PREPAID"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<CardCategory> BY_VALUE = EnumLookup.of(values(), CardCategory::getValue, UNKNOWN);
 
   private final String value;
 
@@ -23,12 +28,7 @@ public enum CardCategory {
 
   @JsonCreator
   public static CardCategory fromValue(String value) {
-    for (CardCategory b : CardCategory.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
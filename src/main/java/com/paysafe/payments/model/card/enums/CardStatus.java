@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Optional.  Present only if the card is stored for the Customer.
@@ -11,7 +12,11 @@ import com.fasterxml.jackson.annotation.JsonValue;
 public enum CardStatus {
   ACTIVE("ACTIVE"),
 
-  SUSPENDED("SUSPENDED");
+  SUSPENDED("SUSPENDED"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<CardStatus> BY_VALUE = EnumLookup.of(values(), CardStatus::getValue, UNKNOWN);
 
   private final String value;
 
@@ -21,12 +26,7 @@ public enum CardStatus {
 
   @JsonCreator
   public static CardStatus fromValue(String value) {
-    for (CardStatus b : CardStatus.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
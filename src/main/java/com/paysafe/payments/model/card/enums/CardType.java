@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is type of card used for the request.
@@ -36,7 +37,11 @@ public enum CardType {
 
   VD("VD"),
 
-  VE("VE");
+  VE("VE"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<CardType> BY_VALUE = EnumLookup.of(values(), CardType::getValue, UNKNOWN);
 
   private final String value;
 
@@ -46,12 +51,7 @@ public enum CardType {
 
   @JsonCreator
   public static CardType fromValue(String value) {
-    for (CardType b : CardType.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
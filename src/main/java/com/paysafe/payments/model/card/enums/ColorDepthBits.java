@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the bit depth of the color palette for displaying images, in bits per pixel.
@@ -23,7 +24,11 @@ public enum ColorDepthBits {
 
   _32("32"),
 
-  _48("48");
+  _48("48"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<ColorDepthBits> BY_VALUE = EnumLookup.of(values(), ColorDepthBits::getValue, UNKNOWN);
 
   private final String value;
 
@@ -33,12 +38,7 @@ public enum ColorDepthBits {
 
   @JsonCreator
   public static ColorDepthBits fromValue(String value) {
-    for (ColorDepthBits b : ColorDepthBits.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This exemption gives the Merchant the option to bypass the Strong Customer Authentication or 3DS.
@@ -18,7 +19,12 @@ import com.fasterxml.jackson.annotation.JsonValue;
 public enum ExemptionIndicator {
   LOW_VALUE_EXEMPTION("LOW_VALUE_EXEMPTION"),
 
-  TRA_EXEMPTION("TRA_EXEMPTION");
+  TRA_EXEMPTION("TRA_EXEMPTION"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<ExemptionIndicator> BY_VALUE =
+      EnumLookup.of(values(), ExemptionIndicator::getValue, UNKNOWN);
 
   private final String value;
 
@@ -28,12 +34,7 @@ public enum ExemptionIndicator {
 
   @JsonCreator
   public static ExemptionIndicator fromValue(String value) {
-    for (ExemptionIndicator b : ExemptionIndicator.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Enum representing the type of financing offered for a transaction.
@@ -18,6 +19,8 @@ public enum FinancingType {
 
   EQUAL_PAYMENT("EQUAL_PAYMENT");
 
+  private static final EnumLookup<FinancingType> BY_VALUE = EnumLookup.of(values(), FinancingType::getValue);
+
   private final String value;
 
   FinancingType(String value) {
@@ -26,12 +29,7 @@ public enum FinancingType {
 
   @JsonCreator
   public static FinancingType fromValue(String value) {
-    for (FinancingType b : FinancingType.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Enum representing the various processor applied types for funding transactions. The fundingTransaction processorAppliedType value is
@@ -42,6 +43,9 @@ public enum FundingTransactionType {
 
   NOT_APPLIED("NOT_APPLIED");
 
+  private static final EnumLookup<FundingTransactionType> BY_VALUE =
+      EnumLookup.of(values(), FundingTransactionType::getValue);
+
   private final String value;
 
   FundingTransactionType(String value) {
@@ -50,12 +54,7 @@ public enum FundingTransactionType {
 
   @JsonCreator
   public static FundingTransactionType fromValue(String value) {
-    for (FundingTransactionType b : FundingTransactionType.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Gets or Sets initialUsageRange
@@ -15,7 +16,12 @@ public enum InitialUsageRange {
 
   THIRTY_TO_SIXTY_DAYS("THIRTY_TO_SIXTY_DAYS"),
 
-  MORE_THAN_SIXTY_DAYS("MORE_THAN_SIXTY_DAYS");
+  MORE_THAN_SIXTY_DAYS("MORE_THAN_SIXTY_DAYS"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<InitialUsageRange> BY_VALUE =
+      EnumLookup.of(values(), InitialUsageRange::getValue, UNKNOWN);
 
   private final String value;
 
@@ -25,12 +31,7 @@ public enum InitialUsageRange {
 
   @JsonCreator
   public static InitialUsageRange fromValue(String value) {
-    for (InitialUsageRange b : InitialUsageRange.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Enum that indicates the length of time between the most recent password change and the API call of the current transaction.
@@ -18,7 +19,12 @@ public enum PasswordChangedRange {
 
   THIRTY_TO_SIXTY_DAYS("THIRTY_TO_SIXTY_DAYS"),
 
-  MORE_THAN_SIXTY_DAYS("MORE_THAN_SIXTY_DAYS");
+  MORE_THAN_SIXTY_DAYS("MORE_THAN_SIXTY_DAYS"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<PasswordChangedRange> BY_VALUE =
+      EnumLookup.of(values(), PasswordChangedRange::getValue, UNKNOWN);
 
   private final String value;
 
@@ -28,12 +34,7 @@ public enum PasswordChangedRange {
 
   @JsonCreator
   public static PasswordChangedRange fromValue(String value) {
-    for (PasswordChangedRange b : PasswordChangedRange.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
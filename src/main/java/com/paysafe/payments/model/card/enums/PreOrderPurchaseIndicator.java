@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This indicates whether the cardholder is placing an order for available merchandise or merchandise with a future availability or release date.
@@ -11,7 +12,12 @@ import com.fasterxml.jackson.annotation.JsonValue;
 public enum PreOrderPurchaseIndicator {
   MERCHANDISE_AVAILABLE("MERCHANDISE_AVAILABLE"),
 
-  FUTURE_AVAILABILITY("FUTURE_AVAILABILITY");
+  FUTURE_AVAILABILITY("FUTURE_AVAILABILITY"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<PreOrderPurchaseIndicator> BY_VALUE =
+      EnumLookup.of(values(), PreOrderPurchaseIndicator::getValue, UNKNOWN);
 
   private final String value;
 
@@ -21,12 +27,7 @@ public enum PreOrderPurchaseIndicator {
 
   @JsonCreator
   public static PreOrderPurchaseIndicator fromValue(String value) {
-    for (PreOrderPurchaseIndicator b : PreOrderPurchaseIndicator.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the mechanism used previously by the cardholder to authenticate to the 3DS Requester.
@@ -15,7 +16,12 @@ public enum PriorThreeDsAuthenticationMethod {
 
   AVS_VERIFIED("AVS_VERIFIED"),
 
-  OTHER_ISSUER_METHOD("OTHER_ISSUER_METHOD");
+  OTHER_ISSUER_METHOD("OTHER_ISSUER_METHOD"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<PriorThreeDsAuthenticationMethod> BY_VALUE =
+      EnumLookup.of(values(), PriorThreeDsAuthenticationMethod::getValue, UNKNOWN);
 
   private final String value;
 
@@ -25,12 +31,7 @@ public enum PriorThreeDsAuthenticationMethod {
 
   @JsonCreator
   public static PriorThreeDsAuthenticationMethod fromValue(String value) {
-    for (PriorThreeDsAuthenticationMethod b : PriorThreeDsAuthenticationMethod.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
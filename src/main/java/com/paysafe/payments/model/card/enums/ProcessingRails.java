@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Enum representing the processing rails used for card transactions.
@@ -20,7 +21,12 @@ import com.fasterxml.jackson.annotation.JsonValue;
 public enum ProcessingRails {
   PINLESS("PINLESS"),
 
-  CARD_SCHEME_ROUTED("CARD_SCHEME_ROUTED");
+  CARD_SCHEME_ROUTED("CARD_SCHEME_ROUTED"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<ProcessingRails> BY_VALUE =
+      EnumLookup.of(values(), ProcessingRails::getValue, UNKNOWN);
 
   private final String value;
 
@@ -30,12 +36,7 @@ public enum ProcessingRails {
 
   @JsonCreator
   public static ProcessingRails fromValue(String value) {
-    for (ProcessingRails b : ProcessingRails.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This indicates whether the cardholder is reordering merchandise.
@@ -11,7 +12,12 @@ import com.fasterxml.jackson.annotation.JsonValue;
 public enum ReOrderItemsIndicator {
   FIRST_TIME_ORDER("FIRST_TIME_ORDER"),
 
-  REORDER("REORDER");
+  REORDER("REORDER"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<ReOrderItemsIndicator> BY_VALUE =
+      EnumLookup.of(values(), ReOrderItemsIndicator::getValue, UNKNOWN);
 
   private final String value;
 
@@ -21,12 +27,7 @@ public enum ReOrderItemsIndicator {
 
   @JsonCreator
   public static ReOrderItemsIndicator fromValue(String value) {
-    for (ReOrderItemsIndicator b : ReOrderItemsIndicator.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
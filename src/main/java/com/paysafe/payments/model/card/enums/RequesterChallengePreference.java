@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This indicates whether a challenge is requested for this transaction.
@@ -15,7 +16,12 @@ public enum RequesterChallengePreference {
 
   CHALLENGE_REQUESTED("CHALLENGE_REQUESTED"),
 
-  CHALLENGE_MANDATED("CHALLENGE_MANDATED");
+  CHALLENGE_MANDATED("CHALLENGE_MANDATED"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<RequesterChallengePreference> BY_VALUE =
+      EnumLookup.of(values(), RequesterChallengePreference::getValue, UNKNOWN);
 
   private final String value;
 
@@ -25,12 +31,7 @@ public enum RequesterChallengePreference {
 
   @JsonCreator
   public static RequesterChallengePreference fromValue(String value) {
-    for (RequesterChallengePreference b : RequesterChallengePreference.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
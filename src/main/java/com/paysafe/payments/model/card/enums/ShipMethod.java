@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the method of shipment.
@@ -13,7 +14,10 @@ public enum ShipMethod {
   TWO_DAY_SERVICE("T"),
   LOWEST_COST("C"),
   OTHER("O"),
-  SAME_DAY("S");
+  SAME_DAY("S"),
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<ShipMethod> BY_VALUE = EnumLookup.of(values(), ShipMethod::getValue, UNKNOWN);
 
   private final String value;
 
@@ -23,12 +27,7 @@ public enum ShipMethod {
 
   @JsonCreator
   public static ShipMethod fromValue(String value) {
-    for (ShipMethod b : ShipMethod.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the shipping method for the transaction.
@@ -21,7 +22,12 @@ public enum ShippingIndicator {
 
   TRAVEL_AND_EVENT_TICKETS("TRAVEL_AND_EVENT_TICKETS"),
 
-  OTHER("OTHER");
+  OTHER("OTHER"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<ShippingIndicator> BY_VALUE =
+      EnumLookup.of(values(), ShippingIndicator::getValue, UNKNOWN);
 
   private final String value;
 
@@ -31,12 +37,7 @@ public enum ShippingIndicator {
 
   @JsonCreator
   public static ShippingIndicator fromValue(String value) {
-    for (ShippingIndicator b : ShippingIndicator.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
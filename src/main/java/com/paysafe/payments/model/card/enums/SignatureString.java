@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Enum representing the 3D Secure signature verification status.
@@ -20,7 +21,12 @@ import com.fasterxml.jackson.annotation.JsonValue;
 public enum SignatureString {
   Y("Y"),
 
-  N("N");
+  N("N"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<SignatureString> BY_VALUE =
+      EnumLookup.of(values(), SignatureString::getValue, UNKNOWN);
 
   private final String value;
 
@@ -30,12 +36,7 @@ public enum SignatureString {
 
   @JsonCreator
   public static SignatureString fromValue(String value) {
-    for (SignatureString b : SignatureString.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This indicates whether the cardholder is enrolled in 3D Secure. Possible values are:
@@ -18,7 +19,12 @@ public enum ThreeDEnrollment {
 
   N("N"),
 
-  U("U");
+  U("U"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<ThreeDEnrollment> BY_VALUE =
+      EnumLookup.of(values(), ThreeDEnrollment::getValue, UNKNOWN);
 
   private final String value;
 
@@ -28,12 +34,7 @@ public enum ThreeDEnrollment {
 
   @JsonCreator
   public static ThreeDEnrollment fromValue(String value) {
-    for (ThreeDEnrollment b : ThreeDEnrollment.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This indicates the outcome of the Authentication.
@@ -24,7 +25,11 @@ public enum ThreeDResult {
 
   U("U"),
 
-  E("E");
+  E("E"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<ThreeDResult> BY_VALUE = EnumLookup.of(values(), ThreeDResult::getValue, UNKNOWN);
 
   private final String value;
 
@@ -34,12 +39,7 @@ public enum ThreeDResult {
 
   @JsonCreator
   public static ThreeDResult fromValue(String value) {
-    for (ThreeDResult b : ThreeDResult.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -7,6 +7,7 @@ import java.util.Objects;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Map of CardBrand and its ThreeDsVersion.  Possible values for CardBrand are:
@@ -235,6 +236,8 @@ public class ThreeDsVersionConfig {
 
     EXTERNAL_3DS("EXTERNAL_3DS");
 
+    private static final EnumLookup<VIEnum> BY_VALUE = EnumLookup.of(values(), VIEnum::getValue);
+
     private final String value;
 
     VIEnum(String value) {
@@ -243,12 +246,7 @@ public class ThreeDsVersionConfig {
 
     @JsonCreator
     public static VIEnum fromValue(String value) {
-      for (VIEnum b : VIEnum.values()) {
-        if (b.value.equalsIgnoreCase(value)) {
-          return b;
-        }
-      }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return BY_VALUE.fromValue(value);
     }
 
     @JsonValue
@@ -274,6 +272,8 @@ public class ThreeDsVersionConfig {
 
     EXTERNAL_3DS("EXTERNAL_3DS");
 
+    private static final EnumLookup<MCEnum> BY_VALUE = EnumLookup.of(values(), MCEnum::getValue);
+
     private final String value;
 
     MCEnum(String value) {
@@ -282,12 +282,7 @@ public class ThreeDsVersionConfig {
 
     @JsonCreator
     public static MCEnum fromValue(String value) {
-      for (MCEnum b : MCEnum.values()) {
-        if (b.value.equalsIgnoreCase(value)) {
-          return b;
-        }
-      }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return BY_VALUE.fromValue(value);
     }
 
     @JsonValue
@@ -313,6 +308,8 @@ public class ThreeDsVersionConfig {
 
     EXTERNAL_3DS("EXTERNAL_3DS");
 
+    private static final EnumLookup<DIEnum> BY_VALUE = EnumLookup.of(values(), DIEnum::getValue);
+
     private final String value;
 
     DIEnum(String value) {
@@ -321,12 +318,7 @@ public class ThreeDsVersionConfig {
 
     @JsonCreator
     public static DIEnum fromValue(String value) {
-      for (DIEnum b : DIEnum.values()) {
-        if (b.value.equalsIgnoreCase(value)) {
-          return b;
-        }
-      }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return BY_VALUE.fromValue(value);
     }
 
     @JsonValue
@@ -352,6 +344,8 @@ public class ThreeDsVersionConfig {
 
     EXTERNAL_3DS("EXTERNAL_3DS");
 
+    private static final EnumLookup<AMEnum> BY_VALUE = EnumLookup.of(values(), AMEnum::getValue);
+
     private final String value;
 
     AMEnum(String value) {
@@ -360,12 +354,7 @@ public class ThreeDsVersionConfig {
 
     @JsonCreator
     public static AMEnum fromValue(String value) {
-      for (AMEnum b : AMEnum.values()) {
-        if (b.value.equalsIgnoreCase(value)) {
-          return b;
-        }
-      }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return BY_VALUE.fromValue(value);
     }
 
     @JsonValue
@@ -391,6 +380,8 @@ public class ThreeDsVersionConfig {
 
     EXTERNAL_3DS("EXTERNAL_3DS");
 
+    private static final EnumLookup<DCEnum> BY_VALUE = EnumLookup.of(values(), DCEnum::getValue);
+
     private final String value;
 
     DCEnum(String value) {
@@ -399,12 +390,7 @@ public class ThreeDsVersionConfig {
 
     @JsonCreator
     public static DCEnum fromValue(String value) {
-      for (DCEnum b : DCEnum.values()) {
-        if (b.value.equalsIgnoreCase(value)) {
-          return b;
-        }
-      }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return BY_VALUE.fromValue(value);
     }
 
     @JsonValue
@@ -430,6 +416,8 @@ public class ThreeDsVersionConfig {
 
     EXTERNAL_3DS("EXTERNAL_3DS");
 
+    private static final EnumLookup<VEEnum> BY_VALUE = EnumLookup.of(values(), VEEnum::getValue);
+
     private final String value;
 
     VEEnum(String value) {
@@ -438,12 +426,7 @@ public class ThreeDsVersionConfig {
 
     @JsonCreator
     public static VEEnum fromValue(String value) {
-      for (VEEnum b : VEEnum.values()) {
-        if (b.value.equalsIgnoreCase(value)) {
-          return b;
-        }
-      }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return BY_VALUE.fromValue(value);
     }
 
     @JsonValue
@@ -469,6 +452,8 @@ public class ThreeDsVersionConfig {
 
     EXTERNAL_3DS("EXTERNAL_3DS");
 
+    private static final EnumLookup<MDEnum> BY_VALUE = EnumLookup.of(values(), MDEnum::getValue);
+
     private final String value;
 
     MDEnum(String value) {
@@ -477,12 +462,7 @@ public class ThreeDsVersionConfig {
 
     @JsonCreator
     public static MDEnum fromValue(String value) {
-      for (MDEnum b : MDEnum.values()) {
-        if (b.value.equalsIgnoreCase(value)) {
-          return b;
-        }
-      }
-      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+      return BY_VALUE.fromValue(value);
     }
 
     @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the status of the token.
@@ -13,7 +14,11 @@ public enum TokenStatus {
 
   EXPIRED("EXPIRED"),
 
-  DISABLED("DISABLED");
+  DISABLED("DISABLED"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<TokenStatus> BY_VALUE = EnumLookup.of(values(), TokenStatus::getValue, UNKNOWN);
 
   private final String value;
 
@@ -23,12 +28,7 @@ public enum TokenStatus {
 
   @JsonCreator
   public static TokenStatus fromValue(String value) {
-    for (TokenStatus b : TokenStatus.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
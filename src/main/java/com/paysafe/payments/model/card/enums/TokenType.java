@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Token type.
@@ -13,7 +14,11 @@ public enum TokenType {
 
   APPLE_PAY("APPLE_PAY"),
 
-  GOOGLE_PAY("GOOGLE_PAY");
+  GOOGLE_PAY("GOOGLE_PAY"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<TokenType> BY_VALUE = EnumLookup.of(values(), TokenType::getValue, UNKNOWN);
 
   private final String value;
 
@@ -23,12 +28,7 @@ public enum TokenType {
 
   @JsonCreator
   public static TokenType fromValue(String value) {
-    for (TokenType b : TokenType.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * The transactionIntent property is used to identify the intent of the authorization requests.
@@ -86,7 +87,12 @@ public enum TransactionIntent {
 
   QUASI_CASH_TRANSACTION("QUASI_CASH_TRANSACTION"),
 
-  PREPAID_ACTIVATION("PREPAID_ACTIVATION");
+  PREPAID_ACTIVATION("PREPAID_ACTIVATION"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<TransactionIntent> BY_VALUE =
+      EnumLookup.of(values(), TransactionIntent::getValue, UNKNOWN);
 
   private final String value;
 
@@ -96,12 +102,7 @@ public enum TransactionIntent {
 
   @JsonCreator
   public static TransactionIntent fromValue(String value) {
-    for (TransactionIntent b : TransactionIntent.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
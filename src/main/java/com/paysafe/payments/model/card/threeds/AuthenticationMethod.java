@@ -4,6 +4,7 @@ package com.paysafe.payments.model.card.threeds;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the mechanism used by the cardholder to authenticate to the 3DS Requester.
@@ -19,7 +20,12 @@ public enum AuthenticationMethod {
 
   THIRD_PARY_AUTHENTICATION("THIRD_PARY_AUTHENTICATION"),
 
-  FIDO_AUTHENTICATOR("FIDO_AUTHENTICATOR");
+  FIDO_AUTHENTICATOR("FIDO_AUTHENTICATOR"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<AuthenticationMethod> BY_VALUE =
+      EnumLookup.of(values(), AuthenticationMethod::getValue, UNKNOWN);
 
   private final String value;
 
@@ -29,12 +35,7 @@ public enum AuthenticationMethod {
 
   @JsonCreator
   public static AuthenticationMethod fromValue(String value) {
-    for (AuthenticationMethod b : AuthenticationMethod.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
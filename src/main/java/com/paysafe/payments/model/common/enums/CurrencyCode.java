@@ -2,6 +2,9 @@
 
 package com.paysafe.payments.model.common.enums;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.paysafe.payments.config.EnumLookup;
+
 /**
  * Standard ISO 4217 currencies.
  */
@@ -173,7 +176,10 @@ public enum CurrencyCode {
   ZMW("Zambia Kwacha"),
   ZMK("Zambian kwacha"),
   ZWD("Zimbabwe Dollar"),
-  INVALID("INVALID");
+  INVALID("INVALID"),
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<CurrencyCode> BY_VALUE = EnumLookup.of(values(), CurrencyCode::name, UNKNOWN);
 
   private final String description;
 
@@ -181,6 +187,11 @@ public enum CurrencyCode {
     this.description = description;
   }
 
+  @JsonCreator
+  public static CurrencyCode fromValue(String value) {
+    return BY_VALUE.fromValue(value);
+  }
+
   public String getDescription() {
     return description;
   }
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the response to the cvv submitted with the external authorization.
@@ -17,6 +18,9 @@ public enum CvvVerification {
 
   UNKNOWN("UNKNOWN");
 
+  private static final EnumLookup<CvvVerification> BY_VALUE =
+      EnumLookup.withUnknownValue(values(), CvvVerification::getValue, UNKNOWN);
+
   private final String value;
 
   CvvVerification(String value) {
@@ -25,12 +29,7 @@ public enum CvvVerification {
 
   @JsonCreator
   public static CvvVerification fromValue(String value) {
-    for (CvvVerification b : CvvVerification.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
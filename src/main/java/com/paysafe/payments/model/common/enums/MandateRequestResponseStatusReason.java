@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the status reason of the mandate request response.
@@ -21,7 +22,12 @@ public enum MandateRequestResponseStatusReason {
 
   UNAUTHORIZED("UNAUTHORIZED"),
 
-  TRANSFERRED("TRANSFERRED");
+  TRANSFERRED("TRANSFERRED"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<MandateRequestResponseStatusReason> BY_VALUE =
+      EnumLookup.of(values(), MandateRequestResponseStatusReason::getValue, UNKNOWN);
 
   private final String value;
 
@@ -31,12 +37,7 @@ public enum MandateRequestResponseStatusReason {
 
   @JsonCreator
   public static MandateRequestResponseStatusReason fromValue(String value) {
-    for (MandateRequestResponseStatusReason b : MandateRequestResponseStatusReason.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
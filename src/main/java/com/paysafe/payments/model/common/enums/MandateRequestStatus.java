@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the status of the mandate request response.
@@ -15,7 +16,12 @@ public enum MandateRequestStatus {
 
   CANCELLED("CANCELLED"),
 
-  INACTIVE("INACTIVE");
+  INACTIVE("INACTIVE"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<MandateRequestStatus> BY_VALUE =
+      EnumLookup.of(values(), MandateRequestStatus::getValue, UNKNOWN);
 
   private final String value;
 
@@ -25,12 +31,7 @@ public enum MandateRequestStatus {
 
   @JsonCreator
   public static MandateRequestStatus fromValue(String value) {
-    for (MandateRequestStatus b : MandateRequestStatus.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the account name inquiry name result returned by the acquirer.
@@ -20,6 +21,9 @@ public enum NameVerification {
   UNKNOWN("UNKNOWN");
 
 
+  private static final EnumLookup<NameVerification> BY_VALUE =
+      EnumLookup.withUnknownValue(values(), NameVerification::getValue, UNKNOWN);
+
   private final String value;
 
   NameVerification(String value) {
@@ -28,12 +32,7 @@ public enum NameVerification {
 
   @JsonCreator
   public static NameVerification fromValue(String value) {
-    for (NameVerification b : NameVerification.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * The status of the network token.
@@ -13,7 +14,12 @@ public enum NetworkTokenStatus {
 
   INACTIVE("INACTIVE"),
 
-  SUSPENDED("SUSPENDED");
+  SUSPENDED("SUSPENDED"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<NetworkTokenStatus> BY_VALUE =
+      EnumLookup.of(values(), NetworkTokenStatus::getValue, UNKNOWN);
 
   private final String value;
 
@@ -23,12 +29,7 @@ public enum NetworkTokenStatus {
 
   @JsonCreator
   public static NetworkTokenStatus fromValue(String value) {
-    for (NetworkTokenStatus b : NetworkTokenStatus.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
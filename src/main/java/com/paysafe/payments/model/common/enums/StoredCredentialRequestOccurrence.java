@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This specifies whether this stored credential request is initial or recurring. Possible values are:
@@ -18,6 +19,9 @@ public enum StoredCredentialRequestOccurrence {
 
   SUBSEQUENT("SUBSEQUENT");
 
+  private static final EnumLookup<StoredCredentialRequestOccurrence> BY_VALUE =
+      EnumLookup.of(values(), StoredCredentialRequestOccurrence::getValue);
+
   private final String value;
 
   StoredCredentialRequestOccurrence(String value) {
@@ -26,12 +30,7 @@ public enum StoredCredentialRequestOccurrence {
 
   @JsonCreator
   public static StoredCredentialRequestOccurrence fromValue(String value) {
-    for (StoredCredentialRequestOccurrence b : StoredCredentialRequestOccurrence.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
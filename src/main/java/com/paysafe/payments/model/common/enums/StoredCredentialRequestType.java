@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This specifies the type of request being made.  Possible values are:
@@ -22,6 +23,9 @@ public enum StoredCredentialRequestType {
 
   RECURRING("RECURRING");
 
+  private static final EnumLookup<StoredCredentialRequestType> BY_VALUE =
+      EnumLookup.of(values(), StoredCredentialRequestType::getValue);
+
   private final String value;
 
   StoredCredentialRequestType(String value) {
@@ -30,12 +34,7 @@ public enum StoredCredentialRequestType {
 
   @JsonCreator
   public static StoredCredentialRequestType fromValue(String value) {
-    for (StoredCredentialRequestType b : StoredCredentialRequestType.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
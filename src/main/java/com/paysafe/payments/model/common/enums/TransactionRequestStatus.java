@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the status of the transaction request for standalone and original credits. Possible values are:
@@ -30,7 +31,12 @@ public enum TransactionRequestStatus {
 
   EXPIRED("EXPIRED"),
 
-  COMPLETED("COMPLETED");
+  COMPLETED("COMPLETED"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<TransactionRequestStatus> BY_VALUE =
+      EnumLookup.of(values(), TransactionRequestStatus::getValue, UNKNOWN);
 
   private final String value;
 
@@ -40,12 +46,7 @@ public enum TransactionRequestStatus {
 
   @JsonCreator
   public static TransactionRequestStatus fromValue(String value) {
-    for (TransactionRequestStatus b : TransactionRequestStatus.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
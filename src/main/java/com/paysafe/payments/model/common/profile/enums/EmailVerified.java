@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.profile.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Is the customer’s email ID verified by merchant or not?  <br>
@@ -13,7 +14,11 @@ import com.fasterxml.jackson.annotation.JsonValue;
 public enum EmailVerified {
   NOT_VERIFIED("NOT_VERIFIED"),
 
-  VERIFIED("VERIFIED");
+  VERIFIED("VERIFIED"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<EmailVerified> BY_VALUE = EnumLookup.of(values(), EmailVerified::getValue, UNKNOWN);
 
   private final String value;
 
@@ -23,12 +28,7 @@ public enum EmailVerified {
 
   @JsonCreator
   public static EmailVerified fromValue(String value) {
-    for (EmailVerified b : EmailVerified.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.profile.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Is the customer’s phone number verified by merchant or not?
@@ -11,7 +12,11 @@ import com.fasterxml.jackson.annotation.JsonValue;
 public enum PhoneVerified {
   NOT_VERIFIED("NOT_VERIFIED"),
 
-  VERIFIED("VERIFIED");
+  VERIFIED("VERIFIED"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<PhoneVerified> BY_VALUE = EnumLookup.of(values(), PhoneVerified::getValue, UNKNOWN);
 
   private final String value;
 
@@ -21,12 +26,7 @@ public enum PhoneVerified {
 
   @JsonCreator
   public static PhoneVerified fromValue(String value) {
-    for (PhoneVerified b : PhoneVerified.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.travel.airline.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Indicates the computerized reservation system used to make the reservation and purchase the ticket.
@@ -29,7 +30,11 @@ public enum ComputerizedReservationSystem {
   DALA("DALA"),
   BLAN("BLAN"),
   DERD("DERD"),
-  TUID("TUID");
+  TUID("TUID"),
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<ComputerizedReservationSystem> BY_VALUE =
+      EnumLookup.of(values(), ComputerizedReservationSystem::getValue, UNKNOWN);
 
   private final String value;
 
@@ -39,12 +44,7 @@ public enum ComputerizedReservationSystem {
 
   @JsonCreator
   public static ComputerizedReservationSystem fromValue(String value) {
-    for (ComputerizedReservationSystem b : ComputerizedReservationSystem.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.travel.airline.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This field indicates the flight passenger's gender.
@@ -12,7 +13,10 @@ public enum Gender {
   M("M"),
   F("F"),
   O("Other"),
-  N("Not specified");
+  N("Not specified"),
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<Gender> BY_VALUE = EnumLookup.of(values(), Gender::getValue, UNKNOWN);
 
   private final String value;
 
@@ -22,12 +26,7 @@ public enum Gender {
 
   @JsonCreator
   public static Gender fromValue(String value) {
-    for (Gender b : Gender.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.travel.airline.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Indicates service class (first class, business class, etc.). Example values (not limited to):
@@ -21,7 +22,11 @@ public enum ServiceClass {
 
   W("W"),
 
-  Y("Y");
+  Y("Y"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<ServiceClass> BY_VALUE = EnumLookup.of(values(), ServiceClass::getValue, UNKNOWN);
 
   private final String value;
 
@@ -31,12 +36,7 @@ public enum ServiceClass {
 
   @JsonCreator
   public static ServiceClass fromValue(String value) {
-    for (ServiceClass b : ServiceClass.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.travel.carrental.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Enum representing the various types of extra charges that may apply to a car rental reservation.
@@ -26,7 +27,12 @@ public enum CarRentalExtraChargeType {
 
   ONE_WAY_SERVICE_FEE("ONE_WAY_SERVICE_FEE"),
 
-  DRIVING_VIOLATION("DRIVING_VIOLATION");
+  DRIVING_VIOLATION("DRIVING_VIOLATION"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<CarRentalExtraChargeType> BY_VALUE =
+      EnumLookup.of(values(), CarRentalExtraChargeType::getValue, UNKNOWN);
 
   private final String value;
 
@@ -36,12 +42,7 @@ public enum CarRentalExtraChargeType {
 
   @JsonCreator
   public static CarRentalExtraChargeType fromValue(String value) {
-    for (CarRentalExtraChargeType b : CarRentalExtraChargeType.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.travel.carrental.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * A code that corresponds to the classification  of the rental vehicle (e.g., midsize, luxury, cargo van, etc.).
@@ -74,7 +75,11 @@ public enum VehicleClass {
 
   SPECIAL("SPECIAL"),
 
-  MISCELLANEOUS("MISCELLANEOUS");
+  MISCELLANEOUS("MISCELLANEOUS"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<VehicleClass> BY_VALUE = EnumLookup.of(values(), VehicleClass::getValue, UNKNOWN);
 
   private final String value;
 
@@ -84,12 +89,7 @@ public enum VehicleClass {
 
   @JsonCreator
   public static VehicleClass fromValue(String value) {
-    for (VehicleClass b : VehicleClass.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.travel.cruise.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This field indicates the cruiseline passenger's gender.
@@ -14,6 +15,8 @@ public enum Gender {
   O("Other"),
   N("Not specified");
 
+  private static final EnumLookup<Gender> BY_VALUE = EnumLookup.of(values(), Gender::getValue);
+
   private final String value;
 
   Gender(String value) {
@@ -22,12 +25,7 @@ public enum Gender {
 
   @JsonCreator
   public static Gender fromValue(String value) {
-    for (Gender b : Gender.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
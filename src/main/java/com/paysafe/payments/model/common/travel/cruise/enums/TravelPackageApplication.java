@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.travel.cruise.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Indicates if the package includes car rental, airline flight, both or neither.
@@ -23,6 +24,9 @@ public enum TravelPackageApplication {
 
   UNKNOWN("UNKNOWN");
 
+  private static final EnumLookup<TravelPackageApplication> BY_VALUE =
+      EnumLookup.withUnknownValue(values(), TravelPackageApplication::getValue, UNKNOWN);
+
   private final String value;
 
   TravelPackageApplication(String value) {
@@ -31,12 +35,7 @@ public enum TravelPackageApplication {
 
   @JsonCreator
   public static TravelPackageApplication fromValue(String value) {
-    for (TravelPackageApplication b : TravelPackageApplication.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.travel.lodging.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Enum representing the various types of extra charges that may apply to a lodging reservation.
@@ -19,7 +20,12 @@ public enum ExtraChargesType {
 
   OTHER("OTHER"),
 
-  LAUNDRY("LAUNDRY");
+  LAUNDRY("LAUNDRY"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<ExtraChargesType> BY_VALUE =
+      EnumLookup.of(values(), ExtraChargesType::getValue, UNKNOWN);
 
   private final String value;
 
@@ -29,12 +35,7 @@ public enum ExtraChargesType {
 
   @JsonCreator
   public static ExtraChargesType fromValue(String value) {
-    for (ExtraChargesType b : ExtraChargesType.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
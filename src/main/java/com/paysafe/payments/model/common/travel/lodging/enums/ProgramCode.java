@@ -4,6 +4,7 @@ package com.paysafe.payments.model.common.travel.lodging.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * The code that corresponds to the category of lodging charges.
@@ -22,7 +23,11 @@ public enum ProgramCode {
 
   NO_SHOW("NO_SHOW"),
 
-  ADVANCED_DEPOSIT("ADVANCED_DEPOSIT");
+  ADVANCED_DEPOSIT("ADVANCED_DEPOSIT"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<ProgramCode> BY_VALUE = EnumLookup.of(values(), ProgramCode::getValue, UNKNOWN);
 
   private final String value;
 
@@ -32,12 +37,7 @@ public enum ProgramCode {
 
   @JsonCreator
   public static ProgramCode fromValue(String value) {
-    for (ProgramCode b : ProgramCode.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
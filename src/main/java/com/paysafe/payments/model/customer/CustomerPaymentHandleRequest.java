@@ -10,6 +10,7 @@ import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.paysafe.payments.model.MerchantReferencedRequest;
 import com.paysafe.payments.model.card.CardBillingDetailsRequest;
 import com.paysafe.payments.model.common.Mandate;
 import com.paysafe.payments.model.common.enums.CurrencyCode;
@@ -22,7 +23,7 @@ import com.paysafe.payments.model.paymenthandle.enums.PaymentType;
 /**
  * CustomerPaymentHandleRequest
  */
-public class CustomerPaymentHandleRequest {
+public class CustomerPaymentHandleRequest implements MerchantReferencedRequest {
 
   @JsonProperty("merchantRefNum")
   private String merchantRefNum;
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.customer.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the status of the address.
@@ -11,7 +12,11 @@ import com.fasterxml.jackson.annotation.JsonValue;
 public enum AddressStatus {
   ACTIVE("ACTIVE"),
 
-  INITIAL("INITIAL");
+  INITIAL("INITIAL"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<AddressStatus> BY_VALUE = EnumLookup.of(values(), AddressStatus::getValue, UNKNOWN);
 
   private final String value;
 
@@ -21,12 +26,7 @@ public enum AddressStatus {
 
   @JsonCreator
   public static AddressStatus fromValue(String value) {
-    for (AddressStatus b : AddressStatus.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
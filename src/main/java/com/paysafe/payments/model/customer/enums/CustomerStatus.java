@@ -4,6 +4,7 @@ package com.paysafe.payments.model.customer.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the status of the customer. Possible values are:
@@ -18,7 +19,11 @@ import com.fasterxml.jackson.annotation.JsonValue;
 public enum CustomerStatus {
   INITIAL("INITIAL"),
 
-  ACTIVE("ACTIVE");
+  ACTIVE("ACTIVE"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<CustomerStatus> BY_VALUE = EnumLookup.of(values(), CustomerStatus::getValue, UNKNOWN);
 
   private final String value;
 
@@ -28,12 +33,7 @@ public enum CustomerStatus {
 
   @JsonCreator
   public static CustomerStatus fromValue(String value) {
-    for (CustomerStatus b : CustomerStatus.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.customer.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This field indicates the Customer's gender. M - Male F - Female
@@ -13,6 +14,8 @@ public enum Gender {
 
   F("F");
 
+  private static final EnumLookup<Gender> BY_VALUE = EnumLookup.of(values(), Gender::getValue);
+
   private final String value;
 
   Gender(String value) {
@@ -21,12 +24,7 @@ public enum Gender {
 
   @JsonCreator
   public static Gender fromValue(String value) {
-    for (Gender b : Gender.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
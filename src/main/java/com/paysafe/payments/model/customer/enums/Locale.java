@@ -4,6 +4,7 @@ package com.paysafe.payments.model.customer.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This indicates the customer's locale.
@@ -17,7 +18,11 @@ public enum Locale {
 
   EN_CA("en_CA"),
 
-  EN_GB("en_GB");
+  EN_GB("en_GB"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<Locale> BY_VALUE = EnumLookup.of(values(), Locale::getValue, UNKNOWN);
 
   private final String value;
 
@@ -27,12 +32,7 @@ public enum Locale {
 
   @JsonCreator
   public static Locale fromValue(String value) {
-    for (Locale b : Locale.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
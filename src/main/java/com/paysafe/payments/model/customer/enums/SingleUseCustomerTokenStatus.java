@@ -4,6 +4,7 @@ package com.paysafe.payments.model.customer.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the status of the single-use customer token.
@@ -11,7 +12,12 @@ import com.fasterxml.jackson.annotation.JsonValue;
 public enum SingleUseCustomerTokenStatus {
   INITIAL("INITIAL"),
 
-  ACTIVE("ACTIVE");
+  ACTIVE("ACTIVE"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<SingleUseCustomerTokenStatus> BY_VALUE =
+      EnumLookup.of(values(), SingleUseCustomerTokenStatus::getValue, UNKNOWN);
 
   private final String value;
 
@@ -21,12 +27,7 @@ public enum SingleUseCustomerTokenStatus {
 
   @JsonCreator
   public static SingleUseCustomerTokenStatus fromValue(String value) {
-    for (SingleUseCustomerTokenStatus b : SingleUseCustomerTokenStatus.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
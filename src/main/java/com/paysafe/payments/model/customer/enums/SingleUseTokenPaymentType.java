@@ -4,6 +4,7 @@ package com.paysafe.payments.model.customer.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * List of possible payment types for Single Use Tokens.
@@ -25,7 +26,12 @@ public enum SingleUseTokenPaymentType {
 
   BACS("BACS"),
 
-  SEPA("SEPA");
+  SEPA("SEPA"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<SingleUseTokenPaymentType> BY_VALUE =
+      EnumLookup.of(values(), SingleUseTokenPaymentType::getValue, UNKNOWN);
 
   private final String value;
 
@@ -35,12 +41,7 @@ public enum SingleUseTokenPaymentType {
 
   @JsonCreator
   public static SingleUseTokenPaymentType fromValue(String value) {
-    for (SingleUseTokenPaymentType b : SingleUseTokenPaymentType.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
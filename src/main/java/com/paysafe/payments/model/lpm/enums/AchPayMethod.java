@@ -4,6 +4,7 @@ package com.paysafe.payments.model.lpm.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the payment type. Possible values are:
@@ -21,7 +22,11 @@ public enum AchPayMethod {
 
   PPD("PPD"),
 
-  CCD("CCD");
+  CCD("CCD"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<AchPayMethod> BY_VALUE = EnumLookup.of(values(), AchPayMethod::getValue, UNKNOWN);
 
   private final String value;
 
@@ -31,12 +36,7 @@ public enum AchPayMethod {
 
   @JsonCreator
   public static AchPayMethod fromValue(String value) {
-    for (AchPayMethod b : AchPayMethod.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
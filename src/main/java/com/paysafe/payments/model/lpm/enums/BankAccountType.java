@@ -4,6 +4,7 @@ package com.paysafe.payments.model.lpm.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the bank account type.
@@ -13,7 +14,12 @@ public enum BankAccountType {
 
   CHECKING("CHECKING"),
 
-  LOAN("LOAN");
+  LOAN("LOAN"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<BankAccountType> BY_VALUE =
+      EnumLookup.of(values(), BankAccountType::getValue, UNKNOWN);
 
   private final String value;
 
@@ -23,12 +29,7 @@ public enum BankAccountType {
 
   @JsonCreator
   public static BankAccountType fromValue(String value) {
-    for (BankAccountType b : BankAccountType.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.lpm.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Gets or Sets bankNameCodes
@@ -91,7 +92,11 @@ public enum BankNameCode {
 
   WALMART_CHILE("WALMART_CHILE"),
 
-  WESTERN_UNION("WESTERN_UNION");
+  WESTERN_UNION("WESTERN_UNION"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<BankNameCode> BY_VALUE = EnumLookup.of(values(), BankNameCode::getValue, UNKNOWN);
 
   private final String value;
 
@@ -101,12 +106,7 @@ public enum BankNameCode {
 
   @JsonCreator
   public static BankNameCode fromValue(String value) {
-    for (BankNameCode b : BankNameCode.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.lpm.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Gets or Sets countryCode
@@ -19,7 +20,11 @@ public enum CountryCode {
 
   PEN("PEN"),
 
-  USD("USD");
+  USD("USD"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<CountryCode> BY_VALUE = EnumLookup.of(values(), CountryCode::getValue, UNKNOWN);
 
   private final String value;
 
@@ -29,12 +34,7 @@ public enum CountryCode {
 
   @JsonCreator
   public static CountryCode fromValue(String value) {
-    for (CountryCode b : CountryCode.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.lpm.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the status of the Standalone Interac's Credit call response.  Possible values for the fraud status:
@@ -24,7 +25,12 @@ public enum InteracFraudStatus {
 
   PRESUME_LEGITIMATE("PRESUME_LEGITIMATE"),
 
-  SUSPICIOUS("SUSPICIOUS");
+  SUSPICIOUS("SUSPICIOUS"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<InteracFraudStatus> BY_VALUE =
+      EnumLookup.of(values(), InteracFraudStatus::getValue, UNKNOWN);
 
   private final String value;
 
@@ -34,12 +40,7 @@ public enum InteracFraudStatus {
 
   @JsonCreator
   public static InteracFraudStatus fromValue(String value) {
-    for (InteracFraudStatus b : InteracFraudStatus.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
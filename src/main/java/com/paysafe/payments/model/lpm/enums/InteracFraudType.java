@@ -4,6 +4,7 @@ package com.paysafe.payments.model.lpm.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the type of fraudulent transaction that was carried out with the intention of financial gain. Possible values for the fraud type:
@@ -47,7 +48,12 @@ public enum InteracFraudType {
 
   FRAUD_BUSINESS("FRAUD_BUSINESS"),
 
-  OTHER("OTHER");
+  OTHER("OTHER"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<InteracFraudType> BY_VALUE =
+      EnumLookup.of(values(), InteracFraudType::getValue, UNKNOWN);
 
   private final String value;
 
@@ -57,12 +63,7 @@ public enum InteracFraudType {
 
   @JsonCreator
   public static InteracFraudType fromValue(String value) {
-    for (InteracFraudType b : InteracFraudType.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.lpm.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This parameter is used to to identify if user is registered for Interac E-Transfer.
@@ -11,7 +12,12 @@ import com.fasterxml.jackson.annotation.JsonValue;
 public enum InteracTransferType {
   REGULAR("ALIAS_REGULAR"),
 
-  AUTODEPOSIT("ALIAS_AUTODEPOSIT");
+  AUTODEPOSIT("ALIAS_AUTODEPOSIT"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<InteracTransferType> BY_VALUE =
+      EnumLookup.of(values(), InteracTransferType::getValue, UNKNOWN);
 
   private final String value;
 
@@ -21,12 +27,7 @@ public enum InteracTransferType {
 
   @JsonCreator
   public static InteracTransferType fromValue(String value) {
-    for (InteracTransferType b : InteracTransferType.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
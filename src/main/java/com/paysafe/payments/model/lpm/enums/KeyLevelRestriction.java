@@ -4,6 +4,7 @@ package com.paysafe.payments.model.lpm.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Payment can be restricted for a certain minimum kyc level (implicitly restricts payment to registered consumers only). Possible values are:
@@ -15,7 +16,12 @@ import com.fasterxml.jackson.annotation.JsonValue;
 public enum KeyLevelRestriction {
   FULL("FULL"),
 
-  SIMPLE("SIMPLE");
+  SIMPLE("SIMPLE"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<KeyLevelRestriction> BY_VALUE =
+      EnumLookup.of(values(), KeyLevelRestriction::getValue, UNKNOWN);
 
   private final String value;
 
@@ -25,12 +31,7 @@ public enum KeyLevelRestriction {
 
   @JsonCreator
   public static KeyLevelRestriction fromValue(String value) {
-    for (KeyLevelRestriction b : KeyLevelRestriction.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
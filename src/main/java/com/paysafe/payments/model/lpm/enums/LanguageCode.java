@@ -4,6 +4,7 @@ package com.paysafe.payments.model.lpm.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * The 2-character preferred language code for the consumer (e.g., AU, AT, BE, BR, CA, CH, CN, DE, ES, GB, FR, IT, NL, PL, PT, RU, or US.)  <br>
@@ -67,7 +68,11 @@ public enum LanguageCode {
 
   ZH_HK("zh_HK"),
 
-  ZH_TW("zh_TW");
+  ZH_TW("zh_TW"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<LanguageCode> BY_VALUE = EnumLookup.of(values(), LanguageCode::getValue, UNKNOWN);
 
   private final String value;
 
@@ -77,12 +82,7 @@ public enum LanguageCode {
 
   @JsonCreator
   public static LanguageCode fromValue(String value) {
-    for (LanguageCode b : LanguageCode.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
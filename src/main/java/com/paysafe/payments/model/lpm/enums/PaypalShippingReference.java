@@ -4,6 +4,7 @@ package com.paysafe.payments.model.lpm.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * The shipping preference. The possible values are:
@@ -19,7 +20,12 @@ public enum PaypalShippingReference {
 
   NO_SHIPPING("NO_SHIPPING"),
 
-  SET_PROVIDED_ADDRESS("SET_PROVIDED_ADDRESS");
+  SET_PROVIDED_ADDRESS("SET_PROVIDED_ADDRESS"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<PaypalShippingReference> BY_VALUE =
+      EnumLookup.of(values(), PaypalShippingReference::getValue, UNKNOWN);
 
   private final String value;
 
@@ -29,12 +35,7 @@ public enum PaypalShippingReference {
 
   @JsonCreator
   public static PaypalShippingReference fromValue(String value) {
-    for (PaypalShippingReference b : PaypalShippingReference.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.lpm.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * Type of payout recipient.
@@ -11,7 +12,10 @@ import com.fasterxml.jackson.annotation.JsonValue;
  */
 public enum RecipientType {
 
-  PAYPAL_ID("PAYPAL_ID");
+  PAYPAL_ID("PAYPAL_ID"),
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<RecipientType> BY_VALUE = EnumLookup.of(values(), RecipientType::getValue, UNKNOWN);
 
   private final String value;
 
@@ -21,12 +25,7 @@ public enum RecipientType {
 
   @JsonCreator
   public static RecipientType fromValue(String value) {
-    for (RecipientType b : RecipientType.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
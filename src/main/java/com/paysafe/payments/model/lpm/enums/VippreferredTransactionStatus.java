@@ -4,6 +4,7 @@ package com.paysafe.payments.model.lpm.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the status of the transaction request. Possible values are:
@@ -29,6 +30,9 @@ public enum VippreferredTransactionStatus {
 
   CANCELLED("CANCELLED");
 
+  private static final EnumLookup<VippreferredTransactionStatus> BY_VALUE =
+      EnumLookup.of(values(), VippreferredTransactionStatus::getValue);
+
   private final String value;
 
   VippreferredTransactionStatus(String value) {
@@ -37,12 +41,7 @@ public enum VippreferredTransactionStatus {
 
   @JsonCreator
   public static VippreferredTransactionStatus fromValue(String value) {
-    for (VippreferredTransactionStatus b : VippreferredTransactionStatus.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,12 +4,16 @@ package com.paysafe.payments.model.monitor.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the status of Payments API service.
  */
 public enum ServiceStatus {
-  READY("READY");
+  READY("READY"),
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<ServiceStatus> BY_VALUE = EnumLookup.of(values(), ServiceStatus::getValue, UNKNOWN);
 
   private final String value;
 
@@ -19,12 +23,7 @@ public enum ServiceStatus {
 
   @JsonCreator
   public static ServiceStatus fromValue(String value) {
-    for (ServiceStatus b : ServiceStatus.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
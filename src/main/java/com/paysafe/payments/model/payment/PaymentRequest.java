@@ -9,6 +9,7 @@ import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.paysafe.payments.model.MerchantReferencedRequest;
 import com.paysafe.payments.model.card.AccordD;
 import com.paysafe.payments.model.card.AcquirerData;
 import com.paysafe.payments.model.card.FundingTransaction;
@@ -57,7 +58,7 @@ import com.paysafe.payments.model.lpm.Splitpay;
  *   <li><strong>acquirerData:</strong> Data from the acquirer associated with the transaction.</li>
  * </ul>
  */
-public class PaymentRequest {
+public class PaymentRequest implements MerchantReferencedRequest {
 
   @JsonProperty("merchantRefNum")
   private String merchantRefNum;
@@ -0,0 +1,141 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.model.payment;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.paysafe.payments.model.common.Meta;
+
+/**
+ * List of {@link PaymentSummary} objects, read from the same response as {@link PaymentList}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PaymentSummaryList {
+
+  @JsonProperty("payments")
+  private List<PaymentSummary> payments = null;
+  @JsonProperty("meta")
+  private Meta meta;
+
+  public PaymentSummaryList() {
+    super();
+  }
+
+  private PaymentSummaryList(Builder builder) {
+    setPayments(builder.payments);
+    setMeta(builder.meta);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * An array of Payment summaries.
+   *
+   * @return payments
+   */
+  public List<PaymentSummary> getPayments() {
+    return payments;
+  }
+
+  public void setPayments(List<PaymentSummary> payments) {
+    this.payments = payments;
+  }
+
+  /**
+   * Contains meta info for the pagination APIs
+   *
+   * @return meta
+   */
+  public Meta getMeta() {
+    return meta;
+  }
+
+  public void setMeta(Meta meta) {
+    this.meta = meta;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PaymentSummaryList paymentSummaryList = (PaymentSummaryList) o;
+    return Objects.equals(this.payments, paymentSummaryList.payments) &&
+        Objects.equals(this.meta, paymentSummaryList.meta);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(payments, meta);
+  }
+
+  @Override
+  public String toString() {
+
+    return "class PaymentSummaryList {\n"
+        + "    payments: " + toIndentedString(payments) + "\n"
+        + "    meta: " + toIndentedString(meta) + "\n"
+        + "}";
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * {@code PaymentSummaryList} builder static inner class.
+   */
+  public static final class Builder {
+    private List<PaymentSummary> payments;
+    private Meta meta;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the {@code payments} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param payments the {@code payments} to set
+     * @return a reference to this Builder
+     */
+    public Builder payments(List<PaymentSummary> payments) {
+      this.payments = payments;
+      return this;
+    }
+
+    /**
+     * Sets the {@code meta} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param meta the {@code meta} to set
+     * @return a reference to this Builder
+     */
+    public Builder meta(Meta meta) {
+      this.meta = meta;
+      return this;
+    }
+
+    /**
+     * Returns a {@code PaymentSummaryList} built from the parameters previously set.
+     *
+     * @return a {@code PaymentSummaryList} built with parameters of this {@code PaymentSummaryList.Builder}
+     */
+    public PaymentSummaryList build() {
+      return new PaymentSummaryList(this);
+    }
+  }
+}
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.payment.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the status of the transaction request for payment, verification. Possible values are
@@ -31,7 +32,12 @@ public enum PaymentRequestStatus {
 
   CANCELLED("CANCELLED"),
 
-  PENDING("PENDING");
+  PENDING("PENDING"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<PaymentRequestStatus> BY_VALUE =
+      EnumLookup.of(values(), PaymentRequestStatus::getValue, UNKNOWN);
 
   private final String value;
 
@@ -41,12 +47,7 @@ public enum PaymentRequestStatus {
 
   @JsonCreator
   public static PaymentRequestStatus fromValue(String value) {
-    for (PaymentRequestStatus b : PaymentRequestStatus.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -10,6 +10,7 @@ import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.paysafe.payments.model.MerchantReferencedRequest;
 import com.paysafe.payments.model.applepay.ApplePay;
 import com.paysafe.payments.model.card.Card;
 import com.paysafe.payments.model.card.CardAuthentication;
@@ -137,7 +138,7 @@ import com.paysafe.payments.model.standalonecredit.Interac;
  *   </li>
  * </ul>
  */
-public class PaymentHandleRequest {
+public class PaymentHandleRequest implements MerchantReferencedRequest {
 
   @JsonProperty("merchantRefNum")
   private String merchantRefNum;
@@ -0,0 +1,355 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.model.paymenthandle;
+
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.paysafe.payments.model.common.enums.CurrencyCode;
+
+/**
+ * Summary of a {@link PaymentHandle}, containing only its identifiers, status, amount and timestamps.
+ *
+ * <p>Reading a response as {@code PaymentHandleSummary} binds only these properties. The parser skips the values of all
+ * other properties, e.g. card, billingDetails, returnLinks or the blocks of alternative payment methods, without
+ * creating objects for them, so status checks and lookups of many payment handles take less time and memory than
+ * reading full {@code PaymentHandle} objects.</p>
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PaymentHandleSummary {
+
+  @JsonProperty("id")
+  private String id;
+  @JsonProperty("merchantRefNum")
+  private String merchantRefNum;
+  @JsonProperty("paymentHandleToken")
+  private String paymentHandleToken;
+  @JsonProperty("status")
+  private String status;
+  @JsonProperty("amount")
+  private Integer amount;
+  @JsonProperty("currencyCode")
+  private CurrencyCode currencyCode;
+  @JsonProperty("txnTime")
+  private String txnTime;
+  @JsonProperty("updatedTime")
+  private String updatedTime;
+  @JsonProperty("statusTime")
+  private String statusTime;
+
+  public PaymentHandleSummary() {
+    super();
+  }
+
+  private PaymentHandleSummary(Builder builder) {
+    setId(builder.id);
+    setMerchantRefNum(builder.merchantRefNum);
+    setPaymentHandleToken(builder.paymentHandleToken);
+    setStatus(builder.status);
+    setAmount(builder.amount);
+    setCurrencyCode(builder.currencyCode);
+    setTxnTime(builder.txnTime);
+    setUpdatedTime(builder.updatedTime);
+    setStatusTime(builder.statusTime);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * This is the ID returned in the response. This ID can be used for future associated requests, for example, to look up the Payment Handle.
+   *
+   * @return id
+   */
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  /**
+   * This is the merchant reference number created by the merchant and submitted as part of the request.
+   *
+   * @return merchantRefNum
+   */
+  public String getMerchantRefNum() {
+    return merchantRefNum;
+  }
+
+  public void setMerchantRefNum(String merchantRefNum) {
+    this.merchantRefNum = merchantRefNum;
+  }
+
+  /**
+   * This is the payment token generated by Paysafe that will be used by merchants for Payment API requests.
+   *
+   * @return paymentHandleToken
+   */
+  public String getPaymentHandleToken() {
+    return paymentHandleToken;
+  }
+
+  public void setPaymentHandleToken(String paymentHandleToken) {
+    this.paymentHandleToken = paymentHandleToken;
+  }
+
+  /**
+   * This is the status of the Payment Handle.
+   *
+   * @return status
+   */
+  public String getStatus() {
+    return status;
+  }
+
+  public void setStatus(String status) {
+    this.status = status;
+  }
+
+  /**
+   * The amount of the transaction, in minor units.
+   *
+   * @return amount
+   */
+  public Integer getAmount() {
+    return amount;
+  }
+
+  public void setAmount(Integer amount) {
+    this.amount = amount;
+  }
+
+  /**
+   * The currency of the transaction, in ISO 4217 format.
+   *
+   * @return currencyCode
+   */
+  public CurrencyCode getCurrencyCode() {
+    return currencyCode;
+  }
+
+  public void setCurrencyCode(CurrencyCode currencyCode) {
+    this.currencyCode = currencyCode;
+  }
+
+  /**
+   * This is the date and time the request was processed. For example: 2022-12-16T17:45:28Z
+   *
+   * @return txnTime
+   */
+  public String getTxnTime() {
+    return txnTime;
+  }
+
+  public void setTxnTime(String txnTime) {
+    this.txnTime = txnTime;
+  }
+
+  /**
+   * ISO 8601 format (UTC) This is the date and time the resource was last updated, e.g., 2014-01-26T10:32:28Z
+   *
+   * @return updatedTime
+   */
+  public String getUpdatedTime() {
+    return updatedTime;
+  }
+
+  public void setUpdatedTime(String updatedTime) {
+    this.updatedTime = updatedTime;
+  }
+
+  /**
+   * ISO 8601 format (UTC) This is the date and time the resource status was last updated, e.g., 2014-01-26T10:32:28Z
+   *
+   * @return statusTime
+   */
+  public String getStatusTime() {
+    return statusTime;
+  }
+
+  public void setStatusTime(String statusTime) {
+    this.statusTime = statusTime;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PaymentHandleSummary paymentHandleSummary = (PaymentHandleSummary) o;
+    return Objects.equals(this.id, paymentHandleSummary.id) &&
+        Objects.equals(this.merchantRefNum, paymentHandleSummary.merchantRefNum) &&
+        Objects.equals(this.paymentHandleToken, paymentHandleSummary.paymentHandleToken) &&
+        Objects.equals(this.status, paymentHandleSummary.status) &&
+        Objects.equals(this.amount, paymentHandleSummary.amount) &&
+        Objects.equals(this.currencyCode, paymentHandleSummary.currencyCode) &&
+        Objects.equals(this.txnTime, paymentHandleSummary.txnTime) &&
+        Objects.equals(this.updatedTime, paymentHandleSummary.updatedTime) &&
+        Objects.equals(this.statusTime, paymentHandleSummary.statusTime);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id, merchantRefNum, paymentHandleToken, status, amount, currencyCode, txnTime, updatedTime, statusTime);
+  }
+
+  @Override
+  public String toString() {
+
+    return "class PaymentHandleSummary {\n"
+        + "    id: " + toIndentedString(id) + "\n"
+        + "    merchantRefNum: " + toIndentedString(merchantRefNum) + "\n"
+        + "    paymentHandleToken: " + toIndentedString(paymentHandleToken) + "\n"
+        + "    status: " + toIndentedString(status) + "\n"
+        + "    amount: " + toIndentedString(amount) + "\n"
+        + "    currencyCode: " + toIndentedString(currencyCode) + "\n"
+        + "    txnTime: " + toIndentedString(txnTime) + "\n"
+        + "    updatedTime: " + toIndentedString(updatedTime) + "\n"
+        + "    statusTime: " + toIndentedString(statusTime) + "\n"
+        + "}";
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * {@code PaymentHandleSummary} builder static inner class.
+   */
+  public static final class Builder {
+    private String id;
+    private String merchantRefNum;
+    private String paymentHandleToken;
+    private String status;
+    private Integer amount;
+    private CurrencyCode currencyCode;
+    private String txnTime;
+    private String updatedTime;
+    private String statusTime;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the {@code id} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param id the {@code id} to set
+     * @return a reference to this Builder
+     */
+    public Builder id(String id) {
+      this.id = id;
+      return this;
+    }
+
+    /**
+     * Sets the {@code merchantRefNum} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param merchantRefNum the {@code merchantRefNum} to set
+     * @return a reference to this Builder
+     */
+    public Builder merchantRefNum(String merchantRefNum) {
+      this.merchantRefNum = merchantRefNum;
+      return this;
+    }
+
+    /**
+     * Sets the {@code paymentHandleToken} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param paymentHandleToken the {@code paymentHandleToken} to set
+     * @return a reference to this Builder
+     */
+    public Builder paymentHandleToken(String paymentHandleToken) {
+      this.paymentHandleToken = paymentHandleToken;
+      return this;
+    }
+
+    /**
+     * Sets the {@code status} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param status the {@code status} to set
+     * @return a reference to this Builder
+     */
+    public Builder status(String status) {
+      this.status = status;
+      return this;
+    }
+
+    /**
+     * Sets the {@code amount} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param amount the {@code amount} to set
+     * @return a reference to this Builder
+     */
+    public Builder amount(Integer amount) {
+      this.amount = amount;
+      return this;
+    }
+
+    /**
+     * Sets the {@code currencyCode} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param currencyCode the {@code currencyCode} to set
+     * @return a reference to this Builder
+     */
+    public Builder currencyCode(CurrencyCode currencyCode) {
+      this.currencyCode = currencyCode;
+      return this;
+    }
+
+    /**
+     * Sets the {@code txnTime} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param txnTime the {@code txnTime} to set
+     * @return a reference to this Builder
+     */
+    public Builder txnTime(String txnTime) {
+      this.txnTime = txnTime;
+      return this;
+    }
+
+    /**
+     * Sets the {@code updatedTime} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param updatedTime the {@code updatedTime} to set
+     * @return a reference to this Builder
+     */
+    public Builder updatedTime(String updatedTime) {
+      this.updatedTime = updatedTime;
+      return this;
+    }
+
+    /**
+     * Sets the {@code statusTime} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param statusTime the {@code statusTime} to set
+     * @return a reference to this Builder
+     */
+    public Builder statusTime(String statusTime) {
+      this.statusTime = statusTime;
+      return this;
+    }
+
+    /**
+     * Returns a {@code PaymentHandleSummary} built from the parameters previously set.
+     *
+     * @return a {@code PaymentHandleSummary} built with parameters of this {@code PaymentHandleSummary.Builder}
+     */
+    public PaymentHandleSummary build() {
+      return new PaymentHandleSummary(this);
+    }
+  }
+}
@@ -0,0 +1,141 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.model.paymenthandle;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.paysafe.payments.model.common.Meta;
+
+/**
+ * List of {@link PaymentHandleSummary} objects, read from the same response as {@link PaymentHandleList}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PaymentHandleSummaryList {
+
+  @JsonProperty("paymentHandles")
+  private List<PaymentHandleSummary> paymentHandles = null;
+  @JsonProperty("meta")
+  private Meta meta;
+
+  public PaymentHandleSummaryList() {
+    super();
+  }
+
+  private PaymentHandleSummaryList(Builder builder) {
+    setPaymentHandles(builder.paymentHandles);
+    setMeta(builder.meta);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * An array of Payment Handle summaries.
+   *
+   * @return paymentHandles
+   */
+  public List<PaymentHandleSummary> getPaymentHandles() {
+    return paymentHandles;
+  }
+
+  public void setPaymentHandles(List<PaymentHandleSummary> paymentHandles) {
+    this.paymentHandles = paymentHandles;
+  }
+
+  /**
+   * Contains meta info for the pagination APIs
+   *
+   * @return meta
+   */
+  public Meta getMeta() {
+    return meta;
+  }
+
+  public void setMeta(Meta meta) {
+    this.meta = meta;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PaymentHandleSummaryList paymentHandleSummaryList = (PaymentHandleSummaryList) o;
+    return Objects.equals(this.paymentHandles, paymentHandleSummaryList.paymentHandles) &&
+        Objects.equals(this.meta, paymentHandleSummaryList.meta);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(paymentHandles, meta);
+  }
+
+  @Override
+  public String toString() {
+
+    return "class PaymentHandleSummaryList {\n"
+        + "    paymentHandles: " + toIndentedString(paymentHandles) + "\n"
+        + "    meta: " + toIndentedString(meta) + "\n"
+        + "}";
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * {@code PaymentHandleSummaryList} builder static inner class.
+   */
+  public static final class Builder {
+    private List<PaymentHandleSummary> paymentHandles;
+    private Meta meta;
+
+    private Builder() {
+    }
+
+    /**
+     * Sets the {@code paymentHandles} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param paymentHandles the {@code paymentHandles} to set
+     * @return a reference to this Builder
+     */
+    public Builder paymentHandles(List<PaymentHandleSummary> paymentHandles) {
+      this.paymentHandles = paymentHandles;
+      return this;
+    }
+
+    /**
+     * Sets the {@code meta} and returns a reference to this Builder enabling method chaining.
+     *
+     * @param meta the {@code meta} to set
+     * @return a reference to this Builder
+     */
+    public Builder meta(Meta meta) {
+      this.meta = meta;
+      return this;
+    }
+
+    /**
+     * Returns a {@code PaymentHandleSummaryList} built from the parameters previously set.
+     *
+     * @return a {@code PaymentHandleSummaryList} built with parameters of this {@code PaymentHandleSummaryList.Builder}
+     */
+    public PaymentHandleSummaryList build() {
+      return new PaymentHandleSummaryList(this);
+    }
+  }
+}
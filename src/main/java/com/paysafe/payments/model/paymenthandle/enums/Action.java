@@ -4,6 +4,7 @@ package com.paysafe.payments.model.paymenthandle.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This specifies the next step of the user journey once they proceed to the Payment. Possible values are:
@@ -25,7 +26,11 @@ public enum Action {
 
   REDIRECT("REDIRECT"),
 
-  LOOKUP("LOOKUP");
+  LOOKUP("LOOKUP"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<Action> BY_VALUE = EnumLookup.of(values(), Action::getValue, UNKNOWN);
 
   private final String value;
 
@@ -35,12 +40,7 @@ public enum Action {
 
   @JsonCreator
   public static Action fromValue(String value) {
-    for (Action b : Action.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.paymenthandle.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This specifies the action of the merchant server in order to complete the Payment. Possible values are:
@@ -22,7 +23,11 @@ public enum ExecutionMode {
 
   SYNCHRONOUS("SYNCHRONOUS"),
 
-  ASYNCHRONOUS("ASYNCHRONOUS");
+  ASYNCHRONOUS("ASYNCHRONOUS"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<ExecutionMode> BY_VALUE = EnumLookup.of(values(), ExecutionMode::getValue, UNKNOWN);
 
   private final String value;
 
@@ -32,12 +37,7 @@ public enum ExecutionMode {
 
   @JsonCreator
   public static ExecutionMode fromValue(String value) {
-    for (ExecutionMode b : ExecutionMode.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
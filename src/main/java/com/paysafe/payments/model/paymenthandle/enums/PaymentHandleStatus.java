@@ -4,6 +4,7 @@ package com.paysafe.payments.model.paymenthandle.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the status of the payment handle. Possible values are:
@@ -39,7 +40,12 @@ public enum PaymentHandleStatus {
 
   EXPIRED("EXPIRED"),
 
-  COMPLETED("COMPLETED");
+  COMPLETED("COMPLETED"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<PaymentHandleStatus> BY_VALUE =
+      EnumLookup.of(values(), PaymentHandleStatus::getValue, UNKNOWN);
 
   private final String value;
 
@@ -49,12 +55,7 @@ public enum PaymentHandleStatus {
 
   @JsonCreator
   public static PaymentHandleStatus fromValue(String value) {
-    for (PaymentHandleStatus b : PaymentHandleStatus.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.paymenthandle.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This specifies how the Payment Handle will be used for Payments. Possible values are:
@@ -15,7 +16,12 @@ import com.fasterxml.jackson.annotation.JsonValue;
 public enum PaymentHandleUsage {
   SINGLE_USE("SINGLE_USE"),
 
-  MULTI_USE("MULTI_USE");
+  MULTI_USE("MULTI_USE"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<PaymentHandleUsage> BY_VALUE =
+      EnumLookup.of(values(), PaymentHandleUsage::getValue, UNKNOWN);
 
   private final String value;
 
@@ -25,12 +31,7 @@ public enum PaymentHandleUsage {
 
   @JsonCreator
   public static PaymentHandleUsage fromValue(String value) {
-    for (PaymentHandleUsage b : PaymentHandleUsage.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
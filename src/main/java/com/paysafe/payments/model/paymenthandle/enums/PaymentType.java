@@ -4,6 +4,7 @@ package com.paysafe.payments.model.paymenthandle.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the payment type associated with the Payment Handle used for this request. For Apple Pay and Google Pay, paymentType is 'CARD'.
@@ -60,7 +61,11 @@ public enum PaymentType {
 
   BOLETO_BANCARIO("BOLETO_BANCARIO"),
 
-  SAFETYPAY_CASH("SAFETYPAY_CASH");
+  SAFETYPAY_CASH("SAFETYPAY_CASH"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<PaymentType> BY_VALUE = EnumLookup.of(values(), PaymentType::getValue, UNKNOWN);
 
   private final String value;
 
@@ -70,12 +75,7 @@ public enum PaymentType {
 
   @JsonCreator
   public static PaymentType fromValue(String value) {
-    for (PaymentType b : PaymentType.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.paymenthandle.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the link type that allows different endpoints to be targeted depending on the end state of the transaction.
@@ -39,7 +40,11 @@ public enum ReturnLinkRel {
 
   ON_FAILED("on_failed"),
 
-  ON_CANCELLED("on_cancelled");
+  ON_CANCELLED("on_cancelled"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<ReturnLinkRel> BY_VALUE = EnumLookup.of(values(), ReturnLinkRel::getValue, UNKNOWN);
 
   private final String value;
 
@@ -49,12 +54,7 @@ public enum ReturnLinkRel {
 
   @JsonCreator
   public static ReturnLinkRel fromValue(String value) {
-    for (ReturnLinkRel b : ReturnLinkRel.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.paymenthandle.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This specifies the transaction type for which the Payment Handle is created.
@@ -29,7 +30,12 @@ public enum TransactionType {
 
   ORIGINAL_CREDIT("ORIGINAL_CREDIT"),
 
-  VERIFICATION("VERIFICATION");
+  VERIFICATION("VERIFICATION"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<TransactionType> BY_VALUE =
+      EnumLookup.of(values(), TransactionType::getValue, UNKNOWN);
 
   private final String value;
 
@@ -39,12 +45,7 @@ public enum TransactionType {
 
   @JsonCreator
   public static TransactionType fromValue(String value) {
-    for (TransactionType b : TransactionType.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -10,12 +10,13 @@ import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.paysafe.payments.model.MerchantReferencedRequest;
 import com.paysafe.payments.model.lpm.Splitpay;
 
 /**
  * These are internal details to be passed in the process Refund request.
  */
-public class RefundRequest {
+public class RefundRequest implements MerchantReferencedRequest {
 
   @JsonProperty("merchantRefNum")
   private String merchantRefNum;
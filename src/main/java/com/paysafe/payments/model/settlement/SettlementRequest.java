@@ -10,6 +10,7 @@ import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.paysafe.payments.model.MerchantReferencedRequest;
 import com.paysafe.payments.model.common.travel.airline.AirlineTravelDetails;
 import com.paysafe.payments.model.common.travel.carrental.CarRentalDetails;
 import com.paysafe.payments.model.common.travel.cruise.CruiselineTravelDetails;
@@ -19,7 +20,7 @@ import com.paysafe.payments.model.lpm.Splitpay;
 /**
  * SettlementRequest
  */
-public class SettlementRequest {
+public class SettlementRequest implements MerchantReferencedRequest {
 
   @JsonProperty("merchantRefNum")
   private String merchantRefNum;
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.settlement.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the payment type associated with the settlement used for this request.
@@ -17,7 +18,12 @@ public enum SettlementPaymentType {
 
   PAYPAL("PAYPAL"),
 
-  INTERAC("INTERAC");
+  INTERAC("INTERAC"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<SettlementPaymentType> BY_VALUE =
+      EnumLookup.of(values(), SettlementPaymentType::getValue, UNKNOWN);
 
   private final String value;
 
@@ -27,12 +33,7 @@ public enum SettlementPaymentType {
 
   @JsonCreator
   public static SettlementPaymentType fromValue(String value) {
-    for (SettlementPaymentType b : SettlementPaymentType.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
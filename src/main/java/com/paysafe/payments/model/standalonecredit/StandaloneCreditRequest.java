@@ -8,6 +8,7 @@ import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.paysafe.payments.model.MerchantReferencedRequest;
 import com.paysafe.payments.model.card.MerchantDescriptor;
 import com.paysafe.payments.model.common.enums.CurrencyCode;
 import com.paysafe.payments.model.common.paymentfacilitator.PaymentFacilitator;
@@ -15,7 +16,7 @@ import com.paysafe.payments.model.common.paymentfacilitator.PaymentFacilitator;
 /**
  * StandaloneCreditRequest
  */
-public class StandaloneCreditRequest {
+public class StandaloneCreditRequest implements MerchantReferencedRequest {
 
   @JsonProperty("merchantRefNum")
   private String merchantRefNum;
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.standalonecredit.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * The transactionIntent property is used to identify the intent of the authorization requests.
@@ -34,7 +35,12 @@ public enum TransactionIntentCredit {
 
   OTHER("OTHER"),
 
-  SALARY("SALARY");
+  SALARY("SALARY"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<TransactionIntentCredit> BY_VALUE =
+      EnumLookup.of(values(), TransactionIntentCredit::toString, UNKNOWN);
 
   private final String value;
 
@@ -44,12 +50,7 @@ public enum TransactionIntentCredit {
 
   @JsonCreator
   public static TransactionIntentCredit fromValue(String value) {
-    for (TransactionIntentCredit b : TransactionIntentCredit.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @Override
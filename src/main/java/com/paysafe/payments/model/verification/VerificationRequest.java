@@ -8,6 +8,7 @@ import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.paysafe.payments.model.MerchantReferencedRequest;
 import com.paysafe.payments.model.common.paymentfacilitator.PaymentFacilitator;
 
 /**
@@ -41,7 +42,7 @@ import com.paysafe.payments.model.common.paymentfacilitator.PaymentFacilitator;
  *   </li>
  * </ul>
  */
-public class VerificationRequest {
+public class VerificationRequest implements MerchantReferencedRequest {
 
   @JsonProperty("merchantRefNum")
   private String merchantRefNum;
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.verification.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the payment type associated with the Payment Handle used for this request.
@@ -21,7 +22,12 @@ public enum VerificationPaymentType {
 
   SKRILL("SKRILL"),
 
-  NETELLER("NETELLER");
+  NETELLER("NETELLER"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<VerificationPaymentType> BY_VALUE =
+      EnumLookup.of(values(), VerificationPaymentType::getValue, UNKNOWN);
 
   private final String value;
 
@@ -31,12 +37,7 @@ public enum VerificationPaymentType {
 
   @JsonCreator
   public static VerificationPaymentType fromValue(String value) {
-    for (VerificationPaymentType b : VerificationPaymentType.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
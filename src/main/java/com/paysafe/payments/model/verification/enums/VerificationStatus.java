@@ -4,6 +4,7 @@ package com.paysafe.payments.model.verification.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the status of the verification request. Possible values are:
@@ -21,7 +22,12 @@ public enum VerificationStatus {
 
   RECEIVED("RECEIVED"),
 
-  ERROR("ERROR");
+  ERROR("ERROR"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<VerificationStatus> BY_VALUE =
+      EnumLookup.of(values(), VerificationStatus::getValue, UNKNOWN);
 
   private final String value;
 
@@ -31,12 +37,7 @@ public enum VerificationStatus {
 
   @JsonCreator
   public static VerificationStatus fromValue(String value) {
-    for (VerificationStatus b : VerificationStatus.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -4,6 +4,7 @@ package com.paysafe.payments.model.voidauthorization.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.paysafe.payments.config.EnumLookup;
 
 /**
  * This is the status of the transaction request. Possible values are:
@@ -27,7 +28,12 @@ public enum VoidAuthorizationStatus {
 
   CANCELLED("CANCELLED"),
 
-  PENDING("PENDING");
+  PENDING("PENDING"),
+
+  UNKNOWN("UNKNOWN");
+
+  private static final EnumLookup<VoidAuthorizationStatus> BY_VALUE =
+      EnumLookup.of(values(), VoidAuthorizationStatus::getValue, UNKNOWN);
 
   private final String value;
 
@@ -37,12 +43,7 @@ public enum VoidAuthorizationStatus {
 
   @JsonCreator
   public static VoidAuthorizationStatus fromValue(String value) {
-    for (VoidAuthorizationStatus b : VoidAuthorizationStatus.values()) {
-      if (b.value.equalsIgnoreCase(value)) {
-        return b;
-      }
-    }
-    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    return BY_VALUE.fromValue(value);
   }
 
   @JsonValue
@@ -2,6 +2,8 @@
 
 package com.paysafe.payments.service;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
 import com.paysafe.payments.model.customer.Address;
@@ -130,4 +132,73 @@ public interface CustomerAddressService {
    * @throws PaysafeSdkException If the request fails or the response cannot be processed.
    */
   void deleteAddress(final String customerId, final String addressId, final RequestOptions requestOptions) throws PaysafeSdkException;
-}
\ No newline at end of file
+
+  /**
+   * Asynchronous variant of {@link #createAddress(String, Address)}. Uses PaysafeClient configuration to execute
+   * request.
+   *
+   * @return CompletableFuture completed with Address, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Address> createAddressAsync(final String customerId, final Address address);
+
+  /**
+   * Asynchronous variant of {@link #createAddress(String, Address, RequestOptions)}. The request will be executed using
+   * custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with Address, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Address> createAddressAsync(final String customerId, final Address address,
+      final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #getAddressById(String, String)}. Uses PaysafeClient configuration to execute
+   * request.
+   *
+   * @return CompletableFuture completed with Address, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Address> getAddressByIdAsync(final String customerId, final String addressId);
+
+  /**
+   * Asynchronous variant of {@link #getAddressById(String, String, RequestOptions)}. The request will be executed using
+   * custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with Address, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Address> getAddressByIdAsync(final String customerId, final String addressId,
+      final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #updateAddress(String, String, Address)}. Uses PaysafeClient configuration to execute
+   * request.
+   *
+   * @return CompletableFuture completed with Address, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Address> updateAddressAsync(final String customerId, final String addressId, final Address address);
+
+  /**
+   * Asynchronous variant of {@link #updateAddress(String, String, Address, RequestOptions)}. The request will be
+   * executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with Address, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Address> updateAddressAsync(final String customerId, final String addressId, final Address address,
+      final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #deleteAddress(String, String)}. Uses PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed when the request succeeds, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<Void> deleteAddressAsync(final String customerId, final String addressId);
+
+  /**
+   * Asynchronous variant of {@link #deleteAddress(String, String, RequestOptions)}. The request will be executed using
+   * custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed when the request succeeds, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<Void> deleteAddressAsync(final String customerId, final String addressId,
+      final RequestOptions requestOptions);
+}
@@ -2,6 +2,8 @@
 
 package com.paysafe.payments.service;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
 import com.paysafe.payments.model.customer.CustomerPaymentHandle;
@@ -194,4 +196,86 @@ public interface CustomerPaymentHandleService {
    */
   void deleteCustomerPaymentHandle(final String customerId, final String paymentHandleId,
       final RequestOptions requestOptions) throws PaysafeSdkException;
+
+  /**
+   * Asynchronous variant of {@link #createPaymentHandleForCustomer(String, CustomerPaymentHandleRequest)}. Uses
+   * PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed with CustomerPaymentHandle, or exceptionally with PaysafeSdkException if an
+   * error occurs
+   */
+  CompletableFuture<CustomerPaymentHandle> createPaymentHandleForCustomerAsync(final String customerId,
+      final CustomerPaymentHandleRequest customerPaymentHandleRequest);
+
+  /**
+   * Asynchronous variant of {@link
+   * #createPaymentHandleForCustomer(String, CustomerPaymentHandleRequest, RequestOptions)}. The request will be executed
+   * using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with CustomerPaymentHandle, or exceptionally with PaysafeSdkException if an
+   * error occurs
+   */
+  CompletableFuture<CustomerPaymentHandle> createPaymentHandleForCustomerAsync(final String customerId,
+      final CustomerPaymentHandleRequest customerPaymentHandleRequest, final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #getCustomerPaymentHandleByPaymentHandleId(String, String)}. Uses PaysafeClient
+   * configuration to execute request.
+   *
+   * @return CompletableFuture completed with CustomerPaymentHandle, or exceptionally with PaysafeSdkException if an
+   * error occurs
+   */
+  CompletableFuture<CustomerPaymentHandle> getCustomerPaymentHandleByPaymentHandleIdAsync(final String customerId,
+      final String paymentHandleId);
+
+  /**
+   * Asynchronous variant of {@link #getCustomerPaymentHandleByPaymentHandleId(String, String, RequestOptions)}. The
+   * request will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with CustomerPaymentHandle, or exceptionally with PaysafeSdkException if an
+   * error occurs
+   */
+  CompletableFuture<CustomerPaymentHandle> getCustomerPaymentHandleByPaymentHandleIdAsync(final String customerId,
+      final String paymentHandleId, final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #updateCustomerPaymentHandle(String, String, CustomerPaymentHandleRequest)}. Uses
+   * PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed with CustomerPaymentHandle, or exceptionally with PaysafeSdkException if an
+   * error occurs
+   */
+  CompletableFuture<CustomerPaymentHandle> updateCustomerPaymentHandleAsync(final String customerId,
+      final String paymentHandleId, final CustomerPaymentHandleRequest customerPaymentHandleRequest);
+
+  /**
+   * Asynchronous variant of {@link
+   * #updateCustomerPaymentHandle(String, String, CustomerPaymentHandleRequest, RequestOptions)}. The request will be
+   * executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with CustomerPaymentHandle, or exceptionally with PaysafeSdkException if an
+   * error occurs
+   */
+  CompletableFuture<CustomerPaymentHandle> updateCustomerPaymentHandleAsync(final String customerId,
+      final String paymentHandleId, final CustomerPaymentHandleRequest customerPaymentHandleRequest,
+      final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #deleteCustomerPaymentHandle(String, String)}. Uses PaysafeClient configuration to
+   * execute request.
+   *
+   * @return CompletableFuture completed when the request succeeds, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<Void> deleteCustomerPaymentHandleAsync(final String customerId, final String paymentHandleId);
+
+  /**
+   * Asynchronous variant of {@link #deleteCustomerPaymentHandle(String, String, RequestOptions)}. The request will be
+   * executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed when the request succeeds, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<Void> deleteCustomerPaymentHandleAsync(final String customerId, final String paymentHandleId,
+      final RequestOptions requestOptions);
 }
@@ -3,6 +3,7 @@
 package com.paysafe.payments.service;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
@@ -162,4 +163,87 @@ public interface CustomerService {
    * @throws PaysafeSdkException if an error occurs
    */
   void deleteCustomer(final String customerId, final RequestOptions requestOptions) throws PaysafeSdkException;
+
+  /**
+   * Asynchronous variant of {@link #createCustomer(CustomerRequest)}. Uses PaysafeClient configuration to execute
+   * request.
+   *
+   * @return CompletableFuture completed with Customer, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Customer> createCustomerAsync(final CustomerRequest customerRequest);
+
+  /**
+   * Asynchronous variant of {@link #createCustomer(CustomerRequest, RequestOptions)}. The request will be executed using
+   * custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with Customer, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Customer> createCustomerAsync(final CustomerRequest customerRequest, final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #getCustomerById(String, Set)}. Uses PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed with Customer, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Customer> getCustomerByIdAsync(final String customerId, final Set<String> fields);
+
+  /**
+   * Asynchronous variant of {@link #getCustomerById(String, Set, RequestOptions)}. The request will be executed using
+   * custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with Customer, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Customer> getCustomerByIdAsync(final String customerId, final Set<String> fields,
+      final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #getCustomerByMerchantCustomerId(String, Set)}. Uses PaysafeClient configuration to
+   * execute request.
+   *
+   * @return CompletableFuture completed with Customer, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Customer> getCustomerByMerchantCustomerIdAsync(final String merchantCustomerId, final Set<String> fields);
+
+  /**
+   * Asynchronous variant of {@link #getCustomerByMerchantCustomerId(String, Set, RequestOptions)}. The request will be
+   * executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with Customer, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Customer> getCustomerByMerchantCustomerIdAsync(final String merchantCustomerId, final Set<String> fields,
+      final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #updateCustomer(String, CustomerRequest)}. Uses PaysafeClient configuration to
+   * execute request.
+   *
+   * @return CompletableFuture completed with Customer, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Customer> updateCustomerAsync(final String customerId, final CustomerRequest customerRequest);
+
+  /**
+   * Asynchronous variant of {@link #updateCustomer(String, CustomerRequest, RequestOptions)}. The request will be
+   * executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with Customer, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Customer> updateCustomerAsync(final String customerId, final CustomerRequest customerRequest,
+      final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #deleteCustomer(String)}. Uses PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed when the request succeeds, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<Void> deleteCustomerAsync(final String customerId);
+
+  /**
+   * Asynchronous variant of {@link #deleteCustomer(String, RequestOptions)}. The request will be executed using custom
+   * RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed when the request succeeds, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<Void> deleteCustomerAsync(final String customerId, final RequestOptions requestOptions);
 }
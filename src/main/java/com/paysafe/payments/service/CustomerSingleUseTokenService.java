@@ -2,6 +2,8 @@
 
 package com.paysafe.payments.service;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
 import com.paysafe.payments.model.customer.singleusecustomertoken.SingleUseCustomerToken;
@@ -76,4 +78,44 @@ public interface CustomerSingleUseTokenService {
    */
   SingleUseCustomerToken getSingleUseCustomerToken(final String singleUseCustomerTokenId,
       final RequestOptions requestOptions) throws PaysafeSdkException;
+
+  /**
+   * Asynchronous variant of {@link #createSingleUseCustomerToken(String, SingleUseCustomerTokenRequest)}. Uses
+   * PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed with SingleUseCustomerToken, or exceptionally with PaysafeSdkException if an
+   * error occurs
+   */
+  CompletableFuture<SingleUseCustomerToken> createSingleUseCustomerTokenAsync(final String customerId,
+      final SingleUseCustomerTokenRequest requestBody);
+
+  /**
+   * Asynchronous variant of {@link
+   * #createSingleUseCustomerToken(String, SingleUseCustomerTokenRequest, RequestOptions)}. The request will be executed
+   * using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with SingleUseCustomerToken, or exceptionally with PaysafeSdkException if an
+   * error occurs
+   */
+  CompletableFuture<SingleUseCustomerToken> createSingleUseCustomerTokenAsync(final String customerId,
+      final SingleUseCustomerTokenRequest requestBody, final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #getSingleUseCustomerToken(String)}. Uses PaysafeClient configuration to execute
+   * request.
+   *
+   * @return CompletableFuture completed with SingleUseCustomerToken, or exceptionally with PaysafeSdkException if an
+   * error occurs
+   */
+  CompletableFuture<SingleUseCustomerToken> getSingleUseCustomerTokenAsync(final String singleUseCustomerTokenId);
+
+  /**
+   * Asynchronous variant of {@link #getSingleUseCustomerToken(String, RequestOptions)}. The request will be executed
+   * using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with SingleUseCustomerToken, or exceptionally with PaysafeSdkException if an
+   * error occurs
+   */
+  CompletableFuture<SingleUseCustomerToken> getSingleUseCustomerTokenAsync(final String singleUseCustomerTokenId,
+      final RequestOptions requestOptions);
 }
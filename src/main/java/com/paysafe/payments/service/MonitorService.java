@@ -2,6 +2,8 @@
 
 package com.paysafe.payments.service;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
 import com.paysafe.payments.model.monitor.MonitorResponse;
@@ -31,4 +33,22 @@ public interface MonitorService {
    * @throws PaysafeSdkException if an error occurs
    */
   MonitorResponse verifyThatServiceIsAccessible(final RequestOptions requestOptions) throws PaysafeSdkException;
+
+  /**
+   * Asynchronous variant of {@link #verifyThatServiceIsAccessible()}. Uses PaysafeClient configuration to execute
+   * request.
+   *
+   * @return CompletableFuture completed with MonitorResponse, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<MonitorResponse> verifyThatServiceIsAccessibleAsync();
+
+  /**
+   * Asynchronous variant of {@link #verifyThatServiceIsAccessible(RequestOptions)}. The request will be executed using
+   * custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with MonitorResponse, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<MonitorResponse> verifyThatServiceIsAccessibleAsync(final RequestOptions requestOptions);
 }
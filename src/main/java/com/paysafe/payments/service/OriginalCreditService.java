@@ -2,8 +2,12 @@
 
 package com.paysafe.payments.service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.errorhandling.exception.UncheckedPaysafeSdkException;
 import com.paysafe.payments.model.common.cancel.CancelRequest;
 import com.paysafe.payments.model.common.cancel.CancelResponse;
 import com.paysafe.payments.model.originalcredit.OriginalCredit;
@@ -141,4 +145,119 @@ public interface OriginalCreditService {
    */
   CancelResponse cancelOriginalCredit(final String originalCreditId, final CancelRequest cancelRequest, final RequestOptions requestOptions)
       throws PaysafeSdkException;
-}
\ No newline at end of file
+
+  /**
+   * Asynchronous variant of {@link #processOriginalCredit(OriginalCreditRequest)}. Uses PaysafeClient configuration to
+   * execute request.
+   *
+   * @return CompletableFuture completed with OriginalCredit, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<OriginalCredit> processOriginalCreditAsync(final OriginalCreditRequest originalCreditRequest);
+
+  /**
+   * Asynchronous variant of {@link #processOriginalCredit(OriginalCreditRequest, RequestOptions)}. The request will be
+   * executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with OriginalCredit, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<OriginalCredit> processOriginalCreditAsync(final OriginalCreditRequest originalCreditRequest,
+      final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #getOriginalCreditById(String)}. Uses PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed with OriginalCredit, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<OriginalCredit> getOriginalCreditByIdAsync(final String originalCreditId);
+
+  /**
+   * Asynchronous variant of {@link #getOriginalCreditById(String, RequestOptions)}. The request will be executed using
+   * custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with OriginalCredit, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<OriginalCredit> getOriginalCreditByIdAsync(final String originalCreditId,
+      final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link
+   * #getOriginalCreditUsingMerchantReferenceNumber(String, String, Integer, Integer, String)}. Uses PaysafeClient
+   * configuration to execute request.
+   *
+   * @return CompletableFuture completed with OriginalCreditList, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<OriginalCreditList> getOriginalCreditUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate);
+
+  /**
+   * Asynchronous variant of {@link
+   * #getOriginalCreditUsingMerchantReferenceNumber(String, String, Integer, Integer, String, RequestOptions)}. The
+   * request will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with OriginalCreditList, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<OriginalCreditList> getOriginalCreditUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate,
+      final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #cancelOriginalCredit(String, CancelRequest)}. Uses PaysafeClient configuration to
+   * execute request.
+   *
+   * @return CompletableFuture completed with CancelResponse, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<CancelResponse> cancelOriginalCreditAsync(final String originalCreditId, final CancelRequest cancelRequest);
+
+  /**
+   * Asynchronous variant of {@link #cancelOriginalCredit(String, CancelRequest, RequestOptions)}. The request will be
+   * executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with CancelResponse, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<CancelResponse> cancelOriginalCreditAsync(final String originalCreditId, final CancelRequest cancelRequest,
+      final RequestOptions requestOptions);
+
+  /**
+   * Streams all original credits using merchant reference number, fetching pages of pageSize records lazily as the stream is
+   * consumed, so that they need not be paged through using limit and offset. Uses PaysafeClient configuration to execute
+   * requests.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/originalcredits</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param pageSize       This is the number of records fetched by each request, a positive value. If null is provided, default value (10) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @return a sequential Stream of OriginalCredit objects, throwing {@link UncheckedPaysafeSdkException} when consumed if an error occurs.
+   * Closing the Stream cancels the request in progress.
+   */
+  Stream<OriginalCredit> streamOriginalCreditsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate);
+
+  /**
+   * Streams all original credits using merchant reference number, fetching pages of pageSize records lazily as the stream is
+   * consumed. The requests will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/originalcredits</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param pageSize       This is the number of records fetched by each request, a positive value. If null is provided, default value (10) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @param requestOptions Custom connectTimeout, responseTimeout, maxAutomaticRetries and/or simulator (if applicable) for these requests.
+   * @return a sequential Stream of OriginalCredit objects, throwing {@link UncheckedPaysafeSdkException} when consumed if an error occurs.
+   * Closing the Stream cancels the request in progress.
+   */
+  Stream<OriginalCredit> streamOriginalCreditsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate, final RequestOptions requestOptions);
+}
@@ -2,11 +2,17 @@
 
 package com.paysafe.payments.service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.errorhandling.exception.UncheckedPaysafeSdkException;
 import com.paysafe.payments.model.paymenthandle.PaymentHandle;
 import com.paysafe.payments.model.paymenthandle.PaymentHandleList;
 import com.paysafe.payments.model.paymenthandle.PaymentHandleRequest;
+import com.paysafe.payments.model.paymenthandle.PaymentHandleSummary;
+import com.paysafe.payments.model.paymenthandle.PaymentHandleSummaryList;
 
 public interface PaymentHandleService {
 
@@ -97,4 +103,200 @@ public interface PaymentHandleService {
    */
   PaymentHandleList getPaymentHandleUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer limit,
       final Integer offset, final String startDate, final RequestOptions requestOptions) throws PaysafeSdkException;
+
+  /**
+   * Asynchronous variant of {@link #createPaymentHandle(PaymentHandleRequest)}. Uses PaysafeClient configuration to
+   * execute request.
+   *
+   * @return CompletableFuture completed with PaymentHandle, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<PaymentHandle> createPaymentHandleAsync(final PaymentHandleRequest paymentHandleRequest);
+
+  /**
+   * Asynchronous variant of {@link #createPaymentHandle(PaymentHandleRequest, RequestOptions)}. The request will be
+   * executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with PaymentHandle, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<PaymentHandle> createPaymentHandleAsync(final PaymentHandleRequest paymentHandleRequest,
+      final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #getPaymentHandleById(String)}. Uses PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed with PaymentHandle, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<PaymentHandle> getPaymentHandleByIdAsync(final String paymentHandleId);
+
+  /**
+   * Asynchronous variant of {@link #getPaymentHandleById(String, RequestOptions)}. The request will be executed using
+   * custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with PaymentHandle, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<PaymentHandle> getPaymentHandleByIdAsync(final String paymentHandleId, final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link
+   * #getPaymentHandleUsingMerchantReferenceNumber(String, String, Integer, Integer, String)}. Uses PaysafeClient
+   * configuration to execute request.
+   *
+   * @return CompletableFuture completed with PaymentHandleList, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<PaymentHandleList> getPaymentHandleUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate);
+
+  /**
+   * Asynchronous variant of {@link
+   * #getPaymentHandleUsingMerchantReferenceNumber(String, String, Integer, Integer, String, RequestOptions)}. The
+   * request will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with PaymentHandleList, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<PaymentHandleList> getPaymentHandleUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate,
+      final RequestOptions requestOptions);
+
+  /**
+   * Streams all payment handles using merchant reference number, fetching pages of pageSize records lazily as the stream is
+   * consumed, so that they need not be paged through using limit and offset. Uses PaysafeClient configuration to execute
+   * requests.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/paymenthandles</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param pageSize       This is the number of records fetched by each request, a positive value. If null is provided, default value (10) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @return a sequential Stream of PaymentHandle objects, throwing {@link UncheckedPaysafeSdkException} when consumed if an error occurs.
+   * Closing the Stream cancels the request in progress.
+   */
+  Stream<PaymentHandle> streamPaymentHandlesUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate);
+
+  /**
+   * Streams all payment handles using merchant reference number, fetching pages of pageSize records lazily as the stream is
+   * consumed. The requests will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/paymenthandles</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param pageSize       This is the number of records fetched by each request, a positive value. If null is provided, default value (10) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @param requestOptions Custom connectTimeout, responseTimeout, maxAutomaticRetries and/or simulator (if applicable) for these requests.
+   * @return a sequential Stream of PaymentHandle objects, throwing {@link UncheckedPaysafeSdkException} when consumed if an error occurs.
+   * Closing the Stream cancels the request in progress.
+   */
+  Stream<PaymentHandle> streamPaymentHandlesUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate, final RequestOptions requestOptions);
+
+  /**
+   * Gets the summary of a specific payment handle by its unique ID, binding only its identifiers, status, amount and
+   * timestamps from the response, instead of the whole PaymentHandle. Uses PaysafeClient configuration to execute
+   * request.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/paymenthandles/{paymentHandleId}</strong></p>
+   *
+   * @param paymentHandleId the unique identifier returned when payment handle was created
+   * @return PaymentHandleSummary
+   * @throws PaysafeSdkException if an error occurs
+   */
+  PaymentHandleSummary getPaymentHandleSummaryById(final String paymentHandleId) throws PaysafeSdkException;
+
+  /**
+   * Gets the summary of a specific payment handle by its unique ID, binding only its identifiers, status, amount and
+   * timestamps from the response. The request will be executed using custom RequestOptions, instead of values from
+   * PaysafeClient.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/paymenthandles/{paymentHandleId}</strong></p>
+   *
+   * @param paymentHandleId the unique identifier returned when payment handle was created
+   * @param requestOptions Custom connectTimeout, responseTimeout, maxAutomaticRetries and/or simulator (if applicable) for this request.
+   * @return PaymentHandleSummary
+   * @throws PaysafeSdkException if an error occurs
+   */
+  PaymentHandleSummary getPaymentHandleSummaryById(final String paymentHandleId, final RequestOptions requestOptions) throws PaysafeSdkException;
+
+  /**
+   * Asynchronous variant of {@link #getPaymentHandleSummaryById(String)}. Uses PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed with PaymentHandleSummary, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<PaymentHandleSummary> getPaymentHandleSummaryByIdAsync(final String paymentHandleId);
+
+  /**
+   * Asynchronous variant of {@link #getPaymentHandleSummaryById(String, RequestOptions)}. The request will be executed using
+   * custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with PaymentHandleSummary, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<PaymentHandleSummary> getPaymentHandleSummaryByIdAsync(final String paymentHandleId, final RequestOptions requestOptions);
+
+  /**
+   * Gets summaries of the payment handles using merchant reference number, binding only their identifiers, status,
+   * amount and timestamps from the response. Uses PaysafeClient configuration to execute request.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/paymenthandles</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param limit          This is the total number of records to return. If null is provided, default value (10) will be used.
+   * @param offset         This is the starting position, where 0 is the first record. If null is provided, default value (0) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @return PaymentHandleSummaryList containing a list of summaries and meta information for the pagination APIs
+   * @throws PaysafeSdkException if an error occurs
+   */
+  PaymentHandleSummaryList getPaymentHandleSummariesUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate,
+      final Integer limit, final Integer offset, final String startDate) throws PaysafeSdkException;
+
+  /**
+   * Gets summaries of the payment handles using merchant reference number, binding only their identifiers, status,
+   * amount and timestamps from the response. The request will be executed using custom RequestOptions, instead of
+   * values from PaysafeClient.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/paymenthandles</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param limit          This is the total number of records to return. If null is provided, default value (10) will be used.
+   * @param offset         This is the starting position, where 0 is the first record. If null is provided, default value (0) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @param requestOptions Custom connectTimeout, responseTimeout, maxAutomaticRetries and/or simulator (if applicable) for this request.
+   * @return PaymentHandleSummaryList containing a list of summaries and meta information for the pagination APIs
+   * @throws PaysafeSdkException if an error occurs
+   */
+  PaymentHandleSummaryList getPaymentHandleSummariesUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate,
+      final Integer limit, final Integer offset, final String startDate, final RequestOptions requestOptions)
+      throws PaysafeSdkException;
+
+  /**
+   * Asynchronous variant of {@link #getPaymentHandleSummariesUsingMerchantReferenceNumber(String, String, Integer, Integer, String)}.
+   * Uses PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed with PaymentHandleSummaryList, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<PaymentHandleSummaryList> getPaymentHandleSummariesUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate);
+
+  /**
+   * Asynchronous variant of {@link
+   * #getPaymentHandleSummariesUsingMerchantReferenceNumber(String, String, Integer, Integer, String, RequestOptions)}.
+   * The request will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with PaymentHandleSummaryList, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<PaymentHandleSummaryList> getPaymentHandleSummariesUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate,
+      final RequestOptions requestOptions);
 }
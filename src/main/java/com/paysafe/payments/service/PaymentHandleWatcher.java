@@ -0,0 +1,39 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.paysafe.payments.model.paymenthandle.PaymentHandle;
+
+/**
+ * Watches payment handles of redirect and asynchronous payment methods, such as Skrill or PayPal, until the customer
+ * completes or abandons the flow. Payment handles are polled with {@code getPaymentHandleById} from a single timer
+ * thread, shared by all watched payment handles, and polling backs off while the status does not change. Cancelling
+ * returned future stops watching.
+ */
+public interface PaymentHandleWatcher {
+
+  /**
+   * Watches provided payment handle, returned by {@code createPaymentHandle}, until its {@code timeToLiveSeconds}
+   * elapse.
+   *
+   * @param paymentHandle payment handle to watch
+   * @return future completed with payment handle once its status is PAYABLE, COMPLETED, FAILED or EXPIRED, or with the
+   *     payment handle returned by the last poll once time to live elapses. Completed exceptionally if polling fails with
+   *     an error which is not transient, such as an unknown payment handle ID.
+   * @see #watch(String, int)
+   */
+  CompletableFuture<PaymentHandle> watch(final PaymentHandle paymentHandle);
+
+  /**
+   * Watches payment handle with provided ID until provided time to live elapses.
+   *
+   * @param paymentHandleId   the unique identifier returned when payment handle was created
+   * @param timeToLiveSeconds time, in seconds, after which payment handle is polled for the last time
+   * @return future completed with payment handle once its status is PAYABLE, COMPLETED, FAILED or EXPIRED, or with the
+   *     payment handle returned by the last poll once time to live elapses. Completed exceptionally if polling fails with
+   *     an error which is not transient, such as an unknown payment handle ID.
+   */
+  CompletableFuture<PaymentHandle> watch(final String paymentHandleId, final int timeToLiveSeconds);
+}
@@ -2,6 +2,8 @@
 
 package com.paysafe.payments.service;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
 import com.paysafe.payments.model.common.enums.CurrencyCode;
@@ -36,4 +38,23 @@ public interface PaymentMethodsService {
    * @throws PaysafeSdkException if an error occurs with the Payments API
    */
   LookUpPaymentMethodsResponse lookUpPaymentMethods(final CurrencyCode currencyCode, final RequestOptions requestOptions) throws PaysafeSdkException;
+
+  /**
+   * Asynchronous variant of {@link #lookUpPaymentMethods(CurrencyCode)}. Uses PaysafeClient configuration to execute
+   * request.
+   *
+   * @return CompletableFuture completed with LookUpPaymentMethodsResponse, or exceptionally with PaysafeSdkException if
+   * an error occurs
+   */
+  CompletableFuture<LookUpPaymentMethodsResponse> lookUpPaymentMethodsAsync(final CurrencyCode currencyCode);
+
+  /**
+   * Asynchronous variant of {@link #lookUpPaymentMethods(CurrencyCode, RequestOptions)}. The request will be executed
+   * using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with LookUpPaymentMethodsResponse, or exceptionally with PaysafeSdkException if
+   * an error occurs
+   */
+  CompletableFuture<LookUpPaymentMethodsResponse> lookUpPaymentMethodsAsync(final CurrencyCode currencyCode,
+      final RequestOptions requestOptions);
 }
@@ -2,13 +2,23 @@
 
 package com.paysafe.payments.service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import com.paysafe.payments.api.BulkOptions;
+import com.paysafe.payments.api.BulkResult;
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.errorhandling.exception.UncheckedPaysafeSdkException;
 import com.paysafe.payments.model.common.cancel.CancelRequest;
 import com.paysafe.payments.model.common.cancel.CancelResponse;
 import com.paysafe.payments.model.payment.Payment;
 import com.paysafe.payments.model.payment.PaymentList;
 import com.paysafe.payments.model.payment.PaymentRequest;
+import com.paysafe.payments.model.payment.PaymentSummary;
+import com.paysafe.payments.model.payment.PaymentSummaryList;
 
 public interface PaymentService {
 
@@ -122,4 +132,260 @@ public interface PaymentService {
    * @throws PaysafeSdkException if an error occurs
    */
   CancelResponse cancelPayment(final String paymentId, final CancelRequest cancelRequest, final RequestOptions requestOptions) throws PaysafeSdkException;
+
+  /**
+   * Asynchronous variant of {@link #processPayment(PaymentRequest)}. Uses PaysafeClient configuration to execute
+   * request.
+   *
+   * @return CompletableFuture completed with Payment, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Payment> processPaymentAsync(final PaymentRequest paymentReqBody);
+
+  /**
+   * Asynchronous variant of {@link #processPayment(PaymentRequest, RequestOptions)}. The request will be executed using
+   * custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with Payment, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Payment> processPaymentAsync(final PaymentRequest paymentReqBody, final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #getPaymentsUsingMerchantReferenceNumber(String, String, Integer, Integer, String)}.
+   * Uses PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed with PaymentList, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<PaymentList> getPaymentsUsingMerchantReferenceNumberAsync(final String merchantRefNum, final String endDate,
+      final Integer limit, final Integer offset, final String startDate);
+
+  /**
+   * Asynchronous variant of {@link
+   * #getPaymentsUsingMerchantReferenceNumber(String, String, Integer, Integer, String, RequestOptions)}. The request
+   * will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with PaymentList, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<PaymentList> getPaymentsUsingMerchantReferenceNumberAsync(final String merchantRefNum, final String endDate,
+      final Integer limit, final Integer offset, final String startDate, final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #getPaymentById(String)}. Uses PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed with Payment, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Payment> getPaymentByIdAsync(final String paymentId);
+
+  /**
+   * Asynchronous variant of {@link #getPaymentById(String, RequestOptions)}. The request will be executed using custom
+   * RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with Payment, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Payment> getPaymentByIdAsync(final String paymentId, final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #cancelPayment(String, CancelRequest)}. Uses PaysafeClient configuration to execute
+   * request.
+   *
+   * @return CompletableFuture completed with CancelResponse, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<CancelResponse> cancelPaymentAsync(final String paymentId, final CancelRequest cancelRequest);
+
+  /**
+   * Asynchronous variant of {@link #cancelPayment(String, CancelRequest, RequestOptions)}. The request will be executed
+   * using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with CancelResponse, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<CancelResponse> cancelPaymentAsync(final String paymentId, final CancelRequest cancelRequest,
+      final RequestOptions requestOptions);
+
+  /**
+   * Streams all payments using merchant reference number, fetching pages of pageSize records lazily as the stream is
+   * consumed, so that they need not be paged through using limit and offset. Uses PaysafeClient configuration to execute
+   * requests.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/payments</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param pageSize       This is the number of records fetched by each request, a positive value. If null is provided, default value (10) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @return a sequential Stream of Payment objects, throwing {@link UncheckedPaysafeSdkException} when consumed if an error occurs.
+   * Closing the Stream cancels the request in progress.
+   */
+  Stream<Payment> streamPaymentsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate);
+
+  /**
+   * Streams all payments using merchant reference number, fetching pages of pageSize records lazily as the stream is
+   * consumed. The requests will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/payments</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param pageSize       This is the number of records fetched by each request, a positive value. If null is provided, default value (10) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @param requestOptions Custom connectTimeout, responseTimeout, maxAutomaticRetries and/or simulator (if applicable) for these requests.
+   * @return a sequential Stream of Payment objects, throwing {@link UncheckedPaysafeSdkException} when consumed if an error occurs.
+   * Closing the Stream cancels the request in progress.
+   */
+  Stream<Payment> streamPaymentsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate, final RequestOptions requestOptions);
+
+  /**
+   * Gets the details of multiple payments by their unique IDs, using asynchronous requests sharing the connection pool of
+   * PaysafeClient. At most 10 requests are in progress at the same time, and there is no deadline. Uses PaysafeClient
+   * configuration to execute requests.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/payments/{paymentId}</strong></p>
+   *
+   * @param paymentIds The IDs of the payments.
+   * @return a list of BulkResult objects in order of provided IDs, each containing either the Payment or the
+   * PaysafeSdkException its request failed with.
+   * @throws PaysafeSdkException if the waiting thread was interrupted
+   */
+  List<BulkResult<Payment>> getPaymentsById(final Collection<String> paymentIds) throws PaysafeSdkException;
+
+  /**
+   * Gets the details of multiple payments by their unique IDs, using asynchronous requests sharing the connection pool of
+   * PaysafeClient. The requests will be executed with parallelism, deadline and RequestOptions of provided BulkOptions.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/payments/{paymentId}</strong></p>
+   *
+   * @param paymentIds The IDs of the payments.
+   * @param bulkOptions Parallelism, deadline and RequestOptions of the requests.
+   * @return a list of BulkResult objects in order of provided IDs, each containing either the Payment or the
+   * PaysafeSdkException its request failed with. Records not received before the deadline fail with ApiConnectionException.
+   * @throws PaysafeSdkException if the waiting thread was interrupted
+   */
+  List<BulkResult<Payment>> getPaymentsById(final Collection<String> paymentIds, final BulkOptions bulkOptions)
+      throws PaysafeSdkException;
+
+  /**
+   * Asynchronous variant of {@link #getPaymentsById(Collection)}. Uses PaysafeClient configuration to execute requests.
+   *
+   * @return CompletableFuture completed with list of BulkResult objects, which is never completed exceptionally
+   */
+  CompletableFuture<List<BulkResult<Payment>>> getPaymentsByIdAsync(final Collection<String> paymentIds);
+
+  /**
+   * Asynchronous variant of {@link #getPaymentsById(Collection, BulkOptions)}. Cancelling the returned future cancels
+   * requests in progress.
+   *
+   * @return CompletableFuture completed with list of BulkResult objects, which is never completed exceptionally
+   */
+  CompletableFuture<List<BulkResult<Payment>>> getPaymentsByIdAsync(final Collection<String> paymentIds,
+      final BulkOptions bulkOptions);
+
+  /**
+   * Gets the summary of a specific payment by its unique ID, binding only its identifiers, status, amount and
+   * timestamps from the response, instead of the whole Payment. Uses PaysafeClient configuration to execute request.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/payments/{paymentId}</strong></p>
+   *
+   * @param paymentId the id of the payment
+   * @return PaymentSummary
+   * @throws PaysafeSdkException if an error occurs
+   */
+  PaymentSummary getPaymentSummaryById(final String paymentId) throws PaysafeSdkException;
+
+  /**
+   * Gets the summary of a specific payment by its unique ID, binding only its identifiers, status, amount and
+   * timestamps from the response. The request will be executed using custom RequestOptions, instead of values from
+   * PaysafeClient.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/payments/{paymentId}</strong></p>
+   *
+   * @param paymentId the id of the payment
+   * @param requestOptions Custom connectTimeout, responseTimeout, maxAutomaticRetries and/or simulator (if applicable) for this request.
+   * @return PaymentSummary
+   * @throws PaysafeSdkException if an error occurs
+   */
+  PaymentSummary getPaymentSummaryById(final String paymentId, final RequestOptions requestOptions) throws PaysafeSdkException;
+
+  /**
+   * Asynchronous variant of {@link #getPaymentSummaryById(String)}. Uses PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed with PaymentSummary, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<PaymentSummary> getPaymentSummaryByIdAsync(final String paymentId);
+
+  /**
+   * Asynchronous variant of {@link #getPaymentSummaryById(String, RequestOptions)}. The request will be executed using
+   * custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with PaymentSummary, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<PaymentSummary> getPaymentSummaryByIdAsync(final String paymentId, final RequestOptions requestOptions);
+
+  /**
+   * Gets summaries of the payments using merchant reference number, binding only their identifiers, status, amount and
+   * timestamps from the response. Uses PaysafeClient configuration to execute request.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/payments</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param limit          This is the total number of records to return. If null is provided, default value (10) will be used.
+   * @param offset         This is the starting position, where 0 is the first record. If null is provided, default value (0) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @return PaymentSummaryList containing a list of summaries and meta information for the pagination APIs
+   * @throws PaysafeSdkException if an error occurs
+   */
+  PaymentSummaryList getPaymentSummariesUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate,
+      final Integer limit, final Integer offset, final String startDate) throws PaysafeSdkException;
+
+  /**
+   * Gets summaries of the payments using merchant reference number, binding only their identifiers, status, amount and
+   * timestamps from the response. The request will be executed using custom RequestOptions, instead of values from
+   * PaysafeClient.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/payments</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param limit          This is the total number of records to return. If null is provided, default value (10) will be used.
+   * @param offset         This is the starting position, where 0 is the first record. If null is provided, default value (0) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @param requestOptions Custom connectTimeout, responseTimeout, maxAutomaticRetries and/or simulator (if applicable) for this request.
+   * @return PaymentSummaryList containing a list of summaries and meta information for the pagination APIs
+   * @throws PaysafeSdkException if an error occurs
+   */
+  PaymentSummaryList getPaymentSummariesUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate,
+      final Integer limit, final Integer offset, final String startDate, final RequestOptions requestOptions)
+      throws PaysafeSdkException;
+
+  /**
+   * Asynchronous variant of {@link #getPaymentSummariesUsingMerchantReferenceNumber(String, String, Integer, Integer, String)}.
+   * Uses PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed with PaymentSummaryList, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<PaymentSummaryList> getPaymentSummariesUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate);
+
+  /**
+   * Asynchronous variant of {@link
+   * #getPaymentSummariesUsingMerchantReferenceNumber(String, String, Integer, Integer, String, RequestOptions)}. The
+   * request will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with PaymentSummaryList, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<PaymentSummaryList> getPaymentSummariesUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate,
+      final RequestOptions requestOptions);
 }
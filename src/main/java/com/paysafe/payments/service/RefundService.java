@@ -2,8 +2,16 @@
 
 package com.paysafe.payments.service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import com.paysafe.payments.api.BulkOptions;
+import com.paysafe.payments.api.BulkResult;
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.errorhandling.exception.UncheckedPaysafeSdkException;
 import com.paysafe.payments.model.common.cancel.CancelRequest;
 import com.paysafe.payments.model.common.cancel.CancelResponse;
 import com.paysafe.payments.model.refund.Refund;
@@ -149,4 +157,157 @@ public interface RefundService {
    * @throws PaysafeSdkException If the request fails or the response cannot be processed.
    */
   CancelResponse cancelRefund(final String refundId, final CancelRequest cancelRequest) throws PaysafeSdkException;
+
+  /**
+   * Asynchronous variant of {@link #processRefund(String, RefundRequest)}. Uses PaysafeClient configuration to execute
+   * request.
+   *
+   * @return CompletableFuture completed with Refund, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Refund> processRefundAsync(final String settlementId, final RefundRequest refundRequest);
+
+  /**
+   * Asynchronous variant of {@link #processRefund(String, RefundRequest, RequestOptions)}. The request will be executed
+   * using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with Refund, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Refund> processRefundAsync(final String settlementId, final RefundRequest refundRequest,
+      final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #getRefundById(String)}. Uses PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed with Refund, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Refund> getRefundByIdAsync(final String refundId);
+
+  /**
+   * Asynchronous variant of {@link #getRefundById(String, RequestOptions)}. The request will be executed using custom
+   * RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with Refund, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Refund> getRefundByIdAsync(final String refundId, final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #getRefundUsingMerchantReferenceNumber(String, String, Integer, Integer, String)}.
+   * Uses PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed with RefundList, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<RefundList> getRefundUsingMerchantReferenceNumberAsync(final String merchantRefNum, final String endDate,
+      final Integer limit, final Integer offset, final String startDate);
+
+  /**
+   * Asynchronous variant of {@link
+   * #getRefundUsingMerchantReferenceNumber(String, String, Integer, Integer, String, RequestOptions)}. The request will
+   * be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with RefundList, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<RefundList> getRefundUsingMerchantReferenceNumberAsync(final String merchantRefNum, final String endDate,
+      final Integer limit, final Integer offset, final String startDate, final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #cancelRefund(String, CancelRequest, RequestOptions)}. The request will be executed
+   * using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with CancelResponse, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<CancelResponse> cancelRefundAsync(final String refundId, final CancelRequest cancelRequest,
+      final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #cancelRefund(String, CancelRequest)}. Uses PaysafeClient configuration to execute
+   * request.
+   *
+   * @return CompletableFuture completed with CancelResponse, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<CancelResponse> cancelRefundAsync(final String refundId, final CancelRequest cancelRequest);
+
+  /**
+   * Streams all refunds using merchant reference number, fetching pages of pageSize records lazily as the stream is
+   * consumed, so that they need not be paged through using limit and offset. Uses PaysafeClient configuration to execute
+   * requests.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/refunds</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param pageSize       This is the number of records fetched by each request, a positive value. If null is provided, default value (10) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @return a sequential Stream of Refund objects, throwing {@link UncheckedPaysafeSdkException} when consumed if an error occurs.
+   * Closing the Stream cancels the request in progress.
+   */
+  Stream<Refund> streamRefundsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate);
+
+  /**
+   * Streams all refunds using merchant reference number, fetching pages of pageSize records lazily as the stream is
+   * consumed. The requests will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/refunds</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param pageSize       This is the number of records fetched by each request, a positive value. If null is provided, default value (10) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @param requestOptions Custom connectTimeout, responseTimeout, maxAutomaticRetries and/or simulator (if applicable) for these requests.
+   * @return a sequential Stream of Refund objects, throwing {@link UncheckedPaysafeSdkException} when consumed if an error occurs.
+   * Closing the Stream cancels the request in progress.
+   */
+  Stream<Refund> streamRefundsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate, final RequestOptions requestOptions);
+
+  /**
+   * Gets the details of multiple refunds by their unique IDs, using asynchronous requests sharing the connection pool of
+   * PaysafeClient. At most 10 requests are in progress at the same time, and there is no deadline. Uses PaysafeClient
+   * configuration to execute requests.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/refunds/{refundId}</strong></p>
+   *
+   * @param refundIds The IDs of the refunds.
+   * @return a list of BulkResult objects in order of provided IDs, each containing either the Refund or the
+   * PaysafeSdkException its request failed with.
+   * @throws PaysafeSdkException if the waiting thread was interrupted
+   */
+  List<BulkResult<Refund>> getRefundsById(final Collection<String> refundIds) throws PaysafeSdkException;
+
+  /**
+   * Gets the details of multiple refunds by their unique IDs, using asynchronous requests sharing the connection pool of
+   * PaysafeClient. The requests will be executed with parallelism, deadline and RequestOptions of provided BulkOptions.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/refunds/{refundId}</strong></p>
+   *
+   * @param refundIds The IDs of the refunds.
+   * @param bulkOptions Parallelism, deadline and RequestOptions of the requests.
+   * @return a list of BulkResult objects in order of provided IDs, each containing either the Refund or the
+   * PaysafeSdkException its request failed with. Records not received before the deadline fail with ApiConnectionException.
+   * @throws PaysafeSdkException if the waiting thread was interrupted
+   */
+  List<BulkResult<Refund>> getRefundsById(final Collection<String> refundIds, final BulkOptions bulkOptions)
+      throws PaysafeSdkException;
+
+  /**
+   * Asynchronous variant of {@link #getRefundsById(Collection)}. Uses PaysafeClient configuration to execute requests.
+   *
+   * @return CompletableFuture completed with list of BulkResult objects, which is never completed exceptionally
+   */
+  CompletableFuture<List<BulkResult<Refund>>> getRefundsByIdAsync(final Collection<String> refundIds);
+
+  /**
+   * Asynchronous variant of {@link #getRefundsById(Collection, BulkOptions)}. Cancelling the returned future cancels
+   * requests in progress.
+   *
+   * @return CompletableFuture completed with list of BulkResult objects, which is never completed exceptionally
+   */
+  CompletableFuture<List<BulkResult<Refund>>> getRefundsByIdAsync(final Collection<String> refundIds,
+      final BulkOptions bulkOptions);
 }
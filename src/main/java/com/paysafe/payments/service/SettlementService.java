@@ -2,8 +2,16 @@
 
 package com.paysafe.payments.service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import com.paysafe.payments.api.BulkOptions;
+import com.paysafe.payments.api.BulkResult;
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.errorhandling.exception.UncheckedPaysafeSdkException;
 import com.paysafe.payments.model.common.cancel.CancelRequest;
 import com.paysafe.payments.model.common.cancel.CancelResponse;
 import com.paysafe.payments.model.settlement.Settlement;
@@ -137,4 +145,161 @@ public interface SettlementService {
    * @throws PaysafeSdkException If the request fails or the response cannot be processed.
    */
   CancelResponse cancelSettlement(final String settlementId, final CancelRequest cancelRequest, final RequestOptions requestOptions) throws PaysafeSdkException;
-}
\ No newline at end of file
+
+  /**
+   * Asynchronous variant of {@link #processSettlement(String, SettlementRequest)}. Uses PaysafeClient configuration to
+   * execute request.
+   *
+   * @return CompletableFuture completed with Settlement, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Settlement> processSettlementAsync(String paymentId, SettlementRequest settlementRequest);
+
+  /**
+   * Asynchronous variant of {@link #processSettlement(String, SettlementRequest, RequestOptions)}. The request will be
+   * executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with Settlement, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Settlement> processSettlementAsync(String paymentId, SettlementRequest settlementRequest,
+      RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #getSettlementById(String)}. Uses PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed with Settlement, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Settlement> getSettlementByIdAsync(String settlementId);
+
+  /**
+   * Asynchronous variant of {@link #getSettlementById(String, RequestOptions)}. The request will be executed using
+   * custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with Settlement, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Settlement> getSettlementByIdAsync(String settlementId, RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link
+   * #getSettlementsUsingMerchantReferenceNumber(String, String, Integer, Integer, String)}. Uses PaysafeClient
+   * configuration to execute request.
+   *
+   * @return CompletableFuture completed with SettlementList, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<SettlementList> getSettlementsUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate);
+
+  /**
+   * Asynchronous variant of {@link
+   * #getSettlementsUsingMerchantReferenceNumber(String, String, Integer, Integer, String, RequestOptions)}. The request
+   * will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with SettlementList, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<SettlementList> getSettlementsUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate,
+      final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #cancelSettlement(String, CancelRequest)}. Uses PaysafeClient configuration to
+   * execute request.
+   *
+   * @return CompletableFuture completed with CancelResponse, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<CancelResponse> cancelSettlementAsync(final String settlementId, final CancelRequest cancelRequest);
+
+  /**
+   * Asynchronous variant of {@link #cancelSettlement(String, CancelRequest, RequestOptions)}. The request will be
+   * executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with CancelResponse, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<CancelResponse> cancelSettlementAsync(final String settlementId, final CancelRequest cancelRequest,
+      final RequestOptions requestOptions);
+
+  /**
+   * Streams all settlements using merchant reference number, fetching pages of pageSize records lazily as the stream is
+   * consumed, so that they need not be paged through using limit and offset. Uses PaysafeClient configuration to execute
+   * requests.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/settlements</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param pageSize       This is the number of records fetched by each request, a positive value. If null is provided, default value (10) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @return a sequential Stream of Settlement objects, throwing {@link UncheckedPaysafeSdkException} when consumed if an error occurs.
+   * Closing the Stream cancels the request in progress.
+   */
+  Stream<Settlement> streamSettlementsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate);
+
+  /**
+   * Streams all settlements using merchant reference number, fetching pages of pageSize records lazily as the stream is
+   * consumed. The requests will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/settlements</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param pageSize       This is the number of records fetched by each request, a positive value. If null is provided, default value (10) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @param requestOptions Custom connectTimeout, responseTimeout, maxAutomaticRetries and/or simulator (if applicable) for these requests.
+   * @return a sequential Stream of Settlement objects, throwing {@link UncheckedPaysafeSdkException} when consumed if an error occurs.
+   * Closing the Stream cancels the request in progress.
+   */
+  Stream<Settlement> streamSettlementsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate, final RequestOptions requestOptions);
+
+  /**
+   * Gets the details of multiple settlements by their unique IDs, using asynchronous requests sharing the connection pool of
+   * PaysafeClient. At most 10 requests are in progress at the same time, and there is no deadline. Uses PaysafeClient
+   * configuration to execute requests.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/settlements/{settlementId}</strong></p>
+   *
+   * @param settlementIds The IDs of the settlements.
+   * @return a list of BulkResult objects in order of provided IDs, each containing either the Settlement or the
+   * PaysafeSdkException its request failed with.
+   * @throws PaysafeSdkException if the waiting thread was interrupted
+   */
+  List<BulkResult<Settlement>> getSettlementsById(final Collection<String> settlementIds) throws PaysafeSdkException;
+
+  /**
+   * Gets the details of multiple settlements by their unique IDs, using asynchronous requests sharing the connection pool of
+   * PaysafeClient. The requests will be executed with parallelism, deadline and RequestOptions of provided BulkOptions.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/settlements/{settlementId}</strong></p>
+   *
+   * @param settlementIds The IDs of the settlements.
+   * @param bulkOptions Parallelism, deadline and RequestOptions of the requests.
+   * @return a list of BulkResult objects in order of provided IDs, each containing either the Settlement or the
+   * PaysafeSdkException its request failed with. Records not received before the deadline fail with ApiConnectionException.
+   * @throws PaysafeSdkException if the waiting thread was interrupted
+   */
+  List<BulkResult<Settlement>> getSettlementsById(final Collection<String> settlementIds, final BulkOptions bulkOptions)
+      throws PaysafeSdkException;
+
+  /**
+   * Asynchronous variant of {@link #getSettlementsById(Collection)}. Uses PaysafeClient configuration to execute requests.
+   *
+   * @return CompletableFuture completed with list of BulkResult objects, which is never completed exceptionally
+   */
+  CompletableFuture<List<BulkResult<Settlement>>> getSettlementsByIdAsync(final Collection<String> settlementIds);
+
+  /**
+   * Asynchronous variant of {@link #getSettlementsById(Collection, BulkOptions)}. Cancelling the returned future cancels
+   * requests in progress.
+   *
+   * @return CompletableFuture completed with list of BulkResult objects, which is never completed exceptionally
+   */
+  CompletableFuture<List<BulkResult<Settlement>>> getSettlementsByIdAsync(final Collection<String> settlementIds,
+      final BulkOptions bulkOptions);
+}
@@ -2,8 +2,12 @@
 
 package com.paysafe.payments.service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.errorhandling.exception.UncheckedPaysafeSdkException;
 import com.paysafe.payments.model.common.cancel.CancelRequest;
 import com.paysafe.payments.model.common.cancel.CancelResponse;
 import com.paysafe.payments.model.standalonecredit.StandaloneCredit;
@@ -184,4 +188,142 @@ public interface StandaloneCreditService {
    */
   StandaloneCredit patchStandaloneCreditStatusForInteracFraud(final String standaloneCreditId,
       final StandaloneCreditUpdateRequest creditUpdateRequest, final RequestOptions requestOptions) throws PaysafeSdkException;
+
+  /**
+   * Asynchronous variant of {@link #processStandaloneCredit(StandaloneCreditRequest)}. Uses PaysafeClient configuration
+   * to execute request.
+   *
+   * @return CompletableFuture completed with StandaloneCredit, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<StandaloneCredit> processStandaloneCreditAsync(final StandaloneCreditRequest body);
+
+  /**
+   * Asynchronous variant of {@link #processStandaloneCredit(StandaloneCreditRequest, RequestOptions)}. The request will
+   * be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with StandaloneCredit, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<StandaloneCredit> processStandaloneCreditAsync(final StandaloneCreditRequest body,
+      final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link
+   * #getStandaloneCreditUsingMerchantReferenceNumber(String, String, Integer, Integer, String)}. Uses PaysafeClient
+   * configuration to execute request.
+   *
+   * @return CompletableFuture completed with StandaloneCreditList, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<StandaloneCreditList> getStandaloneCreditUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate);
+
+  /**
+   * Asynchronous variant of {@link
+   * #getStandaloneCreditsUsingMerchantReferenceNumber(String, String, Integer, Integer, String, RequestOptions)}. The
+   * request will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with StandaloneCreditList, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<StandaloneCreditList> getStandaloneCreditsUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate,
+      final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #getStandaloneCreditById(String)}. Uses PaysafeClient configuration to execute
+   * request.
+   *
+   * @return CompletableFuture completed with StandaloneCredit, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<StandaloneCredit> getStandaloneCreditByIdAsync(final String standaloneCreditId);
+
+  /**
+   * Asynchronous variant of {@link #getStandaloneCreditById(String, RequestOptions)}. The request will be executed using
+   * custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with StandaloneCredit, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<StandaloneCredit> getStandaloneCreditByIdAsync(final String standaloneCreditId,
+      final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #cancelStandaloneCredit(String, CancelRequest)}. Uses PaysafeClient configuration to
+   * execute request.
+   *
+   * @return CompletableFuture completed with CancelResponse, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<CancelResponse> cancelStandaloneCreditAsync(final String standaloneCreditId,
+      final CancelRequest cancelRequest);
+
+  /**
+   * Asynchronous variant of {@link #cancelStandaloneCredit(String, CancelRequest, RequestOptions)}. The request will be
+   * executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with CancelResponse, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<CancelResponse> cancelStandaloneCreditAsync(final String standaloneCreditId,
+      final CancelRequest cancelRequest, final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #patchStandaloneCreditStatusForInteracFraud(String, StandaloneCreditUpdateRequest)}.
+   * Uses PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed with StandaloneCredit, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<StandaloneCredit> patchStandaloneCreditStatusForInteracFraudAsync(final String standaloneCreditId,
+      final StandaloneCreditUpdateRequest creditUpdateRequest);
+
+  /**
+   * Asynchronous variant of {@link
+   * #patchStandaloneCreditStatusForInteracFraud(String, StandaloneCreditUpdateRequest, RequestOptions)}. The request
+   * will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with StandaloneCredit, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<StandaloneCredit> patchStandaloneCreditStatusForInteracFraudAsync(final String standaloneCreditId,
+      final StandaloneCreditUpdateRequest creditUpdateRequest, final RequestOptions requestOptions);
+
+  /**
+   * Streams all standalone credits using merchant reference number, fetching pages of pageSize records lazily as the stream is
+   * consumed, so that they need not be paged through using limit and offset. Uses PaysafeClient configuration to execute
+   * requests.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/standalonecredits</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param pageSize       This is the number of records fetched by each request, a positive value. If null is provided, default value (10) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @return a sequential Stream of StandaloneCredit objects, throwing {@link UncheckedPaysafeSdkException} when consumed if an error occurs.
+   * Closing the Stream cancels the request in progress.
+   */
+  Stream<StandaloneCredit> streamStandaloneCreditsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate);
+
+  /**
+   * Streams all standalone credits using merchant reference number, fetching pages of pageSize records lazily as the stream is
+   * consumed. The requests will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/standalonecredits</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param pageSize       This is the number of records fetched by each request, a positive value. If null is provided, default value (10) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @param requestOptions Custom connectTimeout, responseTimeout, maxAutomaticRetries and/or simulator (if applicable) for these requests.
+   * @return a sequential Stream of StandaloneCredit objects, throwing {@link UncheckedPaysafeSdkException} when consumed if an error occurs.
+   * Closing the Stream cancels the request in progress.
+   */
+  Stream<StandaloneCredit> streamStandaloneCreditsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate, final RequestOptions requestOptions);
 }
@@ -2,8 +2,12 @@
 
 package com.paysafe.payments.service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.errorhandling.exception.UncheckedPaysafeSdkException;
 import com.paysafe.payments.model.verification.Verification;
 import com.paysafe.payments.model.verification.VerificationList;
 import com.paysafe.payments.model.verification.VerificationRequest;
@@ -103,4 +107,94 @@ public interface VerificationService {
    */
   VerificationList getVerificationUsingMerchantReferenceNumber(String merchantRefNum, String endDate, Integer limit,
       Integer offset, String startDate, RequestOptions requestOptions) throws PaysafeSdkException;
+
+  /**
+   * Asynchronous variant of {@link #createVerification(VerificationRequest)}. Uses PaysafeClient configuration to
+   * execute request.
+   *
+   * @return CompletableFuture completed with Verification, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Verification> createVerificationAsync(final VerificationRequest verificationRequest);
+
+  /**
+   * Asynchronous variant of {@link #createVerification(VerificationRequest, RequestOptions)}. The request will be
+   * executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with Verification, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Verification> createVerificationAsync(final VerificationRequest verificationRequest,
+      final RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #getVerificationById(String)}. Uses PaysafeClient configuration to execute request.
+   *
+   * @return CompletableFuture completed with Verification, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Verification> getVerificationByIdAsync(final String verificationId);
+
+  /**
+   * Asynchronous variant of {@link #getVerificationById(String, RequestOptions)}. The request will be executed using
+   * custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with Verification, or exceptionally with PaysafeSdkException if an error occurs
+   */
+  CompletableFuture<Verification> getVerificationByIdAsync(final String verificationId, RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link
+   * #getVerificationUsingMerchantReferenceNumber(String, String, Integer, Integer, String)}. Uses PaysafeClient
+   * configuration to execute request.
+   *
+   * @return CompletableFuture completed with VerificationList, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<VerificationList> getVerificationUsingMerchantReferenceNumberAsync(String merchantRefNum, String endDate,
+      Integer limit, Integer offset, String startDate);
+
+  /**
+   * Asynchronous variant of {@link
+   * #getVerificationUsingMerchantReferenceNumber(String, String, Integer, Integer, String, RequestOptions)}. The request
+   * will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with VerificationList, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<VerificationList> getVerificationUsingMerchantReferenceNumberAsync(String merchantRefNum, String endDate,
+      Integer limit, Integer offset, String startDate, RequestOptions requestOptions);
+
+  /**
+   * Streams all verifications using merchant reference number, fetching pages of pageSize records lazily as the stream is
+   * consumed, so that they need not be paged through using limit and offset. Uses PaysafeClient configuration to execute
+   * requests.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/verifications</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param pageSize       This is the number of records fetched by each request, a positive value. If null is provided, default value (10) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @return a sequential Stream of Verification objects, throwing {@link UncheckedPaysafeSdkException} when consumed if an error occurs.
+   * Closing the Stream cancels the request in progress.
+   */
+  Stream<Verification> streamVerificationsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate);
+
+  /**
+   * Streams all verifications using merchant reference number, fetching pages of pageSize records lazily as the stream is
+   * consumed. The requests will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/verifications</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param pageSize       This is the number of records fetched by each request, a positive value. If null is provided, default value (10) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @param requestOptions Custom connectTimeout, responseTimeout, maxAutomaticRetries and/or simulator (if applicable) for these requests.
+   * @return a sequential Stream of Verification objects, throwing {@link UncheckedPaysafeSdkException} when consumed if an error occurs.
+   * Closing the Stream cancels the request in progress.
+   */
+  Stream<Verification> streamVerificationsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate, final RequestOptions requestOptions);
 }
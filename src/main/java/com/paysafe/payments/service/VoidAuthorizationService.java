@@ -2,8 +2,12 @@
 
 package com.paysafe.payments.service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.errorhandling.exception.UncheckedPaysafeSdkException;
 import com.paysafe.payments.model.voidauthorization.VoidAuthorization;
 import com.paysafe.payments.model.voidauthorization.VoidAuthorizationRequest;
 import com.paysafe.payments.model.voidauthorization.VoidAuthorizationsList;
@@ -119,4 +123,101 @@ public interface VoidAuthorizationService {
    */
   VoidAuthorizationsList getVoidAuthorizationUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer limit,
       final Integer offset, final String startDate, final RequestOptions requestOptions) throws PaysafeSdkException;
+
+  /**
+   * Asynchronous variant of {@link #voidAuthorization(String, VoidAuthorizationRequest)}. Uses PaysafeClient
+   * configuration to execute request.
+   *
+   * @return CompletableFuture completed with VoidAuthorization, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<VoidAuthorization> voidAuthorizationAsync(String paymentId,
+      VoidAuthorizationRequest voidAuthorizationRequest);
+
+  /**
+   * Asynchronous variant of {@link #voidAuthorization(String, VoidAuthorizationRequest, RequestOptions)}. The request
+   * will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with VoidAuthorization, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<VoidAuthorization> voidAuthorizationAsync(String paymentId,
+      VoidAuthorizationRequest voidAuthorizationRequest, RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link #getVoidAuthorizationById(String)}. Uses PaysafeClient configuration to execute
+   * request.
+   *
+   * @return CompletableFuture completed with VoidAuthorization, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<VoidAuthorization> getVoidAuthorizationByIdAsync(String voidAuthId);
+
+  /**
+   * Asynchronous variant of {@link #getVoidAuthorizationById(String, RequestOptions)}. The request will be executed
+   * using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with VoidAuthorization, or exceptionally with PaysafeSdkException if an error
+   * occurs
+   */
+  CompletableFuture<VoidAuthorization> getVoidAuthorizationByIdAsync(String voidAuthId, RequestOptions requestOptions);
+
+  /**
+   * Asynchronous variant of {@link
+   * #getVoidAuthorizationUsingMerchantReferenceNumber(String, String, Integer, Integer, String)}. Uses PaysafeClient
+   * configuration to execute request.
+   *
+   * @return CompletableFuture completed with VoidAuthorizationsList, or exceptionally with PaysafeSdkException if an
+   * error occurs
+   */
+  CompletableFuture<VoidAuthorizationsList> getVoidAuthorizationUsingMerchantReferenceNumberAsync(String merchantRefNum,
+      String endDate, Integer limit, Integer offset, String startDate);
+
+  /**
+   * Asynchronous variant of {@link
+   * #getVoidAuthorizationUsingMerchantReferenceNumber(String, String, Integer, Integer, String, RequestOptions)}. The
+   * request will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * @return CompletableFuture completed with VoidAuthorizationsList, or exceptionally with PaysafeSdkException if an
+   * error occurs
+   */
+  CompletableFuture<VoidAuthorizationsList> getVoidAuthorizationUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate,
+      final RequestOptions requestOptions);
+
+  /**
+   * Streams all void authorizations using merchant reference number, fetching pages of pageSize records lazily as the stream is
+   * consumed, so that they need not be paged through using limit and offset. Uses PaysafeClient configuration to execute
+   * requests.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/voidauths</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param pageSize       This is the number of records fetched by each request, a positive value. If null is provided, default value (10) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @return a sequential Stream of VoidAuthorization objects, throwing {@link UncheckedPaysafeSdkException} when consumed if an error occurs.
+   * Closing the Stream cancels the request in progress.
+   */
+  Stream<VoidAuthorization> streamVoidAuthorizationsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate);
+
+  /**
+   * Streams all void authorizations using merchant reference number, fetching pages of pageSize records lazily as the stream is
+   * consumed. The requests will be executed using custom RequestOptions, instead of values from PaysafeClient.
+   *
+   * <p>Endpoint:
+   * <strong>GET /v1/voidauths</strong></p>
+   *
+   * @param merchantRefNum Unique merchant reference number created by the merchant and submitted as part of the request.
+   * @param endDate        This is the end date in UTC. If null is provided, current date will be used.
+   * @param pageSize       This is the number of records fetched by each request, a positive value. If null is provided, default value (10) will be used.
+   * @param startDate      This is the start date in UTC. If null is provided, default value (30 days before the end date) will be used.
+   * @param requestOptions Custom connectTimeout, responseTimeout, maxAutomaticRetries and/or simulator (if applicable) for these requests.
+   * @return a sequential Stream of VoidAuthorization objects, throwing {@link UncheckedPaysafeSdkException} when consumed if an error occurs.
+   * Closing the Stream cancels the request in progress.
+   */
+  Stream<VoidAuthorization> streamVoidAuthorizationsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate, final RequestOptions requestOptions);
 }
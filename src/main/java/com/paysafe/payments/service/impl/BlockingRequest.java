@@ -0,0 +1,34 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.service.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+
+/**
+ * Request sent with the blocking http client of PaysafeApiClient. Blocking service methods load responses of their
+ * caches with it, so that enabling a cache does not start the non-blocking http client and its connection pool.
+ *
+ * @param <V> type of the response
+ */
+@FunctionalInterface
+interface BlockingRequest<V> {
+
+  V execute() throws PaysafeSdkException;
+
+  /**
+   * Returns loader sending provided request on the thread calling the loader, and returning future completed with its
+   * outcome.
+   */
+  static <V> Supplier<CompletableFuture<V>> loader(final BlockingRequest<V> request) {
+    return () -> {
+      try {
+        return CompletableFuture.completedFuture(request.execute());
+      } catch (PaysafeSdkException e) {
+        return CompletableFuture.failedFuture(e);
+      }
+    };
+  }
+}
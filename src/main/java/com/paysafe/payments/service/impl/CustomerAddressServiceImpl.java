@@ -3,7 +3,9 @@
 package com.paysafe.payments.service.impl;
 
 import static com.paysafe.payments.api.PaysafeApiClient.processDeleteResponse;
-import static com.paysafe.payments.api.PaysafeApiClient.processResponse;
+import static com.paysafe.payments.api.PaysafeApiClient.processDeleteResponseAsync;
+
+import java.util.concurrent.CompletableFuture;
 
 import com.paysafe.payments.api.PaysafeApiClient;
 import com.paysafe.payments.api.PaysafeApiResponse;
@@ -16,6 +18,7 @@ public class CustomerAddressServiceImpl implements CustomerAddressService {
 
   private static final String CUSTOMER_ADDRESS_ENDPOINT = "/v1/customers/%s/addresses";
   private final PaysafeApiClient paysafeApiClient;
+  private final CustomerCache customerCache;
 
   /**
    * Instantiates new CustomerAddressService object.
@@ -23,7 +26,18 @@ public class CustomerAddressServiceImpl implements CustomerAddressService {
    * @param paysafeApiClient instance of paysafeApiClient which executes REST calls
    */
   public CustomerAddressServiceImpl(final PaysafeApiClient paysafeApiClient) {
+    this(paysafeApiClient, null);
+  }
+
+  /**
+   * Instantiates new CustomerAddressService object, invalidating customers in provided cache once they are modified.
+   *
+   * @param paysafeApiClient instance of paysafeApiClient which executes REST calls
+   * @param customerCache    cache of customers, or null if customers are not cached
+   */
+  public CustomerAddressServiceImpl(final PaysafeApiClient paysafeApiClient, final CustomerCache customerCache) {
     this.paysafeApiClient = paysafeApiClient;
+    this.customerCache = customerCache;
   }
 
   /**
@@ -38,8 +52,11 @@ public class CustomerAddressServiceImpl implements CustomerAddressService {
    */
   @Override public Address createAddress(final String customerId, final Address address, final RequestOptions requestOptions) throws PaysafeSdkException {
     final String path = String.format(CUSTOMER_ADDRESS_ENDPOINT, customerId);
-    PaysafeApiResponse response = paysafeApiClient.executePost(path, address, requestOptions);
-    return processResponse(response, Address.class);
+    try {
+      return paysafeApiClient.executePost(path, address, requestOptions, Address.class);
+    } finally {
+      invalidate(customerId);
+    }
   }
 
   /**
@@ -54,8 +71,7 @@ public class CustomerAddressServiceImpl implements CustomerAddressService {
    */
   @Override public Address getAddressById(final String customerId, final String addressId, final RequestOptions requestOptions) throws PaysafeSdkException {
     final String path = String.format(CUSTOMER_ADDRESS_ENDPOINT + "/%s", customerId, addressId);
-    PaysafeApiResponse response = paysafeApiClient.executeGet(path, requestOptions);
-    return processResponse(response, Address.class);
+    return paysafeApiClient.executeGet(path, requestOptions, Address.class);
   }
 
   /**
@@ -72,8 +88,11 @@ public class CustomerAddressServiceImpl implements CustomerAddressService {
       final RequestOptions requestOptions) throws PaysafeSdkException {
 
     final String path = String.format(CUSTOMER_ADDRESS_ENDPOINT + "/%s", customerId, addressId);
-    PaysafeApiResponse response = paysafeApiClient.executePut(path, address, requestOptions);
-    return processResponse(response, Address.class);
+    try {
+      return paysafeApiClient.executePut(path, address, requestOptions, Address.class);
+    } finally {
+      invalidate(customerId);
+    }
   }
 
   @Override
@@ -83,8 +102,97 @@ public class CustomerAddressServiceImpl implements CustomerAddressService {
 
   @Override
   public void deleteAddress(final String customerId, final String addressId, final RequestOptions requestOptions) throws PaysafeSdkException {
-    PaysafeApiResponse response = paysafeApiClient.executeDelete(String.format(CUSTOMER_ADDRESS_ENDPOINT + "/%s", customerId, addressId),
+    try {
+      PaysafeApiResponse response = paysafeApiClient.executeDelete(String.format(CUSTOMER_ADDRESS_ENDPOINT + "/%s", customerId, addressId),
+          requestOptions);
+      processDeleteResponse(response);
+    } finally {
+      invalidate(customerId);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Address> createAddressAsync(final String customerId, final Address address) {
+    return createAddressAsync(customerId, address, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Address> createAddressAsync(final String customerId, final Address address,
+      final RequestOptions requestOptions) {
+    final String path = String.format(CUSTOMER_ADDRESS_ENDPOINT, customerId);
+    return invalidateOnCompletion(customerId, paysafeApiClient.executePostAsync(path, address, requestOptions, Address.class));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Address> getAddressByIdAsync(final String customerId, final String addressId) {
+    return getAddressByIdAsync(customerId, addressId, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Address> getAddressByIdAsync(final String customerId, final String addressId,
+      final RequestOptions requestOptions) {
+    final String path = String.format(CUSTOMER_ADDRESS_ENDPOINT + "/%s", customerId, addressId);
+    return paysafeApiClient.executeGetAsync(path, requestOptions, Address.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Address> updateAddressAsync(final String customerId, final String addressId, final Address address) {
+    return updateAddressAsync(customerId, addressId, address, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Address> updateAddressAsync(final String customerId, final String addressId, final Address address,
+      final RequestOptions requestOptions) {
+
+    final String path = String.format(CUSTOMER_ADDRESS_ENDPOINT + "/%s", customerId, addressId);
+    return invalidateOnCompletion(customerId, paysafeApiClient.executePutAsync(path, address, requestOptions, Address.class));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Void> deleteAddressAsync(final String customerId, final String addressId) {
+    return deleteAddressAsync(customerId, addressId, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Void> deleteAddressAsync(final String customerId, final String addressId,
+      final RequestOptions requestOptions) {
+    CompletableFuture<PaysafeApiResponse> response =
+        paysafeApiClient.executeDeleteAsync(String.format(CUSTOMER_ADDRESS_ENDPOINT + "/%s", customerId, addressId),
         requestOptions);
-    processDeleteResponse(response);
+    return invalidateOnCompletion(customerId, processDeleteResponseAsync(response));
+  }
+
+  private void invalidate(final String customerId) {
+    if (customerCache != null) {
+      customerCache.invalidate(customerId);
+    }
+  }
+
+  private <T> CompletableFuture<T> invalidateOnCompletion(final String customerId, final CompletableFuture<T> request) {
+    return customerCache == null ? request : customerCache.invalidateOnCompletion(customerId, request);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,98 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.service.impl;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.paysafe.payments.api.CacheConfig;
+import com.paysafe.payments.api.PaysafeApiClient;
+import com.paysafe.payments.model.customer.Customer;
+
+/**
+ * Cache of customers shared by customer services of a single PaysafeClient, keyed by customer ID or merchant customer
+ * ID, together with requested fields. Services invalidate customers once their requests modifying the customer, its
+ * addresses or payment handles complete, whether successfully or not, as the outcome of a failed request is unknown.
+ * <p>
+ * Responses are invalidated by customer ID of their key, or by ID of the returned customer, recorded once the response
+ * is received, so that responses of requests by merchant customer ID are invalidated too. Requests by merchant customer
+ * ID which have not completed yet are invalidated for every customer, as their customer is not known yet and their
+ * response may precede the modification.
+ */
+public final class CustomerCache {
+
+  public static final String CUSTOMERS_CACHE = "customers";
+
+  private final ResponseCache<Key, Customer> cache;
+
+  /**
+   * Instantiates new CustomerCache object.
+   *
+   * @param cacheConfig      configuration of the cache
+   * @param paysafeApiClient instance of paysafeApiClient reporting hits and misses of the cache
+   */
+  public CustomerCache(final CacheConfig cacheConfig, final PaysafeApiClient paysafeApiClient) {
+    this.cache = new ResponseCache<>(CUSTOMERS_CACHE, Customer.class, Customer::getId, cacheConfig, paysafeApiClient);
+  }
+
+  CompletableFuture<Customer> getById(final String customerId, final Set<String> fields,
+      final Supplier<CompletableFuture<Customer>> loader) {
+    return cache.get(new Key(customerId, null, fields), loader);
+  }
+
+  CompletableFuture<Customer> getByMerchantCustomerId(final String merchantCustomerId, final Set<String> fields,
+      final Supplier<CompletableFuture<Customer>> loader) {
+    return cache.get(new Key(null, merchantCustomerId, fields), loader);
+  }
+
+  /**
+   * Invalidates all cached responses of provided customer.
+   */
+  void invalidate(final String customerId) {
+    cache.invalidateIf((key, id) -> customerId.equals(key.customerId) || customerId.equals(id)
+        || id == null && key.merchantCustomerId != null);
+  }
+
+  /**
+   * Returns future completed once provided request modifying the customer completes and the customer is invalidated.
+   */
+  <T> CompletableFuture<T> invalidateOnCompletion(final String customerId, final CompletableFuture<T> request) {
+    return request.whenComplete((response, throwable) -> invalidate(customerId));
+  }
+
+  private static final class Key {
+
+    private final String customerId;
+    private final String merchantCustomerId;
+    // sorted, so that the order of requested fields does not matter
+    private final Set<String> fields;
+
+    private Key(final String customerId, final String merchantCustomerId, final Set<String> fields) {
+      this.customerId = customerId;
+      this.merchantCustomerId = merchantCustomerId;
+      this.fields = fields == null ? Collections.emptySet() : new TreeSet<>(fields);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return Objects.equals(customerId, key.customerId) && Objects.equals(merchantCustomerId, key.merchantCustomerId)
+          && fields.equals(key.fields);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(customerId, merchantCustomerId, fields);
+    }
+  }
+}
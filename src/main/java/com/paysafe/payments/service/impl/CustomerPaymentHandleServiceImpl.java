@@ -3,7 +3,9 @@
 package com.paysafe.payments.service.impl;
 
 import static com.paysafe.payments.api.PaysafeApiClient.processDeleteResponse;
-import static com.paysafe.payments.api.PaysafeApiClient.processResponse;
+import static com.paysafe.payments.api.PaysafeApiClient.processDeleteResponseAsync;
+
+import java.util.concurrent.CompletableFuture;
 
 import com.paysafe.payments.api.PaysafeApiClient;
 import com.paysafe.payments.api.PaysafeApiResponse;
@@ -19,6 +21,7 @@ public class CustomerPaymentHandleServiceImpl implements CustomerPaymentHandleSe
   public static final String CREATE_CUSTOMER_PAYMENT_HANDLE_ENDPOINT = "/v1/customers/%s/paymenthandles";
 
   private final PaysafeApiClient paysafeApiClient;
+  private final CustomerCache customerCache;
 
   /**
    * Instantiates new CustomerPaymentHandleServiceImpl object.
@@ -26,7 +29,18 @@ public class CustomerPaymentHandleServiceImpl implements CustomerPaymentHandleSe
    * @param paysafeApiClient instance of paysafeApiClient which executes REST calls
    */
   public CustomerPaymentHandleServiceImpl(final PaysafeApiClient paysafeApiClient) {
+    this(paysafeApiClient, null);
+  }
+
+  /**
+   * Instantiates new CustomerPaymentHandleServiceImpl object, invalidating customers in provided cache once they are modified.
+   *
+   * @param paysafeApiClient instance of paysafeApiClient which executes REST calls
+   * @param customerCache    cache of customers, or null if customers are not cached
+   */
+  public CustomerPaymentHandleServiceImpl(final PaysafeApiClient paysafeApiClient, final CustomerCache customerCache) {
     this.paysafeApiClient = paysafeApiClient;
+    this.customerCache = customerCache;
   }
 
   /**
@@ -46,8 +60,11 @@ public class CustomerPaymentHandleServiceImpl implements CustomerPaymentHandleSe
       final RequestOptions requestOptions) throws PaysafeSdkException {
 
     final String path = String.format(CREATE_CUSTOMER_PAYMENT_HANDLE_ENDPOINT, customerId);
-    PaysafeApiResponse response = paysafeApiClient.executePost(path, customerPaymentHandleRequest, requestOptions);
-    return processResponse(response, CustomerPaymentHandle.class);
+    try {
+      return paysafeApiClient.executePost(path, customerPaymentHandleRequest, requestOptions, CustomerPaymentHandle.class);
+    } finally {
+      invalidate(customerId);
+    }
   }
 
   /**
@@ -65,8 +82,7 @@ public class CustomerPaymentHandleServiceImpl implements CustomerPaymentHandleSe
       final RequestOptions requestOptions) throws PaysafeSdkException {
 
     final String path = String.format(CUSTOMER_PAYMENT_HANDLES_ENDPOINT, customerId, paymentHandleId);
-    PaysafeApiResponse response = paysafeApiClient.executeGet(path, requestOptions);
-    return processResponse(response, CustomerPaymentHandle.class);
+    return paysafeApiClient.executeGet(path, requestOptions, CustomerPaymentHandle.class);
   }
 
   /**
@@ -84,8 +100,11 @@ public class CustomerPaymentHandleServiceImpl implements CustomerPaymentHandleSe
       final CustomerPaymentHandleRequest customerPaymentHandleRequest, final RequestOptions requestOptions) throws PaysafeSdkException {
 
     final String path = String.format(CUSTOMER_PAYMENT_HANDLES_ENDPOINT, customerId, paymentHandleId);
-    PaysafeApiResponse response = paysafeApiClient.executePut(path, customerPaymentHandleRequest, requestOptions);
-    return processResponse(response, CustomerPaymentHandle.class);
+    try {
+      return paysafeApiClient.executePut(path, customerPaymentHandleRequest, requestOptions, CustomerPaymentHandle.class);
+    } finally {
+      invalidate(customerId);
+    }
   }
 
   /**
@@ -101,8 +120,106 @@ public class CustomerPaymentHandleServiceImpl implements CustomerPaymentHandleSe
   @Override public void deleteCustomerPaymentHandle(final String customerId, final String paymentHandleId,
       final RequestOptions requestOptions) throws PaysafeSdkException {
 
-    PaysafeApiResponse response = paysafeApiClient.executeDelete(String.format(CUSTOMER_PAYMENT_HANDLES_ENDPOINT, customerId, paymentHandleId),
+    try {
+      PaysafeApiResponse response = paysafeApiClient.executeDelete(String.format(CUSTOMER_PAYMENT_HANDLES_ENDPOINT, customerId, paymentHandleId),
+          requestOptions);
+      processDeleteResponse(response);
+    } finally {
+      invalidate(customerId);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<CustomerPaymentHandle> createPaymentHandleForCustomerAsync(final String customerId,
+      final CustomerPaymentHandleRequest customerPaymentHandleRequest) {
+    return createPaymentHandleForCustomerAsync(customerId, customerPaymentHandleRequest, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<CustomerPaymentHandle> createPaymentHandleForCustomerAsync(final String customerId,
+      final CustomerPaymentHandleRequest customerPaymentHandleRequest, final RequestOptions requestOptions) {
+
+    final String path = String.format(CREATE_CUSTOMER_PAYMENT_HANDLE_ENDPOINT, customerId);
+    return invalidateOnCompletion(customerId, paysafeApiClient.executePostAsync(path, customerPaymentHandleRequest,
+        requestOptions, CustomerPaymentHandle.class));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<CustomerPaymentHandle> getCustomerPaymentHandleByPaymentHandleIdAsync(final String customerId,
+      final String paymentHandleId) {
+    return getCustomerPaymentHandleByPaymentHandleIdAsync(customerId, paymentHandleId, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<CustomerPaymentHandle> getCustomerPaymentHandleByPaymentHandleIdAsync(final String customerId,
+      final String paymentHandleId, final RequestOptions requestOptions) {
+
+    final String path = String.format(CUSTOMER_PAYMENT_HANDLES_ENDPOINT, customerId, paymentHandleId);
+    return paysafeApiClient.executeGetAsync(path, requestOptions, CustomerPaymentHandle.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<CustomerPaymentHandle> updateCustomerPaymentHandleAsync(final String customerId,
+      final String paymentHandleId, CustomerPaymentHandleRequest customerPaymentHandleRequest) {
+    return updateCustomerPaymentHandleAsync(customerId, paymentHandleId, customerPaymentHandleRequest, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<CustomerPaymentHandle> updateCustomerPaymentHandleAsync(final String customerId,
+      final String paymentHandleId, final CustomerPaymentHandleRequest customerPaymentHandleRequest,
+      final RequestOptions requestOptions) {
+
+    final String path = String.format(CUSTOMER_PAYMENT_HANDLES_ENDPOINT, customerId, paymentHandleId);
+    return invalidateOnCompletion(customerId, paysafeApiClient.executePutAsync(path, customerPaymentHandleRequest,
+        requestOptions, CustomerPaymentHandle.class));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Void> deleteCustomerPaymentHandleAsync(final String customerId, final String paymentHandleId) {
+    return deleteCustomerPaymentHandleAsync(customerId, paymentHandleId, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Void> deleteCustomerPaymentHandleAsync(final String customerId, final String paymentHandleId,
+      final RequestOptions requestOptions) {
+
+    CompletableFuture<PaysafeApiResponse> response =
+        paysafeApiClient.executeDeleteAsync(String.format(CUSTOMER_PAYMENT_HANDLES_ENDPOINT, customerId, paymentHandleId),
         requestOptions);
-    processDeleteResponse(response);
+    return invalidateOnCompletion(customerId, processDeleteResponseAsync(response));
+  }
+
+  private void invalidate(final String customerId) {
+    if (customerCache != null) {
+      customerCache.invalidate(customerId);
+    }
+  }
+
+  private <T> CompletableFuture<T> invalidateOnCompletion(final String customerId, final CompletableFuture<T> request) {
+    return customerCache == null ? request : customerCache.invalidateOnCompletion(customerId, request);
   }
 }
@@ -2,12 +2,15 @@
 
 package com.paysafe.payments.service.impl;
 
+import static com.paysafe.payments.api.PaysafeApiClient.awaitResponse;
 import static com.paysafe.payments.api.PaysafeApiClient.buildQueryParameters;
 import static com.paysafe.payments.api.PaysafeApiClient.processDeleteResponse;
-import static com.paysafe.payments.api.PaysafeApiClient.processResponse;
+import static com.paysafe.payments.api.PaysafeApiClient.processDeleteResponseAsync;
+import static com.paysafe.payments.service.impl.BlockingRequest.loader;
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import com.paysafe.payments.api.PaysafeApiClient;
 import com.paysafe.payments.api.PaysafeApiResponse;
@@ -22,6 +25,7 @@ public class CustomerServiceImpl implements CustomerService {
   public static final String CUSTOMERS_ENDPOINT = "/v1/customers";
 
   private final PaysafeApiClient paysafeApiClient;
+  private final CustomerCache customerCache;
 
   /**
    * Instantiates new CustomerService object.
@@ -29,7 +33,18 @@ public class CustomerServiceImpl implements CustomerService {
    * @param paysafeApiClient instance of paysafeApiClient which executes REST calls
    */
   public CustomerServiceImpl(final PaysafeApiClient paysafeApiClient) {
+    this(paysafeApiClient, null);
+  }
+
+  /**
+   * Instantiates new CustomerService object, reading customers through provided cache.
+   *
+   * @param paysafeApiClient instance of paysafeApiClient which executes REST calls
+   * @param customerCache    cache of customers, or null if customers are not cached
+   */
+  public CustomerServiceImpl(final PaysafeApiClient paysafeApiClient, final CustomerCache customerCache) {
     this.paysafeApiClient = paysafeApiClient;
+    this.customerCache = customerCache;
   }
 
   /**
@@ -43,8 +58,7 @@ public class CustomerServiceImpl implements CustomerService {
    * {@inheritDoc}
    */
   @Override public Customer createCustomer(final CustomerRequest customerRequest, final RequestOptions requestOptions) throws PaysafeSdkException {
-    PaysafeApiResponse response = paysafeApiClient.executePost(CUSTOMERS_ENDPOINT, customerRequest, requestOptions);
-    return processResponse(response, Customer.class);
+    return paysafeApiClient.executePost(CUSTOMERS_ENDPOINT, customerRequest, requestOptions, Customer.class);
   }
 
   /**
@@ -61,12 +75,11 @@ public class CustomerServiceImpl implements CustomerService {
   @Override
   public Customer getCustomerById(final String customerId, final Set<String> fields,
       final RequestOptions requestOptions) throws PaysafeSdkException {
-    final String fieldsParamValue = Optional.ofNullable(fields).map(elem -> String.join(",", elem)).orElse(null);
-    final String path = String.format("%s/%s%s", CUSTOMERS_ENDPOINT, customerId, buildQueryParameters(
-        null, null, null, null, null, null, fieldsParamValue));
-    PaysafeApiResponse response = paysafeApiClient.executeGet(path, requestOptions);
-
-    return processResponse(response, Customer.class);
+    if (customerCache != null) {
+      return awaitResponse(customerCache.getById(customerId, fields,
+          loader(() -> paysafeApiClient.executeGet(customerPath(customerId, fields), requestOptions, Customer.class))));
+    }
+    return paysafeApiClient.executeGet(customerPath(customerId, fields), requestOptions, Customer.class);
   }
 
   /**
@@ -83,12 +96,11 @@ public class CustomerServiceImpl implements CustomerService {
   @Override
   public Customer getCustomerByMerchantCustomerId(final String merchantCustomerId, final Set<String> fields,
       final RequestOptions requestOptions) throws PaysafeSdkException {
-    final String fieldsParamValue = Optional.ofNullable(fields).map(elem -> String.join(",", elem)).orElse(null);
-    final String path = String.format("%s%s", CUSTOMERS_ENDPOINT, buildQueryParameters(
-        null, null, null, null, null, merchantCustomerId, fieldsParamValue));
-    PaysafeApiResponse response = paysafeApiClient.executeGet(path, requestOptions);
-
-    return processResponse(response, Customer.class);
+    if (customerCache != null) {
+      return awaitResponse(customerCache.getByMerchantCustomerId(merchantCustomerId, fields, loader(
+          () -> paysafeApiClient.executeGet(merchantCustomerPath(merchantCustomerId, fields), requestOptions, Customer.class))));
+    }
+    return paysafeApiClient.executeGet(merchantCustomerPath(merchantCustomerId, fields), requestOptions, Customer.class);
   }
 
   /**
@@ -107,9 +119,11 @@ public class CustomerServiceImpl implements CustomerService {
       final RequestOptions requestOptions) throws PaysafeSdkException {
 
     final String path = String.format("%s/%s", CUSTOMERS_ENDPOINT, customerId);
-    PaysafeApiResponse response = paysafeApiClient.executePut(path, customerRequest, requestOptions);
-
-    return processResponse(response, Customer.class);
+    try {
+      return paysafeApiClient.executePut(path, customerRequest, requestOptions, Customer.class);
+    } finally {
+      invalidate(customerId);
+    }
   }
 
   /**
@@ -125,8 +139,133 @@ public class CustomerServiceImpl implements CustomerService {
    */
   @Override
   public void deleteCustomer(final String customerId, final RequestOptions requestOptions) throws PaysafeSdkException {
-    PaysafeApiResponse response = paysafeApiClient.executeDelete(String.format("%s/%s", CUSTOMERS_ENDPOINT, customerId),
+    try {
+      PaysafeApiResponse response = paysafeApiClient.executeDelete(String.format("%s/%s", CUSTOMERS_ENDPOINT, customerId),
+          requestOptions);
+      processDeleteResponse(response);
+    } finally {
+      invalidate(customerId);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Customer> createCustomerAsync(final CustomerRequest customerRequest) {
+    return createCustomerAsync(customerRequest, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Customer> createCustomerAsync(final CustomerRequest customerRequest,
+      final RequestOptions requestOptions) {
+    return paysafeApiClient.executePostAsync(CUSTOMERS_ENDPOINT, customerRequest, requestOptions, Customer.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Customer> getCustomerByIdAsync(final String customerId, final Set<String> fields) {
+    return getCustomerByIdAsync(customerId, fields, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Customer> getCustomerByIdAsync(final String customerId, final Set<String> fields,
+      final RequestOptions requestOptions) {
+    if (customerCache != null) {
+      return customerCache.getById(customerId, fields,
+          () -> paysafeApiClient.executeGetAsync(customerPath(customerId, fields), requestOptions, Customer.class));
+    }
+    return paysafeApiClient.executeGetAsync(customerPath(customerId, fields), requestOptions, Customer.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Customer> getCustomerByMerchantCustomerIdAsync(final String merchantCustomerId,
+      final Set<String> fields) {
+    return getCustomerByMerchantCustomerIdAsync(merchantCustomerId, fields, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Customer> getCustomerByMerchantCustomerIdAsync(final String merchantCustomerId,
+      final Set<String> fields, final RequestOptions requestOptions) {
+    if (customerCache != null) {
+      return customerCache.getByMerchantCustomerId(merchantCustomerId, fields, () -> paysafeApiClient.executeGetAsync(
+          merchantCustomerPath(merchantCustomerId, fields), requestOptions, Customer.class));
+    }
+    return paysafeApiClient.executeGetAsync(merchantCustomerPath(merchantCustomerId, fields), requestOptions, Customer.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Customer> updateCustomerAsync(final String customerId, final CustomerRequest customerRequest) {
+    return updateCustomerAsync(customerId, customerRequest, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Customer> updateCustomerAsync(final String customerId, final CustomerRequest customerRequest,
+      final RequestOptions requestOptions) {
+
+    final String path = String.format("%s/%s", CUSTOMERS_ENDPOINT, customerId);
+    return invalidateOnCompletion(customerId, paysafeApiClient.executePutAsync(path, customerRequest, requestOptions,
+        Customer.class));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Void> deleteCustomerAsync(final String customerId) {
+    return deleteCustomerAsync(customerId, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Void> deleteCustomerAsync(final String customerId, final RequestOptions requestOptions) {
+    CompletableFuture<PaysafeApiResponse> response =
+        paysafeApiClient.executeDeleteAsync(String.format("%s/%s", CUSTOMERS_ENDPOINT, customerId),
         requestOptions);
-    processDeleteResponse(response);
+    return invalidateOnCompletion(customerId, processDeleteResponseAsync(response));
+  }
+
+  private static String customerPath(final String customerId, final Set<String> fields) {
+    final String fieldsParamValue = Optional.ofNullable(fields).map(elem -> String.join(",", elem)).orElse(null);
+    return String.format("%s/%s%s", CUSTOMERS_ENDPOINT, customerId, buildQueryParameters(
+        null, null, null, null, null, null, fieldsParamValue));
+  }
+
+  private static String merchantCustomerPath(final String merchantCustomerId, final Set<String> fields) {
+    final String fieldsParamValue = Optional.ofNullable(fields).map(elem -> String.join(",", elem)).orElse(null);
+    return String.format("%s%s", CUSTOMERS_ENDPOINT, buildQueryParameters(
+        null, null, null, null, null, merchantCustomerId, fieldsParamValue));
+  }
+
+  private void invalidate(final String customerId) {
+    if (customerCache != null) {
+      customerCache.invalidate(customerId);
+    }
+  }
+
+  private <T> CompletableFuture<T> invalidateOnCompletion(final String customerId, final CompletableFuture<T> request) {
+    return customerCache == null ? request : customerCache.invalidateOnCompletion(customerId, request);
   }
 }
@@ -2,10 +2,10 @@
 
 package com.paysafe.payments.service.impl;
 
-import static com.paysafe.payments.api.PaysafeApiClient.processResponse;
+
+import java.util.concurrent.CompletableFuture;
 
 import com.paysafe.payments.api.PaysafeApiClient;
-import com.paysafe.payments.api.PaysafeApiResponse;
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
 import com.paysafe.payments.model.customer.singleusecustomertoken.SingleUseCustomerToken;
@@ -43,10 +43,8 @@ public class CustomerSingleUseTokenServiceImpl implements CustomerSingleUseToken
   @Override
   public SingleUseCustomerToken createSingleUseCustomerToken(final String customerId,
       final SingleUseCustomerTokenRequest requestBody, final RequestOptions requestOptions) throws PaysafeSdkException {
-    PaysafeApiResponse response = paysafeApiClient.executePost(String.format(CREATE_CUSTOMER_SINGLE_USE_TOKEN_ENDPOINT, customerId),
-        requestBody, requestOptions);
-
-    return processResponse(response, SingleUseCustomerToken.class);
+    return paysafeApiClient.executePost(String.format(CREATE_CUSTOMER_SINGLE_USE_TOKEN_ENDPOINT, customerId),
+        requestBody, requestOptions, SingleUseCustomerToken.class);
   }
 
   /**
@@ -64,8 +62,43 @@ public class CustomerSingleUseTokenServiceImpl implements CustomerSingleUseToken
   public SingleUseCustomerToken getSingleUseCustomerToken(final String singleUseCustomerTokenId,
       final RequestOptions requestOptions) throws PaysafeSdkException {
     String endpoint = String.format(GET_CUSTOMER_SINGLE_USE_TOKEN_ENDPOINT, singleUseCustomerTokenId);
-    PaysafeApiResponse response = paysafeApiClient.executeGet(endpoint, requestOptions);
+    return paysafeApiClient.executeGet(endpoint, requestOptions, SingleUseCustomerToken.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<SingleUseCustomerToken> createSingleUseCustomerTokenAsync(final String customerId,
+      final SingleUseCustomerTokenRequest requestBody) {
+    return createSingleUseCustomerTokenAsync(customerId, requestBody, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<SingleUseCustomerToken> createSingleUseCustomerTokenAsync(final String customerId,
+      final SingleUseCustomerTokenRequest requestBody, final RequestOptions requestOptions) {
+    return paysafeApiClient.executePostAsync(String.format(CREATE_CUSTOMER_SINGLE_USE_TOKEN_ENDPOINT, customerId),
+        requestBody, requestOptions, SingleUseCustomerToken.class);
+  }
 
-    return processResponse(response, SingleUseCustomerToken.class);
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<SingleUseCustomerToken> getSingleUseCustomerTokenAsync(final String singleUseCustomerTokenId) {
+    return getSingleUseCustomerTokenAsync(singleUseCustomerTokenId, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<SingleUseCustomerToken> getSingleUseCustomerTokenAsync(final String singleUseCustomerTokenId,
+      final RequestOptions requestOptions) {
+    String endpoint = String.format(GET_CUSTOMER_SINGLE_USE_TOKEN_ENDPOINT, singleUseCustomerTokenId);
+    return paysafeApiClient.executeGetAsync(endpoint, requestOptions, SingleUseCustomerToken.class);
   }
 }
@@ -2,10 +2,10 @@
 
 package com.paysafe.payments.service.impl;
 
-import static com.paysafe.payments.api.PaysafeApiClient.processResponse;
+
+import java.util.concurrent.CompletableFuture;
 
 import com.paysafe.payments.api.PaysafeApiClient;
-import com.paysafe.payments.api.PaysafeApiResponse;
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
 import com.paysafe.payments.model.monitor.MonitorResponse;
@@ -39,9 +39,22 @@ public class MonitorServiceImpl implements MonitorService {
    */
   @Override
   public MonitorResponse verifyThatServiceIsAccessible(final RequestOptions requestOptions) throws PaysafeSdkException {
-    PaysafeApiResponse response = paysafeApiClient.executeGet(MONITOR_ENDPOINT, requestOptions);
-    return processResponse(response, MonitorResponse.class);
+    return paysafeApiClient.executeGet(MONITOR_ENDPOINT, requestOptions, MonitorResponse.class);
   }
-}
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<MonitorResponse> verifyThatServiceIsAccessibleAsync() {
+    return verifyThatServiceIsAccessibleAsync(null);
+  }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<MonitorResponse> verifyThatServiceIsAccessibleAsync(final RequestOptions requestOptions) {
+    return paysafeApiClient.executeGetAsync(MONITOR_ENDPOINT, requestOptions, MonitorResponse.class);
+  }
+}
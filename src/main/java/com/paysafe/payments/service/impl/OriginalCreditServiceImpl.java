@@ -3,10 +3,11 @@
 package com.paysafe.payments.service.impl;
 
 import static com.paysafe.payments.api.PaysafeApiClient.buildQueryParameters;
-import static com.paysafe.payments.api.PaysafeApiClient.processResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import com.paysafe.payments.api.PaysafeApiClient;
-import com.paysafe.payments.api.PaysafeApiResponse;
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
 import com.paysafe.payments.model.common.cancel.CancelRequest;
@@ -39,8 +40,7 @@ public class OriginalCreditServiceImpl implements OriginalCreditService {
   @Override public OriginalCredit processOriginalCredit(final OriginalCreditRequest originalCreditRequest,
       final RequestOptions requestOptions) throws PaysafeSdkException {
 
-    PaysafeApiResponse response = paysafeApiClient.executePost(ORIGINAL_CREDIT_ENDPOINT, originalCreditRequest, requestOptions);
-    return processResponse(response, OriginalCredit.class);
+    return paysafeApiClient.executePost(ORIGINAL_CREDIT_ENDPOINT, originalCreditRequest, requestOptions, OriginalCredit.class);
   }
 
   /**
@@ -55,8 +55,7 @@ public class OriginalCreditServiceImpl implements OriginalCreditService {
    */
   @Override public OriginalCredit getOriginalCreditById(final String originalCreditId, final RequestOptions requestOptions) throws PaysafeSdkException {
     final String path = String.format("%s/%s", ORIGINAL_CREDIT_ENDPOINT, originalCreditId);
-    PaysafeApiResponse response = paysafeApiClient.executeGet(path, requestOptions);
-    return processResponse(response, OriginalCredit.class);
+    return paysafeApiClient.executeGet(path, requestOptions, OriginalCredit.class);
   }
 
   /**
@@ -74,8 +73,7 @@ public class OriginalCreditServiceImpl implements OriginalCreditService {
       final Integer limit, final Integer offset, final String startDate, RequestOptions requestOptions) throws PaysafeSdkException {
     final String path = String.format("%s%s", ORIGINAL_CREDIT_ENDPOINT, buildQueryParameters(merchantRefNum, endDate,
         limit, offset, startDate, null, null));
-    PaysafeApiResponse response = paysafeApiClient.executeGet(path, requestOptions);
-    return processResponse(response, OriginalCreditList.class);
+    return paysafeApiClient.executeGet(path, requestOptions, OriginalCreditList.class);
   }
 
   /**
@@ -91,7 +89,102 @@ public class OriginalCreditServiceImpl implements OriginalCreditService {
   @Override public CancelResponse cancelOriginalCredit(final String originalCreditId, final CancelRequest cancelRequest,
       final RequestOptions requestOptions) throws PaysafeSdkException {
     final String path = String.format("%s/%s", ORIGINAL_CREDIT_ENDPOINT, originalCreditId);
-    PaysafeApiResponse response = paysafeApiClient.executePut(path, cancelRequest, requestOptions);
-    return processResponse(response, CancelResponse.class);
+    return paysafeApiClient.executePut(path, cancelRequest, requestOptions, CancelResponse.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<OriginalCredit> processOriginalCreditAsync(final OriginalCreditRequest originalCreditRequest) {
+    return processOriginalCreditAsync(originalCreditRequest, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<OriginalCredit> processOriginalCreditAsync(final OriginalCreditRequest originalCreditRequest,
+      final RequestOptions requestOptions) {
+
+    return paysafeApiClient.executePostAsync(ORIGINAL_CREDIT_ENDPOINT, originalCreditRequest, requestOptions,
+        OriginalCredit.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<OriginalCredit> getOriginalCreditByIdAsync(final String originalCreditId) {
+    return getOriginalCreditByIdAsync(originalCreditId, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<OriginalCredit> getOriginalCreditByIdAsync(final String originalCreditId,
+      final RequestOptions requestOptions) {
+    final String path = String.format("%s/%s", ORIGINAL_CREDIT_ENDPOINT, originalCreditId);
+    return paysafeApiClient.executeGetAsync(path, requestOptions, OriginalCredit.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<OriginalCreditList> getOriginalCreditUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate) {
+    return getOriginalCreditUsingMerchantReferenceNumberAsync(merchantRefNum, endDate, limit, offset, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<OriginalCreditList> getOriginalCreditUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate, RequestOptions requestOptions) {
+    final String path = String.format("%s%s", ORIGINAL_CREDIT_ENDPOINT, buildQueryParameters(merchantRefNum, endDate,
+        limit, offset, startDate, null, null));
+    return paysafeApiClient.executeGetAsync(path, requestOptions, OriginalCreditList.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<CancelResponse> cancelOriginalCreditAsync(final String originalCreditId,
+      final CancelRequest cancelRequest) {
+    return cancelOriginalCreditAsync(originalCreditId, cancelRequest, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<CancelResponse> cancelOriginalCreditAsync(final String originalCreditId,
+      final CancelRequest cancelRequest, final RequestOptions requestOptions) {
+    final String path = String.format("%s/%s", ORIGINAL_CREDIT_ENDPOINT, originalCreditId);
+    return paysafeApiClient.executePutAsync(path, cancelRequest, requestOptions, CancelResponse.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<OriginalCredit> streamOriginalCreditsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate) {
+    return streamOriginalCreditsUsingMerchantReferenceNumber(merchantRefNum, endDate, pageSize, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<OriginalCredit> streamOriginalCreditsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate, final RequestOptions requestOptions) {
+    return PageIterator.stream(pageSize,
+        (limit, offset) -> getOriginalCreditUsingMerchantReferenceNumberAsync(merchantRefNum, endDate, limit, offset, startDate, requestOptions),
+        OriginalCreditList::getOriginalCredits, OriginalCreditList::getMeta);
   }
 }
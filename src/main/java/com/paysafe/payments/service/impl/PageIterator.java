@@ -0,0 +1,154 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.service.impl;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.paysafe.payments.errorhandling.exception.ApiConnectionException;
+import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
+import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.errorhandling.exception.UncheckedPaysafeSdkException;
+import com.paysafe.payments.model.common.Meta;
+import com.paysafe.payments.validation.PropertyValidator;
+
+/**
+ * Iterates over records of a lookup, fetching its pages lazily by increasing the offset by the number of records
+ * received. Once a page is received, the next one is fetched asynchronously while the current one is consumed, so at
+ * most two pages are held in memory. The last page is an empty page, or one with fewer records than the limit of its
+ * meta, which may be lower than the page size if the API caps it, or than the page size if the page has no meta.
+ * <p>
+ * Failures of requests are thrown as {@link UncheckedPaysafeSdkException}, after which the iteration ends.
+ *
+ * @param <L> type of the page, i.e. PaymentList
+ * @param <T> type of the records, i.e. Payment
+ */
+final class PageIterator<L, T> implements Iterator<T>, AutoCloseable {
+
+  // default limit of lookups of Paysafe Payments API
+  private static final int DEFAULT_PAGE_SIZE = 10;
+  private static final String REQUEST_CANCELLED_MESSAGE = "request cancelled";
+
+  private final BiFunction<Integer, Integer, CompletableFuture<L>> pageFetcher;
+  private final Function<L, List<T>> pageRecords;
+  private final Function<L, Meta> pageMeta;
+  private final int pageSize;
+  private Iterator<T> currentPage = Collections.emptyIterator();
+  private CompletableFuture<L> nextPage;
+  private int nextOffset;
+  private boolean lastPageFetched;
+
+  /**
+   * @param pageSize    number of records of each page, or null for the default of Paysafe Payments API
+   * @param pageFetcher fetching page of provided limit and offset
+   * @param pageRecords returning records of the page, possibly null
+   * @param pageMeta    returning meta of the page, possibly null
+   */
+  private PageIterator(final Integer pageSize, final BiFunction<Integer, Integer, CompletableFuture<L>> pageFetcher,
+      final Function<L, List<T>> pageRecords, final Function<L, Meta> pageMeta) {
+    this.pageSize = pageSize == null ? DEFAULT_PAGE_SIZE : pageSize;
+    this.pageFetcher = pageFetcher;
+    this.pageRecords = pageRecords;
+    this.pageMeta = pageMeta;
+  }
+
+  /**
+   * Returns sequential stream of records of all pages. No request is sent until the stream is consumed, and closing the
+   * stream cancels the page being fetched.
+   *
+   * @throws UncheckedPaysafeSdkException caused by IllegalArgumentException if pageSize is not a positive value
+   */
+  static <L, T> Stream<T> stream(final Integer pageSize, final BiFunction<Integer, Integer, CompletableFuture<L>> pageFetcher,
+      final Function<L, List<T>> pageRecords, final Function<L, Meta> pageMeta) {
+    try {
+      PropertyValidator.validatePageSize(pageSize);
+    } catch (IllegalArgumentException e) {
+      throw new UncheckedPaysafeSdkException(e);
+    }
+    PageIterator<L, T> iterator = new PageIterator<>(pageSize, pageFetcher, pageRecords, pageMeta);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(iterator::close);
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!currentPage.hasNext()) {
+      if (nextPage == null) {
+        if (lastPageFetched) {
+          return false;
+        }
+        fetchNextPage();
+      }
+      L page = awaitNextPage();
+      List<T> records = page == null ? null : pageRecords.apply(page);
+      int received = records == null ? 0 : records.size();
+      nextOffset += received;
+      if (isLastPage(page == null ? null : pageMeta.apply(page), received)) {
+        lastPageFetched = true;
+      } else {
+        fetchNextPage();
+      }
+      currentPage = records == null ? Collections.emptyIterator() : records.iterator();
+    }
+    return true;
+  }
+
+  @Override
+  public T next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return currentPage.next();
+  }
+
+  @Override
+  public void close() {
+    lastPageFetched = true;
+    if (nextPage != null) {
+      nextPage.cancel(true);
+      nextPage = null;
+    }
+  }
+
+  // numberOfRecords of the meta counts records of the page rather than of the lookup, so it cannot end the iteration
+  private boolean isLastPage(final Meta meta, final int received) {
+    if (received == 0) {
+      return true;
+    }
+    Integer limit = meta == null ? null : meta.getLimit();
+    return received < (limit == null ? pageSize : limit);
+  }
+
+  private void fetchNextPage() {
+    nextPage = pageFetcher.apply(pageSize, nextOffset);
+  }
+
+  private L awaitNextPage() {
+    CompletableFuture<L> page = nextPage;
+    nextPage = null;
+    try {
+      return page.get();
+    } catch (ExecutionException e) {
+      lastPageFetched = true;
+      if (e.getCause() instanceof PaysafeSdkException) {
+        throw new UncheckedPaysafeSdkException((PaysafeSdkException) e.getCause());
+      }
+      throw new UncheckedPaysafeSdkException(new PaysafeSdkException(e.getCause()));
+    } catch (InterruptedException e) {
+      lastPageFetched = true;
+      page.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new UncheckedPaysafeSdkException(new ApiConnectionException(REQUEST_CANCELLED_MESSAGE));
+    }
+  }
+}
@@ -3,15 +3,18 @@
 package com.paysafe.payments.service.impl;
 
 import static com.paysafe.payments.api.PaysafeApiClient.buildQueryParameters;
-import static com.paysafe.payments.api.PaysafeApiClient.processResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import com.paysafe.payments.api.PaysafeApiClient;
-import com.paysafe.payments.api.PaysafeApiResponse;
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
 import com.paysafe.payments.model.paymenthandle.PaymentHandle;
 import com.paysafe.payments.model.paymenthandle.PaymentHandleList;
 import com.paysafe.payments.model.paymenthandle.PaymentHandleRequest;
+import com.paysafe.payments.model.paymenthandle.PaymentHandleSummary;
+import com.paysafe.payments.model.paymenthandle.PaymentHandleSummaryList;
 import com.paysafe.payments.service.PaymentHandleService;
 
 /**
@@ -40,8 +43,7 @@ public class PaymentHandleServiceImpl implements PaymentHandleService {
    */
   @Override
   public PaymentHandle createPaymentHandle(final PaymentHandleRequest paymentHandleRequest, final RequestOptions requestOptions) throws PaysafeSdkException {
-    PaysafeApiResponse response = paysafeApiClient.executePost(PAYMENT_HANDLE_ENDPOINT, paymentHandleRequest, requestOptions);
-    return processResponse(response, PaymentHandle.class);
+    return paysafeApiClient.executePost(PAYMENT_HANDLE_ENDPOINT, paymentHandleRequest, requestOptions, PaymentHandle.class);
   }
 
   /**
@@ -58,8 +60,7 @@ public class PaymentHandleServiceImpl implements PaymentHandleService {
   @Override
   public PaymentHandle getPaymentHandleById(final String paymentHandleId, final RequestOptions requestOptions) throws PaysafeSdkException {
     final String path = String.format("%s/%s", PAYMENT_HANDLE_ENDPOINT, paymentHandleId);
-    PaysafeApiResponse response = paysafeApiClient.executeGet(path, requestOptions);
-    return processResponse(response, PaymentHandle.class);
+    return paysafeApiClient.executeGet(path, requestOptions, PaymentHandle.class);
   }
 
   /**
@@ -83,8 +84,163 @@ public class PaymentHandleServiceImpl implements PaymentHandleService {
 
     final String path = String.format("%s%s", PAYMENT_HANDLE_ENDPOINT,
         buildQueryParameters(merchantRefNum, endDate, limit, offset, startDate, null, null));
-    PaysafeApiResponse response = paysafeApiClient.executeGet(path, requestOptions);
+    return paysafeApiClient.executeGet(path, requestOptions, PaymentHandleList.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<PaymentHandle> createPaymentHandleAsync(final PaymentHandleRequest paymentHandleRequest) {
+    return createPaymentHandleAsync(paymentHandleRequest, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<PaymentHandle> createPaymentHandleAsync(final PaymentHandleRequest paymentHandleRequest,
+      final RequestOptions requestOptions) {
+    return paysafeApiClient.executePostAsync(PAYMENT_HANDLE_ENDPOINT, paymentHandleRequest, requestOptions, PaymentHandle.class);
+  }
 
-    return processResponse(response, PaymentHandleList.class);
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<PaymentHandle> getPaymentHandleByIdAsync(final String paymentHandleId) {
+    return getPaymentHandleByIdAsync(paymentHandleId, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<PaymentHandle> getPaymentHandleByIdAsync(final String paymentHandleId,
+      final RequestOptions requestOptions) {
+    final String path = String.format("%s/%s", PAYMENT_HANDLE_ENDPOINT, paymentHandleId);
+    return paysafeApiClient.executeGetAsync(path, requestOptions, PaymentHandle.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<PaymentHandleList> getPaymentHandleUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate) {
+    return getPaymentHandleUsingMerchantReferenceNumberAsync(merchantRefNum, endDate, limit, offset, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<PaymentHandleList> getPaymentHandleUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate,
+      final RequestOptions requestOptions) {
+
+    final String path = String.format("%s%s", PAYMENT_HANDLE_ENDPOINT,
+        buildQueryParameters(merchantRefNum, endDate, limit, offset, startDate, null, null));
+    return paysafeApiClient.executeGetAsync(path, requestOptions, PaymentHandleList.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<PaymentHandle> streamPaymentHandlesUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate) {
+    return streamPaymentHandlesUsingMerchantReferenceNumber(merchantRefNum, endDate, pageSize, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<PaymentHandle> streamPaymentHandlesUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate, final RequestOptions requestOptions) {
+    return PageIterator.stream(pageSize,
+        (limit, offset) -> getPaymentHandleUsingMerchantReferenceNumberAsync(merchantRefNum, endDate, limit, offset, startDate, requestOptions),
+        PaymentHandleList::getPaymentHandles, PaymentHandleList::getMeta);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public PaymentHandleSummary getPaymentHandleSummaryById(final String paymentHandleId) throws PaysafeSdkException {
+    return getPaymentHandleSummaryById(paymentHandleId, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public PaymentHandleSummary getPaymentHandleSummaryById(final String paymentHandleId, final RequestOptions requestOptions)
+      throws PaysafeSdkException {
+    final String path = String.format("%s/%s", PAYMENT_HANDLE_ENDPOINT, paymentHandleId);
+    return paysafeApiClient.executeGet(path, requestOptions, PaymentHandleSummary.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<PaymentHandleSummary> getPaymentHandleSummaryByIdAsync(final String paymentHandleId) {
+    return getPaymentHandleSummaryByIdAsync(paymentHandleId, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<PaymentHandleSummary> getPaymentHandleSummaryByIdAsync(final String paymentHandleId,
+      final RequestOptions requestOptions) {
+    final String path = String.format("%s/%s", PAYMENT_HANDLE_ENDPOINT, paymentHandleId);
+    return paysafeApiClient.executeGetAsync(path, requestOptions, PaymentHandleSummary.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public PaymentHandleSummaryList getPaymentHandleSummariesUsingMerchantReferenceNumber(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate) throws PaysafeSdkException {
+    return getPaymentHandleSummariesUsingMerchantReferenceNumber(merchantRefNum, endDate, limit, offset, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public PaymentHandleSummaryList getPaymentHandleSummariesUsingMerchantReferenceNumber(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate,
+      final RequestOptions requestOptions) throws PaysafeSdkException {
+
+    final String path = String.format("%s%s", PAYMENT_HANDLE_ENDPOINT,
+        buildQueryParameters(merchantRefNum, endDate, limit, offset, startDate, null, null));
+    return paysafeApiClient.executeGet(path, requestOptions, PaymentHandleSummaryList.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<PaymentHandleSummaryList> getPaymentHandleSummariesUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate) {
+    return getPaymentHandleSummariesUsingMerchantReferenceNumberAsync(merchantRefNum, endDate, limit, offset, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<PaymentHandleSummaryList> getPaymentHandleSummariesUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate,
+      final RequestOptions requestOptions) {
+
+    final String path = String.format("%s%s", PAYMENT_HANDLE_ENDPOINT,
+        buildQueryParameters(merchantRefNum, endDate, limit, offset, startDate, null, null));
+    return paysafeApiClient.executeGetAsync(path, requestOptions, PaymentHandleSummaryList.class);
   }
 }
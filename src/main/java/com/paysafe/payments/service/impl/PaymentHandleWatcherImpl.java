@@ -0,0 +1,264 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.service.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.paysafe.payments.errorhandling.exception.ApiConnectionException;
+import com.paysafe.payments.errorhandling.exception.CircuitBreakerOpenException;
+import com.paysafe.payments.errorhandling.exception.ConcurrencyLimitExceededException;
+import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.model.paymenthandle.PaymentHandle;
+import com.paysafe.payments.model.paymenthandle.enums.PaymentHandleStatus;
+import com.paysafe.payments.service.PaymentHandleService;
+import com.paysafe.payments.service.PaymentHandleWatcher;
+
+/**
+ * Polls are scheduled on a hashed timer wheel advanced by a single thread, so that watching a payment handle costs an
+ * entry in a bucket rather than a thread or a scheduled task. Each bucket holds polls due within the same tick, and polls
+ * due more than one revolution ahead wait for the remaining number of revolutions. Polls are started with
+ * the executor provided by PaysafeClient, so the timer thread never waits for the API or runs interceptors.
+ * <p>
+ * The interval between polls grows while the status does not change, and is reset once it does, i.e. when the customer
+ * starts authorizing the payment. The last poll is made once time to live elapses, whatever the interval.
+ */
+public final class PaymentHandleWatcherImpl implements PaymentHandleWatcher, AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(PaymentHandleWatcherImpl.class);
+
+  private static final Set<String> WATCHED_STATUSES = Set.of(PaymentHandleStatus.PAYABLE.getValue(),
+      PaymentHandleStatus.COMPLETED.getValue(), PaymentHandleStatus.FAILED.getValue(),
+      PaymentHandleStatus.EXPIRED.getValue());
+  private static final long TICK_MILLIS = 100;
+  private static final int WHEEL_SIZE = 512;
+  private static final long INITIAL_INTERVAL_MILLIS = 1000;
+  private static final long MAX_INTERVAL_MILLIS = 10000;
+  private static final double BACKOFF_MULTIPLIER = 1.5;
+  private static final int DEFAULT_TIME_TO_LIVE_SECONDS = 900;
+
+  private final PaymentHandleService paymentHandleService;
+  private final Executor pollExecutor;
+  private final ScheduledExecutorService timer;
+  private final long startNanos = System.nanoTime();
+  // buckets of the wheel and the current tick are accessed only by the timer thread
+  private final List<Deque<Watch>> wheel = new ArrayList<>(WHEEL_SIZE);
+  private long tick;
+  // polls scheduled by other threads, added to the wheel by the timer thread on its next tick
+  private final Queue<Watch> scheduled = new ConcurrentLinkedQueue<>();
+  private final Set<Watch> watches = ConcurrentHashMap.newKeySet();
+  private volatile boolean closed;
+
+  /**
+   * Instantiates new PaymentHandleWatcher object and starts its timer thread.
+   *
+   * @param paymentHandleService service polling the payment handles
+   * @param pollExecutor executor starting the polls
+   */
+  public PaymentHandleWatcherImpl(final PaymentHandleService paymentHandleService, final Executor pollExecutor) {
+    this.paymentHandleService = paymentHandleService;
+    this.pollExecutor = pollExecutor;
+    for (int i = 0; i < WHEEL_SIZE; i++) {
+      wheel.add(new ArrayDeque<>());
+    }
+    timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+      Thread thread = new Thread(runnable, "paysafe-payment-handle-watcher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    timer.scheduleAtFixedRate(this::advance, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<PaymentHandle> watch(final PaymentHandle paymentHandle) {
+    if (isWatchedStatus(paymentHandle.getStatus())) {
+      return CompletableFuture.completedFuture(paymentHandle);
+    }
+    Integer timeToLiveSeconds = paymentHandle.getTimeToLiveSeconds();
+    return watch(paymentHandle.getId(), timeToLiveSeconds == null ? DEFAULT_TIME_TO_LIVE_SECONDS : timeToLiveSeconds);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<PaymentHandle> watch(final String paymentHandleId, final int timeToLiveSeconds) {
+    if (closed) {
+      return CompletableFuture.failedFuture(new IllegalStateException("PaymentHandleWatcher is closed"));
+    }
+    Watch watch = new Watch(paymentHandleId, System.nanoTime() + TimeUnit.SECONDS.toNanos(timeToLiveSeconds));
+    watches.add(watch);
+    watch.future.whenComplete((paymentHandle, throwable) -> {
+      watches.remove(watch);
+      CompletableFuture<PaymentHandle> request = watch.request;
+      if (request != null) {
+        request.cancel(true);
+      }
+    });
+    schedule(watch, INITIAL_INTERVAL_MILLIS);
+    if (closed) {
+      watch.future.cancel(false);
+    }
+    return watch.future;
+  }
+
+  /**
+   * Stops the timer thread. Payment handles which are still watched are no longer polled, and their futures are
+   * cancelled.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    timer.shutdownNow();
+    watches.forEach(watch -> watch.future.cancel(false));
+  }
+
+  private void schedule(final Watch watch, final long intervalMillis) {
+    watch.intervalMillis = intervalMillis;
+    long nextPollNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+    watch.nextPollNanos = nextPollNanos - watch.deadlineNanos < 0 ? nextPollNanos : watch.deadlineNanos;
+    scheduled.add(watch);
+  }
+
+  /**
+   * Processes all ticks which elapsed since the last run, so that polls are not lost if the timer thread was delayed.
+   */
+  private void advance() {
+    try {
+      long currentTick = (System.nanoTime() - startNanos) / TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS);
+      while (tick <= currentTick) {
+        addScheduled();
+        expire(wheel.get((int) (tick % WHEEL_SIZE)));
+        tick++;
+      }
+    } catch (RuntimeException e) {
+      // an exception would cancel the periodic task and stop all watches
+      logger.warn("Payment handle watcher tick failed", e);
+    }
+  }
+
+  private void addScheduled() {
+    long tickNanos = TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS);
+    Watch watch;
+    while ((watch = scheduled.poll()) != null) {
+      long dueTick = Math.max(tick, (watch.nextPollNanos - startNanos + tickNanos - 1) / tickNanos);
+      watch.remainingRounds = (dueTick - tick) / WHEEL_SIZE;
+      wheel.get((int) (dueTick % WHEEL_SIZE)).add(watch);
+    }
+  }
+
+  private void expire(final Deque<Watch> bucket) {
+    Iterator<Watch> iterator = bucket.iterator();
+    while (iterator.hasNext()) {
+      Watch watch = iterator.next();
+      if (watch.future.isDone()) {
+        iterator.remove();
+      } else if (watch.remainingRounds > 0) {
+        watch.remainingRounds--;
+      } else {
+        iterator.remove();
+        pollExecutor.execute(() -> poll(watch));
+      }
+    }
+  }
+
+  private void poll(final Watch watch) {
+    CompletableFuture<PaymentHandle> request;
+    try {
+      request = paymentHandleService.getPaymentHandleByIdAsync(watch.paymentHandleId);
+    } catch (RuntimeException e) {
+      request = CompletableFuture.failedFuture(e);
+    }
+    watch.request = request;
+    request.whenComplete((paymentHandle, throwable) -> onPolled(watch, paymentHandle, throwable));
+  }
+
+  private void onPolled(final Watch watch, final PaymentHandle paymentHandle, final Throwable throwable) {
+    if (watch.future.isDone()) {
+      return;
+    }
+    boolean expired = System.nanoTime() - watch.deadlineNanos >= 0;
+    if (throwable != null) {
+      Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+          ? throwable.getCause() : throwable;
+      if (expired || !isTransient(cause)) {
+        watch.future.completeExceptionally(cause);
+      } else {
+        logger.debug("Poll of payment handle {} failed and is retried: {}", watch.paymentHandleId, cause.getMessage());
+        schedule(watch, backOff(watch.intervalMillis));
+      }
+      return;
+    }
+    if (expired || isWatchedStatus(paymentHandle.getStatus())) {
+      watch.future.complete(paymentHandle);
+      return;
+    }
+    boolean statusChanged = !Objects.equals(paymentHandle.getStatus(), watch.lastStatus);
+    watch.lastStatus = paymentHandle.getStatus();
+    schedule(watch, statusChanged ? INITIAL_INTERVAL_MILLIS : backOff(watch.intervalMillis));
+  }
+
+  private static long backOff(final long intervalMillis) {
+    return Math.min(MAX_INTERVAL_MILLIS, (long) (intervalMillis * BACKOFF_MULTIPLIER));
+  }
+
+  private static boolean isWatchedStatus(final String status) {
+    return status != null && WATCHED_STATUSES.contains(status.toUpperCase(Locale.ROOT));
+  }
+
+  /**
+   * Failures which may not occur on the next poll: connection errors, rejections by the client itself, rate limiting
+   * and server errors.
+   */
+  private static boolean isTransient(final Throwable throwable) {
+    if (throwable instanceof ApiConnectionException || throwable instanceof CircuitBreakerOpenException
+        || throwable instanceof ConcurrencyLimitExceededException) {
+      return true;
+    }
+    if (throwable instanceof PaysafeSdkException) {
+      Integer code = ((PaysafeSdkException) throwable).getCode();
+      return code != null && (code == 429 || code >= 500);
+    }
+    return false;
+  }
+
+  private static final class Watch {
+
+    private final String paymentHandleId;
+    private final long deadlineNanos;
+    private final CompletableFuture<PaymentHandle> future = new CompletableFuture<>();
+    // set before the watch is handed to the timer thread through the queue of scheduled polls
+    private long intervalMillis;
+    private long nextPollNanos;
+    private String lastStatus;
+    // accessed only by the timer thread
+    private long remainingRounds;
+    private volatile CompletableFuture<PaymentHandle> request;
+
+    private Watch(final String paymentHandleId, final long deadlineNanos) {
+      this.paymentHandleId = paymentHandleId;
+      this.deadlineNanos = deadlineNanos;
+    }
+  }
+}
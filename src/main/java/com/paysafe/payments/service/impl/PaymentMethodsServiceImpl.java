@@ -2,10 +2,14 @@
 
 package com.paysafe.payments.service.impl;
 
-import static com.paysafe.payments.api.PaysafeApiClient.processResponse;
+import static com.paysafe.payments.api.PaysafeApiClient.awaitResponse;
+import static com.paysafe.payments.service.impl.BlockingRequest.loader;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.paysafe.payments.api.CacheConfig;
 import com.paysafe.payments.api.PaysafeApiClient;
-import com.paysafe.payments.api.PaysafeApiResponse;
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
 import com.paysafe.payments.model.common.enums.CurrencyCode;
@@ -14,9 +18,11 @@ import com.paysafe.payments.service.PaymentMethodsService;
 
 public class PaymentMethodsServiceImpl implements PaymentMethodsService {
 
+  public static final String PAYMENT_METHODS_CACHE = "paymentmethods";
   private static final String PAYMENT_METHODS_ENDPOINT = "/v1/paymentmethods";
 
   private final PaysafeApiClient paysafeApiClient;
+  private final ResponseCache<CurrencyCode, LookUpPaymentMethodsResponse> cache;
 
   /**
    * Instantiates a new LookUpPaymentMethodsServiceImpl object.
@@ -24,7 +30,34 @@ public class PaymentMethodsServiceImpl implements PaymentMethodsService {
    * @param paysafeApiClient instance of PaysafeApiClient used to execute API requests
    */
   public PaymentMethodsServiceImpl(final PaysafeApiClient paysafeApiClient) {
+    this(paysafeApiClient, null);
+  }
+
+  /**
+   * Instantiates a new LookUpPaymentMethodsServiceImpl object, caching payment methods of each currency code.
+   *
+   * @param paysafeApiClient instance of PaysafeApiClient used to execute API requests
+   * @param cacheConfig      configuration of the cache, or null if payment methods are not cached
+   */
+  public PaymentMethodsServiceImpl(final PaysafeApiClient paysafeApiClient, final CacheConfig cacheConfig) {
     this.paysafeApiClient = paysafeApiClient;
+    this.cache = cacheConfig == null ? null
+        : new ResponseCache<>(PAYMENT_METHODS_CACHE, LookUpPaymentMethodsResponse.class, cacheConfig, paysafeApiClient);
+  }
+
+  /**
+   * Starts looking up payment methods of provided currency codes in background, so that they are cached before they are
+   * needed. Failures are ignored, as payment methods are looked up again once needed.
+   *
+   * @param currencyCodes of which payment methods are cached
+   */
+  public void warmUp(final List<CurrencyCode> currencyCodes) {
+    if (cache == null) {
+      return;
+    }
+    for (CurrencyCode currencyCode : currencyCodes) {
+      cache.preload(currencyCode, loader(() -> executeLookUp(currencyCode, null)));
+    }
   }
 
   /**
@@ -42,8 +75,44 @@ public class PaymentMethodsServiceImpl implements PaymentMethodsService {
   public LookUpPaymentMethodsResponse lookUpPaymentMethods(CurrencyCode currencyCode, RequestOptions requestOptions)
       throws PaysafeSdkException {
 
+    if (cache != null) {
+      return awaitResponse(cache.get(currencyCode, loader(() -> executeLookUp(currencyCode, requestOptions))));
+    }
+    return executeLookUp(currencyCode, requestOptions);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<LookUpPaymentMethodsResponse> lookUpPaymentMethodsAsync(CurrencyCode currencyCode) {
+    return lookUpPaymentMethodsAsync(currencyCode, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<LookUpPaymentMethodsResponse> lookUpPaymentMethodsAsync(CurrencyCode currencyCode,
+      RequestOptions requestOptions) {
+
+    if (cache != null) {
+      return cache.get(currencyCode, () -> executeLookUpAsync(currencyCode, requestOptions));
+    }
+    return executeLookUpAsync(currencyCode, requestOptions);
+  }
+
+  private LookUpPaymentMethodsResponse executeLookUp(final CurrencyCode currencyCode, final RequestOptions requestOptions)
+      throws PaysafeSdkException {
+
+    String path = String.format("%s?currencyCode=%s", PAYMENT_METHODS_ENDPOINT, currencyCode);
+    return paysafeApiClient.executeGet(path, requestOptions, LookUpPaymentMethodsResponse.class);
+  }
+
+  private CompletableFuture<LookUpPaymentMethodsResponse> executeLookUpAsync(final CurrencyCode currencyCode,
+      final RequestOptions requestOptions) {
+
     String path = String.format("%s?currencyCode=%s", PAYMENT_METHODS_ENDPOINT, currencyCode);
-    PaysafeApiResponse response = paysafeApiClient.executeGet(path, requestOptions);
-    return processResponse(response, LookUpPaymentMethodsResponse.class);
+    return paysafeApiClient.executeGetAsync(path, requestOptions, LookUpPaymentMethodsResponse.class);
   }
 }
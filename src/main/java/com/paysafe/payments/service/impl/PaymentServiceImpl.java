@@ -2,11 +2,18 @@
 
 package com.paysafe.payments.service.impl;
 
+import static com.paysafe.payments.api.PaysafeApiClient.awaitResponse;
 import static com.paysafe.payments.api.PaysafeApiClient.buildQueryParameters;
-import static com.paysafe.payments.api.PaysafeApiClient.processResponse;
+import static com.paysafe.payments.service.impl.BlockingRequest.loader;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import com.paysafe.payments.api.BulkOptions;
+import com.paysafe.payments.api.BulkResult;
 import com.paysafe.payments.api.PaysafeApiClient;
-import com.paysafe.payments.api.PaysafeApiResponse;
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
 import com.paysafe.payments.model.common.cancel.CancelRequest;
@@ -14,6 +21,9 @@ import com.paysafe.payments.model.common.cancel.CancelResponse;
 import com.paysafe.payments.model.payment.Payment;
 import com.paysafe.payments.model.payment.PaymentList;
 import com.paysafe.payments.model.payment.PaymentRequest;
+import com.paysafe.payments.model.payment.PaymentSummary;
+import com.paysafe.payments.model.payment.PaymentSummaryList;
+import com.paysafe.payments.model.payment.enums.PaymentRequestStatus;
 import com.paysafe.payments.service.PaymentService;
 
 public class PaymentServiceImpl implements PaymentService {
@@ -21,9 +31,15 @@ public class PaymentServiceImpl implements PaymentService {
   private static final String PAYMENT_ENDPOINT = "/v1/payments";
 
   private final PaysafeApiClient paysafeApiClient;
+  private final TransactionCache transactionCache;
 
   public PaymentServiceImpl(final PaysafeApiClient paysafeApiClient) {
+    this(paysafeApiClient, null);
+  }
+
+  public PaymentServiceImpl(final PaysafeApiClient paysafeApiClient, final TransactionCache transactionCache) {
     this.paysafeApiClient = paysafeApiClient;
+    this.transactionCache = transactionCache;
   }
 
   /**
@@ -39,8 +55,7 @@ public class PaymentServiceImpl implements PaymentService {
    */
   @Override
   public Payment processPayment(final PaymentRequest paymentRequest, final RequestOptions requestOptions) throws PaysafeSdkException {
-    PaysafeApiResponse response = paysafeApiClient.executePost(PAYMENT_ENDPOINT, paymentRequest, requestOptions);
-    return processResponse(response, Payment.class);
+    return paysafeApiClient.executePost(PAYMENT_ENDPOINT, paymentRequest, requestOptions, Payment.class);
   }
 
   /**
@@ -57,8 +72,11 @@ public class PaymentServiceImpl implements PaymentService {
   @Override
   public Payment getPaymentById(final String paymentId, final RequestOptions requestOptions) throws PaysafeSdkException {
     final String path = String.format("%s/%s", PAYMENT_ENDPOINT, paymentId);
-    PaysafeApiResponse response = paysafeApiClient.executeGet(path, requestOptions);
-    return processResponse(response, Payment.class);
+    if (transactionCache != null) {
+      return awaitResponse(transactionCache.get(Payment.class, paymentId, PaymentServiceImpl::isTerminal,
+          loader(() -> paysafeApiClient.executeGet(path, requestOptions, Payment.class))));
+    }
+    return paysafeApiClient.executeGet(path, requestOptions, Payment.class);
   }
 
   /**
@@ -82,8 +100,7 @@ public class PaymentServiceImpl implements PaymentService {
 
     final String path = String.format("%s%s", PAYMENT_ENDPOINT,
         buildQueryParameters(merchantRefNum, endDate, limit, offset, startDate, null, null));
-    PaysafeApiResponse response = paysafeApiClient.executeGet(path, requestOptions);
-    return processResponse(response, PaymentList.class);
+    return paysafeApiClient.executeGet(path, requestOptions, PaymentList.class);
   }
 
   /**
@@ -101,7 +118,235 @@ public class PaymentServiceImpl implements PaymentService {
   public CancelResponse cancelPayment(final String paymentId, CancelRequest cancelRequest, final RequestOptions requestOptions)
       throws PaysafeSdkException {
     final String path = String.format("%s/%s", PAYMENT_ENDPOINT, paymentId);
-    PaysafeApiResponse response = paysafeApiClient.executePut(path, cancelRequest, requestOptions);
-    return processResponse(response, CancelResponse.class);
+    return paysafeApiClient.executePut(path, cancelRequest, requestOptions, CancelResponse.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Payment> processPaymentAsync(final PaymentRequest paymentRequest) {
+    return processPaymentAsync(paymentRequest, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Payment> processPaymentAsync(final PaymentRequest paymentRequest,
+      final RequestOptions requestOptions) {
+    return paysafeApiClient.executePostAsync(PAYMENT_ENDPOINT, paymentRequest, requestOptions, Payment.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Payment> getPaymentByIdAsync(final String paymentId) {
+    return getPaymentByIdAsync(paymentId, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Payment> getPaymentByIdAsync(final String paymentId, final RequestOptions requestOptions) {
+    final String path = String.format("%s/%s", PAYMENT_ENDPOINT, paymentId);
+    if (transactionCache != null) {
+      return transactionCache.get(Payment.class, paymentId, PaymentServiceImpl::isTerminal,
+          () -> paysafeApiClient.executeGetAsync(path, requestOptions, Payment.class));
+    }
+    return paysafeApiClient.executeGetAsync(path, requestOptions, Payment.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<PaymentList> getPaymentsUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate) {
+    return getPaymentsUsingMerchantReferenceNumberAsync(merchantRefNum, endDate, limit, offset, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<PaymentList> getPaymentsUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate,
+      final RequestOptions requestOptions) {
+
+    final String path = String.format("%s%s", PAYMENT_ENDPOINT,
+        buildQueryParameters(merchantRefNum, endDate, limit, offset, startDate, null, null));
+    return paysafeApiClient.executeGetAsync(path, requestOptions, PaymentList.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<CancelResponse> cancelPaymentAsync(final String paymentId, CancelRequest cancelRequest) {
+    return cancelPaymentAsync(paymentId, cancelRequest, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<CancelResponse> cancelPaymentAsync(final String paymentId, CancelRequest cancelRequest,
+      final RequestOptions requestOptions) {
+    final String path = String.format("%s/%s", PAYMENT_ENDPOINT, paymentId);
+    return paysafeApiClient.executePutAsync(path, cancelRequest, requestOptions, CancelResponse.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<Payment> streamPaymentsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate) {
+    return streamPaymentsUsingMerchantReferenceNumber(merchantRefNum, endDate, pageSize, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<Payment> streamPaymentsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate, final RequestOptions requestOptions) {
+    return PageIterator.stream(pageSize,
+        (limit, offset) -> getPaymentsUsingMerchantReferenceNumberAsync(merchantRefNum, endDate, limit, offset, startDate, requestOptions),
+        PaymentList::getPayments, PaymentList::getMeta);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<BulkResult<Payment>> getPaymentsById(final Collection<String> paymentIds) throws PaysafeSdkException {
+    return getPaymentsById(paymentIds, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<BulkResult<Payment>> getPaymentsById(final Collection<String> paymentIds, final BulkOptions bulkOptions)
+      throws PaysafeSdkException {
+    return paysafeApiClient.executeBulk(paymentIds, bulkOptions, this::getPaymentByIdAsync);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<List<BulkResult<Payment>>> getPaymentsByIdAsync(final Collection<String> paymentIds) {
+    return getPaymentsByIdAsync(paymentIds, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<List<BulkResult<Payment>>> getPaymentsByIdAsync(final Collection<String> paymentIds,
+      final BulkOptions bulkOptions) {
+    return paysafeApiClient.executeBulkAsync(paymentIds, bulkOptions, this::getPaymentByIdAsync);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public PaymentSummary getPaymentSummaryById(final String paymentId) throws PaysafeSdkException {
+    return getPaymentSummaryById(paymentId, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public PaymentSummary getPaymentSummaryById(final String paymentId, final RequestOptions requestOptions)
+      throws PaysafeSdkException {
+    final String path = String.format("%s/%s", PAYMENT_ENDPOINT, paymentId);
+    return paysafeApiClient.executeGet(path, requestOptions, PaymentSummary.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<PaymentSummary> getPaymentSummaryByIdAsync(final String paymentId) {
+    return getPaymentSummaryByIdAsync(paymentId, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<PaymentSummary> getPaymentSummaryByIdAsync(final String paymentId,
+      final RequestOptions requestOptions) {
+    final String path = String.format("%s/%s", PAYMENT_ENDPOINT, paymentId);
+    return paysafeApiClient.executeGetAsync(path, requestOptions, PaymentSummary.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public PaymentSummaryList getPaymentSummariesUsingMerchantReferenceNumber(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate) throws PaysafeSdkException {
+    return getPaymentSummariesUsingMerchantReferenceNumber(merchantRefNum, endDate, limit, offset, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public PaymentSummaryList getPaymentSummariesUsingMerchantReferenceNumber(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate,
+      final RequestOptions requestOptions) throws PaysafeSdkException {
+
+    final String path = String.format("%s%s", PAYMENT_ENDPOINT,
+        buildQueryParameters(merchantRefNum, endDate, limit, offset, startDate, null, null));
+    return paysafeApiClient.executeGet(path, requestOptions, PaymentSummaryList.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<PaymentSummaryList> getPaymentSummariesUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate) {
+    return getPaymentSummariesUsingMerchantReferenceNumberAsync(merchantRefNum, endDate, limit, offset, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<PaymentSummaryList> getPaymentSummariesUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate,
+      final RequestOptions requestOptions) {
+
+    final String path = String.format("%s%s", PAYMENT_ENDPOINT,
+        buildQueryParameters(merchantRefNum, endDate, limit, offset, startDate, null, null));
+    return paysafeApiClient.executeGetAsync(path, requestOptions, PaymentSummaryList.class);
+  }
+
+  /**
+   * Payments which failed or were cancelled are terminal. Completed payments still change once settled, refunded or
+   * voided, unless no amount is available to settle or refund.
+   */
+  private static boolean isTerminal(final Payment payment) {
+    PaymentRequestStatus status = payment.getStatus();
+    if (status == PaymentRequestStatus.FAILED || status == PaymentRequestStatus.CANCELLED) {
+      return true;
+    }
+    return status == PaymentRequestStatus.COMPLETED && isZero(payment.getAvailableToSettle())
+        && isZero(payment.getAvailableToRefund());
+  }
+
+  private static boolean isZero(final Integer amount) {
+    return amount != null && amount == 0;
   }
 }
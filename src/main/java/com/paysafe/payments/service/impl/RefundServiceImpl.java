@@ -2,15 +2,23 @@
 
 package com.paysafe.payments.service.impl;
 
+import static com.paysafe.payments.api.PaysafeApiClient.awaitResponse;
 import static com.paysafe.payments.api.PaysafeApiClient.buildQueryParameters;
-import static com.paysafe.payments.api.PaysafeApiClient.processResponse;
+import static com.paysafe.payments.service.impl.BlockingRequest.loader;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import com.paysafe.payments.api.BulkOptions;
+import com.paysafe.payments.api.BulkResult;
 import com.paysafe.payments.api.PaysafeApiClient;
-import com.paysafe.payments.api.PaysafeApiResponse;
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
 import com.paysafe.payments.model.common.cancel.CancelRequest;
 import com.paysafe.payments.model.common.cancel.CancelResponse;
+import com.paysafe.payments.model.common.enums.TransactionRequestStatus;
 import com.paysafe.payments.model.refund.Refund;
 import com.paysafe.payments.model.refund.RefundList;
 import com.paysafe.payments.model.refund.RefundRequest;
@@ -22,9 +30,15 @@ public class RefundServiceImpl implements RefundService {
   private static final String REFUND_ENDPOINT = "/v1/refunds";
 
   private final PaysafeApiClient paysafeApiClient;
+  private final TransactionCache transactionCache;
 
   public RefundServiceImpl(final PaysafeApiClient paysafeApiClient) {
+    this(paysafeApiClient, null);
+  }
+
+  public RefundServiceImpl(final PaysafeApiClient paysafeApiClient, final TransactionCache transactionCache) {
     this.paysafeApiClient = paysafeApiClient;
+    this.transactionCache = transactionCache;
   }
 
   /**
@@ -41,8 +55,7 @@ public class RefundServiceImpl implements RefundService {
   @Override
   public Refund processRefund(final String settlementId, final RefundRequest refundRequest, final RequestOptions requestOptions) throws PaysafeSdkException {
     final String path = String.format(PROCESS_REFUND_ENDPOINT, settlementId);
-    PaysafeApiResponse response = paysafeApiClient.executePost(path, refundRequest, requestOptions);
-    return processResponse(response, Refund.class);
+    return paysafeApiClient.executePost(path, refundRequest, requestOptions, Refund.class);
   }
 
   /**
@@ -59,8 +72,11 @@ public class RefundServiceImpl implements RefundService {
   @Override
   public Refund getRefundById(final String refundId, final RequestOptions requestOptions) throws PaysafeSdkException {
     final String endpoint = String.format("%s/%s", REFUND_ENDPOINT, refundId);
-    PaysafeApiResponse response = paysafeApiClient.executeGet(endpoint, requestOptions);
-    return processResponse(response, Refund.class);
+    if (transactionCache != null) {
+      return awaitResponse(transactionCache.get(Refund.class, refundId, RefundServiceImpl::isTerminal,
+          loader(() -> paysafeApiClient.executeGet(endpoint, requestOptions, Refund.class))));
+    }
+    return paysafeApiClient.executeGet(endpoint, requestOptions, Refund.class);
   }
 
   /**
@@ -82,8 +98,7 @@ public class RefundServiceImpl implements RefundService {
 
     final String path = String.format("%s%s", REFUND_ENDPOINT,
         buildQueryParameters(merchantRefNum, endDate, limit, offset, startDate, null, null));
-    PaysafeApiResponse response = paysafeApiClient.executeGet(path, requestOptions);
-    return processResponse(response, RefundList.class);
+    return paysafeApiClient.executeGet(path, requestOptions, RefundList.class);
   }
 
   /**
@@ -93,9 +108,7 @@ public class RefundServiceImpl implements RefundService {
   public CancelResponse cancelRefund(String refundId, CancelRequest cancelRequest,
       RequestOptions requestOptions) throws PaysafeSdkException {
     final String path = String.format("%s/%s", REFUND_ENDPOINT, refundId);
-    PaysafeApiResponse response = paysafeApiClient.executePut(path, cancelRequest, requestOptions);
-
-    return processResponse(response, CancelResponse.class);
+    return paysafeApiClient.executePut(path, cancelRequest, requestOptions, CancelResponse.class);
   }
 
   /**
@@ -105,4 +118,142 @@ public class RefundServiceImpl implements RefundService {
   public CancelResponse cancelRefund(String refundId, CancelRequest cancelRequest) throws PaysafeSdkException {
     return cancelRefund(refundId, cancelRequest, null);
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Refund> processRefundAsync(final String settlementId, final RefundRequest refundRequest) {
+    return processRefundAsync(settlementId, refundRequest, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Refund> processRefundAsync(final String settlementId, final RefundRequest refundRequest,
+      final RequestOptions requestOptions) {
+    final String path = String.format(PROCESS_REFUND_ENDPOINT, settlementId);
+    return paysafeApiClient.executePostAsync(path, refundRequest, requestOptions, Refund.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Refund> getRefundByIdAsync(final String refundId) {
+    return getRefundByIdAsync(refundId, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Refund> getRefundByIdAsync(final String refundId, final RequestOptions requestOptions) {
+    final String endpoint = String.format("%s/%s", REFUND_ENDPOINT, refundId);
+    if (transactionCache != null) {
+      return transactionCache.get(Refund.class, refundId, RefundServiceImpl::isTerminal,
+          () -> paysafeApiClient.executeGetAsync(endpoint, requestOptions, Refund.class));
+    }
+    return paysafeApiClient.executeGetAsync(endpoint, requestOptions, Refund.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<RefundList> getRefundUsingMerchantReferenceNumberAsync(String merchantRefNum, String endDate,
+      Integer limit, Integer offset, String startDate) {
+    return getRefundUsingMerchantReferenceNumberAsync(merchantRefNum, endDate, limit, offset, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<RefundList> getRefundUsingMerchantReferenceNumberAsync(String merchantRefNum, String endDate,
+      Integer limit, Integer offset, String startDate, RequestOptions requestOptions) {
+
+    final String path = String.format("%s%s", REFUND_ENDPOINT,
+        buildQueryParameters(merchantRefNum, endDate, limit, offset, startDate, null, null));
+    return paysafeApiClient.executeGetAsync(path, requestOptions, RefundList.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<CancelResponse> cancelRefundAsync(String refundId, CancelRequest cancelRequest,
+      RequestOptions requestOptions) {
+    final String path = String.format("%s/%s", REFUND_ENDPOINT, refundId);
+    return paysafeApiClient.executePutAsync(path, cancelRequest, requestOptions, CancelResponse.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<CancelResponse> cancelRefundAsync(String refundId, CancelRequest cancelRequest) {
+    return cancelRefundAsync(refundId, cancelRequest, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<Refund> streamRefundsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate) {
+    return streamRefundsUsingMerchantReferenceNumber(merchantRefNum, endDate, pageSize, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<Refund> streamRefundsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate, final RequestOptions requestOptions) {
+    return PageIterator.stream(pageSize,
+        (limit, offset) -> getRefundUsingMerchantReferenceNumberAsync(merchantRefNum, endDate, limit, offset, startDate, requestOptions),
+        RefundList::getRefunds, RefundList::getMeta);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<BulkResult<Refund>> getRefundsById(final Collection<String> refundIds) throws PaysafeSdkException {
+    return getRefundsById(refundIds, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<BulkResult<Refund>> getRefundsById(final Collection<String> refundIds, final BulkOptions bulkOptions)
+      throws PaysafeSdkException {
+    return paysafeApiClient.executeBulk(refundIds, bulkOptions, this::getRefundByIdAsync);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<List<BulkResult<Refund>>> getRefundsByIdAsync(final Collection<String> refundIds) {
+    return getRefundsByIdAsync(refundIds, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<List<BulkResult<Refund>>> getRefundsByIdAsync(final Collection<String> refundIds,
+      final BulkOptions bulkOptions) {
+    return paysafeApiClient.executeBulkAsync(refundIds, bulkOptions, this::getRefundByIdAsync);
+  }
+
+  private static boolean isTerminal(final Refund refund) {
+    TransactionRequestStatus status = refund.getStatus();
+    return status == TransactionRequestStatus.COMPLETED || status == TransactionRequestStatus.FAILED
+        || status == TransactionRequestStatus.CANCELLED || status == TransactionRequestStatus.EXPIRED;
+  }
 }
@@ -0,0 +1,263 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.service.impl;
+
+import static com.paysafe.payments.config.ObjectMapperConfiguration.getObjectReader;
+import static com.paysafe.payments.config.ObjectMapperConfiguration.getObjectWriter;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.paysafe.payments.api.CacheConfig;
+import com.paysafe.payments.api.PaysafeApiClient;
+import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+
+/**
+ * Bounded cache of responses, configured by {@link CacheConfig}. Each entry holds the future of its response, so
+ * concurrent calls for a key which is not cached yet share a single request. Failed responses are not cached.
+ * <p>
+ * Responses are stored serialized, and every call returns a new instance, so callers modifying returned responses do
+ * not affect the cache. ID of each response is resolved once it is received, so that responses are invalidated by ID
+ * without reading them.
+ * <p>
+ * Once time to live of a response elapses, it is still returned during stale while revalidate time, and the first such
+ * call starts a request refreshing it in background. If the refresh fails, the stale response is kept, and the next
+ * call starts another refresh. Loaders of refreshes and preloads are started with {@link PaysafeApiClient#executeTask},
+ * as they may send blocking requests.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the responses
+ */
+final class ResponseCache<K, V> {
+
+  private static final Logger logger = LoggerFactory.getLogger(ResponseCache.class);
+
+  private static final String CACHED_RESPONSE_ERROR_MESSAGE = "Error processing cached response: %s";
+
+  private final String name;
+  private final Class<V> type;
+  private final Function<V, String> idResolver;
+  private final long timeToLiveNanos;
+  private final long staleWhileRevalidateNanos;
+  private final PaysafeApiClient paysafeApiClient;
+  // least recently used entry is evicted first, guarded by lock
+  private final Map<K, Entry> entries;
+  // not a monitor, so that virtual threads waiting for it do not pin their carrier thread
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /**
+   * @param name             of the cache, reported to metrics listener of the client
+   * @param type             of the responses, to which they are deserialized
+   * @param cacheConfig      of the cache
+   * @param paysafeApiClient reporting hits and misses of the cache
+   */
+  ResponseCache(final String name, final Class<V> type, final CacheConfig cacheConfig,
+      final PaysafeApiClient paysafeApiClient) {
+    this(name, type, response -> null, cacheConfig, paysafeApiClient);
+  }
+
+  /**
+   * @param name             of the cache, reported to metrics listener of the client
+   * @param type             of the responses, to which they are deserialized
+   * @param idResolver       resolving ID of a response, passed to {@link #invalidateIf(BiPredicate)}
+   * @param cacheConfig      of the cache
+   * @param paysafeApiClient reporting hits and misses of the cache
+   */
+  ResponseCache(final String name, final Class<V> type, final Function<V, String> idResolver,
+      final CacheConfig cacheConfig, final PaysafeApiClient paysafeApiClient) {
+    this.name = name;
+    this.type = type;
+    this.idResolver = idResolver;
+    this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(cacheConfig.getTimeToLive());
+    this.staleWhileRevalidateNanos = TimeUnit.MILLISECONDS.toNanos(cacheConfig.getStaleWhileRevalidate());
+    this.paysafeApiClient = paysafeApiClient;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<K, Entry> eldest) {
+        return size() > cacheConfig.getMaximumSize();
+      }
+    };
+  }
+
+  /**
+   * Returns future of the response cached for provided key, or of the response of a new request started by provided
+   * loader if there is none. The returned future may be cancelled without affecting other callers, and completes with
+   * a new instance of the response.
+   *
+   * @param key    of the response
+   * @param loader starting a request of the response, also used to refresh a stale response
+   */
+  CompletableFuture<V> get(final K key, final Supplier<CompletableFuture<V>> loader) {
+    long now = System.nanoTime();
+    Entry entry;
+    boolean hit;
+    boolean refresh = false;
+    lock.lock();
+    try {
+      entry = entries.get(key);
+      hit = entry != null && isUsable(entry, now);
+      if (hit) {
+        refresh = isStale(entry, now) && entry.refreshing.compareAndSet(false, true);
+      } else {
+        entry = new Entry();
+        entries.put(key, entry);
+      }
+    } finally {
+      lock.unlock();
+    }
+    paysafeApiClient.reportCacheAccess(name, hit);
+    if (!hit) {
+      load(key, entry, startRequest(loader));
+    } else if (refresh) {
+      refresh(key, entry, startRequestInBackground(loader));
+    }
+    return entry.response.thenApply(this::read);
+  }
+
+  /**
+   * Starts request of the response for provided key, unless it is already cached. Hit or miss is not reported.
+   */
+  void preload(final K key, final Supplier<CompletableFuture<V>> loader) {
+    Entry entry = new Entry();
+    lock.lock();
+    try {
+      if (entries.containsKey(key)) {
+        return;
+      }
+      entries.put(key, entry);
+    } finally {
+      lock.unlock();
+    }
+    load(key, entry, startRequestInBackground(loader));
+  }
+
+  /**
+   * Removes responses matching provided predicate, so that the next call for their keys sends a new request. The
+   * predicate receives null ID for keys whose request has not completed yet.
+   *
+   * @param predicate of key and ID of the response, or null
+   */
+  void invalidateIf(final BiPredicate<K, String> predicate) {
+    lock.lock();
+    try {
+      Iterator<Map.Entry<K, Entry>> iterator = entries.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<K, Entry> entry = iterator.next();
+        if (predicate.test(entry.getKey(), entry.getValue().id)) {
+          iterator.remove();
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean isUsable(final Entry entry, final long now) {
+    return !entry.response.isDone() || now - entry.loadedAt < timeToLiveNanos + staleWhileRevalidateNanos;
+  }
+
+  private boolean isStale(final Entry entry, final long now) {
+    return entry.response.isDone() && now - entry.loadedAt >= timeToLiveNanos;
+  }
+
+  private void load(final K key, final Entry entry, final CompletableFuture<V> request) {
+    request.thenApply(response -> store(entry, response)).whenComplete((response, throwable) -> {
+      if (throwable == null) {
+        entry.loadedAt = System.nanoTime();
+        entry.response.complete(response);
+      } else {
+        lock.lock();
+        try {
+          entries.remove(key, entry);
+        } finally {
+          lock.unlock();
+        }
+        entry.response.completeExceptionally(unwrap(throwable));
+      }
+    });
+  }
+
+  private void refresh(final K key, final Entry entry, final CompletableFuture<V> request) {
+    Entry refreshed = new Entry();
+    request.thenApply(response -> store(refreshed, response)).whenComplete((response, throwable) -> {
+      if (throwable == null) {
+        refreshed.loadedAt = System.nanoTime();
+        refreshed.response.complete(response);
+        lock.lock();
+        try {
+          entries.replace(key, entry, refreshed);
+        } finally {
+          lock.unlock();
+        }
+      } else {
+        logger.debug("Refresh of {} cache failed, stale response is kept: {}", name, throwable.getMessage());
+        entry.refreshing.set(false);
+      }
+    });
+  }
+
+  /**
+   * Resolves ID of provided response for its entry, and returns the serialized response.
+   */
+  private byte[] store(final Entry entry, final V response) {
+    entry.id = idResolver.apply(response);
+    try {
+      return getObjectWriter(response).writeValueAsBytes(response);
+    } catch (IOException e) {
+      throw cachedResponseException(e);
+    }
+  }
+
+  private V read(final byte[] response) {
+    try {
+      return getObjectReader(type).readValue(response);
+    } catch (IOException e) {
+      throw cachedResponseException(e);
+    }
+  }
+
+  private static CompletionException cachedResponseException(final IOException e) {
+    String message = String.format(CACHED_RESPONSE_ERROR_MESSAGE, e.getMessage());
+    return new CompletionException(new PaysafeSdkException(message));
+  }
+
+  private static <V> CompletableFuture<V> startRequest(final Supplier<CompletableFuture<V>> loader) {
+    try {
+      return loader.get();
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private CompletableFuture<V> startRequestInBackground(final Supplier<CompletableFuture<V>> loader) {
+    return CompletableFuture.supplyAsync(() -> startRequest(loader), paysafeApiClient::executeTask)
+        .thenCompose(Function.identity());
+  }
+
+  private static Throwable unwrap(final Throwable throwable) {
+    return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+  }
+
+  private static final class Entry {
+
+    // serialized response
+    private final CompletableFuture<byte[]> response = new CompletableFuture<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    // set before the response is completed
+    private volatile long loadedAt;
+    private volatile String id;
+  }
+}
@@ -2,15 +2,23 @@
 
 package com.paysafe.payments.service.impl;
 
+import static com.paysafe.payments.api.PaysafeApiClient.awaitResponse;
 import static com.paysafe.payments.api.PaysafeApiClient.buildQueryParameters;
-import static com.paysafe.payments.api.PaysafeApiClient.processResponse;
+import static com.paysafe.payments.service.impl.BlockingRequest.loader;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import com.paysafe.payments.api.BulkOptions;
+import com.paysafe.payments.api.BulkResult;
 import com.paysafe.payments.api.PaysafeApiClient;
-import com.paysafe.payments.api.PaysafeApiResponse;
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
 import com.paysafe.payments.model.common.cancel.CancelRequest;
 import com.paysafe.payments.model.common.cancel.CancelResponse;
+import com.paysafe.payments.model.common.enums.TransactionRequestStatus;
 import com.paysafe.payments.model.settlement.Settlement;
 import com.paysafe.payments.model.settlement.SettlementList;
 import com.paysafe.payments.model.settlement.SettlementRequest;
@@ -22,9 +30,15 @@ public class SettlementServiceImpl implements SettlementService {
   private static final String SETTLEMENT_ENDPOINT = "/v1/settlements";
 
   private final PaysafeApiClient paysafeApiClient;
+  private final TransactionCache transactionCache;
 
   public SettlementServiceImpl(PaysafeApiClient paysafeApiClient) {
+    this(paysafeApiClient, null);
+  }
+
+  public SettlementServiceImpl(final PaysafeApiClient paysafeApiClient, final TransactionCache transactionCache) {
     this.paysafeApiClient = paysafeApiClient;
+    this.transactionCache = transactionCache;
   }
 
   /**
@@ -43,8 +57,7 @@ public class SettlementServiceImpl implements SettlementService {
   public Settlement processSettlement(final String paymentId, SettlementRequest settlementRequest, final RequestOptions requestOptions)
       throws PaysafeSdkException {
     final String path = String.format(PAYMENT_SETTLEMENT_ENDPOINT, paymentId);
-    PaysafeApiResponse response = paysafeApiClient.executePost(path, settlementRequest, requestOptions);
-    return processResponse(response, Settlement.class);
+    return paysafeApiClient.executePost(path, settlementRequest, requestOptions, Settlement.class);
   }
 
   /**
@@ -61,8 +74,11 @@ public class SettlementServiceImpl implements SettlementService {
   @Override
   public Settlement getSettlementById(final String settlementId, final RequestOptions requestOptions) throws PaysafeSdkException {
     final String endpoint = String.format("%s/%s", SETTLEMENT_ENDPOINT, settlementId);
-    PaysafeApiResponse response = paysafeApiClient.executeGet(endpoint, requestOptions);
-    return processResponse(response, Settlement.class);
+    if (transactionCache != null) {
+      return awaitResponse(transactionCache.get(Settlement.class, settlementId, SettlementServiceImpl::isTerminal,
+          loader(() -> paysafeApiClient.executeGet(endpoint, requestOptions, Settlement.class))));
+    }
+    return paysafeApiClient.executeGet(endpoint, requestOptions, Settlement.class);
   }
 
   /**
@@ -84,8 +100,7 @@ public class SettlementServiceImpl implements SettlementService {
       throws PaysafeSdkException {
     final String path = String.format("%s%s", SETTLEMENT_ENDPOINT, buildQueryParameters(merchantRefNum, endDate,
         limit, offset, startDate, null, null));
-    PaysafeApiResponse response = paysafeApiClient.executeGet(path, requestOptions);
-    return processResponse(response, SettlementList.class);
+    return paysafeApiClient.executeGet(path, requestOptions, SettlementList.class);
   }
 
   /**
@@ -103,7 +118,151 @@ public class SettlementServiceImpl implements SettlementService {
   public CancelResponse cancelSettlement(final String settlementId, CancelRequest cancelRequest, final RequestOptions requestOptions)
       throws PaysafeSdkException {
     final String path = String.format("%s/%s", SETTLEMENT_ENDPOINT, settlementId);
-    PaysafeApiResponse response = paysafeApiClient.executePut(path, cancelRequest, requestOptions);
-    return processResponse(response, CancelResponse.class);
+    return paysafeApiClient.executePut(path, cancelRequest, requestOptions, CancelResponse.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Settlement> processSettlementAsync(final String paymentId, SettlementRequest settlementRequest) {
+    return processSettlementAsync(paymentId, settlementRequest, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Settlement> processSettlementAsync(final String paymentId, SettlementRequest settlementRequest,
+      final RequestOptions requestOptions) {
+    final String path = String.format(PAYMENT_SETTLEMENT_ENDPOINT, paymentId);
+    return paysafeApiClient.executePostAsync(path, settlementRequest, requestOptions, Settlement.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Settlement> getSettlementByIdAsync(final String settlementId) {
+    return getSettlementByIdAsync(settlementId, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Settlement> getSettlementByIdAsync(final String settlementId, final RequestOptions requestOptions) {
+    final String endpoint = String.format("%s/%s", SETTLEMENT_ENDPOINT, settlementId);
+    if (transactionCache != null) {
+      return transactionCache.get(Settlement.class, settlementId, SettlementServiceImpl::isTerminal,
+          () -> paysafeApiClient.executeGetAsync(endpoint, requestOptions, Settlement.class));
+    }
+    return paysafeApiClient.executeGetAsync(endpoint, requestOptions, Settlement.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<SettlementList> getSettlementsUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate) {
+    return getSettlementsUsingMerchantReferenceNumberAsync(merchantRefNum, endDate, limit, offset, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<SettlementList> getSettlementsUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate,
+      final RequestOptions requestOptions) {
+    final String path = String.format("%s%s", SETTLEMENT_ENDPOINT, buildQueryParameters(merchantRefNum, endDate,
+        limit, offset, startDate, null, null));
+    return paysafeApiClient.executeGetAsync(path, requestOptions, SettlementList.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<CancelResponse> cancelSettlementAsync(final String settlementId, CancelRequest cancelRequest) {
+    return cancelSettlementAsync(settlementId, cancelRequest, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<CancelResponse> cancelSettlementAsync(final String settlementId, CancelRequest cancelRequest,
+      final RequestOptions requestOptions) {
+    final String path = String.format("%s/%s", SETTLEMENT_ENDPOINT, settlementId);
+    return paysafeApiClient.executePutAsync(path, cancelRequest, requestOptions, CancelResponse.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<Settlement> streamSettlementsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate) {
+    return streamSettlementsUsingMerchantReferenceNumber(merchantRefNum, endDate, pageSize, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<Settlement> streamSettlementsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate, final RequestOptions requestOptions) {
+    return PageIterator.stream(pageSize,
+        (limit, offset) -> getSettlementsUsingMerchantReferenceNumberAsync(merchantRefNum, endDate, limit, offset, startDate, requestOptions),
+        SettlementList::getSettlements, SettlementList::getMeta);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<BulkResult<Settlement>> getSettlementsById(final Collection<String> settlementIds) throws PaysafeSdkException {
+    return getSettlementsById(settlementIds, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<BulkResult<Settlement>> getSettlementsById(final Collection<String> settlementIds, final BulkOptions bulkOptions)
+      throws PaysafeSdkException {
+    return paysafeApiClient.executeBulk(settlementIds, bulkOptions, this::getSettlementByIdAsync);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<List<BulkResult<Settlement>>> getSettlementsByIdAsync(final Collection<String> settlementIds) {
+    return getSettlementsByIdAsync(settlementIds, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<List<BulkResult<Settlement>>> getSettlementsByIdAsync(final Collection<String> settlementIds,
+      final BulkOptions bulkOptions) {
+    return paysafeApiClient.executeBulkAsync(settlementIds, bulkOptions, this::getSettlementByIdAsync);
+  }
+
+  /**
+   * Settlements which failed, were cancelled or expired are terminal. Completed settlements still change once refunded,
+   * unless no amount is available to refund.
+   */
+  private static boolean isTerminal(final Settlement settlement) {
+    TransactionRequestStatus status = settlement.getStatus();
+    if (status == TransactionRequestStatus.FAILED || status == TransactionRequestStatus.CANCELLED
+        || status == TransactionRequestStatus.EXPIRED) {
+      return true;
+    }
+    return status == TransactionRequestStatus.COMPLETED && Integer.valueOf(0).equals(settlement.getAvailableToRefund());
   }
-}
\ No newline at end of file
+}
@@ -3,10 +3,11 @@
 package com.paysafe.payments.service.impl;
 
 import static com.paysafe.payments.api.PaysafeApiClient.buildQueryParameters;
-import static com.paysafe.payments.api.PaysafeApiClient.processResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import com.paysafe.payments.api.PaysafeApiClient;
-import com.paysafe.payments.api.PaysafeApiResponse;
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
 import com.paysafe.payments.model.common.cancel.CancelRequest;
@@ -41,8 +42,7 @@ public class StandaloneCreditServiceImpl implements StandaloneCreditService {
    */
   @Override
   public StandaloneCredit processStandaloneCredit(StandaloneCreditRequest creditRequest, RequestOptions requestOptions) throws PaysafeSdkException {
-    PaysafeApiResponse response = paysafeApiClient.executePost(STANDALONE_CREDIT_ENDPOINT, creditRequest, requestOptions);
-    return processResponse(response, StandaloneCredit.class);
+    return paysafeApiClient.executePost(STANDALONE_CREDIT_ENDPOINT, creditRequest, requestOptions, StandaloneCredit.class);
   }
 
   /**
@@ -66,8 +66,7 @@ public class StandaloneCreditServiceImpl implements StandaloneCreditService {
 
     final String path = String.format("%s%s", STANDALONE_CREDIT_ENDPOINT, buildQueryParameters(merchantRefNum, endDate,
         limit, offset, startDate, null, null));
-    PaysafeApiResponse response = paysafeApiClient.executeGet(path, requestOptions);
-    return processResponse(response, StandaloneCreditList.class);
+    return paysafeApiClient.executeGet(path, requestOptions, StandaloneCreditList.class);
   }
 
   /**
@@ -85,8 +84,7 @@ public class StandaloneCreditServiceImpl implements StandaloneCreditService {
   public StandaloneCredit getStandaloneCreditById(final String standaloneCreditId,
       final RequestOptions requestOptions) throws PaysafeSdkException {
     final String endpoint = String.format(ENDPOINT_PATH_FORMAT, STANDALONE_CREDIT_ENDPOINT, standaloneCreditId);
-    PaysafeApiResponse response = paysafeApiClient.executeGet(endpoint, requestOptions);
-    return processResponse(response, StandaloneCredit.class);
+    return paysafeApiClient.executeGet(endpoint, requestOptions, StandaloneCredit.class);
   }
 
   /**
@@ -106,8 +104,7 @@ public class StandaloneCreditServiceImpl implements StandaloneCreditService {
       final CancelRequest cancelRequest, final RequestOptions requestOptions) throws PaysafeSdkException {
 
     final String path = String.format(ENDPOINT_PATH_FORMAT, STANDALONE_CREDIT_ENDPOINT, standaloneCreditId);
-    PaysafeApiResponse response = paysafeApiClient.executePut(path, cancelRequest, requestOptions);
-    return processResponse(response, CancelResponse.class);
+    return paysafeApiClient.executePut(path, cancelRequest, requestOptions, CancelResponse.class);
   }
 
   @Override public StandaloneCredit patchStandaloneCreditStatusForInteracFraud(final String standaloneCreditId,
@@ -119,7 +116,123 @@ public class StandaloneCreditServiceImpl implements StandaloneCreditService {
       final StandaloneCreditUpdateRequest creditUpdateRequest, RequestOptions requestOptions) throws PaysafeSdkException {
 
     final String path = String.format(ENDPOINT_PATH_FORMAT, STANDALONE_CREDIT_ENDPOINT, standaloneCreditId);
-    PaysafeApiResponse response = paysafeApiClient.executePatch(path, creditUpdateRequest, requestOptions);
-    return processResponse(response, StandaloneCredit.class);
+    return paysafeApiClient.executePatch(path, creditUpdateRequest, requestOptions, StandaloneCredit.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<StandaloneCredit> processStandaloneCreditAsync(StandaloneCreditRequest creditRequest) {
+    return processStandaloneCreditAsync(creditRequest, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<StandaloneCredit> processStandaloneCreditAsync(StandaloneCreditRequest creditRequest,
+      RequestOptions requestOptions) {
+    return paysafeApiClient.executePostAsync(STANDALONE_CREDIT_ENDPOINT, creditRequest, requestOptions, StandaloneCredit.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<StandaloneCreditList> getStandaloneCreditUsingMerchantReferenceNumberAsync(
+      final String merchantRefNum, final String endDate, final Integer limit, final Integer offset, final String startDate) {
+    return getStandaloneCreditsUsingMerchantReferenceNumberAsync(merchantRefNum, endDate, limit, offset, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<StandaloneCreditList> getStandaloneCreditsUsingMerchantReferenceNumberAsync(
+      final String merchantRefNum, final String endDate, final Integer limit, final Integer offset, final String startDate,
+      final RequestOptions requestOptions) {
+
+    final String path = String.format("%s%s", STANDALONE_CREDIT_ENDPOINT, buildQueryParameters(merchantRefNum, endDate,
+        limit, offset, startDate, null, null));
+    return paysafeApiClient.executeGetAsync(path, requestOptions, StandaloneCreditList.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<StandaloneCredit> getStandaloneCreditByIdAsync(final String standaloneCreditId) {
+    return getStandaloneCreditByIdAsync(standaloneCreditId, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<StandaloneCredit> getStandaloneCreditByIdAsync(final String standaloneCreditId,
+      final RequestOptions requestOptions) {
+    final String endpoint = String.format(ENDPOINT_PATH_FORMAT, STANDALONE_CREDIT_ENDPOINT, standaloneCreditId);
+    return paysafeApiClient.executeGetAsync(endpoint, requestOptions, StandaloneCredit.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<CancelResponse> cancelStandaloneCreditAsync(final String standaloneCreditId,
+      final CancelRequest cancelRequest) {
+    return cancelStandaloneCreditAsync(standaloneCreditId, cancelRequest, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<CancelResponse> cancelStandaloneCreditAsync(final String standaloneCreditId,
+      final CancelRequest cancelRequest, final RequestOptions requestOptions) {
+
+    final String path = String.format(ENDPOINT_PATH_FORMAT, STANDALONE_CREDIT_ENDPOINT, standaloneCreditId);
+    return paysafeApiClient.executePutAsync(path, cancelRequest, requestOptions, CancelResponse.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<StandaloneCredit> patchStandaloneCreditStatusForInteracFraudAsync(final String standaloneCreditId,
+      final StandaloneCreditUpdateRequest creditUpdateRequest) {
+    return patchStandaloneCreditStatusForInteracFraudAsync(standaloneCreditId, creditUpdateRequest, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<StandaloneCredit> patchStandaloneCreditStatusForInteracFraudAsync(final String standaloneCreditId,
+      final StandaloneCreditUpdateRequest creditUpdateRequest, RequestOptions requestOptions) {
+
+    final String path = String.format(ENDPOINT_PATH_FORMAT, STANDALONE_CREDIT_ENDPOINT, standaloneCreditId);
+    return paysafeApiClient.executePatchAsync(path, creditUpdateRequest, requestOptions, StandaloneCredit.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<StandaloneCredit> streamStandaloneCreditsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate) {
+    return streamStandaloneCreditsUsingMerchantReferenceNumber(merchantRefNum, endDate, pageSize, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<StandaloneCredit> streamStandaloneCreditsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate, final RequestOptions requestOptions) {
+    return PageIterator.stream(pageSize,
+        (limit, offset) -> getStandaloneCreditsUsingMerchantReferenceNumberAsync(merchantRefNum, endDate, limit, offset, startDate, requestOptions),
+        StandaloneCreditList::getStandaloneCredits, StandaloneCreditList::getMeta);
   }
 }
@@ -0,0 +1,127 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.service.impl;
+
+import static com.paysafe.payments.config.ObjectMapperConfiguration.getObjectReader;
+import static com.paysafe.payments.config.ObjectMapperConfiguration.getObjectWriter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.paysafe.payments.api.PaysafeApiClient;
+import com.paysafe.payments.api.TransactionCacheConfig;
+
+/**
+ * Cache of transactions in terminal status shared by services of a single PaysafeClient, configured by
+ * {@link TransactionCacheConfig}. Only responses in terminal status are stored, as they never change, so cached
+ * transactions do not expire and are evicted only once maximum size is reached, least recently used first.
+ * <p>
+ * Transactions are stored serialized, either in heap arrays or in direct buffers, and every hit returns a new instance,
+ * so callers modifying returned transactions do not affect the cache.
+ */
+public final class TransactionCache {
+
+  public static final String TRANSACTIONS_CACHE = "transactions";
+
+  private static final Logger logger = LoggerFactory.getLogger(TransactionCache.class);
+
+  private final boolean offHeap;
+  private final PaysafeApiClient paysafeApiClient;
+  // keyed by type and ID of the transaction, least recently used entry is evicted first, guarded by lock
+  private final Map<String, ByteBuffer> entries;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  /**
+   * Instantiates new TransactionCache object.
+   *
+   * @param transactionCacheConfig configuration of the cache
+   * @param paysafeApiClient       instance of paysafeApiClient reporting hits and misses of the cache
+   */
+  public TransactionCache(final TransactionCacheConfig transactionCacheConfig, final PaysafeApiClient paysafeApiClient) {
+    this.offHeap = transactionCacheConfig.isOffHeap();
+    this.paysafeApiClient = paysafeApiClient;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<String, ByteBuffer> eldest) {
+        return size() > transactionCacheConfig.getMaximumSize();
+      }
+    };
+  }
+
+  /**
+   * Returns future of the transaction cached for provided type and ID, or of the response of a new request started by
+   * provided loader if there is none. The response is cached if it is in terminal status.
+   *
+   * @param type       of the transaction
+   * @param id         of the transaction
+   * @param isTerminal tells whether provided transaction can no longer change
+   * @param loader     starting a request of the transaction
+   */
+  <T> CompletableFuture<T> get(final Class<T> type, final String id, final Predicate<T> isTerminal,
+      final Supplier<CompletableFuture<T>> loader) {
+    String key = type.getName() + '/' + id;
+    T cached = read(key, type);
+    paysafeApiClient.reportCacheAccess(TRANSACTIONS_CACHE, cached != null);
+    if (cached != null) {
+      return CompletableFuture.completedFuture(cached);
+    }
+    return loader.get().thenApply(response -> {
+      if (response != null && isTerminal.test(response)) {
+        write(key, response);
+      }
+      return response;
+    });
+  }
+
+  private <T> T read(final String key, final Class<T> type) {
+    ByteBuffer buffer;
+    lock.lock();
+    try {
+      buffer = entries.get(key);
+    } finally {
+      lock.unlock();
+    }
+    if (buffer == null) {
+      return null;
+    }
+    try {
+      return getObjectReader(type).readValue(new ByteBufferBackedInputStream(buffer.duplicate()));
+    } catch (IOException e) {
+      logger.debug("Cached transaction {} could not be deserialized and is evicted: {}", key, e.getMessage());
+      lock.lock();
+      try {
+        entries.remove(key, buffer);
+      } finally {
+        lock.unlock();
+      }
+      return null;
+    }
+  }
+
+  private void write(final String key, final Object response) {
+    byte[] bytes;
+    try {
+      bytes = getObjectWriter(response).writeValueAsBytes(response);
+    } catch (IOException e) {
+      logger.debug("Transaction {} could not be serialized and is not cached: {}", key, e.getMessage());
+      return;
+    }
+    ByteBuffer buffer = offHeap ? ByteBuffer.allocateDirect(bytes.length).put(bytes).flip() : ByteBuffer.wrap(bytes);
+    lock.lock();
+    try {
+      entries.put(key, buffer.asReadOnlyBuffer());
+    } finally {
+      lock.unlock();
+    }
+  }
+}
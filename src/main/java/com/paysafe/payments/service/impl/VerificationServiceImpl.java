@@ -3,10 +3,11 @@
 package com.paysafe.payments.service.impl;
 
 import static com.paysafe.payments.api.PaysafeApiClient.buildQueryParameters;
-import static com.paysafe.payments.api.PaysafeApiClient.processResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import com.paysafe.payments.api.PaysafeApiClient;
-import com.paysafe.payments.api.PaysafeApiResponse;
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
 import com.paysafe.payments.model.verification.Verification;
@@ -37,8 +38,7 @@ public class VerificationServiceImpl implements VerificationService {
    */
   @Override
   public Verification createVerification(final VerificationRequest verificationRequest, final RequestOptions requestOptions) throws PaysafeSdkException {
-    PaysafeApiResponse response = paysafeApiClient.executePost(VERIFICATION_ENDPOINT, verificationRequest, requestOptions);
-    return processResponse(response, Verification.class);
+    return paysafeApiClient.executePost(VERIFICATION_ENDPOINT, verificationRequest, requestOptions, Verification.class);
   }
 
   /**
@@ -55,8 +55,7 @@ public class VerificationServiceImpl implements VerificationService {
   @Override
   public Verification getVerificationById(final String verificationId, final RequestOptions requestOptions) throws PaysafeSdkException {
     final String endpoint = String.format("%s/%s", VERIFICATION_ENDPOINT, verificationId);
-    PaysafeApiResponse response = paysafeApiClient.executeGet(endpoint, requestOptions);
-    return processResponse(response, Verification.class);
+    return paysafeApiClient.executeGet(endpoint, requestOptions, Verification.class);
   }
 
   /**
@@ -79,7 +78,83 @@ public class VerificationServiceImpl implements VerificationService {
 
     final String path = String.format("%s%s", VERIFICATION_ENDPOINT,
         buildQueryParameters(merchantRefNum, endDate, limit, offset, startDate, null, null));
-    PaysafeApiResponse response = paysafeApiClient.executeGet(path, requestOptions);
-    return processResponse(response, VerificationList.class);
+    return paysafeApiClient.executeGet(path, requestOptions, VerificationList.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Verification> createVerificationAsync(final VerificationRequest verificationRequest) {
+    return createVerificationAsync(verificationRequest, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Verification> createVerificationAsync(final VerificationRequest verificationRequest,
+      final RequestOptions requestOptions) {
+    return paysafeApiClient.executePostAsync(VERIFICATION_ENDPOINT, verificationRequest, requestOptions, Verification.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Verification> getVerificationByIdAsync(final String verificationId) {
+    return getVerificationByIdAsync(verificationId, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<Verification> getVerificationByIdAsync(final String verificationId,
+      final RequestOptions requestOptions) {
+    final String endpoint = String.format("%s/%s", VERIFICATION_ENDPOINT, verificationId);
+    return paysafeApiClient.executeGetAsync(endpoint, requestOptions, Verification.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<VerificationList> getVerificationUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate) {
+    return getVerificationUsingMerchantReferenceNumberAsync(merchantRefNum, endDate, limit, offset, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<VerificationList> getVerificationUsingMerchantReferenceNumberAsync(final String merchantRefNum,
+      final String endDate, final Integer limit, final Integer offset, final String startDate,
+      final RequestOptions requestOptions) {
+
+    final String path = String.format("%s%s", VERIFICATION_ENDPOINT,
+        buildQueryParameters(merchantRefNum, endDate, limit, offset, startDate, null, null));
+    return paysafeApiClient.executeGetAsync(path, requestOptions, VerificationList.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<Verification> streamVerificationsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate) {
+    return streamVerificationsUsingMerchantReferenceNumber(merchantRefNum, endDate, pageSize, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<Verification> streamVerificationsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate, final RequestOptions requestOptions) {
+    return PageIterator.stream(pageSize,
+        (limit, offset) -> getVerificationUsingMerchantReferenceNumberAsync(merchantRefNum, endDate, limit, offset, startDate, requestOptions),
+        VerificationList::getVerifications, VerificationList::getMeta);
   }
 }
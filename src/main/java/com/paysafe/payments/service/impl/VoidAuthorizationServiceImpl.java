@@ -2,16 +2,20 @@
 
 package com.paysafe.payments.service.impl;
 
+import static com.paysafe.payments.api.PaysafeApiClient.awaitResponse;
 import static com.paysafe.payments.api.PaysafeApiClient.buildQueryParameters;
-import static com.paysafe.payments.api.PaysafeApiClient.processResponse;
+import static com.paysafe.payments.service.impl.BlockingRequest.loader;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import com.paysafe.payments.api.PaysafeApiClient;
-import com.paysafe.payments.api.PaysafeApiResponse;
 import com.paysafe.payments.api.RequestOptions;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
 import com.paysafe.payments.model.voidauthorization.VoidAuthorization;
 import com.paysafe.payments.model.voidauthorization.VoidAuthorizationRequest;
 import com.paysafe.payments.model.voidauthorization.VoidAuthorizationsList;
+import com.paysafe.payments.model.voidauthorization.enums.VoidAuthorizationStatus;
 import com.paysafe.payments.service.VoidAuthorizationService;
 
 public class VoidAuthorizationServiceImpl implements VoidAuthorizationService {
@@ -20,9 +24,15 @@ public class VoidAuthorizationServiceImpl implements VoidAuthorizationService {
   private static final String VOID_AUTHORIZATION_GET_ENDPOINT = "/v1/voidauths";
 
   private final PaysafeApiClient paysafeApiClient;
+  private final TransactionCache transactionCache;
 
   public VoidAuthorizationServiceImpl(final PaysafeApiClient paysafeApiClient) {
+    this(paysafeApiClient, null);
+  }
+
+  public VoidAuthorizationServiceImpl(final PaysafeApiClient paysafeApiClient, final TransactionCache transactionCache) {
     this.paysafeApiClient = paysafeApiClient;
+    this.transactionCache = transactionCache;
   }
 
   /**
@@ -42,8 +52,7 @@ public class VoidAuthorizationServiceImpl implements VoidAuthorizationService {
       final RequestOptions requestOptions)
       throws PaysafeSdkException {
     final String path = String.format(VOID_AUTHORIZATION_ENDPOINT, paymentId);
-    PaysafeApiResponse response = paysafeApiClient.executePost(path, voidAuthorizationRequest, requestOptions);
-    return processResponse(response, VoidAuthorization.class);
+    return paysafeApiClient.executePost(path, voidAuthorizationRequest, requestOptions, VoidAuthorization.class);
   }
 
   /**
@@ -60,8 +69,11 @@ public class VoidAuthorizationServiceImpl implements VoidAuthorizationService {
   @Override
   public VoidAuthorization getVoidAuthorizationById(final String voidAuthId, final RequestOptions requestOptions) throws PaysafeSdkException {
     final String path = String.format("%s/%s", VOID_AUTHORIZATION_GET_ENDPOINT, voidAuthId);
-    PaysafeApiResponse response = paysafeApiClient.executeGet(path, requestOptions);
-    return processResponse(response, VoidAuthorization.class);
+    if (transactionCache != null) {
+      return awaitResponse(transactionCache.get(VoidAuthorization.class, voidAuthId, VoidAuthorizationServiceImpl::isTerminal,
+          loader(() -> paysafeApiClient.executeGet(path, requestOptions, VoidAuthorization.class))));
+    }
+    return paysafeApiClient.executeGet(path, requestOptions, VoidAuthorization.class);
   }
 
   /**
@@ -82,7 +94,94 @@ public class VoidAuthorizationServiceImpl implements VoidAuthorizationService {
       throws PaysafeSdkException {
     final String path = String.format("%s%s", VOID_AUTHORIZATION_GET_ENDPOINT,
         buildQueryParameters(merchantRefNum, endDate, limit, offset, startDate, null, null));
-    PaysafeApiResponse response = paysafeApiClient.executeGet(path, requestOptions);
-    return processResponse(response, VoidAuthorizationsList.class);
+    return paysafeApiClient.executeGet(path, requestOptions, VoidAuthorizationsList.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<VoidAuthorization> voidAuthorizationAsync(final String paymentId,
+      final VoidAuthorizationRequest voidAuthorizationRequest) {
+    return voidAuthorizationAsync(paymentId, voidAuthorizationRequest, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<VoidAuthorization> voidAuthorizationAsync(final String paymentId,
+      final VoidAuthorizationRequest voidAuthorizationRequest, final RequestOptions requestOptions) {
+    final String path = String.format(VOID_AUTHORIZATION_ENDPOINT, paymentId);
+    return paysafeApiClient.executePostAsync(path, voidAuthorizationRequest, requestOptions, VoidAuthorization.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<VoidAuthorization> getVoidAuthorizationByIdAsync(final String voidAuthId) {
+    return getVoidAuthorizationByIdAsync(voidAuthId, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<VoidAuthorization> getVoidAuthorizationByIdAsync(final String voidAuthId,
+      final RequestOptions requestOptions) {
+    final String path = String.format("%s/%s", VOID_AUTHORIZATION_GET_ENDPOINT, voidAuthId);
+    if (transactionCache != null) {
+      return transactionCache.get(VoidAuthorization.class, voidAuthId, VoidAuthorizationServiceImpl::isTerminal,
+          () -> paysafeApiClient.executeGetAsync(path, requestOptions, VoidAuthorization.class));
+    }
+    return paysafeApiClient.executeGetAsync(path, requestOptions, VoidAuthorization.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<VoidAuthorizationsList> getVoidAuthorizationUsingMerchantReferenceNumberAsync(
+      final String merchantRefNum, final String endDate, final Integer limit, final Integer offset, final String startDate) {
+    return getVoidAuthorizationUsingMerchantReferenceNumberAsync(merchantRefNum, endDate, limit, offset, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public CompletableFuture<VoidAuthorizationsList> getVoidAuthorizationUsingMerchantReferenceNumberAsync(
+      final String merchantRefNum, final String endDate, final Integer limit, final Integer offset, final String startDate,
+      final RequestOptions requestOptions) {
+    final String path = String.format("%s%s", VOID_AUTHORIZATION_GET_ENDPOINT,
+        buildQueryParameters(merchantRefNum, endDate, limit, offset, startDate, null, null));
+    return paysafeApiClient.executeGetAsync(path, requestOptions, VoidAuthorizationsList.class);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<VoidAuthorization> streamVoidAuthorizationsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate) {
+    return streamVoidAuthorizationsUsingMerchantReferenceNumber(merchantRefNum, endDate, pageSize, startDate, null);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<VoidAuthorization> streamVoidAuthorizationsUsingMerchantReferenceNumber(final String merchantRefNum, final String endDate, final Integer pageSize,
+      final String startDate, final RequestOptions requestOptions) {
+    return PageIterator.stream(pageSize,
+        (limit, offset) -> getVoidAuthorizationUsingMerchantReferenceNumberAsync(merchantRefNum, endDate, limit, offset, startDate, requestOptions),
+        VoidAuthorizationsList::getVoidAuths, VoidAuthorizationsList::getMeta);
+  }
+
+  private static boolean isTerminal(final VoidAuthorization voidAuthorization) {
+    VoidAuthorizationStatus status = voidAuthorization.getStatus();
+    return status == VoidAuthorizationStatus.COMPLETED || status == VoidAuthorizationStatus.FAILED
+        || status == VoidAuthorizationStatus.CANCELLED;
   }
-}
\ No newline at end of file
+}
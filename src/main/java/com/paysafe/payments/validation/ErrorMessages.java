@@ -13,6 +13,45 @@ public class ErrorMessages {
   public static final String MESSAGE_MAX_AUTOMATIC_RETRIES_CANNOT_BE_NEGATIVE = "Maximum automatic retries cannot be negative";
   public static final String MESSAGE_CONNECT_TIMEOUT_MUST_BE_A_POSITIVE_VALUE = "Connect timeout must be a positive value";
   public static final String MESSAGE_RESPONSE_TIMEOUT_MUST_BE_A_POSITIVE_VALUE = "Response timeout must be a positive value";
+  public static final String MESSAGE_MAX_CONNECTIONS_PER_ROUTE_MUST_BE_A_POSITIVE_VALUE = "Max connections per route must be a positive value";
+  public static final String MESSAGE_MAX_CONNECTIONS_TOTAL_MUST_BE_A_POSITIVE_VALUE = "Max connections total must be a positive value";
+  public static final String MESSAGE_MAX_CONNECTIONS_PER_ROUTE_CANNOT_EXCEED_MAX_CONNECTIONS_TOTAL =
+      "Max connections per route cannot exceed max connections total";
+  public static final String MESSAGE_CONNECTION_TIME_TO_LIVE_MUST_BE_A_POSITIVE_VALUE = "Connection time to live must be a positive value";
+  public static final String MESSAGE_VALIDATE_AFTER_INACTIVITY_MUST_BE_A_POSITIVE_VALUE = "Validate after inactivity must be a positive value";
+  public static final String MESSAGE_MAX_IDLE_TIME_MUST_BE_A_POSITIVE_VALUE = "Max idle time must be a positive value";
+  public static final String MESSAGE_INTERCEPTOR_CANNOT_BE_NULL = "Interceptor cannot be null";
+  public static final String MESSAGE_CIRCUIT_BREAKER_RATE_THRESHOLD_MUST_BE_BETWEEN_1_AND_100 =
+      "Circuit breaker rate threshold must be between 1 and 100";
+  public static final String MESSAGE_CIRCUIT_BREAKER_SLOW_CALL_DURATION_THRESHOLD_MUST_BE_A_POSITIVE_VALUE =
+      "Circuit breaker slow call duration threshold must be a positive value";
+  public static final String MESSAGE_CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE_MUST_BE_A_POSITIVE_VALUE =
+      "Circuit breaker sliding window size must be a positive value";
+  public static final String MESSAGE_CIRCUIT_BREAKER_MINIMUM_NUMBER_OF_CALLS_MUST_BE_A_POSITIVE_VALUE =
+      "Circuit breaker minimum number of calls must be a positive value";
+  public static final String MESSAGE_CIRCUIT_BREAKER_WAIT_DURATION_IN_OPEN_STATE_MUST_BE_A_POSITIVE_VALUE =
+      "Circuit breaker wait duration in open state must be a positive value";
+  public static final String MESSAGE_CIRCUIT_BREAKER_PERMITTED_CALLS_IN_HALF_OPEN_STATE_MUST_BE_A_POSITIVE_VALUE =
+      "Circuit breaker permitted calls in half-open state must be a positive value";
+  public static final String MESSAGE_CONCURRENCY_LIMIT_MUST_BE_A_POSITIVE_VALUE = "Concurrency limit must be a positive value";
+  public static final String MESSAGE_CONCURRENCY_LIMITS_MUST_BE_ORDERED =
+      "Concurrency limits must satisfy min limit <= initial limit <= max limit";
+  public static final String MESSAGE_CONCURRENCY_LIMIT_MAX_WAIT_TIME_CANNOT_BE_NEGATIVE =
+      "Concurrency limit max wait time cannot be negative";
+  public static final String MESSAGE_CONCURRENCY_LIMIT_PARTITIONS_CANNOT_EXCEED_100_PERCENT =
+      "Concurrency limit partition percentages must not be negative and cannot exceed 100 in total";
+  public static final String MESSAGE_HEDGING_DELAY_MUST_BE_A_POSITIVE_VALUE = "Hedging delay must be a positive value";
+  public static final String MESSAGE_HEDGING_DELAY_PERCENTILE_MUST_BE_BETWEEN_1_AND_99 =
+      "Hedging delay percentile must be between 1 and 99";
+  public static final String MESSAGE_HEDGING_BUDGET_PERCENTAGE_MUST_BE_BETWEEN_1_AND_100 =
+      "Hedging budget percentage must be between 1 and 100";
+  public static final String MESSAGE_BULK_PARALLELISM_MUST_BE_A_POSITIVE_VALUE = "Bulk parallelism must be a positive value";
+  public static final String MESSAGE_BULK_DEADLINE_MUST_BE_A_POSITIVE_VALUE = "Bulk deadline must be a positive value";
+  public static final String MESSAGE_PAGE_SIZE_MUST_BE_A_POSITIVE_VALUE = "Page size must be a positive value";
+  public static final String MESSAGE_CACHE_TIME_TO_LIVE_MUST_BE_A_POSITIVE_VALUE = "Cache time to live must be a positive value";
+  public static final String MESSAGE_CACHE_STALE_WHILE_REVALIDATE_CANNOT_BE_NEGATIVE =
+      "Cache stale while revalidate time cannot be negative";
+  public static final String MESSAGE_CACHE_MAXIMUM_SIZE_MUST_BE_A_POSITIVE_VALUE = "Cache maximum size must be a positive value";
 
   private ErrorMessages() {
   }
@@ -1,11 +1,39 @@
 package com.paysafe.payments.validation;
 
 import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_BLANK_API_KEY;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_BULK_DEADLINE_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_BULK_PARALLELISM_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CACHE_MAXIMUM_SIZE_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CACHE_STALE_WHILE_REVALIDATE_CANNOT_BE_NEGATIVE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CACHE_TIME_TO_LIVE_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CIRCUIT_BREAKER_MINIMUM_NUMBER_OF_CALLS_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CIRCUIT_BREAKER_PERMITTED_CALLS_IN_HALF_OPEN_STATE_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CIRCUIT_BREAKER_RATE_THRESHOLD_MUST_BE_BETWEEN_1_AND_100;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CIRCUIT_BREAKER_SLOW_CALL_DURATION_THRESHOLD_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CIRCUIT_BREAKER_WAIT_DURATION_IN_OPEN_STATE_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CONCURRENCY_LIMITS_MUST_BE_ORDERED;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CONCURRENCY_LIMIT_MAX_WAIT_TIME_CANNOT_BE_NEGATIVE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CONCURRENCY_LIMIT_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CONCURRENCY_LIMIT_PARTITIONS_CANNOT_EXCEED_100_PERCENT;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CONNECTION_TIME_TO_LIVE_MUST_BE_A_POSITIVE_VALUE;
 import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CONNECT_TIMEOUT_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_HEDGING_BUDGET_PERCENTAGE_MUST_BE_BETWEEN_1_AND_100;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_HEDGING_DELAY_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_HEDGING_DELAY_PERCENTILE_MUST_BE_BETWEEN_1_AND_99;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_INTERCEPTOR_CANNOT_BE_NULL;
 import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_INVALID_API_KEY_FORMAT;
 import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_MAXIMUM_ALLOWED_NUMBER_OF_MAX_AUTOMATIC_RETRIES;
 import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_MAX_AUTOMATIC_RETRIES_CANNOT_BE_NEGATIVE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_MAX_CONNECTIONS_PER_ROUTE_CANNOT_EXCEED_MAX_CONNECTIONS_TOTAL;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_MAX_CONNECTIONS_PER_ROUTE_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_MAX_CONNECTIONS_TOTAL_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_MAX_IDLE_TIME_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_PAGE_SIZE_MUST_BE_A_POSITIVE_VALUE;
 import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_RESPONSE_TIMEOUT_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_VALIDATE_AFTER_INACTIVITY_MUST_BE_A_POSITIVE_VALUE;
+
+import java.util.List;
 
 import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
 
@@ -40,4 +68,138 @@ public class PropertyValidator {
       throw new IllegalArgumentException(MESSAGE_RESPONSE_TIMEOUT_MUST_BE_A_POSITIVE_VALUE);
     }
   }
+
+  public static void validateMaxConnections(Integer maxConnectionsPerRoute, Integer maxConnectionsTotal) throws IllegalArgumentException {
+    if (maxConnectionsPerRoute != null && maxConnectionsPerRoute <= 0) {
+      throw new IllegalArgumentException(MESSAGE_MAX_CONNECTIONS_PER_ROUTE_MUST_BE_A_POSITIVE_VALUE);
+    }
+    if (maxConnectionsTotal != null && maxConnectionsTotal <= 0) {
+      throw new IllegalArgumentException(MESSAGE_MAX_CONNECTIONS_TOTAL_MUST_BE_A_POSITIVE_VALUE);
+    }
+    if (maxConnectionsPerRoute != null && maxConnectionsTotal != null && maxConnectionsPerRoute > maxConnectionsTotal) {
+      throw new IllegalArgumentException(MESSAGE_MAX_CONNECTIONS_PER_ROUTE_CANNOT_EXCEED_MAX_CONNECTIONS_TOTAL);
+    }
+  }
+
+  public static void validateConnectionTimeToLive(Integer connectionTimeToLive) throws IllegalArgumentException {
+    if (connectionTimeToLive != null && connectionTimeToLive <= 0) {
+      throw new IllegalArgumentException(MESSAGE_CONNECTION_TIME_TO_LIVE_MUST_BE_A_POSITIVE_VALUE);
+    }
+  }
+
+  public static void validateValidateAfterInactivity(Integer validateAfterInactivity) throws IllegalArgumentException {
+    if (validateAfterInactivity != null && validateAfterInactivity <= 0) {
+      throw new IllegalArgumentException(MESSAGE_VALIDATE_AFTER_INACTIVITY_MUST_BE_A_POSITIVE_VALUE);
+    }
+  }
+
+  public static void validateMaxIdleTime(Integer maxIdleTime) throws IllegalArgumentException {
+    if (maxIdleTime != null && maxIdleTime <= 0) {
+      throw new IllegalArgumentException(MESSAGE_MAX_IDLE_TIME_MUST_BE_A_POSITIVE_VALUE);
+    }
+  }
+
+  public static void validateInterceptors(List<?> interceptors) throws IllegalArgumentException {
+    if (interceptors != null && interceptors.contains(null)) {
+      throw new IllegalArgumentException(MESSAGE_INTERCEPTOR_CANNOT_BE_NULL);
+    }
+  }
+
+  public static void validateCircuitBreakerRateThreshold(Integer rateThreshold) throws IllegalArgumentException {
+    if (rateThreshold != null && (rateThreshold < 1 || rateThreshold > 100)) {
+      throw new IllegalArgumentException(MESSAGE_CIRCUIT_BREAKER_RATE_THRESHOLD_MUST_BE_BETWEEN_1_AND_100);
+    }
+  }
+
+  public static void validateCircuitBreakerDurations(Integer slowCallDurationThreshold, Integer waitDurationInOpenState)
+      throws IllegalArgumentException {
+    if (slowCallDurationThreshold != null && slowCallDurationThreshold <= 0) {
+      throw new IllegalArgumentException(MESSAGE_CIRCUIT_BREAKER_SLOW_CALL_DURATION_THRESHOLD_MUST_BE_A_POSITIVE_VALUE);
+    }
+    if (waitDurationInOpenState != null && waitDurationInOpenState <= 0) {
+      throw new IllegalArgumentException(MESSAGE_CIRCUIT_BREAKER_WAIT_DURATION_IN_OPEN_STATE_MUST_BE_A_POSITIVE_VALUE);
+    }
+  }
+
+  public static void validateCircuitBreakerCalls(Integer slidingWindowSize, Integer minimumNumberOfCalls,
+      Integer permittedCallsInHalfOpenState) throws IllegalArgumentException {
+    if (slidingWindowSize != null && slidingWindowSize <= 0) {
+      throw new IllegalArgumentException(MESSAGE_CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE_MUST_BE_A_POSITIVE_VALUE);
+    }
+    if (minimumNumberOfCalls != null && minimumNumberOfCalls <= 0) {
+      throw new IllegalArgumentException(MESSAGE_CIRCUIT_BREAKER_MINIMUM_NUMBER_OF_CALLS_MUST_BE_A_POSITIVE_VALUE);
+    }
+    if (permittedCallsInHalfOpenState != null && permittedCallsInHalfOpenState <= 0) {
+      throw new IllegalArgumentException(MESSAGE_CIRCUIT_BREAKER_PERMITTED_CALLS_IN_HALF_OPEN_STATE_MUST_BE_A_POSITIVE_VALUE);
+    }
+  }
+
+  public static void validateConcurrencyLimits(int minLimit, int initialLimit, int maxLimit) throws IllegalArgumentException {
+    if (minLimit <= 0 || initialLimit <= 0 || maxLimit <= 0) {
+      throw new IllegalArgumentException(MESSAGE_CONCURRENCY_LIMIT_MUST_BE_A_POSITIVE_VALUE);
+    }
+    if (minLimit > initialLimit || initialLimit > maxLimit) {
+      throw new IllegalArgumentException(MESSAGE_CONCURRENCY_LIMITS_MUST_BE_ORDERED);
+    }
+  }
+
+  public static void validateConcurrencyLimitMaxWaitTime(Integer maxWaitTime) throws IllegalArgumentException {
+    if (maxWaitTime != null && maxWaitTime < 0) {
+      throw new IllegalArgumentException(MESSAGE_CONCURRENCY_LIMIT_MAX_WAIT_TIME_CANNOT_BE_NEGATIVE);
+    }
+  }
+
+  public static void validateConcurrencyLimitPartitions(int paymentPercentage, int lookupPercentage)
+      throws IllegalArgumentException {
+    if (paymentPercentage < 0 || lookupPercentage < 0 || paymentPercentage + lookupPercentage > 100) {
+      throw new IllegalArgumentException(MESSAGE_CONCURRENCY_LIMIT_PARTITIONS_CANNOT_EXCEED_100_PERCENT);
+    }
+  }
+
+  public static void validateHedgingPolicy(Integer delay, Integer delayPercentile, Integer budgetPercentage)
+      throws IllegalArgumentException {
+    if (delay != null && delay <= 0) {
+      throw new IllegalArgumentException(MESSAGE_HEDGING_DELAY_MUST_BE_A_POSITIVE_VALUE);
+    }
+    if (delayPercentile != null && (delayPercentile < 1 || delayPercentile > 99)) {
+      throw new IllegalArgumentException(MESSAGE_HEDGING_DELAY_PERCENTILE_MUST_BE_BETWEEN_1_AND_99);
+    }
+    if (budgetPercentage != null && (budgetPercentage < 1 || budgetPercentage > 100)) {
+      throw new IllegalArgumentException(MESSAGE_HEDGING_BUDGET_PERCENTAGE_MUST_BE_BETWEEN_1_AND_100);
+    }
+  }
+
+  public static void validateBulkOptions(Integer parallelism, Integer deadline) throws IllegalArgumentException {
+    if (parallelism != null && parallelism <= 0) {
+      throw new IllegalArgumentException(MESSAGE_BULK_PARALLELISM_MUST_BE_A_POSITIVE_VALUE);
+    }
+    if (deadline != null && deadline <= 0) {
+      throw new IllegalArgumentException(MESSAGE_BULK_DEADLINE_MUST_BE_A_POSITIVE_VALUE);
+    }
+  }
+
+  public static void validatePageSize(Integer pageSize) throws IllegalArgumentException {
+    if (pageSize != null && pageSize <= 0) {
+      throw new IllegalArgumentException(MESSAGE_PAGE_SIZE_MUST_BE_A_POSITIVE_VALUE);
+    }
+  }
+
+  public static void validateCacheConfig(Integer timeToLive, Integer staleWhileRevalidate, Integer maximumSize)
+      throws IllegalArgumentException {
+    if (timeToLive != null && timeToLive <= 0) {
+      throw new IllegalArgumentException(MESSAGE_CACHE_TIME_TO_LIVE_MUST_BE_A_POSITIVE_VALUE);
+    }
+    if (staleWhileRevalidate != null && staleWhileRevalidate < 0) {
+      throw new IllegalArgumentException(MESSAGE_CACHE_STALE_WHILE_REVALIDATE_CANNOT_BE_NEGATIVE);
+    }
+    if (maximumSize != null && maximumSize <= 0) {
+      throw new IllegalArgumentException(MESSAGE_CACHE_MAXIMUM_SIZE_MUST_BE_A_POSITIVE_VALUE);
+    }
+  }
+
+  public static void validateTransactionCacheConfig(Integer maximumSize) throws IllegalArgumentException {
+    if (maximumSize != null && maximumSize <= 0) {
+      throw new IllegalArgumentException(MESSAGE_CACHE_MAXIMUM_SIZE_MUST_BE_A_POSITIVE_VALUE);
+    }
+  }
 }
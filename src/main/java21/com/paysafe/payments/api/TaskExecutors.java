@@ -0,0 +1,38 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package com.paysafe.payments.api;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executors of internal work of PaysafeClient, such as starting the next requests of a bulk request, delayed retries and
+ * hedged requests, and polls of watched payment handles, so that it does not run on I/O threads of the HTTP client.
+ * <p>
+ * This version, packaged in the multi-release JAR for Java 21 and later, starts a virtual thread for each task, so that
+ * tasks blocking on the API do not occupy threads of the common fork-join pool.
+ */
+final class TaskExecutors {
+
+  private static final ThreadFactory VIRTUAL_THREAD_FACTORY = Thread.ofVirtual().name("paysafe-task-", 0).factory();
+  private static final Executor TASK_EXECUTOR = task -> VIRTUAL_THREAD_FACTORY.newThread(task).start();
+
+  private TaskExecutors() {
+  }
+
+  /**
+   * Returns executor of internal tasks.
+   */
+  static Executor taskExecutor() {
+    return TASK_EXECUTOR;
+  }
+
+  /**
+   * Returns executor running tasks with {@link #taskExecutor()} once provided delay elapses.
+   */
+  static Executor delayedExecutor(final long delay, final TimeUnit unit) {
+    return CompletableFuture.delayedExecutor(delay, unit, TASK_EXECUTOR);
+  }
+}
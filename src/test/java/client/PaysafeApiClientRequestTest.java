@@ -0,0 +1,135 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.APPLICATION_JSON;
+import static com.paysafe.payments.api.PaysafeApiClient.AUTHORIZATION;
+import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
+import static com.paysafe.payments.api.PaysafeApiClient.JAVA_SDK;
+import static com.paysafe.payments.api.PaysafeApiClient.SIMULATOR;
+import static com.paysafe.payments.api.PaysafeApiClient.USER_AGENT;
+import static com.paysafe.payments.api.PaysafeApiClient.X_TRANSACTION_SOURCE;
+import static com.paysafe.payments.api.PaysafeApiClient.buildJsonRequestBody;
+import static com.paysafe.payments.api.PaysafeApiClient.getBasicAuthenticationHeader;
+import static com.paysafe.payments.model.common.enums.CurrencyCode.USD;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.paysafe.payments.api.RequestOptions;
+import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.model.PaymentSimulator;
+import com.paysafe.payments.model.payment.PaymentRequest;
+
+import base.BasePaysafeClientTest;
+
+class PaysafeApiClientRequestTest extends BasePaysafeClientTest {
+
+  public static final String PAYMENT_ENDPOINT = "/paymenthub/v1/payments";
+  public static final String PAYMENT_ID = "3aeb9c63-6386-46a3-9f8e-f452e722228a";
+
+  @Test
+  void testPost_sendsJsonBodyWithContentLength() throws PaysafeSdkException {
+    stubPaymentResponse();
+    PaymentRequest paymentRequest = buildPaymentRequest("merchantRefNum-ü-145");
+    String expectedBody = buildJsonRequestBody(paymentRequest);
+
+    paysafeClient.paymentService().processPayment(paymentRequest);
+
+    WireMock.verify(1, postRequestedFor(urlEqualTo(PAYMENT_ENDPOINT))
+        .withHeader("Content-Length", equalTo(String.valueOf(expectedBody.getBytes(StandardCharsets.UTF_8).length)))
+        .withHeader("Transfer-Encoding", absent())
+        .withRequestBody(equalToJson(expectedBody)));
+  }
+
+  @Test
+  void testPost_consecutiveRequestsDoNotShareBodies() throws PaysafeSdkException {
+    stubPaymentResponse();
+    PaymentRequest largePaymentRequest = buildPaymentRequest("x".repeat(100 * 1024));
+    PaymentRequest mediumPaymentRequest = buildPaymentRequest("y".repeat(10 * 1024));
+    PaymentRequest smallPaymentRequest = buildPaymentRequest("merchantRefNum-145");
+
+    paysafeClient.paymentService().processPayment(largePaymentRequest);
+    paysafeClient.paymentService().processPayment(mediumPaymentRequest);
+    paysafeClient.paymentService().processPayment(smallPaymentRequest);
+
+    assertEquals(3, WireMock.findAll(postRequestedFor(urlEqualTo(PAYMENT_ENDPOINT))).size());
+    WireMock.verify(1, postRequestedFor(urlEqualTo(PAYMENT_ENDPOINT))
+        .withRequestBody(equalToJson(buildJsonRequestBody(largePaymentRequest))));
+    WireMock.verify(1, postRequestedFor(urlEqualTo(PAYMENT_ENDPOINT))
+        .withRequestBody(equalToJson(buildJsonRequestBody(mediumPaymentRequest))));
+    WireMock.verify(1, postRequestedFor(urlEqualTo(PAYMENT_ENDPOINT))
+        .withRequestBody(equalToJson(buildJsonRequestBody(smallPaymentRequest))));
+  }
+
+  @Test
+  void testPostAsync_sendsJsonBodyWithContentLength() throws Exception {
+    stubPaymentResponse();
+    PaymentRequest paymentRequest = buildPaymentRequest("merchantRefNum-ü-145");
+    String expectedBody = buildJsonRequestBody(paymentRequest);
+
+    paysafeClient.paymentService().processPaymentAsync(paymentRequest).get();
+
+    WireMock.verify(1, postRequestedFor(urlEqualTo(PAYMENT_ENDPOINT))
+        .withHeader("Content-Length", equalTo(String.valueOf(expectedBody.getBytes(StandardCharsets.UTF_8).length)))
+        .withRequestBody(equalToJson(expectedBody)));
+  }
+
+  @Test
+  void testRequests_sendDefaultHeaders() throws PaysafeSdkException {
+    stubPaymentResponse();
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("payment/get_payment_by_id_response.json")));
+
+    paysafeClient.paymentService().processPayment(buildPaymentRequest("merchantRefNum-145"),
+        RequestOptions.builder().simulator(PaymentSimulator.INTERNAL).build());
+    paysafeClient.paymentService().getPaymentById(PAYMENT_ID);
+    paysafeClient.paymentService().getPaymentById(PAYMENT_ID);
+
+    WireMock.verify(1, postRequestedFor(urlEqualTo(PAYMENT_ENDPOINT))
+        .withHeader(AUTHORIZATION, equalTo(getBasicAuthenticationHeader(API_KEY)))
+        .withHeader(X_TRANSACTION_SOURCE, equalTo(JAVA_SDK))
+        .withHeader(USER_AGENT, matching("PaymentsAPI JAVASDK/.+ \\(.+\\) JAVA \\(.+\\)"))
+        .withHeader(SIMULATOR, equalTo(PaymentSimulator.INTERNAL.toString())));
+    WireMock.verify(2, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+        .withHeader(AUTHORIZATION, equalTo(getBasicAuthenticationHeader(API_KEY)))
+        .withHeader(X_TRANSACTION_SOURCE, equalTo(JAVA_SDK))
+        .withHeader(USER_AGENT, matching("PaymentsAPI JAVASDK/.+ \\(.+\\) JAVA \\(.+\\)"))
+        .withoutHeader(SIMULATOR));
+  }
+
+  private static PaymentRequest buildPaymentRequest(final String merchantRefNum) {
+    return PaymentRequest.builder()
+        .merchantRefNum(merchantRefNum)
+        .amount(500)
+        .currencyCode(USD)
+        .paymentHandleToken("SCBHhfmG0H8W8Xvp")
+        .build();
+  }
+
+  private static void stubPaymentResponse() {
+    stubFor(post(urlPathEqualTo(PAYMENT_ENDPOINT))
+        .willReturn(aResponse()
+            .withStatus(201)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("payment/process_payment_card_without_settlement_response.json")));
+  }
+}
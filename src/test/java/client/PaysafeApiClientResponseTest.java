@@ -0,0 +1,147 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.APPLICATION_JSON;
+import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
+import static com.paysafe.payments.api.PaysafeApiClient.processResponse;
+import static com.paysafe.payments.errorhandling.ExceptionBuilder.HEADER_X_INTERNAL_CORRELATION_ID;
+import static config.TestHttpClientProvider.createTestSslContext;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.paysafe.payments.api.PaysafeApiClient;
+import com.paysafe.payments.api.PaysafeApiResponse;
+import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.errorhandling.exception.UnauthorizedException;
+import com.paysafe.payments.model.payment.Payment;
+
+import base.BasePaysafeClientTest;
+
+class PaysafeApiClientResponseTest extends BasePaysafeClientTest {
+
+  public static final String PAYMENT_ENDPOINT = "/v1/payments/3aeb9c63-6386-46a3-9f8e-f452e722228a";
+  public static final String CORRELATION_ID = "a1b2c3d4-e5f6-4a5b-8c7d-9e0f1a2b3c4d";
+
+  private PaysafeApiClient paysafeApiClient;
+
+  @BeforeEach
+  void buildPaysafeApiClient() throws Exception {
+    paysafeApiClient = PaysafeApiClient.builder()
+        .apiKey(API_KEY)
+        .sslContext(createTestSslContext())
+        .build();
+    paysafeApiClient.overrideBaseUrl(WIREMOCK_URL);
+  }
+
+  @AfterEach
+  void closePaysafeApiClient() {
+    paysafeApiClient.close();
+  }
+
+  @Test
+  void testTypedExecuteGet_deserializesSameResultAsProcessResponse() throws PaysafeSdkException {
+    stubPaymentResponse(200, "payment/get_payment_by_id_response.json");
+
+    Payment streamed = paysafeApiClient.executeGet(PAYMENT_ENDPOINT, null, Payment.class);
+    Payment buffered = processResponse(paysafeApiClient.executeGet(PAYMENT_ENDPOINT, null), Payment.class);
+
+    assertEquals(buffered.getId(), streamed.getId());
+    assertEquals(buffered.getAmount(), streamed.getAmount());
+    assertEquals(buffered.getMerchantRefNum(), streamed.getMerchantRefNum());
+    assertEquals(buffered.getStatus(), streamed.getStatus());
+  }
+
+  @Test
+  void testUntypedExecuteGet_keepsResponseBody() throws PaysafeSdkException {
+    stubPaymentResponse(200, "payment/get_payment_by_id_response.json");
+
+    PaysafeApiResponse response = paysafeApiClient.executeGet(PAYMENT_ENDPOINT, null);
+
+    assertNotNull(response.getResponseBody());
+    assertNull(response.getDeserializedBody());
+  }
+
+  @Test
+  void testTypedExecuteGet_mapsErrorResponse() {
+    stubPaymentResponse(403, "error/403_unauthorized_response.json");
+
+    UnauthorizedException exception = assertThrows(
+        UnauthorizedException.class,
+        () -> paysafeApiClient.executeGet(PAYMENT_ENDPOINT, null, Payment.class)
+    );
+
+    assertEquals(403, exception.getCode());
+    assertEquals("5270", exception.getError().getCode());
+  }
+
+  @Test
+  void testTypedExecuteGet_throwsExceptionOnMalformedResponse() {
+    stubFor(get(urlPathEqualTo("/paymenthub" + PAYMENT_ENDPOINT))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withHeader(HEADER_X_INTERNAL_CORRELATION_ID, CORRELATION_ID)
+            .withBody("{\"id\": ")));
+
+    PaysafeSdkException exception = assertThrows(
+        PaysafeSdkException.class,
+        () -> paysafeApiClient.executeGet(PAYMENT_ENDPOINT, null, Payment.class)
+    );
+
+    assertTrue(exception.getMessage().startsWith("Error processing json response"));
+    assertEquals(200, exception.getCode());
+    assertEquals(CORRELATION_ID, exception.getInternalCorrelationId());
+  }
+
+  @Test
+  void testTypedExecuteGetAsync_completesExceptionallyOnMalformedResponse() {
+    stubFor(get(urlPathEqualTo("/paymenthub" + PAYMENT_ENDPOINT))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBody("{\"id\": ")));
+
+    ExecutionException executionException = assertThrows(
+        ExecutionException.class,
+        () -> paysafeApiClient.executeGetAsync(PAYMENT_ENDPOINT, null, Payment.class).get()
+    );
+
+    assertInstanceOf(PaysafeSdkException.class, executionException.getCause());
+    assertEquals(200, ((PaysafeSdkException) executionException.getCause()).getCode());
+  }
+
+  @Test
+  void testAwaitResponse_keepsCauseOfUnexpectedException() {
+    NullPointerException cause = new NullPointerException();
+
+    PaysafeSdkException exception = assertThrows(PaysafeSdkException.class,
+        () -> PaysafeApiClient.awaitResponse(CompletableFuture.failedFuture(cause)));
+
+    assertEquals(cause, exception.getCause());
+    assertEquals(NullPointerException.class.getName(), exception.getMessage());
+  }
+
+  private void stubPaymentResponse(final int status, final String bodyFile) {
+    stubFor(get(urlPathEqualTo("/paymenthub" + PAYMENT_ENDPOINT))
+        .willReturn(aResponse()
+            .withStatus(status)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile(bodyFile)));
+  }
+}
@@ -0,0 +1,117 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.APPLICATION_JSON;
+import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_BULK_DEADLINE_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_BULK_PARALLELISM_MUST_BE_A_POSITIVE_VALUE;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.paysafe.payments.api.BulkOptions;
+import com.paysafe.payments.api.BulkResult;
+import com.paysafe.payments.errorhandling.exception.ApiConnectionException;
+import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
+import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.model.payment.Payment;
+import com.paysafe.payments.model.refund.Refund;
+
+import base.BasePaysafeClientTest;
+
+class PaysafeClientBulkRequestTest extends BasePaysafeClientTest {
+
+  public static final String PAYMENT_ENDPOINT = "/paymenthub/v1/payments";
+  public static final String REFUND_ENDPOINT = "/paymenthub/v1/refunds";
+  public static final String PAYMENT_ID = "3aeb9c63-6386-46a3-9f8e-f452e722228a";
+
+  @Test
+  void testGetPaymentsById_returnsResultsInOrderOfIds() throws PaysafeSdkException {
+    stubFor(get(urlPathMatching(PAYMENT_ENDPOINT + "/id-[13]"))
+        .willReturn(response(200, 0, "payment/get_payment_by_id_response.json")));
+    stubFor(get(urlPathMatching(PAYMENT_ENDPOINT + "/id-2"))
+        .willReturn(response(404, 0, "error/404_entity_not_found_response.json")));
+
+    List<BulkResult<Payment>> results = paysafeClient.paymentService().getPaymentsById(List.of("id-1", "id-2", "id-3"));
+
+    assertEquals(3, results.size());
+    assertEquals("id-1", results.get(0).getId());
+    assertTrue(results.get(0).isSuccessful());
+    assertEquals(PAYMENT_ID, results.get(0).getResult().getId());
+    assertEquals("id-2", results.get(1).getId());
+    assertFalse(results.get(1).isSuccessful());
+    assertNull(results.get(1).getResult());
+    assertEquals(404, results.get(1).getException().getCode());
+    assertEquals("id-3", results.get(2).getId());
+    assertTrue(results.get(2).isSuccessful());
+  }
+
+  @Test
+  void testGetPaymentsById_limitsParallelism() throws PaysafeSdkException {
+    stubFor(get(urlPathMatching(PAYMENT_ENDPOINT + "/id-[0-9]"))
+        .willReturn(response(200, 300, "payment/get_payment_by_id_response.json")));
+
+    long startTime = System.nanoTime();
+    List<BulkResult<Payment>> results = paysafeClient.paymentService().getPaymentsById(
+        List.of("id-1", "id-2", "id-3", "id-4"), BulkOptions.builder().parallelism(2).build());
+
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) >= 600);
+    assertTrue(results.stream().allMatch(BulkResult::isSuccessful));
+    WireMock.verify(4, getRequestedFor(urlPathMatching(PAYMENT_ENDPOINT + "/id-[0-9]")));
+  }
+
+  @Test
+  void testGetRefundsById_failsRecordsNotReceivedBeforeDeadline() throws Exception {
+    stubFor(get(urlPathMatching(REFUND_ENDPOINT + "/id-1"))
+        .willReturn(response(200, 0, "refund/get_refund_by_id_card_response.json")));
+    stubFor(get(urlPathMatching(REFUND_ENDPOINT + "/id-[23]"))
+        .willReturn(response(200, 2000, "refund/get_refund_by_id_card_response.json")));
+
+    long startTime = System.nanoTime();
+    List<BulkResult<Refund>> results = paysafeClient.refundService().getRefundsByIdAsync(
+        List.of("id-1", "id-2", "id-3"), BulkOptions.builder().parallelism(1).deadline(500).build()).get();
+
+    assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) < 1500);
+    assertTrue(results.get(0).isSuccessful());
+    assertInstanceOf(ApiConnectionException.class, results.get(1).getException());
+    assertInstanceOf(ApiConnectionException.class, results.get(2).getException());
+    // third request waits for the second one, so it is never sent
+    WireMock.verify(0, getRequestedFor(urlEqualTo(REFUND_ENDPOINT + "/id-3")));
+  }
+
+  @Test
+  void testBulkOptions_throwsExceptionOnInvalidValues() {
+    IllegalArgumentException parallelismException = assertThrows(IllegalArgumentException.class,
+        () -> BulkOptions.builder().parallelism(0).build());
+    IllegalArgumentException deadlineException = assertThrows(IllegalArgumentException.class,
+        () -> BulkOptions.builder().deadline(-1).build());
+
+    assertEquals(MESSAGE_BULK_PARALLELISM_MUST_BE_A_POSITIVE_VALUE, parallelismException.getMessage());
+    assertEquals(MESSAGE_BULK_DEADLINE_MUST_BE_A_POSITIVE_VALUE, deadlineException.getMessage());
+  }
+
+  private static ResponseDefinitionBuilder response(final int status, final int delay, final String bodyFile) {
+    return aResponse()
+        .withStatus(status)
+        .withFixedDelay(delay)
+        .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+        .withBodyFile(bodyFile);
+  }
+}
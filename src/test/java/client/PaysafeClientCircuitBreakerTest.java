@@ -0,0 +1,239 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.APPLICATION_JSON;
+import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CIRCUIT_BREAKER_RATE_THRESHOLD_MUST_BE_BETWEEN_1_AND_100;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE_MUST_BE_A_POSITIVE_VALUE;
+import static config.TestHttpClientProvider.createTestSslContext;
+
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.paysafe.payments.PaysafeClient;
+import com.paysafe.payments.api.CircuitBreakerConfig;
+import com.paysafe.payments.api.HedgingPolicy;
+import com.paysafe.payments.api.RequestOptions;
+import com.paysafe.payments.errorhandling.exception.ApiException;
+import com.paysafe.payments.errorhandling.exception.CircuitBreakerOpenException;
+import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
+import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+
+import base.BasePaysafeClientTest;
+
+class PaysafeClientCircuitBreakerTest extends BasePaysafeClientTest {
+
+  public static final String PAYMENT_ENDPOINT = "/paymenthub/v1/payments";
+  public static final String PAYMENT_HANDLE_ENDPOINT = "/paymenthub/v1/paymenthandles";
+  public static final String PAYMENT_ID = "3aeb9c63-6386-46a3-9f8e-f452e722228a";
+  public static final String PAYMENT_HANDLE_ID = "b5c30668-5724-4499-9b9a-c326c943d31c";
+
+  @Test
+  void testCircuitBreaker_opensWhenFailureRateIsReached() throws Exception {
+    stubPaymentResponse(500, "error/500_internal_server_error_response.json");
+
+    try (PaysafeClient client = buildClient(CircuitBreakerConfig.builder()
+        .slidingWindowSize(4)
+        .minimumNumberOfCalls(4)
+        .build())) {
+      for (int i = 0; i < 4; i++) {
+        assertThrows(ApiException.class, () -> client.paymentService().getPaymentById(PAYMENT_ID));
+      }
+      CircuitBreakerOpenException exception = assertThrows(CircuitBreakerOpenException.class,
+          () -> client.paymentService().getPaymentById(PAYMENT_ID));
+      assertEquals("Circuit breaker of /v1/payments/{id} is open, request was not sent", exception.getMessage());
+
+      ExecutionException executionException = assertThrows(ExecutionException.class,
+          () -> client.paymentService().getPaymentByIdAsync(PAYMENT_ID).get());
+      assertInstanceOf(CircuitBreakerOpenException.class, executionException.getCause());
+    }
+
+    WireMock.verify(4, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  @Test
+  void testCircuitBreaker_doesNotCountClientErrors() throws Exception {
+    stubPaymentResponse(404, "error/404_entity_not_found_response.json");
+
+    try (PaysafeClient client = buildClient(CircuitBreakerConfig.builder()
+        .slidingWindowSize(4)
+        .minimumNumberOfCalls(4)
+        .build())) {
+      for (int i = 0; i < 8; i++) {
+        PaysafeSdkException exception = assertThrows(PaysafeSdkException.class,
+            () -> client.paymentService().getPaymentById(PAYMENT_ID));
+        assertEquals(404, exception.getCode());
+      }
+    }
+
+    WireMock.verify(8, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  @Test
+  void testCircuitBreaker_isKeptForEachEndpoint() throws Exception {
+    stubPaymentResponse(500, "error/500_internal_server_error_response.json");
+    stubFor(get(urlPathEqualTo(PAYMENT_HANDLE_ENDPOINT + "/" + PAYMENT_HANDLE_ID))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("paymenthandle/get_payment_handle_by_id_card_response.json")));
+
+    try (PaysafeClient client = buildClient(CircuitBreakerConfig.builder()
+        .slidingWindowSize(2)
+        .minimumNumberOfCalls(2)
+        .build())) {
+      assertThrows(ApiException.class, () -> client.paymentService().getPaymentById(PAYMENT_ID));
+      assertThrows(ApiException.class, () -> client.paymentService().getPaymentById(PAYMENT_ID));
+      assertThrows(CircuitBreakerOpenException.class, () -> client.paymentService().getPaymentById(PAYMENT_ID));
+
+      client.paymentHandleService().getPaymentHandleById(PAYMENT_HANDLE_ID);
+    }
+
+    WireMock.verify(1, getRequestedFor(urlEqualTo(PAYMENT_HANDLE_ENDPOINT + "/" + PAYMENT_HANDLE_ID)));
+  }
+
+  @Test
+  void testCircuitBreaker_closesWhenTrialCallsSucceed() throws Exception {
+    stubPaymentResponse(500, "error/500_internal_server_error_response.json");
+
+    try (PaysafeClient client = buildClient(CircuitBreakerConfig.builder()
+        .slidingWindowSize(2)
+        .minimumNumberOfCalls(2)
+        .waitDurationInOpenState(100)
+        .permittedCallsInHalfOpenState(2)
+        .build())) {
+      assertThrows(ApiException.class, () -> client.paymentService().getPaymentById(PAYMENT_ID));
+      assertThrows(ApiException.class, () -> client.paymentService().getPaymentById(PAYMENT_ID));
+      assertThrows(CircuitBreakerOpenException.class, () -> client.paymentService().getPaymentById(PAYMENT_ID));
+
+      stubPaymentResponse(200, "payment/get_payment_by_id_response.json");
+      Thread.sleep(150);
+      for (int i = 0; i < 5; i++) {
+        assertEquals(PAYMENT_ID, client.paymentService().getPaymentById(PAYMENT_ID).getId());
+      }
+    }
+
+    WireMock.verify(7, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  @Test
+  void testCircuitBreaker_opensAgainWhenTrialCallFails() throws Exception {
+    stubPaymentResponse(500, "error/500_internal_server_error_response.json");
+
+    try (PaysafeClient client = buildClient(CircuitBreakerConfig.builder()
+        .slidingWindowSize(2)
+        .minimumNumberOfCalls(2)
+        .waitDurationInOpenState(100)
+        .permittedCallsInHalfOpenState(1)
+        .build())) {
+      assertThrows(ApiException.class, () -> client.paymentService().getPaymentById(PAYMENT_ID));
+      assertThrows(ApiException.class, () -> client.paymentService().getPaymentById(PAYMENT_ID));
+
+      Thread.sleep(150);
+      assertThrows(ApiException.class, () -> client.paymentService().getPaymentById(PAYMENT_ID));
+      assertThrows(CircuitBreakerOpenException.class, () -> client.paymentService().getPaymentById(PAYMENT_ID));
+    }
+
+    WireMock.verify(3, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  @Test
+  void testCircuitBreaker_doesNotRecordCancelledHedgeAsTrialCall() throws Exception {
+    stubPaymentResponse(500, "error/500_internal_server_error_response.json");
+    RequestOptions notHedged = RequestOptions.builder().hedgingEnabled(false).build();
+
+    try (PaysafeClient client = buildClient(CircuitBreakerConfig.builder()
+        .slidingWindowSize(2)
+        .minimumNumberOfCalls(2)
+        .waitDurationInOpenState(100)
+        .permittedCallsInHalfOpenState(2)
+        .build(), HedgingPolicy.builder().delay(50).budgetPercentage(100).build())) {
+      assertThrows(ApiException.class, () -> client.paymentService().getPaymentById(PAYMENT_ID, notHedged));
+      assertThrows(ApiException.class, () -> client.paymentService().getPaymentById(PAYMENT_ID, notHedged));
+
+      stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+          .willReturn(aResponse()
+              .withStatus(200)
+              .withFixedDelay(200)
+              .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+              .withBodyFile("payment/get_payment_by_id_response.json")));
+      Thread.sleep(150);
+      // the hedge is cancelled once the first attempt succeeds, and gives back its trial call
+      assertEquals(PAYMENT_ID, client.paymentService().getPaymentById(PAYMENT_ID).getId());
+      Thread.sleep(100);
+
+      stubPaymentResponse(500, "error/500_internal_server_error_response.json");
+      assertThrows(ApiException.class, () -> client.paymentService().getPaymentById(PAYMENT_ID, notHedged));
+      assertThrows(CircuitBreakerOpenException.class, () -> client.paymentService().getPaymentById(PAYMENT_ID, notHedged));
+    }
+  }
+
+  @Test
+  void testCircuitBreaker_opensWhenSlowCallRateIsReached() throws Exception {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withFixedDelay(100)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("payment/get_payment_by_id_response.json")));
+
+    try (PaysafeClient client = buildClient(CircuitBreakerConfig.builder()
+        .slidingWindowSize(2)
+        .minimumNumberOfCalls(2)
+        .slowCallDurationThreshold(50)
+        .build())) {
+      client.paymentService().getPaymentById(PAYMENT_ID);
+      client.paymentService().getPaymentById(PAYMENT_ID);
+      assertThrows(CircuitBreakerOpenException.class, () -> client.paymentService().getPaymentById(PAYMENT_ID));
+    }
+
+    WireMock.verify(2, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  @Test
+  void testCircuitBreakerConfig_throwsExceptionOnInvalidValues() {
+    IllegalArgumentException rateException = assertThrows(IllegalArgumentException.class,
+        () -> CircuitBreakerConfig.builder().failureRateThreshold(0).build());
+    IllegalArgumentException windowException = assertThrows(IllegalArgumentException.class,
+        () -> CircuitBreakerConfig.builder().slidingWindowSize(0).build());
+
+    assertEquals(MESSAGE_CIRCUIT_BREAKER_RATE_THRESHOLD_MUST_BE_BETWEEN_1_AND_100, rateException.getMessage());
+    assertEquals(MESSAGE_CIRCUIT_BREAKER_SLIDING_WINDOW_SIZE_MUST_BE_A_POSITIVE_VALUE, windowException.getMessage());
+  }
+
+  private static PaysafeClient buildClient(final CircuitBreakerConfig circuitBreakerConfig) throws Exception {
+    return buildClient(circuitBreakerConfig, null);
+  }
+
+  private static PaysafeClient buildClient(final CircuitBreakerConfig circuitBreakerConfig,
+      final HedgingPolicy hedgingPolicy) throws Exception {
+    PaysafeClient client = PaysafeClient.builder()
+        .apiKey(API_KEY)
+        .sslContext(createTestSslContext())
+        .circuitBreakerConfig(circuitBreakerConfig)
+        .hedgingPolicy(hedgingPolicy)
+        .build();
+    client.overrideBaseUrl(WIREMOCK_URL);
+    return client;
+  }
+
+  private static void stubPaymentResponse(final int status, final String bodyFile) {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+        .willReturn(aResponse()
+            .withStatus(status)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile(bodyFile)));
+  }
+}
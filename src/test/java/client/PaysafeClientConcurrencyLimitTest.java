@@ -0,0 +1,195 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.APPLICATION_JSON;
+import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CONCURRENCY_LIMITS_MUST_BE_ORDERED;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CONCURRENCY_LIMIT_PARTITIONS_CANNOT_EXCEED_100_PERCENT;
+import static config.TestHttpClientProvider.createTestSslContext;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.paysafe.payments.PaysafeClient;
+import com.paysafe.payments.api.ConcurrencyLimitConfig;
+import com.paysafe.payments.errorhandling.exception.ApiConnectionException;
+import com.paysafe.payments.errorhandling.exception.ConcurrencyLimitExceededException;
+import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
+import com.paysafe.payments.model.payment.Payment;
+import com.paysafe.payments.model.payment.PaymentList;
+
+import base.BasePaysafeClientTest;
+
+class PaysafeClientConcurrencyLimitTest extends BasePaysafeClientTest {
+
+  public static final String PAYMENT_ENDPOINT = "/paymenthub/v1/payments";
+  public static final String PAYMENT_ID = "3aeb9c63-6386-46a3-9f8e-f452e722228a";
+  public static final String MERCHANT_REF_NUM = "merchantRefNum-145";
+
+  @Test
+  void testConcurrencyLimit_rejectsRequestAboveLimitWithoutWaiting() throws Exception {
+    stubPaymentResponse(300);
+
+    try (PaysafeClient client = buildClient(ConcurrencyLimitConfig.builder()
+        .initialLimit(1)
+        .minLimit(1)
+        .maxLimit(1)
+        .maxWaitTime(0)
+        .build())) {
+      CompletableFuture<Payment> inflightPayment = client.paymentService().getPaymentByIdAsync(PAYMENT_ID);
+
+      ConcurrencyLimitExceededException exception = assertThrows(ConcurrencyLimitExceededException.class,
+          () -> client.paymentService().getPaymentById(PAYMENT_ID));
+      assertEquals("Concurrency limit of payment requests was reached, request to /v1/payments/{id} was not sent",
+          exception.getMessage());
+
+      assertEquals(PAYMENT_ID, inflightPayment.get().getId());
+      assertEquals(PAYMENT_ID, client.paymentService().getPaymentById(PAYMENT_ID).getId());
+    }
+
+    WireMock.verify(2, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  @Test
+  void testConcurrencyLimit_sendsWaitingRequestOncePermitIsReleased() throws Exception {
+    stubPaymentResponse(200);
+
+    try (PaysafeClient client = buildClient(ConcurrencyLimitConfig.builder()
+        .initialLimit(1)
+        .minLimit(1)
+        .maxLimit(1)
+        .maxWaitTime(5000)
+        .build())) {
+      CompletableFuture<Payment> firstPayment = client.paymentService().getPaymentByIdAsync(PAYMENT_ID);
+      CompletableFuture<Payment> secondPayment = client.paymentService().getPaymentByIdAsync(PAYMENT_ID);
+
+      assertEquals(PAYMENT_ID, client.paymentService().getPaymentById(PAYMENT_ID).getId());
+      assertEquals(PAYMENT_ID, firstPayment.get().getId());
+      assertEquals(PAYMENT_ID, secondPayment.get().getId());
+    }
+
+    WireMock.verify(3, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  @Test
+  void testConcurrencyLimit_rejectsWaitingRequestAfterMaxWaitTime() throws Exception {
+    stubPaymentResponse(1000);
+
+    try (PaysafeClient client = buildClient(ConcurrencyLimitConfig.builder()
+        .initialLimit(1)
+        .minLimit(1)
+        .maxLimit(1)
+        .maxWaitTime(100)
+        .build())) {
+      CompletableFuture<Payment> inflightPayment = client.paymentService().getPaymentByIdAsync(PAYMENT_ID);
+
+      ExecutionException exception = assertThrows(ExecutionException.class,
+          () -> client.paymentService().getPaymentByIdAsync(PAYMENT_ID).get());
+      assertInstanceOf(ConcurrencyLimitExceededException.class, exception.getCause());
+
+      assertEquals(PAYMENT_ID, inflightPayment.get().getId());
+    }
+
+    WireMock.verify(1, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  @Test
+  void testConcurrencyLimit_lookupsDoNotStarvePayments() throws Exception {
+    stubPaymentResponse(0);
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT))
+        .withQueryParam("merchantRefNum", equalTo(MERCHANT_REF_NUM))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withFixedDelay(300)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("payment/get_payment_using_merchant_ref_number_response.json")));
+
+    try (PaysafeClient client = buildClient(ConcurrencyLimitConfig.builder()
+        .initialLimit(2)
+        .minLimit(2)
+        .maxLimit(2)
+        .maxWaitTime(0)
+        .paymentPartitionPercentage(50)
+        .lookupPartitionPercentage(10)
+        .build())) {
+      CompletableFuture<PaymentList> firstLookup = client.paymentService()
+          .getPaymentsUsingMerchantReferenceNumberAsync(MERCHANT_REF_NUM, null, null, null, null);
+      CompletableFuture<PaymentList> secondLookup = client.paymentService()
+          .getPaymentsUsingMerchantReferenceNumberAsync(MERCHANT_REF_NUM, null, null, null, null);
+
+      ExecutionException exception = assertThrows(ExecutionException.class, () -> client.paymentService()
+          .getPaymentsUsingMerchantReferenceNumberAsync(MERCHANT_REF_NUM, null, null, null, null).get());
+      assertInstanceOf(ConcurrencyLimitExceededException.class, exception.getCause());
+
+      assertEquals(PAYMENT_ID, client.paymentService().getPaymentById(PAYMENT_ID).getId());
+
+      firstLookup.get();
+      secondLookup.get();
+    }
+
+    WireMock.verify(1, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+    WireMock.verify(2, getRequestedFor(urlPathEqualTo(PAYMENT_ENDPOINT)));
+  }
+
+  @Test
+  void testConcurrencyLimit_releasesPermitOfRequestNotSentByClosedClient() throws Exception {
+    PaysafeClient client = buildClient(ConcurrencyLimitConfig.builder()
+        .initialLimit(1)
+        .minLimit(1)
+        .maxLimit(1)
+        .maxWaitTime(0)
+        .build());
+    client.close();
+
+    for (int i = 0; i < 2; i++) {
+      ExecutionException exception = assertThrows(ExecutionException.class,
+          () -> client.paymentService().getPaymentByIdAsync(PAYMENT_ID).get(10, TimeUnit.SECONDS));
+      assertInstanceOf(ApiConnectionException.class, exception.getCause());
+    }
+  }
+
+  @Test
+  void testConcurrencyLimitConfig_throwsExceptionOnInvalidValues() {
+    IllegalArgumentException limitsException = assertThrows(IllegalArgumentException.class,
+        () -> ConcurrencyLimitConfig.builder().initialLimit(10).minLimit(20).build());
+    IllegalArgumentException partitionsException = assertThrows(IllegalArgumentException.class,
+        () -> ConcurrencyLimitConfig.builder().paymentPartitionPercentage(60).lookupPartitionPercentage(50).build());
+
+    assertEquals(MESSAGE_CONCURRENCY_LIMITS_MUST_BE_ORDERED, limitsException.getMessage());
+    assertEquals(MESSAGE_CONCURRENCY_LIMIT_PARTITIONS_CANNOT_EXCEED_100_PERCENT, partitionsException.getMessage());
+  }
+
+  private static PaysafeClient buildClient(final ConcurrencyLimitConfig concurrencyLimitConfig) throws Exception {
+    PaysafeClient client = PaysafeClient.builder()
+        .apiKey(API_KEY)
+        .sslContext(createTestSslContext())
+        .concurrencyLimitConfig(concurrencyLimitConfig)
+        .build();
+    client.overrideBaseUrl(WIREMOCK_URL);
+    return client;
+  }
+
+  private static void stubPaymentResponse(final int delay) {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withFixedDelay(delay)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("payment/get_payment_by_id_response.json")));
+  }
+}
@@ -0,0 +1,132 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.paysafe.payments.PaysafeClient;
+import com.paysafe.payments.api.RequestOptions;
+import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.model.monitor.enums.ServiceStatus;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Uses plain JDK http server, which exposes remote address of each exchange, to verify that connections are reused.
+ */
+public class PaysafeClientConnectionPoolTest {
+
+  public static final String MONITOR_ENDPOINT = "/paymenthub/v1/monitor";
+  public static final String API_KEY = "clientId:clientKey";
+
+  private static final byte[] MONITOR_RESPONSE = "{\"status\":\"READY\"}".getBytes(StandardCharsets.UTF_8);
+
+  private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+  private HttpServer httpServer;
+
+  @BeforeEach
+  void startServer() throws IOException {
+    httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    httpServer.createContext(MONITOR_ENDPOINT, exchange -> {
+      clientPorts.add(exchange.getRemoteAddress().getPort());
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, MONITOR_RESPONSE.length);
+      try (OutputStream responseBody = exchange.getResponseBody()) {
+        responseBody.write(MONITOR_RESPONSE);
+      }
+    });
+    httpServer.start();
+  }
+
+  @AfterEach
+  void stopServer() {
+    httpServer.stop(0);
+  }
+
+  @Test
+  void test_sequentialRequestsReuseConnection() throws PaysafeSdkException {
+    try (PaysafeClient paysafeClient = PaysafeClient.builder().apiKey(API_KEY).build()) {
+      paysafeClient.overrideBaseUrl("http://localhost:" + httpServer.getAddress().getPort());
+
+      for (int i = 0; i < 5; i++) {
+        assertEquals(ServiceStatus.READY, paysafeClient.monitorService().verifyThatServiceIsAccessible().getStatus());
+      }
+    }
+
+    assertEquals(1, clientPorts.size());
+  }
+
+  @Test
+  void test_requestOptionsDoNotRequireNewConnection() throws PaysafeSdkException {
+    try (PaysafeClient paysafeClient = PaysafeClient.builder().apiKey(API_KEY).build()) {
+      paysafeClient.overrideBaseUrl("http://localhost:" + httpServer.getAddress().getPort());
+
+      RequestOptions requestOptions = RequestOptions.builder()
+          .responseTimeout(2000)
+          .automaticRetries(0)
+          .build();
+
+      paysafeClient.monitorService().verifyThatServiceIsAccessible();
+      paysafeClient.monitorService().verifyThatServiceIsAccessible(requestOptions);
+    }
+
+    assertEquals(1, clientPorts.size());
+  }
+
+  @Test
+  void test_maxConnectionsPerRouteLimitsConcurrentConnections() throws Exception {
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+    try (PaysafeClient paysafeClient = PaysafeClient.builder()
+        .apiKey(API_KEY)
+        .maxConnectionsPerRoute(1)
+        .build()) {
+      paysafeClient.overrideBaseUrl("http://localhost:" + httpServer.getAddress().getPort());
+
+      List<Callable<ServiceStatus>> tasks = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        tasks.add(() -> paysafeClient.monitorService().verifyThatServiceIsAccessible().getStatus());
+      }
+      for (Future<ServiceStatus> result : executorService.invokeAll(tasks)) {
+        assertEquals(ServiceStatus.READY, result.get());
+      }
+    } finally {
+      executorService.shutdown();
+    }
+
+    assertEquals(1, clientPorts.size());
+  }
+
+  @Test
+  void test_expiredConnectionIsNotReused() throws PaysafeSdkException, InterruptedException {
+    try (PaysafeClient paysafeClient = PaysafeClient.builder()
+        .apiKey(API_KEY)
+        .connectionTimeToLive(100)
+        .maxIdleTime(50)
+        .build()) {
+      paysafeClient.overrideBaseUrl("http://localhost:" + httpServer.getAddress().getPort());
+
+      paysafeClient.monitorService().verifyThatServiceIsAccessible();
+      Thread.sleep(300);
+      paysafeClient.monitorService().verifyThatServiceIsAccessible();
+    }
+
+    assertEquals(2, clientPorts.size());
+  }
+}
@@ -0,0 +1,209 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.delete;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.put;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.APPLICATION_JSON;
+import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
+import static config.TestHttpClientProvider.createTestSslContext;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.paysafe.payments.PaysafeClient;
+import com.paysafe.payments.api.CacheConfig;
+import com.paysafe.payments.metrics.ConnectionPoolMetrics;
+import com.paysafe.payments.metrics.PaysafeMetricsListener;
+import com.paysafe.payments.model.customer.Customer;
+import com.paysafe.payments.model.customer.CustomerRequest;
+
+import base.BasePaysafeClientTest;
+
+class PaysafeClientCustomerCacheTest extends BasePaysafeClientTest {
+
+  public static final String CUSTOMERS_ENDPOINT = "/paymenthub/v1/customers";
+  public static final String CUSTOMER_ID = "d60fc496-9023-4641-890e-e05c852d2ac4";
+  public static final String MERCHANT_CUSTOMER_ID = "546456451";
+  public static final String MERCHANT_CUSTOMER_CUSTOMER_ID = "aa5a13f2-8ab6-4378-9f04-e2bccd9c70af";
+  public static final String ADDRESS_ID = "f4d3c4b6-0c1a-4a36-8b4d-1b6e2f0a2f11";
+
+  @Test
+  void testCustomerCache_returnsCachedCustomerRegardlessOfFieldsOrder() throws Exception {
+    stubCustomerResponse();
+
+    try (PaysafeClient client = buildClient()) {
+      Customer first = client.customerService().getCustomerById(CUSTOMER_ID,
+          new LinkedHashSet<>(List.of("addresses", "paymenthandles")));
+      Customer second = client.customerService().getCustomerByIdAsync(CUSTOMER_ID,
+          new LinkedHashSet<>(List.of("paymenthandles", "addresses"))).get();
+
+      assertEquals(CUSTOMER_ID, first.getId());
+      assertEquals(first, second);
+    }
+
+    WireMock.verify(1, getRequestedFor(urlPathEqualTo(CUSTOMERS_ENDPOINT + "/" + CUSTOMER_ID)));
+  }
+
+  @Test
+  void testCustomerCache_returnsNewInstanceOfCachedCustomer() throws Exception {
+    stubCustomerResponse();
+
+    try (PaysafeClient client = buildClient()) {
+      Customer first = client.customerService().getCustomerById(CUSTOMER_ID, null);
+      first.setId("modified");
+      Customer second = client.customerService().getCustomerById(CUSTOMER_ID, null);
+
+      assertEquals(CUSTOMER_ID, second.getId());
+    }
+
+    WireMock.verify(1, getRequestedFor(urlPathEqualTo(CUSTOMERS_ENDPOINT + "/" + CUSTOMER_ID)));
+  }
+
+  @Test
+  void testCustomerCache_blockingGettersDoNotCreateAsyncPool() throws Exception {
+    stubCustomerResponse();
+    List<String> connectionPools = new CopyOnWriteArrayList<>();
+    PaysafeMetricsListener metricsListener = new PaysafeMetricsListener() {
+      @Override
+      public void connectionPoolCreated(final String poolName, final ConnectionPoolMetrics connectionPool) {
+        connectionPools.add(poolName);
+      }
+    };
+
+    try (PaysafeClient client = buildClient(metricsListener)) {
+      client.customerService().getCustomerById(CUSTOMER_ID, null);
+      client.customerService().getCustomerById(CUSTOMER_ID, null);
+    }
+
+    WireMock.verify(1, getRequestedFor(urlPathEqualTo(CUSTOMERS_ENDPOINT + "/" + CUSTOMER_ID)));
+    assertEquals(List.of(ConnectionPoolMetrics.BLOCKING_POOL), connectionPools);
+  }
+
+  @Test
+  void testCustomerCache_getsCustomerAgainWithOtherFields() throws Exception {
+    stubCustomerResponse();
+
+    try (PaysafeClient client = buildClient()) {
+      client.customerService().getCustomerById(CUSTOMER_ID, Set.of("addresses"));
+      client.customerService().getCustomerById(CUSTOMER_ID, null);
+      client.customerService().getCustomerById(CUSTOMER_ID, Set.of("addresses"));
+    }
+
+    WireMock.verify(2, getRequestedFor(urlPathEqualTo(CUSTOMERS_ENDPOINT + "/" + CUSTOMER_ID)));
+  }
+
+  @Test
+  void testCustomerCache_invalidatesCustomerOnceUpdated() throws Exception {
+    stubCustomerResponse();
+    stubFor(get(urlPathEqualTo(CUSTOMERS_ENDPOINT))
+        .withQueryParam("merchantCustomerId", equalTo(MERCHANT_CUSTOMER_ID))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("customer/get_customer_using_merchant_customer_id_response.json")));
+    stubUpdateCustomerResponse();
+
+    try (PaysafeClient client = buildClient()) {
+      client.customerService().getCustomerById(CUSTOMER_ID, null);
+      client.customerService().getCustomerByMerchantCustomerId(MERCHANT_CUSTOMER_ID, null);
+
+      client.customerService().updateCustomerAsync(MERCHANT_CUSTOMER_CUSTOMER_ID,
+          CustomerRequest.builder().locale("en_US").build()).get();
+
+      client.customerService().getCustomerById(CUSTOMER_ID, null);
+      client.customerService().getCustomerByMerchantCustomerId(MERCHANT_CUSTOMER_ID, null);
+    }
+
+    WireMock.verify(1, getRequestedFor(urlPathEqualTo(CUSTOMERS_ENDPOINT + "/" + CUSTOMER_ID)));
+    WireMock.verify(2, getRequestedFor(urlPathEqualTo(CUSTOMERS_ENDPOINT))
+        .withQueryParam("merchantCustomerId", equalTo(MERCHANT_CUSTOMER_ID)));
+  }
+
+  @Test
+  void testCustomerCache_keepsPendingCustomerOnceOtherCustomerIsUpdated() throws Exception {
+    stubFor(get(urlPathEqualTo(CUSTOMERS_ENDPOINT + "/" + CUSTOMER_ID))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withFixedDelay(500)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("customer/get_customer_profile_by_customer_id_response.json")));
+    stubUpdateCustomerResponse();
+
+    try (PaysafeClient client = buildClient()) {
+      CompletableFuture<Customer> pendingCustomer = client.customerService().getCustomerByIdAsync(CUSTOMER_ID, null);
+
+      client.customerService().updateCustomerAsync(MERCHANT_CUSTOMER_CUSTOMER_ID,
+          CustomerRequest.builder().locale("en_US").build()).get();
+
+      assertEquals(CUSTOMER_ID, pendingCustomer.get().getId());
+      assertEquals(CUSTOMER_ID, client.customerService().getCustomerById(CUSTOMER_ID, null).getId());
+    }
+
+    WireMock.verify(1, getRequestedFor(urlPathEqualTo(CUSTOMERS_ENDPOINT + "/" + CUSTOMER_ID)));
+  }
+
+  @Test
+  void testCustomerCache_invalidatesCustomerOnceAddressIsDeleted() throws Exception {
+    stubCustomerResponse();
+    stubFor(delete(urlPathEqualTo(CUSTOMERS_ENDPOINT + "/" + CUSTOMER_ID + "/addresses/" + ADDRESS_ID))
+        .willReturn(aResponse()
+            .withStatus(500)));
+
+    try (PaysafeClient client = buildClient()) {
+      client.customerService().getCustomerById(CUSTOMER_ID, Set.of("addresses"));
+
+      // customer is invalidated even if the request failed, as the address may have been deleted
+      client.customerAddressService().deleteAddressAsync(CUSTOMER_ID, ADDRESS_ID).exceptionally(throwable -> null).get();
+
+      client.customerService().getCustomerById(CUSTOMER_ID, Set.of("addresses"));
+    }
+
+    WireMock.verify(2, getRequestedFor(urlPathEqualTo(CUSTOMERS_ENDPOINT + "/" + CUSTOMER_ID)));
+  }
+
+  private static PaysafeClient buildClient() throws Exception {
+    return buildClient(null);
+  }
+
+  private static PaysafeClient buildClient(final PaysafeMetricsListener metricsListener) throws Exception {
+    PaysafeClient client = PaysafeClient.builder()
+        .apiKey(API_KEY)
+        .sslContext(createTestSslContext())
+        .maxAutomaticRetries(0)
+        .customerCacheConfig(CacheConfig.builder().build())
+        .metricsListener(metricsListener)
+        .build();
+    client.overrideBaseUrl(WIREMOCK_URL);
+    return client;
+  }
+
+  private static void stubCustomerResponse() {
+    stubFor(get(urlPathEqualTo(CUSTOMERS_ENDPOINT + "/" + CUSTOMER_ID))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("customer/get_customer_profile_by_customer_id_response.json")));
+  }
+
+  private static void stubUpdateCustomerResponse() {
+    stubFor(put(urlPathEqualTo(CUSTOMERS_ENDPOINT + "/" + MERCHANT_CUSTOMER_CUSTOMER_ID))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("customer/update_customer_response.json")));
+  }
+}
@@ -0,0 +1,147 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.APPLICATION_JSON;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_HEDGING_BUDGET_PERCENTAGE_MUST_BE_BETWEEN_1_AND_100;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_HEDGING_DELAY_PERCENTILE_MUST_BE_BETWEEN_1_AND_99;
+import static config.TestHttpClientProvider.createTestSslContext;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.paysafe.payments.PaysafeClient;
+import com.paysafe.payments.api.HedgingPolicy;
+import com.paysafe.payments.api.RequestOptions;
+import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
+import com.paysafe.payments.metrics.PaysafeMetricsListener;
+
+import base.BasePaysafeClientTest;
+
+class PaysafeClientHedgingTest extends BasePaysafeClientTest {
+
+  public static final String PAYMENT_ENDPOINT = "/paymenthub/v1/payments";
+  public static final String PAYMENT_ID = "3aeb9c63-6386-46a3-9f8e-f452e722228a";
+  public static final String HEDGED = "hedged";
+
+  @Test
+  void testHedging_usesResponseOfHedgedRequest() throws Exception {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+        .inScenario("hedging").whenScenarioStateIs(STARTED)
+        .willSetStateTo(HEDGED)
+        .willReturn(paymentResponse(3000)));
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+        .inScenario("hedging").whenScenarioStateIs(HEDGED)
+        .willReturn(paymentResponse(0)));
+    List<String> hedgedEndpoints = new CopyOnWriteArrayList<>();
+    PaysafeMetricsListener metricsListener = new PaysafeMetricsListener() {
+      @Override
+      public void requestHedged(final String method, final String endpoint) {
+        hedgedEndpoints.add(method + " " + endpoint);
+      }
+    };
+
+    try (PaysafeClient client = buildClient(HedgingPolicy.builder().delay(100).budgetPercentage(100).build(), metricsListener)) {
+      long startTime = System.nanoTime();
+      assertEquals(PAYMENT_ID, client.paymentService().getPaymentById(PAYMENT_ID).getId());
+      assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) < 2000);
+    }
+
+    WireMock.verify(2, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+    assertEquals(List.of("GET /v1/payments/{id}"), hedgedEndpoints);
+  }
+
+  @Test
+  void testHedging_doesNotHedgeRequestCompletedWithinDelay() throws Exception {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)).willReturn(paymentResponse(0)));
+
+    try (PaysafeClient client = buildClient(HedgingPolicy.builder().delay(1000).budgetPercentage(100).build(), null)) {
+      assertEquals(PAYMENT_ID, client.paymentService().getPaymentByIdAsync(PAYMENT_ID).get().getId());
+      Thread.sleep(1200);
+    }
+
+    WireMock.verify(1, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  @Test
+  void testHedging_doesNotExceedBudget() throws Exception {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)).willReturn(paymentResponse(300)));
+
+    AtomicInteger hedgedRequests = new AtomicInteger();
+    PaysafeMetricsListener metricsListener = new PaysafeMetricsListener() {
+      @Override
+      public void requestHedged(final String method, final String endpoint) {
+        hedgedRequests.incrementAndGet();
+      }
+    };
+
+    try (PaysafeClient client = buildClient(HedgingPolicy.builder().delay(50).budgetPercentage(50).build(), metricsListener)) {
+      for (int i = 0; i < 4; i++) {
+        assertEquals(PAYMENT_ID, client.paymentService().getPaymentById(PAYMENT_ID).getId());
+      }
+    }
+
+    // hedges are counted by the listener, as requests received may also include retries on reset connections
+    assertEquals(2, hedgedRequests.get());
+  }
+
+  @Test
+  void testHedging_isDisabledByRequestOptions() throws Exception {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)).willReturn(paymentResponse(300)));
+
+    try (PaysafeClient client = buildClient(HedgingPolicy.builder().delay(50).budgetPercentage(100).build(), null)) {
+      assertEquals(PAYMENT_ID, client.paymentService()
+          .getPaymentById(PAYMENT_ID, RequestOptions.builder().hedgingEnabled(false).build()).getId());
+    }
+
+    WireMock.verify(1, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  @Test
+  void testHedgingPolicy_throwsExceptionOnInvalidValues() {
+    IllegalArgumentException percentileException = assertThrows(IllegalArgumentException.class,
+        () -> HedgingPolicy.builder().delayPercentile(100).build());
+    IllegalArgumentException budgetException = assertThrows(IllegalArgumentException.class,
+        () -> HedgingPolicy.builder().budgetPercentage(0).build());
+
+    assertEquals(MESSAGE_HEDGING_DELAY_PERCENTILE_MUST_BE_BETWEEN_1_AND_99, percentileException.getMessage());
+    assertEquals(MESSAGE_HEDGING_BUDGET_PERCENTAGE_MUST_BE_BETWEEN_1_AND_100, budgetException.getMessage());
+  }
+
+  private static PaysafeClient buildClient(final HedgingPolicy hedgingPolicy, final PaysafeMetricsListener metricsListener)
+      throws Exception {
+    PaysafeClient client = PaysafeClient.builder()
+        .apiKey(API_KEY)
+        .sslContext(createTestSslContext())
+        .hedgingPolicy(hedgingPolicy)
+        .metricsListener(metricsListener)
+        .build();
+    client.overrideBaseUrl(WIREMOCK_URL);
+    return client;
+  }
+
+  private static ResponseDefinitionBuilder paymentResponse(final int delay) {
+    return aResponse()
+        .withStatus(200)
+        .withFixedDelay(delay)
+        .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+        .withBodyFile("payment/get_payment_by_id_response.json");
+  }
+}
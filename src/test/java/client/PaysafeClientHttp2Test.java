@@ -0,0 +1,189 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.APPLICATION_JSON;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
+import static config.TestHttpClientProvider.createTestSslContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import com.paysafe.payments.PaysafeClient;
+import com.paysafe.payments.errorhandling.exception.InvalidCredentialsException;
+import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.model.monitor.MonitorResponse;
+import com.paysafe.payments.model.monitor.enums.ServiceStatus;
+
+/**
+ * Runs WireMock over TLS, which negotiates HTTP/2 with ALPN, behind a plain TCP relay that counts client connections.
+ */
+public class PaysafeClientHttp2Test {
+
+  public static final String MONITOR_ENDPOINT = "/paymenthub/v1/monitor";
+  public static final String API_KEY = "clientId:clientKey";
+
+  private static final int CONCURRENT_REQUESTS = 20;
+
+  private final AtomicInteger acceptedConnections = new AtomicInteger();
+
+  private WireMockServer wireMockServer;
+  private ServerSocket relaySocket;
+  private ExecutorService relayExecutor;
+
+  @BeforeEach
+  void startServers() throws IOException {
+    wireMockServer = new WireMockServer(
+        options()
+            .dynamicHttpsPort()
+            .usingFilesUnderDirectory("src/test/resources")
+    );
+    wireMockServer.start();
+    wireMockServer.stubFor(get(urlPathEqualTo(MONITOR_ENDPOINT))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withFixedDelay(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("monitor/verify_that_service_is_accessible_response.json")));
+
+    relaySocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    relayExecutor = Executors.newCachedThreadPool();
+    relayExecutor.execute(this::acceptConnections);
+  }
+
+  @AfterEach
+  void stopServers() throws IOException {
+    relaySocket.close();
+    relayExecutor.shutdownNow();
+    wireMockServer.stop();
+  }
+
+  @Test
+  void test_concurrentAsyncRequestsShareSingleConnection() throws Exception {
+    try (PaysafeClient paysafeClient = buildHttp2PaysafeClient()) {
+      List<CompletableFuture<MonitorResponse>> responses = new ArrayList<>();
+      for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+        responses.add(paysafeClient.monitorService().verifyThatServiceIsAccessibleAsync());
+      }
+      for (CompletableFuture<MonitorResponse> response : responses) {
+        assertEquals(ServiceStatus.READY, response.get().getStatus());
+      }
+    }
+
+    assertEquals(1, acceptedConnections.get());
+    assertAllRequestsUsedHttp2();
+  }
+
+  @Test
+  void test_concurrentBlockingRequestsShareSingleConnection() throws Exception {
+    ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+    try (PaysafeClient paysafeClient = buildHttp2PaysafeClient()) {
+      List<Callable<ServiceStatus>> tasks = new ArrayList<>();
+      for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+        tasks.add(() -> paysafeClient.monitorService().verifyThatServiceIsAccessible().getStatus());
+      }
+      for (Future<ServiceStatus> result : executorService.invokeAll(tasks)) {
+        assertEquals(ServiceStatus.READY, result.get());
+      }
+    } finally {
+      executorService.shutdown();
+    }
+
+    assertEquals(1, acceptedConnections.get());
+    assertAllRequestsUsedHttp2();
+  }
+
+  @Test
+  void test_blockingRequestThrowsMappedException() throws Exception {
+    wireMockServer.stubFor(get(urlPathEqualTo(MONITOR_ENDPOINT))
+        .willReturn(aResponse()
+            .withStatus(401)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("error/401_invalid_credentials_response.json")));
+
+    try (PaysafeClient paysafeClient = buildHttp2PaysafeClient()) {
+      PaysafeSdkException exception = assertThrows(
+          PaysafeSdkException.class,
+          () -> paysafeClient.monitorService().verifyThatServiceIsAccessible()
+      );
+
+      assertInstanceOf(InvalidCredentialsException.class, exception);
+      assertEquals(401, exception.getCode());
+      assertEquals("5279", exception.getError().getCode());
+    }
+  }
+
+  private PaysafeClient buildHttp2PaysafeClient() throws Exception {
+    PaysafeClient paysafeClient = PaysafeClient.builder()
+        .apiKey(API_KEY)
+        .sslContext(createTestSslContext())
+        .http2Enabled(true)
+        .build();
+    paysafeClient.overrideBaseUrl("https://localhost:" + relaySocket.getLocalPort());
+    return paysafeClient;
+  }
+
+  private void assertAllRequestsUsedHttp2() {
+    List<LoggedRequest> requests = wireMockServer.findAll(getRequestedFor(urlPathEqualTo(MONITOR_ENDPOINT)));
+    assertEquals(CONCURRENT_REQUESTS, requests.size());
+    for (LoggedRequest request : requests) {
+      assertEquals("HTTP/2.0", request.getProtocol());
+    }
+  }
+
+  // forwards each accepted connection, byte for byte, to WireMock's https port
+  private void acceptConnections() {
+    while (!relaySocket.isClosed()) {
+      try {
+        Socket client = relaySocket.accept();
+        acceptedConnections.incrementAndGet();
+        Socket server = new Socket(InetAddress.getLoopbackAddress(), wireMockServer.httpsPort());
+        relayExecutor.execute(() -> pipe(client, server));
+        relayExecutor.execute(() -> pipe(server, client));
+      } catch (IOException e) {
+        return;
+      }
+    }
+  }
+
+  private static void pipe(final Socket from, final Socket to) {
+    try (InputStream in = from.getInputStream(); OutputStream out = to.getOutputStream()) {
+      in.transferTo(out);
+    } catch (IOException e) {
+      // connection closed by the other side
+    } finally {
+      try {
+        from.close();
+        to.close();
+      } catch (IOException e) {
+        // already closed
+      }
+    }
+  }
+}
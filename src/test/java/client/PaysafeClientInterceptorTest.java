@@ -0,0 +1,238 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.APPLICATION_JSON;
+import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
+import static com.paysafe.payments.model.common.enums.CurrencyCode.USD;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_INTERCEPTOR_CANNOT_BE_NULL;
+import static config.TestHttpClientProvider.createTestSslContext;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.paysafe.payments.PaysafeClient;
+import com.paysafe.payments.api.InterceptedRequest;
+import com.paysafe.payments.api.PaysafeApiResponse;
+import com.paysafe.payments.api.PaysafeInterceptor;
+import com.paysafe.payments.errorhandling.exception.ApiConnectionException;
+import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
+import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.model.payment.PaymentRequest;
+
+import base.BasePaysafeClientTest;
+
+class PaysafeClientInterceptorTest extends BasePaysafeClientTest {
+
+  public static final String PAYMENT_ENDPOINT = "/paymenthub/v1/payments";
+  public static final String PAYMENT_ID = "3aeb9c63-6386-46a3-9f8e-f452e722228a";
+
+  private final List<String> events = new CopyOnWriteArrayList<>();
+
+  @Test
+  void testInterceptors_areInvokedInOrderAndCanAddHeaders() throws Exception {
+    stubGetPaymentResponse();
+
+    try (PaysafeClient client = buildClient(new RecordingInterceptor("first"), new RecordingInterceptor("second"))) {
+      client.paymentService().getPaymentById(PAYMENT_ID);
+    }
+
+    assertEquals(List.of(
+        "first beforeSend GET /v1/payments/{id}",
+        "second beforeSend GET /v1/payments/{id}",
+        "second afterReceive 200",
+        "first afterReceive 200"), events);
+    WireMock.verify(1, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+        .withHeader("X-Trace-first", equalTo("trace-first"))
+        .withHeader("X-Trace-second", equalTo("trace-second")));
+  }
+
+  @Test
+  void testInterceptors_seeRequestBodySizeAndResponse() throws Exception {
+    stubFor(post(urlPathEqualTo(PAYMENT_ENDPOINT))
+        .willReturn(aResponse()
+            .withStatus(201)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("payment/process_payment_card_without_settlement_response.json")));
+    List<Long> requestBodySizes = new CopyOnWriteArrayList<>();
+    List<PaysafeApiResponse> responses = new CopyOnWriteArrayList<>();
+
+    try (PaysafeClient client = buildClient(new PaysafeInterceptor() {
+      @Override
+      public void afterReceive(final InterceptedRequest request, final PaysafeApiResponse response) {
+        requestBodySizes.add(request.getRequestBodySize());
+        responses.add(response);
+      }
+    })) {
+      client.paymentService().processPayment(PaymentRequest.builder()
+          .merchantRefNum("merchantRefNum-145")
+          .amount(500)
+          .currencyCode(USD)
+          .paymentHandleToken("SCBHhfmG0H8W8Xvp")
+          .build());
+    }
+
+    assertTrue(requestBodySizes.get(0) > 0);
+    assertEquals(201, responses.get(0).getHttpStatusCode());
+  }
+
+  @Test
+  void testInterceptors_shareAttributesBetweenCallbacks() throws Exception {
+    stubGetPaymentResponse();
+    List<Object> attributes = new CopyOnWriteArrayList<>();
+
+    try (PaysafeClient client = buildClient(new PaysafeInterceptor() {
+      @Override
+      public void beforeSend(final InterceptedRequest request) {
+        request.setAttribute("startTime", 42L);
+      }
+
+      @Override
+      public void afterReceive(final InterceptedRequest request, final PaysafeApiResponse response) {
+        attributes.add(request.getAttribute("startTime"));
+      }
+    })) {
+      client.paymentService().getPaymentById(PAYMENT_ID);
+    }
+
+    assertEquals(List.of(42L), attributes);
+  }
+
+  @Test
+  void testInterceptors_onErrorIsInvokedOnceAfterRetries() throws Exception {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+        .willReturn(aResponse().withFault(Fault.EMPTY_RESPONSE)));
+
+    ApiConnectionException exception;
+    try (PaysafeClient client = buildClient(new RecordingInterceptor("first"))) {
+      exception = assertThrows(ApiConnectionException.class, () -> client.paymentService().getPaymentById(PAYMENT_ID));
+    }
+
+    WireMock.verify(3, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+    assertEquals(List.of("first beforeSend GET /v1/payments/{id}", "first onError " + exception.getMessage()), events);
+  }
+
+  @Test
+  void testInterceptorsAsync_areInvokedOnCompletion() throws Exception {
+    stubGetPaymentResponse();
+
+    try (PaysafeClient client = buildClient(new RecordingInterceptor("first"))) {
+      client.paymentService().getPaymentByIdAsync(PAYMENT_ID).get();
+    }
+
+    assertEquals(List.of("first beforeSend GET /v1/payments/{id}", "first afterReceive 200"), events);
+    WireMock.verify(1, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+        .withHeader("X-Trace-first", equalTo("trace-first")));
+  }
+
+  @Test
+  void testBeforeSendException_abortsRequest() throws Exception {
+    stubGetPaymentResponse();
+    IllegalStateException failure = new IllegalStateException("tracing unavailable");
+    PaysafeInterceptor failingInterceptor = new PaysafeInterceptor() {
+      @Override
+      public void beforeSend(final InterceptedRequest request) {
+        throw failure;
+      }
+    };
+
+    try (PaysafeClient client = buildClient(failingInterceptor)) {
+      assertSame(failure, assertThrows(IllegalStateException.class, () -> client.paymentService().getPaymentById(PAYMENT_ID)));
+      ExecutionException executionException = assertThrows(ExecutionException.class,
+          () -> client.paymentService().getPaymentByIdAsync(PAYMENT_ID).get());
+      assertInstanceOf(IllegalStateException.class, executionException.getCause());
+    }
+
+    WireMock.verify(0, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  @Test
+  void testAfterReceiveException_isIgnored() throws Exception {
+    stubGetPaymentResponse();
+
+    try (PaysafeClient client = buildClient(new PaysafeInterceptor() {
+      @Override
+      public void afterReceive(final InterceptedRequest request, final PaysafeApiResponse response) {
+        throw new IllegalStateException("logging failure");
+      }
+    })) {
+      assertEquals(PAYMENT_ID, client.paymentService().getPaymentById(PAYMENT_ID).getId());
+    }
+  }
+
+  @Test
+  void testBuild_throwsExceptionOnNullInterceptor() {
+    IllegalArgumentException exception = assertThrows(
+        IllegalArgumentException.class,
+        () -> PaysafeClient.builder()
+            .apiKey(API_KEY)
+            .addInterceptor(null)
+            .build()
+    );
+
+    assertEquals(MESSAGE_INTERCEPTOR_CANNOT_BE_NULL, exception.getMessage());
+  }
+
+  private static PaysafeClient buildClient(final PaysafeInterceptor... interceptors) throws Exception {
+    PaysafeClient.Builder builder = PaysafeClient.builder()
+        .apiKey(API_KEY)
+        .sslContext(createTestSslContext());
+    for (PaysafeInterceptor interceptor : interceptors) {
+      builder.addInterceptor(interceptor);
+    }
+    PaysafeClient client = builder.build();
+    client.overrideBaseUrl(WIREMOCK_URL);
+    return client;
+  }
+
+  private static void stubGetPaymentResponse() {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("payment/get_payment_by_id_response.json")));
+  }
+
+  private final class RecordingInterceptor implements PaysafeInterceptor {
+
+    private final String name;
+
+    private RecordingInterceptor(final String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void beforeSend(final InterceptedRequest request) {
+      request.setHeader("X-Trace-" + name, "trace-" + name);
+      events.add(name + " beforeSend " + request.getMethod() + " " + request.getEndpoint());
+    }
+
+    @Override
+    public void afterReceive(final InterceptedRequest request, final PaysafeApiResponse response) {
+      events.add(name + " afterReceive " + response.getHttpStatusCode());
+    }
+
+    @Override
+    public void onError(final InterceptedRequest request, final PaysafeSdkException exception) {
+      events.add(name + " onError " + exception.getMessage());
+    }
+  }
+}
@@ -0,0 +1,259 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.APPLICATION_JSON;
+import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
+import static com.paysafe.payments.model.common.enums.CurrencyCode.USD;
+import static config.TestHttpClientProvider.createTestSslContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.paysafe.payments.PaysafeClient;
+import com.paysafe.payments.errorhandling.exception.ApiConnectionException;
+import com.paysafe.payments.errorhandling.exception.UnauthorizedException;
+import com.paysafe.payments.metrics.ConnectionPoolMetrics;
+import com.paysafe.payments.metrics.PaysafeMetricsListener;
+import com.paysafe.payments.metrics.RequestMetrics;
+import com.paysafe.payments.model.payment.Payment;
+import com.paysafe.payments.model.payment.PaymentRequest;
+
+import base.BasePaysafeClientTest;
+
+class PaysafeClientMetricsTest extends BasePaysafeClientTest {
+
+  public static final String PAYMENT_ENDPOINT = "/paymenthub/v1/payments";
+  public static final String PAYMENT_ID = "3aeb9c63-6386-46a3-9f8e-f452e722228a";
+
+  private RecordingMetricsListener metricsListener;
+  private PaysafeClient instrumentedClient;
+
+  @BeforeEach
+  void buildInstrumentedClient() throws Exception {
+    metricsListener = new RecordingMetricsListener();
+    instrumentedClient = PaysafeClient.builder()
+        .apiKey(API_KEY)
+        .sslContext(createTestSslContext())
+        .maxConnectionsPerRoute(10)
+        .metricsListener(metricsListener)
+        .build();
+    instrumentedClient.overrideBaseUrl(WIREMOCK_URL);
+  }
+
+  @AfterEach
+  void closeInstrumentedClient() {
+    instrumentedClient.close();
+  }
+
+  @Test
+  void testGet_reportsRequestMetrics() throws Exception {
+    stubPaymentResponse(200, "payment/get_payment_by_id_response.json");
+
+    instrumentedClient.paymentService().getPaymentById(PAYMENT_ID);
+
+    RequestMetrics requestMetrics = metricsListener.singleRequest();
+    assertEquals("GET", requestMetrics.getMethod());
+    assertEquals("/v1/payments/{id}", requestMetrics.getEndpoint());
+    assertEquals(200, requestMetrics.getHttpStatusCode());
+    assertNull(requestMetrics.getExceptionClass());
+    assertEquals(0, requestMetrics.getRequestBytes());
+    assertTrue(requestMetrics.getResponseBytes() > 0);
+    assertTrue(requestMetrics.getDurationNanos() > 0);
+  }
+
+  @Test
+  void testPost_reportsRequestSize() throws Exception {
+    stubFor(post(urlPathEqualTo(PAYMENT_ENDPOINT))
+        .willReturn(aResponse()
+            .withStatus(201)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("payment/process_payment_card_without_settlement_response.json")));
+
+    instrumentedClient.paymentService().processPayment(PaymentRequest.builder()
+        .merchantRefNum("merchantRefNum-145")
+        .amount(500)
+        .currencyCode(USD)
+        .paymentHandleToken("SCBHhfmG0H8W8Xvp")
+        .build());
+
+    RequestMetrics requestMetrics = metricsListener.singleRequest();
+    assertEquals("POST", requestMetrics.getMethod());
+    assertEquals("/v1/payments", requestMetrics.getEndpoint());
+    assertEquals(201, requestMetrics.getHttpStatusCode());
+    assertTrue(requestMetrics.getRequestBytes() > 0);
+  }
+
+  @Test
+  void testGet_reportsEndpointTemplateWithoutQueryParameters() throws Exception {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("payment/get_payment_using_merchant_ref_number_response.json")));
+    stubFor(get(urlPathEqualTo("/paymenthub/v1/customers/customerId-1/addresses/addressId-1"))
+        .willReturn(aResponse()
+            .withStatus(404)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("error/404_entity_not_found_response.json")));
+
+    instrumentedClient.paymentService().getPaymentsUsingMerchantReferenceNumber("merchantRefNum-145", null, 10, 0, null);
+    assertThrows(Exception.class,
+        () -> instrumentedClient.customerAddressService().getAddressById("customerId-1", "addressId-1"));
+
+    assertEquals("/v1/payments", metricsListener.requests.get(0).getEndpoint());
+    assertEquals("/v1/customers/{id}/addresses/{id}", metricsListener.requests.get(1).getEndpoint());
+    assertEquals(404, metricsListener.requests.get(1).getHttpStatusCode());
+  }
+
+  @Test
+  void testGet_reportsUnsuccessfulStatusCode() {
+    stubPaymentResponse(403, "error/403_unauthorized_response.json");
+
+    assertThrows(UnauthorizedException.class, () -> instrumentedClient.paymentService().getPaymentById(PAYMENT_ID));
+
+    RequestMetrics requestMetrics = metricsListener.singleRequest();
+    assertEquals(403, requestMetrics.getHttpStatusCode());
+    assertNull(requestMetrics.getExceptionClass());
+  }
+
+  @Test
+  void testGet_reportsRetriesAndException() {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+        .willReturn(aResponse().withFault(Fault.EMPTY_RESPONSE)));
+
+    assertThrows(ApiConnectionException.class, () -> instrumentedClient.paymentService().getPaymentById(PAYMENT_ID));
+
+    assertEquals(List.of("GET /v1/payments/{id} 1", "GET /v1/payments/{id} 2"), metricsListener.retries);
+    RequestMetrics requestMetrics = metricsListener.singleRequest();
+    assertNull(requestMetrics.getHttpStatusCode());
+    assertEquals("NoHttpResponseException", requestMetrics.getExceptionClass());
+    assertEquals(-1, requestMetrics.getResponseBytes());
+  }
+
+  @Test
+  void testGetAsync_reportsRequestMetrics() throws Exception {
+    stubPaymentResponse(200, "payment/get_payment_by_id_response.json");
+
+    instrumentedClient.paymentService().getPaymentByIdAsync(PAYMENT_ID).get();
+
+    RequestMetrics requestMetrics = metricsListener.singleRequest();
+    assertEquals("GET", requestMetrics.getMethod());
+    assertEquals("/v1/payments/{id}", requestMetrics.getEndpoint());
+    assertEquals(200, requestMetrics.getHttpStatusCode());
+    assertTrue(requestMetrics.getResponseBytes() > 0);
+  }
+
+  @Test
+  void testGet_reportsExceptionOnceClientIsClosed() {
+    instrumentedClient.close();
+
+    assertThrows(IllegalStateException.class, () -> instrumentedClient.paymentService().getPaymentById(PAYMENT_ID));
+
+    assertEquals("IllegalStateException", metricsListener.singleRequest().getExceptionClass());
+  }
+
+  @Test
+  void testGetAsync_completesExceptionallyOnceClientIsClosed() {
+    instrumentedClient.close();
+
+    CompletableFuture<Payment> payment = instrumentedClient.paymentService().getPaymentByIdAsync(PAYMENT_ID);
+
+    ExecutionException exception = assertThrows(ExecutionException.class, payment::get);
+    assertInstanceOf(ApiConnectionException.class, exception.getCause());
+    assertEquals("IllegalStateException", metricsListener.singleRequest().getExceptionClass());
+  }
+
+  @Test
+  void testBuild_reportsConnectionPools() throws Exception {
+    stubPaymentResponse(200, "payment/get_payment_by_id_response.json");
+    instrumentedClient.paymentService().getPaymentById(PAYMENT_ID);
+
+    ConnectionPoolMetrics blockingPool = metricsListener.connectionPools.get(ConnectionPoolMetrics.BLOCKING_POOL);
+    assertNotNull(blockingPool);
+    assertNull(metricsListener.connectionPools.get(ConnectionPoolMetrics.ASYNC_POOL));
+    assertEquals(50, blockingPool.getMax());
+    assertEquals(0, blockingPool.getLeased());
+    assertEquals(0, blockingPool.getPending());
+    assertEquals(1, blockingPool.getAvailable());
+
+    instrumentedClient.paymentService().getPaymentByIdAsync(PAYMENT_ID).get();
+
+    assertNotNull(metricsListener.connectionPools.get(ConnectionPoolMetrics.ASYNC_POOL));
+  }
+
+  @Test
+  void testListenerException_doesNotFailRequest() throws Exception {
+    stubPaymentResponse(200, "payment/get_payment_by_id_response.json");
+    PaysafeClient clientWithFailingListener = PaysafeClient.builder()
+        .apiKey(API_KEY)
+        .sslContext(createTestSslContext())
+        .metricsListener(new PaysafeMetricsListener() {
+          @Override
+          public void requestCompleted(final RequestMetrics requestMetrics) {
+            throw new IllegalStateException("listener failure");
+          }
+        })
+        .build();
+    clientWithFailingListener.overrideBaseUrl(WIREMOCK_URL);
+
+    try (clientWithFailingListener) {
+      assertEquals(PAYMENT_ID, clientWithFailingListener.paymentService().getPaymentById(PAYMENT_ID).getId());
+    }
+  }
+
+  private static void stubPaymentResponse(final int status, final String bodyFile) {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+        .willReturn(aResponse()
+            .withStatus(status)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile(bodyFile)));
+  }
+
+  private static final class RecordingMetricsListener implements PaysafeMetricsListener {
+
+    private final List<RequestMetrics> requests = new CopyOnWriteArrayList<>();
+    private final List<String> retries = new CopyOnWriteArrayList<>();
+    private final Map<String, ConnectionPoolMetrics> connectionPools = new ConcurrentHashMap<>();
+
+    @Override
+    public void requestCompleted(final RequestMetrics requestMetrics) {
+      requests.add(requestMetrics);
+    }
+
+    @Override
+    public void requestRetried(final String method, final String endpoint, final int retryNumber) {
+      retries.add(method + " " + endpoint + " " + retryNumber);
+    }
+
+    @Override
+    public void connectionPoolCreated(final String poolName, final ConnectionPoolMetrics connectionPool) {
+      connectionPools.put(poolName, connectionPool);
+    }
+
+    private RequestMetrics singleRequest() {
+      assertEquals(1, requests.size());
+      return requests.get(0);
+    }
+  }
+}
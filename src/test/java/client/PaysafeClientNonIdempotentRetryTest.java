@@ -0,0 +1,233 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.APPLICATION_JSON;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
+import static com.paysafe.payments.model.common.enums.CurrencyCode.USD;
+import static config.TestHttpClientProvider.createTestSslContext;
+
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.paysafe.payments.PaysafeClient;
+import com.paysafe.payments.api.NonIdempotentRetryPolicy;
+import com.paysafe.payments.errorhandling.exception.ApiConnectionException;
+import com.paysafe.payments.errorhandling.exception.ApiException;
+import com.paysafe.payments.model.payment.PaymentRequest;
+
+import base.BasePaysafeClientTest;
+
+class PaysafeClientNonIdempotentRetryTest extends BasePaysafeClientTest {
+
+  public static final String PAYMENT_ENDPOINT = "/paymenthub/v1/payments";
+  public static final String PAYMENT_ID = "3aeb9c63-6386-46a3-9f8e-f452e722228a";
+  public static final String CREATED_PAYMENT_ID = "612d8958-6a3e-4d70-b432-aac1f38de671";
+  public static final String MERCHANT_REF_NUM = "merchantRefNum-145";
+  public static final String LOOKUP_URL = PAYMENT_ENDPOINT + "?merchantRefNum=" + MERCHANT_REF_NUM;
+  public static final String RECOVERED = "recovered";
+
+  @Test
+  void testGet_retriedOnServiceUnavailableWithRetryAfter() throws Exception {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+        .inScenario("get").whenScenarioStateIs(STARTED)
+        .willReturn(errorResponse(503).withHeader("Retry-After", "1"))
+        .willSetStateTo(RECOVERED));
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+        .inScenario("get").whenScenarioStateIs(RECOVERED)
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("payment/get_payment_by_id_response.json")));
+
+    long startTime = System.nanoTime();
+    assertEquals(PAYMENT_ID, paysafeClient.paymentService().getPaymentById(PAYMENT_ID).getId());
+
+    assertTrue(System.nanoTime() - startTime >= 1_000_000_000L);
+    WireMock.verify(2, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  @Test
+  void testGet_notRetriedWhenRetryAfterIsTooLong() {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+        .willReturn(errorResponse(503).withHeader("Retry-After", "120")));
+
+    ApiException exception = assertThrows(ApiException.class, () -> paysafeClient.paymentService().getPaymentById(PAYMENT_ID));
+
+    assertEquals(503, exception.getCode());
+    WireMock.verify(1, getRequestedFor(urlEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  @Test
+  void testPost_notRetriedByDefault() {
+    stubFor(post(urlPathEqualTo(PAYMENT_ENDPOINT))
+        .willReturn(aResponse().withFault(Fault.EMPTY_RESPONSE)));
+
+    assertThrows(ApiConnectionException.class,
+        () -> paysafeClient.paymentService().processPayment(buildPaymentRequest(true)));
+
+    WireMock.verify(1, postRequestedFor(urlEqualTo(PAYMENT_ENDPOINT)));
+  }
+
+  @Test
+  void testPostWithDupCheck_retriedOnConnectionFault() throws Exception {
+    stubPaymentAfterFirstResponse(aResponse().withFault(Fault.EMPTY_RESPONSE));
+
+    try (PaysafeClient client = buildClient(NonIdempotentRetryPolicy.DUP_CHECK)) {
+      assertEquals(CREATED_PAYMENT_ID, client.paymentService().processPayment(buildPaymentRequest(true)).getId());
+    }
+
+    WireMock.verify(2, postRequestedFor(urlEqualTo(PAYMENT_ENDPOINT)));
+  }
+
+  @Test
+  void testPostWithDupCheck_retriedOnTooManyRequests() throws Exception {
+    stubPaymentAfterFirstResponse(errorResponse(429).withHeader("Retry-After", "0"));
+
+    try (PaysafeClient client = buildClient(NonIdempotentRetryPolicy.DUP_CHECK)) {
+      assertEquals(CREATED_PAYMENT_ID, client.paymentService().processPaymentAsync(buildPaymentRequest(true)).get().getId());
+    }
+
+    WireMock.verify(2, postRequestedFor(urlEqualTo(PAYMENT_ENDPOINT)));
+  }
+
+  @Test
+  void testPostWithoutDupCheck_notRetriedWithDupCheckPolicy() throws Exception {
+    stubFor(post(urlPathEqualTo(PAYMENT_ENDPOINT))
+        .willReturn(aResponse().withFault(Fault.EMPTY_RESPONSE)));
+
+    try (PaysafeClient client = buildClient(NonIdempotentRetryPolicy.DUP_CHECK)) {
+      assertThrows(ApiConnectionException.class, () -> client.paymentService().processPayment(buildPaymentRequest(false)));
+    }
+
+    WireMock.verify(1, postRequestedFor(urlEqualTo(PAYMENT_ENDPOINT)));
+    WireMock.verify(0, getRequestedFor(urlEqualTo(LOOKUP_URL)));
+  }
+
+  @Test
+  void testPostWithoutDupCheck_retriedWhenLookupFindsNoTransaction() throws Exception {
+    stubPaymentAfterFirstResponse(aResponse().withFault(Fault.EMPTY_RESPONSE));
+    stubEmptyLookup();
+
+    try (PaysafeClient client = buildClient(NonIdempotentRetryPolicy.DUP_CHECK_OR_RECONCILE)) {
+      assertEquals(CREATED_PAYMENT_ID, client.paymentService().processPayment(buildPaymentRequest(false)).getId());
+    }
+
+    WireMock.verify(2, postRequestedFor(urlEqualTo(PAYMENT_ENDPOINT)));
+    WireMock.verify(1, getRequestedFor(urlEqualTo(LOOKUP_URL)));
+  }
+
+  @Test
+  void testPostWithoutDupCheck_notRetriedWhenLookupFindsTransaction() throws Exception {
+    stubFor(post(urlPathEqualTo(PAYMENT_ENDPOINT))
+        .willReturn(errorResponse(503)));
+    stubFor(get(urlEqualTo(LOOKUP_URL))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("payment/get_payment_using_merchant_ref_number_response.json")));
+
+    try (PaysafeClient client = buildClient(NonIdempotentRetryPolicy.DUP_CHECK_OR_RECONCILE)) {
+      ApiException exception = assertThrows(ApiException.class,
+          () -> client.paymentService().processPayment(buildPaymentRequest(false)));
+      assertEquals(503, exception.getCode());
+    }
+
+    WireMock.verify(1, postRequestedFor(urlEqualTo(PAYMENT_ENDPOINT)));
+    WireMock.verify(1, getRequestedFor(urlEqualTo(LOOKUP_URL)));
+  }
+
+  @Test
+  void testPostWithoutDupCheckAsync_retriedWhenLookupFindsNoTransaction() throws Exception {
+    stubPaymentAfterFirstResponse(aResponse().withFault(Fault.EMPTY_RESPONSE));
+    stubEmptyLookup();
+
+    try (PaysafeClient client = buildClient(NonIdempotentRetryPolicy.DUP_CHECK_OR_RECONCILE)) {
+      assertEquals(CREATED_PAYMENT_ID, client.paymentService().processPaymentAsync(buildPaymentRequest(false)).get().getId());
+    }
+
+    WireMock.verify(2, postRequestedFor(urlEqualTo(PAYMENT_ENDPOINT)));
+    WireMock.verify(1, getRequestedFor(urlEqualTo(LOOKUP_URL)));
+  }
+
+  @Test
+  void testPostWithoutDupCheckAsync_stopsAfterMaxAutomaticRetries() throws Exception {
+    stubFor(post(urlPathEqualTo(PAYMENT_ENDPOINT))
+        .willReturn(aResponse().withFault(Fault.EMPTY_RESPONSE)));
+    stubEmptyLookup();
+
+    try (PaysafeClient client = buildClient(NonIdempotentRetryPolicy.DUP_CHECK_OR_RECONCILE)) {
+      ExecutionException exception = assertThrows(ExecutionException.class,
+          () -> client.paymentService().processPaymentAsync(buildPaymentRequest(false)).get());
+      assertInstanceOf(ApiConnectionException.class, exception.getCause());
+    }
+
+    WireMock.verify(3, postRequestedFor(urlEqualTo(PAYMENT_ENDPOINT)));
+    WireMock.verify(2, getRequestedFor(urlEqualTo(LOOKUP_URL)));
+  }
+
+  private static PaysafeClient buildClient(final NonIdempotentRetryPolicy nonIdempotentRetryPolicy) throws Exception {
+    PaysafeClient client = PaysafeClient.builder()
+        .apiKey(API_KEY)
+        .sslContext(createTestSslContext())
+        .nonIdempotentRetryPolicy(nonIdempotentRetryPolicy)
+        .build();
+    client.overrideBaseUrl(WIREMOCK_URL);
+    return client;
+  }
+
+  private static PaymentRequest buildPaymentRequest(final boolean dupCheck) {
+    return PaymentRequest.builder()
+        .merchantRefNum(MERCHANT_REF_NUM)
+        .amount(500)
+        .currencyCode(USD)
+        .paymentHandleToken("SCBHhfmG0H8W8Xvp")
+        .dupCheck(dupCheck)
+        .build();
+  }
+
+  private static ResponseDefinitionBuilder errorResponse(final int status) {
+    return aResponse()
+        .withStatus(status)
+        .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+        .withBodyFile("error/500_internal_server_error_response.json");
+  }
+
+  private static void stubPaymentAfterFirstResponse(final ResponseDefinitionBuilder firstResponse) {
+    stubFor(post(urlPathEqualTo(PAYMENT_ENDPOINT))
+        .inScenario("post").whenScenarioStateIs(STARTED)
+        .willReturn(firstResponse)
+        .willSetStateTo(RECOVERED));
+    stubFor(post(urlPathEqualTo(PAYMENT_ENDPOINT))
+        .inScenario("post").whenScenarioStateIs(RECOVERED)
+        .willReturn(aResponse()
+            .withStatus(201)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("payment/process_payment_card_without_settlement_response.json")));
+  }
+
+  private static void stubEmptyLookup() {
+    stubFor(get(urlEqualTo(LOOKUP_URL))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBody("{\"meta\": {\"numberOfRecords\": 0, \"limit\": 10, \"page\": 1}, \"payments\": []}")));
+  }
+}
@@ -0,0 +1,124 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.APPLICATION_JSON;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
+import static config.TestHttpClientProvider.createTestSslContext;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.paysafe.payments.PaysafeClient;
+import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
+import com.paysafe.payments.model.paymenthandle.PaymentHandle;
+
+import base.BasePaysafeClientTest;
+
+class PaysafeClientPaymentHandleWatcherTest extends BasePaysafeClientTest {
+
+  public static final String PAYMENT_HANDLE_ENDPOINT = "/paymenthub/v1/paymenthandles";
+  public static final String PAYMENT_HANDLE_ID = "b5c30668-5724-4499-9b9a-c326c943d31c";
+  public static final String PROCESSING = "processing";
+
+  @Test
+  void testPaymentHandleWatcher_completesOncePaymentHandleIsPayable() throws Exception {
+    stubFor(get(urlPathEqualTo(PAYMENT_HANDLE_ENDPOINT + "/" + PAYMENT_HANDLE_ID))
+        .inScenario("watch").whenScenarioStateIs(STARTED)
+        .willSetStateTo(PROCESSING)
+        .willReturn(paymentHandleResponse("PROCESSING")));
+    stubFor(get(urlPathEqualTo(PAYMENT_HANDLE_ENDPOINT + "/" + PAYMENT_HANDLE_ID))
+        .inScenario("watch").whenScenarioStateIs(PROCESSING)
+        .willReturn(paymentHandleResponse("PAYABLE")));
+
+    try (PaysafeClient client = buildClient()) {
+      PaymentHandle paymentHandle = client.paymentHandleWatcher().watch(PaymentHandle.builder()
+          .id(PAYMENT_HANDLE_ID)
+          .status("INITIATED")
+          .timeToLiveSeconds(60)
+          .build()).get(10, TimeUnit.SECONDS);
+
+      assertEquals("PAYABLE", paymentHandle.getStatus());
+    }
+
+    WireMock.verify(2, getRequestedFor(urlPathEqualTo(PAYMENT_HANDLE_ENDPOINT + "/" + PAYMENT_HANDLE_ID)));
+  }
+
+  @Test
+  void testPaymentHandleWatcher_stopsPollingOnceTimeToLiveElapses() throws Exception {
+    stubFor(get(urlPathEqualTo(PAYMENT_HANDLE_ENDPOINT + "/" + PAYMENT_HANDLE_ID))
+        .willReturn(paymentHandleResponse("INITIATED")));
+
+    try (PaysafeClient client = buildClient()) {
+      long startTime = System.nanoTime();
+      PaymentHandle paymentHandle = client.paymentHandleWatcher().watch(PAYMENT_HANDLE_ID, 2).get(10, TimeUnit.SECONDS);
+
+      assertEquals("INITIATED", paymentHandle.getStatus());
+      assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) >= 2000);
+      Thread.sleep(1500);
+    }
+
+    // polled after 1 second, and once time to live elapsed, before the interval of 1.5 seconds
+    WireMock.verify(2, getRequestedFor(urlPathEqualTo(PAYMENT_HANDLE_ENDPOINT + "/" + PAYMENT_HANDLE_ID)));
+  }
+
+  @Test
+  void testPaymentHandleWatcher_completesExceptionallyOnUnknownPaymentHandle() throws Exception {
+    stubFor(get(urlPathEqualTo(PAYMENT_HANDLE_ENDPOINT + "/" + PAYMENT_HANDLE_ID))
+        .willReturn(aResponse()
+            .withStatus(404)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("error/404_entity_not_found_response.json")));
+
+    try (PaysafeClient client = buildClient()) {
+      ExecutionException exception = assertThrows(ExecutionException.class,
+          () -> client.paymentHandleWatcher().watch(PAYMENT_HANDLE_ID, 60).get(10, TimeUnit.SECONDS));
+
+      assertInstanceOf(PaysafeSdkException.class, exception.getCause());
+      assertEquals(404, ((PaysafeSdkException) exception.getCause()).getCode());
+    }
+  }
+
+  @Test
+  void testPaymentHandleWatcher_cancelsWatchesOnceClientIsClosed() throws Exception {
+    CompletableFuture<PaymentHandle> paymentHandle;
+    try (PaysafeClient client = buildClient()) {
+      paymentHandle = client.paymentHandleWatcher().watch(PAYMENT_HANDLE_ID, 60);
+    }
+
+    assertThrows(CancellationException.class, paymentHandle::join);
+    WireMock.verify(0, getRequestedFor(urlPathEqualTo(PAYMENT_HANDLE_ENDPOINT + "/" + PAYMENT_HANDLE_ID)));
+  }
+
+  private static PaysafeClient buildClient() throws Exception {
+    PaysafeClient client = PaysafeClient.builder()
+        .apiKey(API_KEY)
+        .sslContext(createTestSslContext())
+        .build();
+    client.overrideBaseUrl(WIREMOCK_URL);
+    return client;
+  }
+
+  private static ResponseDefinitionBuilder paymentHandleResponse(final String status) {
+    return aResponse()
+        .withStatus(200)
+        .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+        .withBody("{\"id\": \"" + PAYMENT_HANDLE_ID + "\", \"status\": \"" + status + "\"}");
+  }
+}
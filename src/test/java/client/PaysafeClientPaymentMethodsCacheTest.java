@@ -0,0 +1,208 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.APPLICATION_JSON;
+import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CACHE_STALE_WHILE_REVALIDATE_CANNOT_BE_NEGATIVE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CACHE_TIME_TO_LIVE_MUST_BE_A_POSITIVE_VALUE;
+import static config.TestHttpClientProvider.createTestSslContext;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.paysafe.payments.PaysafeClient;
+import com.paysafe.payments.api.CacheConfig;
+import com.paysafe.payments.api.InterceptedRequest;
+import com.paysafe.payments.api.PaysafeInterceptor;
+import com.paysafe.payments.errorhandling.exception.ApiException;
+import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
+import com.paysafe.payments.metrics.ConnectionPoolMetrics;
+import com.paysafe.payments.metrics.PaysafeMetricsListener;
+import com.paysafe.payments.model.common.enums.CurrencyCode;
+import com.paysafe.payments.model.paymentmethod.LookUpPaymentMethodsResponse;
+
+import base.BasePaysafeClientTest;
+
+class PaysafeClientPaymentMethodsCacheTest extends BasePaysafeClientTest {
+
+  public static final String PAYMENT_METHODS_ENDPOINT = "/paymenthub/v1/paymentmethods";
+
+  @Test
+  void testPaymentMethodsCache_returnsCachedPaymentMethods() throws Exception {
+    stubPaymentMethodsResponse(200);
+    List<String> cacheAccesses = new CopyOnWriteArrayList<>();
+    PaysafeMetricsListener metricsListener = new PaysafeMetricsListener() {
+      @Override
+      public void cacheAccessed(final String cacheName, final boolean hit) {
+        cacheAccesses.add(cacheName + (hit ? " hit" : " miss"));
+      }
+    };
+
+    try (PaysafeClient client = buildClient(CacheConfig.builder().build(), metricsListener)) {
+      LookUpPaymentMethodsResponse first = client.lookUpPaymentMethodsService().lookUpPaymentMethods(CurrencyCode.USD);
+      LookUpPaymentMethodsResponse second = client.lookUpPaymentMethodsService().lookUpPaymentMethodsAsync(CurrencyCode.USD).get();
+
+      assertEquals(2, first.getPaymentMethods().size());
+      assertEquals(first, second);
+    }
+
+    WireMock.verify(1, getRequestedFor(urlPathEqualTo(PAYMENT_METHODS_ENDPOINT)));
+    assertEquals(List.of("paymentmethods miss", "paymentmethods hit"), cacheAccesses);
+  }
+
+  @Test
+  void testPaymentMethodsCache_returnsNewInstanceOfCachedPaymentMethods() throws Exception {
+    stubPaymentMethodsResponse(200);
+
+    try (PaysafeClient client = buildClient(CacheConfig.builder().build(), null)) {
+      client.lookUpPaymentMethodsService().lookUpPaymentMethods(CurrencyCode.USD).getPaymentMethods().clear();
+      LookUpPaymentMethodsResponse second = client.lookUpPaymentMethodsService().lookUpPaymentMethods(CurrencyCode.USD);
+
+      assertEquals(2, second.getPaymentMethods().size());
+    }
+
+    WireMock.verify(1, getRequestedFor(urlPathEqualTo(PAYMENT_METHODS_ENDPOINT)));
+  }
+
+  @Test
+  void testPaymentMethodsCache_refreshesStalePaymentMethodsInBackground() throws Exception {
+    stubPaymentMethodsResponse(200);
+
+    try (PaysafeClient client = buildClient(CacheConfig.builder().timeToLive(200).staleWhileRevalidate(10000).build(), null)) {
+      client.lookUpPaymentMethodsService().lookUpPaymentMethods(CurrencyCode.USD);
+      Thread.sleep(300);
+
+      client.lookUpPaymentMethodsService().lookUpPaymentMethods(CurrencyCode.USD);
+      Thread.sleep(200);
+      client.lookUpPaymentMethodsService().lookUpPaymentMethods(CurrencyCode.USD);
+    }
+
+    WireMock.verify(2, getRequestedFor(urlPathEqualTo(PAYMENT_METHODS_ENDPOINT)));
+  }
+
+  @Test
+  void testPaymentMethodsCache_blockingLookupsDoNotCreateAsyncPool() throws Exception {
+    stubPaymentMethodsResponse(200);
+    List<String> connectionPools = new CopyOnWriteArrayList<>();
+    PaysafeMetricsListener metricsListener = new PaysafeMetricsListener() {
+      @Override
+      public void connectionPoolCreated(final String poolName, final ConnectionPoolMetrics connectionPool) {
+        connectionPools.add(poolName);
+      }
+    };
+
+    try (PaysafeClient client = buildClient(CacheConfig.builder().timeToLive(100).staleWhileRevalidate(10000).build(),
+        metricsListener)) {
+      client.lookUpPaymentMethodsService().lookUpPaymentMethods(CurrencyCode.USD);
+      Thread.sleep(200);
+      // refreshed in background
+      client.lookUpPaymentMethodsService().lookUpPaymentMethods(CurrencyCode.USD);
+      Thread.sleep(200);
+    }
+
+    WireMock.verify(2, getRequestedFor(urlPathEqualTo(PAYMENT_METHODS_ENDPOINT)));
+    assertEquals(List.of(ConnectionPoolMetrics.BLOCKING_POOL), connectionPools);
+  }
+
+  @Test
+  void testPaymentMethodsCache_looksUpPaymentMethodsAgainOnceExpired() throws Exception {
+    stubPaymentMethodsResponse(200);
+
+    try (PaysafeClient client = buildClient(CacheConfig.builder().timeToLive(100).staleWhileRevalidate(0).build(), null)) {
+      client.lookUpPaymentMethodsService().lookUpPaymentMethods(CurrencyCode.USD);
+      Thread.sleep(200);
+      client.lookUpPaymentMethodsService().lookUpPaymentMethods(CurrencyCode.USD);
+      client.lookUpPaymentMethodsService().lookUpPaymentMethods(CurrencyCode.EUR);
+    }
+
+    WireMock.verify(2, getRequestedFor(urlPathEqualTo(PAYMENT_METHODS_ENDPOINT))
+        .withQueryParam("currencyCode", equalTo("USD")));
+    WireMock.verify(1, getRequestedFor(urlPathEqualTo(PAYMENT_METHODS_ENDPOINT))
+        .withQueryParam("currencyCode", equalTo("EUR")));
+  }
+
+  @Test
+  void testPaymentMethodsCache_doesNotCacheFailures() throws Exception {
+    stubPaymentMethodsResponse(500);
+
+    try (PaysafeClient client = buildClient(CacheConfig.builder().build(), null)) {
+      assertThrows(ApiException.class, () -> client.lookUpPaymentMethodsService().lookUpPaymentMethods(CurrencyCode.USD));
+      assertThrows(ApiException.class, () -> client.lookUpPaymentMethodsService().lookUpPaymentMethods(CurrencyCode.USD));
+    }
+
+    WireMock.verify(2, getRequestedFor(urlPathEqualTo(PAYMENT_METHODS_ENDPOINT)));
+  }
+
+  @Test
+  void testPaymentMethodsCache_looksUpWarmUpCurrenciesOnceClientIsBuilt() throws Exception {
+    List<String> requestedUris = new CopyOnWriteArrayList<>();
+    PaysafeInterceptor interceptor = new PaysafeInterceptor() {
+      @Override
+      public void beforeSend(final InterceptedRequest request) {
+        requestedUris.add(request.getUri().getRawQuery());
+        // requests are aborted, as base url cannot be overridden before the client is built
+        throw new IllegalStateException("aborted");
+      }
+    };
+
+    PaysafeClient client = PaysafeClient.builder()
+        .apiKey(API_KEY)
+        .sslContext(createTestSslContext())
+        .paymentMethodsWarmUpCurrencies(List.of(CurrencyCode.USD, CurrencyCode.EUR))
+        .addInterceptor(interceptor)
+        .build();
+    try {
+      for (int i = 0; i < 50 && requestedUris.size() < 2; i++) {
+        Thread.sleep(10);
+      }
+    } finally {
+      client.close();
+    }
+
+    assertEquals(List.of("currencyCode=USD", "currencyCode=EUR"), requestedUris);
+  }
+
+  @Test
+  void testCacheConfig_throwsExceptionOnInvalidValues() {
+    IllegalArgumentException timeToLiveException = assertThrows(IllegalArgumentException.class,
+        () -> CacheConfig.builder().timeToLive(0).build());
+    IllegalArgumentException staleWhileRevalidateException = assertThrows(IllegalArgumentException.class,
+        () -> CacheConfig.builder().staleWhileRevalidate(-1).build());
+
+    assertEquals(MESSAGE_CACHE_TIME_TO_LIVE_MUST_BE_A_POSITIVE_VALUE, timeToLiveException.getMessage());
+    assertEquals(MESSAGE_CACHE_STALE_WHILE_REVALIDATE_CANNOT_BE_NEGATIVE, staleWhileRevalidateException.getMessage());
+  }
+
+  private static PaysafeClient buildClient(final CacheConfig cacheConfig, final PaysafeMetricsListener metricsListener)
+      throws Exception {
+    PaysafeClient client = PaysafeClient.builder()
+        .apiKey(API_KEY)
+        .sslContext(createTestSslContext())
+        .paymentMethodsCacheConfig(cacheConfig)
+        .metricsListener(metricsListener)
+        .build();
+    client.overrideBaseUrl(WIREMOCK_URL);
+    return client;
+  }
+
+  private static void stubPaymentMethodsResponse(final int status) {
+    stubFor(get(urlPathEqualTo(PAYMENT_METHODS_ENDPOINT))
+        .willReturn(aResponse()
+            .withStatus(status)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile(status == 200 ? "payment_methods/payment_methods_response.json"
+                : "error/500_internal_server_error_response.json")));
+  }
+}
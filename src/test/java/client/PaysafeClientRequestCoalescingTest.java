@@ -0,0 +1,137 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.APPLICATION_JSON;
+import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
+import static config.TestHttpClientProvider.createTestSslContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.paysafe.payments.PaysafeClient;
+import com.paysafe.payments.api.RequestOptions;
+import com.paysafe.payments.metrics.PaysafeMetricsListener;
+import com.paysafe.payments.model.payment.Payment;
+
+import base.BasePaysafeClientTest;
+
+class PaysafeClientRequestCoalescingTest extends BasePaysafeClientTest {
+
+  public static final String PAYMENT_ENDPOINT = "/paymenthub/v1/payments";
+  public static final String PAYMENT_ID = "3aeb9c63-6386-46a3-9f8e-f452e722228a";
+  public static final int CALLERS = 5;
+
+  @Test
+  void testRequestCoalescing_sharesResponseOfConcurrentBlockingRequests() throws Exception {
+    stubPaymentResponse(1000);
+    List<String> coalescedEndpoints = new CopyOnWriteArrayList<>();
+    PaysafeMetricsListener metricsListener = new PaysafeMetricsListener() {
+      @Override
+      public void requestCoalesced(final String method, final String endpoint) {
+        coalescedEndpoints.add(method + " " + endpoint);
+      }
+    };
+
+    List<Payment> payments = new ArrayList<>();
+    ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    try (PaysafeClient client = buildClient(metricsListener)) {
+      List<Future<Payment>> futures = new ArrayList<>();
+      for (int i = 0; i < CALLERS; i++) {
+        futures.add(executor.submit(() -> client.paymentService().getPaymentById(PAYMENT_ID)));
+      }
+      for (Future<Payment> future : futures) {
+        payments.add(future.get(10, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    WireMock.verify(1, getRequestedFor(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+    assertEquals(CALLERS - 1, coalescedEndpoints.size());
+    assertEquals("GET /v1/payments/{id}", coalescedEndpoints.get(0));
+    for (Payment payment : payments) {
+      assertEquals(PAYMENT_ID, payment.getId());
+    }
+    assertNotSame(payments.get(0), payments.get(1));
+  }
+
+  @Test
+  void testRequestCoalescing_doesNotShareResponseOfCompletedRequest() throws Exception {
+    stubPaymentResponse(0);
+
+    try (PaysafeClient client = buildClient(null)) {
+      client.paymentService().getPaymentById(PAYMENT_ID);
+      client.paymentService().getPaymentByIdAsync(PAYMENT_ID).get(10, TimeUnit.SECONDS);
+    }
+
+    WireMock.verify(2, getRequestedFor(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  @Test
+  void testRequestCoalescing_doesNotShareResponseOfRequestWithOtherOptions() throws Exception {
+    stubPaymentResponse(500);
+
+    try (PaysafeClient client = buildClient(null)) {
+      CompletableFuture<Payment> first = client.paymentService().getPaymentByIdAsync(PAYMENT_ID);
+      CompletableFuture<Payment> second = client.paymentService().getPaymentByIdAsync(PAYMENT_ID,
+          RequestOptions.builder().responseTimeout(5000).build());
+
+      assertEquals(PAYMENT_ID, first.get(10, TimeUnit.SECONDS).getId());
+      assertEquals(PAYMENT_ID, second.get(10, TimeUnit.SECONDS).getId());
+    }
+
+    WireMock.verify(2, getRequestedFor(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  @Test
+  void testRequestCoalescing_keepsSharedRequestWhileOtherCallersWait() throws Exception {
+    stubPaymentResponse(500);
+
+    try (PaysafeClient client = buildClient(null)) {
+      CompletableFuture<Payment> first = client.paymentService().getPaymentByIdAsync(PAYMENT_ID);
+      CompletableFuture<Payment> second = client.paymentService().getPaymentByIdAsync(PAYMENT_ID);
+      first.cancel(true);
+
+      assertEquals(PAYMENT_ID, second.get(10, TimeUnit.SECONDS).getId());
+    }
+
+    WireMock.verify(1, getRequestedFor(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  private static PaysafeClient buildClient(final PaysafeMetricsListener metricsListener) throws Exception {
+    PaysafeClient client = PaysafeClient.builder()
+        .apiKey(API_KEY)
+        .sslContext(createTestSslContext())
+        .requestCoalescingEnabled(true)
+        .metricsListener(metricsListener)
+        .build();
+    client.overrideBaseUrl(WIREMOCK_URL);
+    return client;
+  }
+
+  private static void stubPaymentResponse(final int fixedDelay) {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withFixedDelay(fixedDelay)
+            .withBodyFile("payment/get_payment_by_id_response.json")));
+  }
+}
@@ -0,0 +1,156 @@
+// All Rights Reserved, Copyright © Paysafe Holdings UK Limited 2025. For more information see LICENSE
+
+package client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.APPLICATION_JSON;
+import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CACHE_MAXIMUM_SIZE_MUST_BE_A_POSITIVE_VALUE;
+import static config.TestHttpClientProvider.createTestSslContext;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.paysafe.payments.PaysafeClient;
+import com.paysafe.payments.api.TransactionCacheConfig;
+import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
+import com.paysafe.payments.metrics.ConnectionPoolMetrics;
+import com.paysafe.payments.metrics.PaysafeMetricsListener;
+import com.paysafe.payments.model.payment.Payment;
+import com.paysafe.payments.model.payment.enums.PaymentRequestStatus;
+import com.paysafe.payments.model.voidauthorization.VoidAuthorization;
+
+import base.BasePaysafeClientTest;
+
+class PaysafeClientTransactionCacheTest extends BasePaysafeClientTest {
+
+  public static final String PAYMENT_ENDPOINT = "/paymenthub/v1/payments";
+  public static final String PAYMENT_ID = "3aeb9c63-6386-46a3-9f8e-f452e722228a";
+  public static final String VOID_AUTHORIZATION_ENDPOINT = "/paymenthub/v1/voidauths";
+  public static final String VOID_AUTHORIZATION_ID = "8b84f316-e120-4948-97f6-c97d5a305ee5";
+
+  @Test
+  void testTransactionCache_returnsCopiesOfCachedTerminalPayment() throws Exception {
+    stubResponse(PAYMENT_ENDPOINT + "/" + PAYMENT_ID, "payment/cancel_payment_response.json");
+
+    try (PaysafeClient client = buildClient(TransactionCacheConfig.builder().build(), null)) {
+      Payment first = client.paymentService().getPaymentById(PAYMENT_ID);
+      first.setStatus(PaymentRequestStatus.COMPLETED);
+      Payment second = client.paymentService().getPaymentByIdAsync(PAYMENT_ID).get();
+
+      assertNotSame(first, second);
+      assertEquals(PAYMENT_ID, second.getId());
+      assertEquals(PaymentRequestStatus.CANCELLED, second.getStatus());
+    }
+
+    WireMock.verify(1, getRequestedFor(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  @Test
+  void testTransactionCache_doesNotCachePaymentWhichMayStillChange() throws Exception {
+    stubResponse(PAYMENT_ENDPOINT + "/" + PAYMENT_ID, "payment/get_payment_by_id_response.json");
+
+    try (PaysafeClient client = buildClient(TransactionCacheConfig.builder().build(), null)) {
+      client.paymentService().getPaymentById(PAYMENT_ID);
+      client.paymentService().getPaymentById(PAYMENT_ID);
+    }
+
+    WireMock.verify(2, getRequestedFor(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  @Test
+  void testTransactionCache_blockingGettersDoNotCreateAsyncPool() throws Exception {
+    stubResponse(PAYMENT_ENDPOINT + "/" + PAYMENT_ID, "payment/cancel_payment_response.json");
+    List<String> connectionPools = new CopyOnWriteArrayList<>();
+    PaysafeMetricsListener metricsListener = new PaysafeMetricsListener() {
+      @Override
+      public void connectionPoolCreated(final String poolName, final ConnectionPoolMetrics connectionPool) {
+        connectionPools.add(poolName);
+      }
+    };
+
+    try (PaysafeClient client = buildClient(TransactionCacheConfig.builder().build(), metricsListener)) {
+      client.paymentService().getPaymentById(PAYMENT_ID);
+      client.paymentService().getPaymentById(PAYMENT_ID);
+    }
+
+    WireMock.verify(1, getRequestedFor(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+    assertEquals(List.of(ConnectionPoolMetrics.BLOCKING_POOL), connectionPools);
+  }
+
+  @Test
+  void testTransactionCache_cachesTransactionsOffHeap() throws Exception {
+    stubResponse(VOID_AUTHORIZATION_ENDPOINT + "/" + VOID_AUTHORIZATION_ID,
+        "void_authorization/get_void_authorization_by_id_response.json");
+    List<String> cacheAccesses = new CopyOnWriteArrayList<>();
+    PaysafeMetricsListener metricsListener = new PaysafeMetricsListener() {
+      @Override
+      public void cacheAccessed(final String cacheName, final boolean hit) {
+        cacheAccesses.add(cacheName + (hit ? " hit" : " miss"));
+      }
+    };
+
+    try (PaysafeClient client = buildClient(TransactionCacheConfig.builder().offHeap(true).build(), metricsListener)) {
+      VoidAuthorization first = client.voidAuthorizationService().getVoidAuthorizationById(VOID_AUTHORIZATION_ID);
+      VoidAuthorization second = client.voidAuthorizationService().getVoidAuthorizationById(VOID_AUTHORIZATION_ID);
+
+      assertEquals(first, second);
+    }
+
+    WireMock.verify(1, getRequestedFor(urlPathEqualTo(VOID_AUTHORIZATION_ENDPOINT + "/" + VOID_AUTHORIZATION_ID)));
+    assertEquals(List.of("transactions miss", "transactions hit"), cacheAccesses);
+  }
+
+  @Test
+  void testTransactionCache_evictsLeastRecentlyUsedTransaction() throws Exception {
+    stubResponse(PAYMENT_ENDPOINT + "/" + PAYMENT_ID, "payment/cancel_payment_response.json");
+    stubResponse(VOID_AUTHORIZATION_ENDPOINT + "/" + VOID_AUTHORIZATION_ID,
+        "void_authorization/get_void_authorization_by_id_response.json");
+
+    try (PaysafeClient client = buildClient(TransactionCacheConfig.builder().maximumSize(1).build(), null)) {
+      client.paymentService().getPaymentById(PAYMENT_ID);
+      client.voidAuthorizationService().getVoidAuthorizationById(VOID_AUTHORIZATION_ID);
+      client.paymentService().getPaymentById(PAYMENT_ID);
+    }
+
+    WireMock.verify(2, getRequestedFor(urlPathEqualTo(PAYMENT_ENDPOINT + "/" + PAYMENT_ID)));
+  }
+
+  @Test
+  void testTransactionCacheConfig_throwsExceptionOnInvalidMaximumSize() {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> TransactionCacheConfig.builder().maximumSize(0).build());
+
+    assertEquals(MESSAGE_CACHE_MAXIMUM_SIZE_MUST_BE_A_POSITIVE_VALUE, exception.getMessage());
+  }
+
+  private static PaysafeClient buildClient(final TransactionCacheConfig transactionCacheConfig,
+      final PaysafeMetricsListener metricsListener) throws Exception {
+    PaysafeClient client = PaysafeClient.builder()
+        .apiKey(API_KEY)
+        .sslContext(createTestSslContext())
+        .transactionCacheConfig(transactionCacheConfig)
+        .metricsListener(metricsListener)
+        .build();
+    client.overrideBaseUrl(WIREMOCK_URL);
+    return client;
+  }
+
+  private static void stubResponse(final String path, final String bodyFile) {
+    stubFor(get(urlPathEqualTo(path))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile(bodyFile)));
+  }
+}
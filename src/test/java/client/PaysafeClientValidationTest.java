@@ -6,11 +6,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_BLANK_API_KEY;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CONNECTION_TIME_TO_LIVE_MUST_BE_A_POSITIVE_VALUE;
 import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_CONNECT_TIMEOUT_MUST_BE_A_POSITIVE_VALUE;
 import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_INVALID_API_KEY_FORMAT;
 import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_MAXIMUM_ALLOWED_NUMBER_OF_MAX_AUTOMATIC_RETRIES;
 import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_MAX_AUTOMATIC_RETRIES_CANNOT_BE_NEGATIVE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_MAX_CONNECTIONS_PER_ROUTE_CANNOT_EXCEED_MAX_CONNECTIONS_TOTAL;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_MAX_CONNECTIONS_PER_ROUTE_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_MAX_CONNECTIONS_TOTAL_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_MAX_IDLE_TIME_MUST_BE_A_POSITIVE_VALUE;
 import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_RESPONSE_TIMEOUT_MUST_BE_A_POSITIVE_VALUE;
+import static com.paysafe.payments.validation.ErrorMessages.MESSAGE_VALIDATE_AFTER_INACTIVITY_MUST_BE_A_POSITIVE_VALUE;
 
 import org.junit.jupiter.api.Test;
 
@@ -127,4 +133,83 @@ public class PaysafeClientValidationTest {
     assertNull(exception.getInternalCorrelationId());
     assertNull(exception.getCode());
   }
+
+  @Test
+  void buildPaysafeClient_nonPositiveMaxConnectionsPerRoute() {
+    IllegalArgumentException exception = assertThrows(
+        IllegalArgumentException.class, () ->
+            PaysafeClient.builder()
+                .apiKey("username:password")
+                .maxConnectionsPerRoute(0)
+                .build()
+    );
+
+    assertEquals(MESSAGE_MAX_CONNECTIONS_PER_ROUTE_MUST_BE_A_POSITIVE_VALUE, exception.getMessage());
+  }
+
+  @Test
+  void buildPaysafeClient_nonPositiveMaxConnectionsTotal() {
+    IllegalArgumentException exception = assertThrows(
+        IllegalArgumentException.class, () ->
+            PaysafeClient.builder()
+                .apiKey("username:password")
+                .maxConnectionsTotal(-1)
+                .build()
+    );
+
+    assertEquals(MESSAGE_MAX_CONNECTIONS_TOTAL_MUST_BE_A_POSITIVE_VALUE, exception.getMessage());
+  }
+
+  @Test
+  void buildPaysafeClient_maxConnectionsPerRouteExceedsMaxConnectionsTotal() {
+    IllegalArgumentException exception = assertThrows(
+        IllegalArgumentException.class, () ->
+            PaysafeClient.builder()
+                .apiKey("username:password")
+                .maxConnectionsPerRoute(100)
+                .maxConnectionsTotal(10)
+                .build()
+    );
+
+    assertEquals(MESSAGE_MAX_CONNECTIONS_PER_ROUTE_CANNOT_EXCEED_MAX_CONNECTIONS_TOTAL, exception.getMessage());
+  }
+
+  @Test
+  void buildPaysafeClient_nonPositiveConnectionTimeToLive() {
+    IllegalArgumentException exception = assertThrows(
+        IllegalArgumentException.class, () ->
+            PaysafeClient.builder()
+                .apiKey("username:password")
+                .connectionTimeToLive(0)
+                .build()
+    );
+
+    assertEquals(MESSAGE_CONNECTION_TIME_TO_LIVE_MUST_BE_A_POSITIVE_VALUE, exception.getMessage());
+  }
+
+  @Test
+  void buildPaysafeClient_nonPositiveValidateAfterInactivity() {
+    IllegalArgumentException exception = assertThrows(
+        IllegalArgumentException.class, () ->
+            PaysafeClient.builder()
+                .apiKey("username:password")
+                .validateAfterInactivity(-1)
+                .build()
+    );
+
+    assertEquals(MESSAGE_VALIDATE_AFTER_INACTIVITY_MUST_BE_A_POSITIVE_VALUE, exception.getMessage());
+  }
+
+  @Test
+  void buildPaysafeClient_nonPositiveMaxIdleTime() {
+    IllegalArgumentException exception = assertThrows(
+        IllegalArgumentException.class, () ->
+            PaysafeClient.builder()
+                .apiKey("username:password")
+                .maxIdleTime(0)
+                .build()
+    );
+
+    assertEquals(MESSAGE_MAX_IDLE_TIME_MUST_BE_A_POSITIVE_VALUE, exception.getMessage());
+  }
 }
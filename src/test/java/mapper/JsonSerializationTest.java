@@ -3,7 +3,12 @@
 package mapper;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -11,10 +16,18 @@ import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import com.paysafe.payments.config.ObjectMapperConfiguration;
+import com.paysafe.payments.model.card.enums.AvsResponse;
+import com.paysafe.payments.model.common.enums.CurrencyCode;
 import com.paysafe.payments.model.customer.Address;
+import com.paysafe.payments.model.customer.enums.Gender;
+import com.paysafe.payments.model.payment.Payment;
+import com.paysafe.payments.model.payment.enums.PaymentRequestStatus;
+import com.paysafe.payments.model.paymenthandle.PaymentHandle;
 import com.paysafe.payments.model.paymenthandle.PaymentHandleRequest;
 import com.paysafe.payments.model.paymenthandle.enums.TransactionType;
 
@@ -59,4 +72,82 @@ public class JsonSerializationTest {
     JsonNode expectedJsonNode = objectMapper.readTree(expectedJson);
     assertEquals(expectedJsonNode, actualJsonNode);
   }
+
+  @Test
+  void testTypedReaderAndWriter_bindSameJsonAsObjectMapper() throws IOException {
+    ObjectMapper objectMapper = ObjectMapperConfiguration.getObjectMapper();
+    byte[] json = readFixture("paymenthandle/create_payment_handle_card_3ds_response.json");
+
+    PaymentHandle paymentHandle = ObjectMapperConfiguration.getObjectReader(PaymentHandle.class).readValue(json);
+
+    assertEquals(objectMapper.readValue(json, PaymentHandle.class), paymentHandle);
+    assertEquals(objectMapper.writeValueAsString(paymentHandle),
+        ObjectMapperConfiguration.getObjectWriter(paymentHandle).writeValueAsString(paymentHandle));
+    assertSame(ObjectMapperConfiguration.getObjectReader(PaymentHandle.class),
+        ObjectMapperConfiguration.getObjectReader(PaymentHandle.class));
+  }
+
+  @Test
+  void testBlackbirdModule_bindsSameJsonAsReflection() throws IOException {
+    ObjectMapper objectMapper = ObjectMapperConfiguration.getObjectMapper();
+    ObjectMapper blackbirdObjectMapper = objectMapper.copy().registerModule(new BlackbirdModule());
+    byte[] json = readFixture("payment/process_payment_card_with_airline_travel_details_response.json");
+
+    Payment payment = blackbirdObjectMapper.readValue(json, Payment.class);
+
+    assertEquals(objectMapper.readValue(json, Payment.class), payment);
+    assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(payment)),
+        objectMapper.readTree(blackbirdObjectMapper.writeValueAsString(payment)));
+  }
+
+  @Test
+  void testEnumLookup_readsValuesIgnoringCase() throws IOException {
+    String json = "{\"status\":\"completed\",\"currencyCode\":\"gbp\"}";
+
+    Payment payment = ObjectMapperConfiguration.getObjectReader(Payment.class).readValue(json);
+
+    assertEquals(PaymentRequestStatus.COMPLETED, payment.getStatus());
+    assertEquals(CurrencyCode.GBP, payment.getCurrencyCode());
+  }
+
+  @Test
+  void testEnumLookup_readsUnknownValuesOnlyIfEnabled() throws IOException {
+    String json = "{\"status\":\"ON_HOLD\",\"currencyCode\":\"XTS\"}";
+
+    assertThrows(JsonMappingException.class,
+        () -> ObjectMapperConfiguration.getObjectReader(Payment.class).readValue(json));
+
+    System.setProperty(ObjectMapperConfiguration.UNKNOWN_ENUM_VALUES_PROPERTY, "true");
+    try {
+      Payment payment = ObjectMapperConfiguration.getObjectReader(Payment.class).readValue(json);
+
+      assertEquals(PaymentRequestStatus.UNKNOWN, payment.getStatus());
+      assertEquals(CurrencyCode.UNKNOWN, payment.getCurrencyCode());
+    } finally {
+      System.clearProperty(ObjectMapperConfiguration.UNKNOWN_ENUM_VALUES_PROPERTY);
+    }
+  }
+
+  @Test
+  void testEnumLookup_doesNotReadUnknownConstantFromItsName() {
+    String json = "{\"status\":\"UNKNOWN\"}";
+
+    assertThrows(JsonMappingException.class,
+        () -> ObjectMapperConfiguration.getObjectReader(Payment.class).readValue(json));
+    assertEquals(AvsResponse.UNKNOWN, AvsResponse.fromValue("UNKNOWN"));
+  }
+
+  @Test
+  void testEnumLookup_failsOnUnknownValuesOfRequestEnums() {
+    System.setProperty(ObjectMapperConfiguration.UNKNOWN_ENUM_VALUES_PROPERTY, "true");
+    try {
+      assertThrows(IllegalArgumentException.class, () -> Gender.fromValue("X"));
+    } finally {
+      System.clearProperty(ObjectMapperConfiguration.UNKNOWN_ENUM_VALUES_PROPERTY);
+    }
+  }
+
+  private static byte[] readFixture(final String path) throws IOException {
+    return Files.readAllBytes(Path.of("src/test/resources/__files", path));
+  }
 }
@@ -5,6 +5,7 @@ package service;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,6 +27,7 @@ import static com.github.tomakehurst.wiremock.common.ContentTypes.APPLICATION_JS
 import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
 
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 
 import org.junit.jupiter.api.Test;
 
@@ -158,6 +160,34 @@ public class CustomerServiceTest extends BasePaysafeClientTest {
     assertEquals("Entity not found", exception.getError().getMessage());
   }
 
+  @Test
+  void testDeleteCustomerAsync_isSuccessful() {
+    stubFor(delete(urlPathEqualTo(String.format("%s/%s", CUSTOMERS_ENDPOINT, CUSTOMER_ID)))
+        .willReturn(aResponse().withStatus(200)));
+
+    assertDoesNotThrow(() -> paysafeClient.customerService().deleteCustomerAsync(CUSTOMER_ID).get());
+    WireMock.verify(1, deleteRequestedFor(urlEqualTo(String.format("%s/%s", CUSTOMERS_ENDPOINT, CUSTOMER_ID))));
+  }
+
+  @Test
+  void testDeleteCustomerAsync_completesExceptionallyOnEntityNotFoundError() {
+    stubFor(delete(urlPathEqualTo(String.format("%s/%s", CUSTOMERS_ENDPOINT, NON_EXISTING_CUSTOMER_ID)))
+        .willReturn(aResponse()
+            .withStatus(404)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("error/404_entity_not_found_response.json"))
+    );
+
+    ExecutionException executionException = assertThrows(
+        ExecutionException.class,
+        () -> paysafeClient.customerService().deleteCustomerAsync(NON_EXISTING_CUSTOMER_ID).get()
+    );
+
+    PaysafeSdkException exception = assertInstanceOf(PaysafeSdkException.class, executionException.getCause());
+    assertEquals(404, exception.getCode());
+    assertEquals("5269", exception.getError().getCode());
+  }
+
   @Test
   void testGetCustomerById_isSuccessful() throws PaysafeSdkException {
     stubFor(get(urlPathEqualTo(String.format("%s/%s", CUSTOMERS_ENDPOINT, CUSTOMER_ID)))
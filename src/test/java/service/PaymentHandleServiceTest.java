@@ -58,6 +58,8 @@ import com.paysafe.payments.model.common.enums.CurrencyCode;
 import com.paysafe.payments.model.paymenthandle.PaymentHandle;
 import com.paysafe.payments.model.paymenthandle.PaymentHandleList;
 import com.paysafe.payments.model.paymenthandle.PaymentHandleRequest;
+import com.paysafe.payments.model.paymenthandle.PaymentHandleSummary;
+import com.paysafe.payments.model.paymenthandle.PaymentHandleSummaryList;
 import com.paysafe.payments.model.paymenthandle.enums.PaymentType;
 import com.paysafe.payments.model.paymenthandle.enums.ReturnLinkRel;
 import com.paysafe.payments.model.paymenthandle.enums.TransactionType;
@@ -371,6 +373,46 @@ public class PaymentHandleServiceTest extends BasePaysafeClientTest {
     assertNotNull(response);
   }
 
+  @Test
+  void testGetPaymentHandleSummaryById_isSuccessful() throws PaysafeSdkException {
+    String url = String.format("%s/%s", PAYMENT_HANDLES_ENDPOINT, PAYMENT_HANDLE_ID);
+
+    stubFor(get(urlPathEqualTo(url))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("paymenthandle/get_payment_handle_by_id_card_response.json")));
+
+    PaymentHandleSummary response = paysafeClient.paymentHandleService().getPaymentHandleSummaryById(PAYMENT_HANDLE_ID);
+
+    WireMock.verify(1, getRequestedFor(urlEqualTo(url)));
+    assertEquals("b5c30668-5724-4499-9b9a-c326c943d31c", response.getId());
+    assertEquals("fc5b62df1202e491475d", response.getMerchantRefNum());
+    assertEquals("SC2INoYvSe2MzQuB", response.getPaymentHandleToken());
+    assertEquals("PAYABLE", response.getStatus());
+    assertEquals(500, response.getAmount());
+    assertEquals(CurrencyCode.USD, response.getCurrencyCode());
+  }
+
+  @Test
+  void testGetPaymentHandleSummariesUsingMerchantReferenceNumber_isSuccessful() throws PaysafeSdkException {
+    stubFor(get(urlPathEqualTo(PAYMENT_HANDLES_ENDPOINT))
+        .withQueryParam("merchantRefNum", equalTo(MERCHANT_REF_NUM))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("paymenthandle/get_payment_handle_using_merchant_ref_number_card_response.json")));
+
+    PaymentHandleSummaryList response = paysafeClient.paymentHandleService()
+        .getPaymentHandleSummariesUsingMerchantReferenceNumber(MERCHANT_REF_NUM, null, null, null, null);
+
+    WireMock.verify(1, getRequestedFor(urlEqualTo(String.format("%s?merchantRefNum=%s",
+        PAYMENT_HANDLES_ENDPOINT, MERCHANT_REF_NUM))));
+    assertNotNull(response.getMeta());
+    assertEquals(1, response.getPaymentHandles().size());
+    assertEquals("PAYABLE", response.getPaymentHandles().get(0).getStatus());
+  }
+
   @Test
   void testGetPaymentHandleById_throwsExceptionOnInvalidCredentialsError() {
     stubFor(get(urlPathEqualTo(String.format("%s/%s", PAYMENT_HANDLES_ENDPOINT, PAYMENT_HANDLE_ID)))
@@ -4,6 +4,7 @@ package service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -12,6 +13,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.put;
@@ -23,16 +25,25 @@ import static com.github.tomakehurst.wiremock.common.ContentTypes.APPLICATION_JS
 import static com.paysafe.payments.api.PaysafeApiClient.CONTENT_TYPE;
 import static com.paysafe.payments.model.common.enums.CurrencyCode.USD;
 
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
 
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.http.Fault;
 import com.paysafe.payments.errorhandling.exception.ApiConnectionException;
+import com.paysafe.payments.errorhandling.exception.IllegalArgumentException;
 import com.paysafe.payments.errorhandling.exception.PaysafeSdkException;
 import com.paysafe.payments.errorhandling.exception.UnauthorizedException;
+import com.paysafe.payments.errorhandling.exception.UncheckedPaysafeSdkException;
 import com.paysafe.payments.model.card.MerchantDescriptor;
 import com.paysafe.payments.model.common.cancel.CancelRequest;
 import com.paysafe.payments.model.common.cancel.CancelResponse;
+import com.paysafe.payments.model.common.enums.CurrencyCode;
 import com.paysafe.payments.model.common.enums.TransactionRequestStatus;
 import com.paysafe.payments.model.common.travel.airline.AirlineTravelDetails;
 import com.paysafe.payments.model.common.travel.airline.Passenger;
@@ -42,6 +53,9 @@ import com.paysafe.payments.model.common.travel.airline.enums.Gender;
 import com.paysafe.payments.model.payment.Payment;
 import com.paysafe.payments.model.payment.PaymentList;
 import com.paysafe.payments.model.payment.PaymentRequest;
+import com.paysafe.payments.model.payment.PaymentSummary;
+import com.paysafe.payments.model.payment.PaymentSummaryList;
+import com.paysafe.payments.model.payment.enums.PaymentRequestStatus;
 
 import base.BasePaysafeClientTest;
 
@@ -125,6 +139,117 @@ class PaymentServiceTest extends BasePaysafeClientTest {
     assertTrue(exception.getMessage().contains("Error connecting to " + WIREMOCK_URL));
   }
 
+  @Test
+  void testGetPaymentByIdAsync_isSuccessful() throws Exception {
+    stubFor(get(urlPathEqualTo(String.format("%s/%s", PAYMENT_ENDPOINT, PAYMENT_ID)))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("payment/get_payment_by_id_response.json")));
+
+    Payment response = paysafeClient.paymentService().getPaymentByIdAsync(PAYMENT_ID).get();
+
+    WireMock.verify(1, getRequestedFor(urlEqualTo(String.format("%s/%s", PAYMENT_ENDPOINT, PAYMENT_ID))));
+    assertNotNull(response);
+    assertEquals(PAYMENT_ID, response.getId());
+  }
+
+  @Test
+  void testGetPaymentByIdAsync_completesExceptionallyOnUnauthorizedAccessError() {
+    stubFor(get(urlPathEqualTo(String.format("%s/%s", PAYMENT_ENDPOINT, PAYMENT_ID)))
+        .willReturn(aResponse()
+            .withStatus(403)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("error/403_unauthorized_response.json")));
+
+    ExecutionException executionException = assertThrows(
+        ExecutionException.class,
+        () -> paysafeClient.paymentService().getPaymentByIdAsync(PAYMENT_ID).get()
+    );
+
+    UnauthorizedException exception = assertInstanceOf(UnauthorizedException.class, executionException.getCause());
+    assertEquals(403, exception.getCode());
+    assertEquals("5270", exception.getError().getCode());
+    assertEquals("Unauthorized access", exception.getError().getMessage());
+  }
+
+  @Test
+  void testGetPaymentByIdAsync_completesExceptionallyOnIOError() {
+    stubFor(get(urlPathEqualTo(String.format("%s/%s", PAYMENT_ENDPOINT, PAYMENT_ID)))
+        .willReturn(aResponse()
+            .withFault(Fault.EMPTY_RESPONSE)));
+
+    ExecutionException executionException = assertThrows(
+        ExecutionException.class,
+        () -> paysafeClient.paymentService().getPaymentByIdAsync(PAYMENT_ID).get()
+    );
+
+    ApiConnectionException exception = assertInstanceOf(ApiConnectionException.class, executionException.getCause());
+    assertNull(exception.getCode());
+    assertTrue(exception.getMessage().contains("Error connecting to " + WIREMOCK_URL));
+  }
+
+  @Test
+  void testProcessPaymentAsync_isSuccessful() throws Exception {
+    stubFor(post(urlPathEqualTo(PAYMENT_ENDPOINT))
+        .willReturn(aResponse()
+            .withStatus(201)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("payment/process_payment_card_without_settlement_response.json")));
+
+    PaymentRequest requestBody = PaymentRequest.builder()
+        .merchantRefNum(MERCHANT_REF_NUM)
+        .amount(500)
+        .currencyCode(USD)
+        .paymentHandleToken("SCBHhfmG0H8W8Xvp")
+        .build();
+
+    Payment response = paysafeClient.paymentService().processPaymentAsync(requestBody).get();
+
+    WireMock.verify(1, postRequestedFor(urlEqualTo(PAYMENT_ENDPOINT))
+        .withRequestBody(matchingJsonPath("$.merchantRefNum", equalTo(MERCHANT_REF_NUM))));
+    assertNotNull(response);
+  }
+
+  @Test
+  void testGetPaymentSummaryById_isSuccessful() throws PaysafeSdkException {
+    stubFor(get(urlPathEqualTo(String.format("%s/%s", PAYMENT_ENDPOINT, PAYMENT_ID)))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("payment/get_payment_by_id_response.json")));
+
+    PaymentSummary response = paysafeClient.paymentService().getPaymentSummaryById(PAYMENT_ID);
+
+    WireMock.verify(1, getRequestedFor(urlEqualTo(String.format("%s/%s", PAYMENT_ENDPOINT, PAYMENT_ID))));
+    assertEquals(PAYMENT_ID, response.getId());
+    assertEquals("merchantRefNum-108", response.getMerchantRefNum());
+    assertEquals(PaymentRequestStatus.COMPLETED, response.getStatus());
+    assertEquals(1900, response.getAmount());
+    assertEquals(CurrencyCode.GBP, response.getCurrencyCode());
+    assertEquals("2018-12-14T15:12:18Z", response.getTxnTime());
+  }
+
+  @Test
+  void testGetPaymentSummariesUsingMerchantReferenceNumberAsync_isSuccessful() throws Exception {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT))
+        .withQueryParam("merchantRefNum", equalTo(MERCHANT_REF_NUM))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("payment/get_payment_using_merchant_ref_number_response.json")));
+
+    PaymentSummaryList response = paysafeClient.paymentService().getPaymentSummariesUsingMerchantReferenceNumberAsync(
+        MERCHANT_REF_NUM, null, null, null, null).get();
+
+    WireMock.verify(1, getRequestedFor(urlEqualTo(String.format("%s?merchantRefNum=%s",
+        PAYMENT_ENDPOINT, MERCHANT_REF_NUM))));
+    assertEquals(1, response.getMeta().getNumberOfRecords());
+    assertEquals(1, response.getPayments().size());
+    assertEquals("8190c675-6d68-4cd7-a29c-55b406addaeb", response.getPayments().get(0).getId());
+    assertEquals(PaymentRequestStatus.COMPLETED, response.getPayments().get(0).getStatus());
+  }
+
   @Test
   void testGetPaymentsUsingMerchantReferenceNumber_isSuccessful() throws PaysafeSdkException {
     stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT))
@@ -179,6 +304,88 @@ class PaymentServiceTest extends BasePaysafeClientTest {
         PAYMENT_ENDPOINT, "?endDate=2022-12-19&limit=32&offset=0&startDate=2022-11-18"))));
   }
 
+  @Test
+  void testStreamPaymentsUsingMerchantReferenceNumber_fetchesPagesLazily() {
+    stubSinglePaymentPage(0, "payment-1");
+    stubSinglePaymentPage(1, "payment-2");
+    stubSinglePaymentPage(2, "payment-3");
+    stubEmptyPaymentsPage(3);
+
+    try (Stream<Payment> payments = paysafeClient.paymentService()
+        .streamPaymentsUsingMerchantReferenceNumber(MERCHANT_REF_NUM, null, 1, null)) {
+      WireMock.verify(0, getRequestedFor(urlPathEqualTo(PAYMENT_ENDPOINT)));
+
+      List<Payment> paymentList = payments.collect(Collectors.toList());
+
+      assertEquals(3, paymentList.size());
+      assertEquals("payment-1", paymentList.get(0).getId());
+      assertEquals("payment-3", paymentList.get(2).getId());
+    }
+    for (int offset = 0; offset < 4; offset++) {
+      WireMock.verify(1, getRequestedFor(urlEqualTo(String.format("%s?merchantRefNum=%s&limit=1&offset=%s",
+          PAYMENT_ENDPOINT, MERCHANT_REF_NUM, offset))));
+    }
+    WireMock.verify(4, getRequestedFor(urlPathEqualTo(PAYMENT_ENDPOINT)));
+  }
+
+  @Test
+  void testStreamPaymentsUsingMerchantReferenceNumber_continuesAfterPageShorterThanPageSize() {
+    // pages are limited to a single record by the API
+    stubSinglePaymentPage(0, "payment-1");
+    stubSinglePaymentPage(1, "payment-2");
+    stubEmptyPaymentsPage(2);
+
+    List<Payment> payments = paysafeClient.paymentService()
+        .streamPaymentsUsingMerchantReferenceNumber(MERCHANT_REF_NUM, null, 5, null)
+        .collect(Collectors.toList());
+
+    assertEquals(2, payments.size());
+    assertEquals("payment-2", payments.get(1).getId());
+    WireMock.verify(3, getRequestedFor(urlPathEqualTo(PAYMENT_ENDPOINT)));
+  }
+
+  @Test
+  void testStreamPaymentsUsingMerchantReferenceNumber_rejectsPageSizeLowerThanOne() {
+    UncheckedPaysafeSdkException exception = assertThrows(UncheckedPaysafeSdkException.class,
+        () -> paysafeClient.paymentService().streamPaymentsUsingMerchantReferenceNumber(MERCHANT_REF_NUM, null, 0, null));
+
+    assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+    assertEquals("Page size must be a positive value", exception.getMessage());
+    WireMock.verify(0, getRequestedFor(urlPathEqualTo(PAYMENT_ENDPOINT)));
+  }
+
+  @Test
+  void testStreamPaymentsUsingMerchantReferenceNumber_stopsAtShortPage() {
+    stubPaymentsPage(0, "payment/get_payment_using_merchant_ref_number_response.json");
+
+    List<Payment> payments = paysafeClient.paymentService()
+        .streamPaymentsUsingMerchantReferenceNumber(MERCHANT_REF_NUM, null, null, null)
+        .collect(Collectors.toList());
+
+    assertEquals(1, payments.size());
+    WireMock.verify(1, getRequestedFor(urlPathEqualTo(PAYMENT_ENDPOINT)));
+  }
+
+  @Test
+  void testStreamPaymentsUsingMerchantReferenceNumber_throwsUncheckedExceptionOnError() {
+    stubSinglePaymentPage(0, "payment-1");
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT))
+        .withQueryParam("merchantRefNum", equalTo(MERCHANT_REF_NUM))
+        .withQueryParam("offset", equalTo("1"))
+        .willReturn(aResponse()
+            .withStatus(401)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile("error/401_invalid_credentials_response.json")));
+
+    Iterator<Payment> payments = paysafeClient.paymentService()
+        .streamPaymentsUsingMerchantReferenceNumber(MERCHANT_REF_NUM, null, 1, null)
+        .iterator();
+
+    assertNotNull(payments.next());
+    UncheckedPaysafeSdkException exception = assertThrows(UncheckedPaysafeSdkException.class, payments::hasNext);
+    assertEquals(401, exception.getCause().getCode());
+  }
+
   @Test
   void testGetPaymentsUsingMerchantReferenceNumber_throwsExceptionOnInvalidCredentialsError() {
     stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT))
@@ -470,4 +677,36 @@ class PaymentServiceTest extends BasePaysafeClientTest {
             .build())
         .build();
   }
+
+  private static void stubSinglePaymentPage(final int offset, final String paymentId) {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT))
+        .withQueryParam("merchantRefNum", equalTo(MERCHANT_REF_NUM))
+        .withQueryParam("offset", equalTo(String.valueOf(offset)))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBody(String.format("{\"meta\": {\"numberOfRecords\": 1, \"limit\": 1, \"page\": %d}, "
+                + "\"payments\": [{\"id\": \"%s\"}]}", offset + 1, paymentId))));
+  }
+
+  private static void stubEmptyPaymentsPage(final int offset) {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT))
+        .withQueryParam("merchantRefNum", equalTo(MERCHANT_REF_NUM))
+        .withQueryParam("offset", equalTo(String.valueOf(offset)))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBody(String.format("{\"meta\": {\"numberOfRecords\": 0, \"limit\": 1, \"page\": %d}, "
+                + "\"payments\": []}", offset + 1))));
+  }
+
+  private static void stubPaymentsPage(final int offset, final String bodyFile) {
+    stubFor(get(urlPathEqualTo(PAYMENT_ENDPOINT))
+        .withQueryParam("merchantRefNum", equalTo(MERCHANT_REF_NUM))
+        .withQueryParam("offset", equalTo(String.valueOf(offset)))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withHeader(CONTENT_TYPE, APPLICATION_JSON)
+            .withBodyFile(bodyFile)));
+  }
 }